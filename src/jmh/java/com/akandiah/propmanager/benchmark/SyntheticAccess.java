@@ -0,0 +1,106 @@
+package com.akandiah.propmanager.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import com.akandiah.propmanager.common.permission.AccessEntry;
+import com.akandiah.propmanager.common.permission.AccessGrant;
+import com.akandiah.propmanager.common.permission.PermissionDomains;
+import com.akandiah.propmanager.common.permission.PermissionSet;
+import com.akandiah.propmanager.common.permission.ResourceType;
+
+/**
+ * Deterministic synthetic access lists for the benchmarks: a few orgs, each
+ * with properties and units, and a mix of assignment, ownership and tenancy
+ * grants spread across ORG / PROPERTY / UNIT scopes.
+ */
+public final class SyntheticAccess {
+
+	public static final int ORGS = 8;
+
+	private static final String[] LETTERS = { "r", "cr", "cru", "rcud", "ru", "" };
+
+	private final Random random;
+	private final List<UUID> orgIds = new ArrayList<>();
+
+	public SyntheticAccess(long seed) {
+		this.random = new Random(seed);
+		for (int i = 0; i < ORGS; i++) {
+			orgIds.add(uuid());
+		}
+	}
+
+	public UUID uuid() {
+		return new UUID(random.nextLong(), random.nextLong());
+	}
+
+	public UUID org(int i) {
+		return orgIds.get(i % ORGS);
+	}
+
+	/** {@code size} grants; one in ten is an ORG assignment, the rest PROPERTY/UNIT scoped. */
+	public List<AccessGrant> grants(int size) {
+		List<AccessGrant> grants = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			UUID orgId = org(i);
+			grants.add(switch (i % 10) {
+				case 0 -> AccessGrant.assignment(uuid(), orgId, ResourceType.ORG, orgId, null, uuid(), letters());
+				case 1, 2 -> AccessGrant.ownership(orgId, uuid());
+				case 3, 4 -> AccessGrant.tenancy(uuid(), orgId, uuid());
+				case 5, 6 -> AccessGrant.assignment(uuid(), orgId, ResourceType.PROPERTY, uuid(), null, uuid(), letters());
+				default -> AccessGrant.assignment(uuid(), orgId, ResourceType.UNIT, uuid(), letters(), null, null);
+			});
+		}
+		return grants;
+	}
+
+	/** Raw (unmerged) entries where roughly {@code duplicateRatio} share a scope with an earlier entry. */
+	public List<AccessEntry> entries(int size, double duplicateRatio) {
+		List<AccessEntry> entries = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			if (!entries.isEmpty() && random.nextDouble() < duplicateRatio) {
+				AccessEntry prior = entries.get(random.nextInt(entries.size()));
+				entries.add(new AccessEntry(prior.orgId(), prior.scopeType(), prior.scopeId(), permissions()));
+			} else {
+				entries.add(new AccessEntry(org(i), scopeType(i), uuid(), permissions()));
+			}
+		}
+		return entries;
+	}
+
+	public List<Map<String, Object>> claimList(int size) {
+		return entries(size, 0).stream().map(AccessEntry::toClaimMap).toList();
+	}
+
+	public String[] letterStrings(int size) {
+		String[] letters = new String[size];
+		for (int i = 0; i < size; i++) {
+			letters[i] = LETTERS[random.nextInt(LETTERS.length)];
+		}
+		return letters;
+	}
+
+	private Map<String, String> letters() {
+		return Map.of(
+				PermissionDomains.LEASES, LETTERS[random.nextInt(LETTERS.length)],
+				PermissionDomains.MAINTENANCE, LETTERS[random.nextInt(LETTERS.length)],
+				PermissionDomains.PORTFOLIO, LETTERS[random.nextInt(LETTERS.length)]);
+	}
+
+	private PermissionSet permissions() {
+		return PermissionSet.NONE
+				.with(PermissionDomains.LEASES, random.nextInt(16))
+				.with(PermissionDomains.FINANCES, random.nextInt(16));
+	}
+
+	private static ResourceType scopeType(int i) {
+		return switch (i % 3) {
+			case 0 -> ResourceType.ORG;
+			case 1 -> ResourceType.PROPERTY;
+			default -> ResourceType.UNIT;
+		};
+	}
+}
@@ -0,0 +1,89 @@
+package com.akandiah.propmanager.common.notification;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.akandiah.propmanager.config.NotificationProperties;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Messages per second through {@link JavaMailSenderImpl} (a connection per
+ * send) versus {@link SmtpConnectionPool}. Runs against {@link StubSmtpServer} by default, where
+ * {@code handshakeMillis} stands in for TLS/AUTH cost; pass
+ * {@code -Dbench.smtp.port=1025} to target the mailpit container from
+ * {@code docker-mail} instead.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SmtpSendBenchmark {
+
+	@Param({ "0", "20" })
+	public int handshakeMillis;
+
+	private StubSmtpServer server;
+	private JavaMailSenderImpl mailSender;
+	private SmtpConnectionPool pool;
+
+	@Setup(Level.Trial)
+	public void setUp() throws Exception {
+		int port = Integer.getInteger("bench.smtp.port", 0);
+		if (port == 0) {
+			server = new StubSmtpServer(Duration.ofMillis(handshakeMillis));
+			port = server.port();
+		}
+		mailSender = new JavaMailSenderImpl();
+		mailSender.setHost(System.getProperty("bench.smtp.host", "127.0.0.1"));
+		mailSender.setPort(port);
+		pool = new SmtpConnectionPool(mailSender, new NotificationProperties(new NotificationProperties.Email(true,
+				new NotificationProperties.Pool(8, 100, Duration.ofSeconds(5), Duration.ofSeconds(60),
+						Duration.ofSeconds(30)))));
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() throws Exception {
+		pool.destroy();
+		if (server != null) {
+			server.close();
+		}
+	}
+
+	@Benchmark
+	public void unpooled() throws MessagingException {
+		mailSender.send(message());
+	}
+
+	@Benchmark
+	public void pooled() throws MessagingException {
+		pool.send(message());
+	}
+
+	private MimeMessage message() throws MessagingException {
+		MimeMessage message = mailSender.createMimeMessage();
+		message.setFrom("noreply@example.com");
+		message.setRecipients(MimeMessage.RecipientType.TO, "tenant@example.com");
+		message.setSubject("Benchmark");
+		message.setText("<p>Hello</p>", "UTF-8", "html");
+		return message;
+	}
+}
@@ -0,0 +1,71 @@
+package com.akandiah.propmanager.common.permission;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.akandiah.propmanager.benchmark.SyntheticAccess;
+
+/**
+ * {@link AccessListUtil} list filters. {@code *Cold} runs against a freshly
+ * built index each invocation (first list request after hydration);
+ * {@code *Memoized} hits the per-index scope-id memo.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AccessListBenchmark {
+
+	@Param({ "10", "1000", "50000" })
+	public int entries;
+
+	private List<AccessGrant> grants;
+	private AccessIndex memoized;
+	private AccessIndex cold;
+
+	@Setup
+	public void setUp() {
+		grants = new SyntheticAccess(42).grants(entries);
+		memoized = AccessIndex.ofGrants(grants);
+	}
+
+	@Setup(Level.Invocation)
+	public void freshIndex() {
+		cold = AccessIndex.ofGrants(grants);
+	}
+
+	@Benchmark
+	public AccessListUtil.PropAccessFilter forPropsCold() {
+		return AccessListUtil.forProps(cold, PermissionDomains.PORTFOLIO, Actions.READ);
+	}
+
+	@Benchmark
+	public AccessListUtil.ScopedAccessFilter forScopedResourcesCold() {
+		return AccessListUtil.forScopedResources(cold, PermissionDomains.LEASES, Actions.READ);
+	}
+
+	@Benchmark
+	public AccessListUtil.PropAccessFilter forPropsMemoized() {
+		return AccessListUtil.forProps(memoized, PermissionDomains.PORTFOLIO, Actions.READ);
+	}
+
+	@Benchmark
+	public AccessListUtil.ScopedAccessFilter forScopedResourcesMemoized() {
+		return AccessListUtil.forScopedResources(memoized, PermissionDomains.LEASES, Actions.READ);
+	}
+}
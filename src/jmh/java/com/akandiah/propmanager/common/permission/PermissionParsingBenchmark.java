@@ -0,0 +1,58 @@
+package com.akandiah.propmanager.common.permission;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.akandiah.propmanager.benchmark.SyntheticAccess;
+
+/**
+ * Claim and letter parsing: {@link AccessEntry#fromClaimList} (dev JWT
+ * "access" claim) and {@link PermissionMaskUtil#parseToMask} (policy letters).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PermissionParsingBenchmark {
+
+	@Param({ "10", "1000", "50000" })
+	public int entries;
+
+	private List<Map<String, Object>> claimList;
+	private String[] letters;
+
+	@Setup
+	public void setUp() {
+		SyntheticAccess synthetic = new SyntheticAccess(42);
+		claimList = synthetic.claimList(entries);
+		letters = synthetic.letterStrings(entries);
+	}
+
+	@Benchmark
+	public List<AccessEntry> fromClaimList() {
+		return AccessEntry.fromClaimList(claimList);
+	}
+
+	@Benchmark
+	public void parseToMask(Blackhole bh) {
+		for (String l : letters) {
+			bh.consume(PermissionMaskUtil.parseToMask(l));
+		}
+	}
+}
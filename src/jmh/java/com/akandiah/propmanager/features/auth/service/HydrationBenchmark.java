@@ -0,0 +1,73 @@
+package com.akandiah.propmanager.features.auth.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.akandiah.propmanager.benchmark.SyntheticAccess;
+import com.akandiah.propmanager.common.permission.AccessGrant;
+import com.akandiah.propmanager.common.permission.AccessIndex;
+import com.akandiah.propmanager.common.permission.PermissionDomains;
+import com.akandiah.propmanager.common.permission.PermissionSet;
+
+/**
+ * In-memory half of hydration: compiling grants into the cached
+ * {@link AccessIndex} (scope merging included), and patching a cached index
+ * with the permission deltas applied on membership and policy changes.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class HydrationBenchmark {
+
+	@Param({ "10", "1000", "50000" })
+	public int entries;
+
+	private List<AccessGrant> grants;
+	private AccessIndex index;
+	private AccessGrant replacement;
+	private UUID policyId;
+	private PermissionSet policyPermissions;
+
+	@Setup
+	public void setUp() {
+		SyntheticAccess synthetic = new SyntheticAccess(42);
+		grants = synthetic.grants(entries);
+		index = AccessIndex.ofGrants(grants);
+		AccessGrant first = grants.get(0);
+		replacement = new AccessGrant(first.source(), first.policyId(), first.entry());
+		policyId = first.policyId();
+		policyPermissions = PermissionSet.fromLetters(Map.of(PermissionDomains.LEASES, "rcud", PermissionDomains.MAINTENANCE, "r"));
+	}
+
+	@Benchmark
+	public AccessIndex buildIndex() {
+		return AccessIndex.ofGrants(grants);
+	}
+
+	@Benchmark
+	public AccessIndex applyGrantDelta() {
+		return index.withGrant(replacement);
+	}
+
+	@Benchmark
+	public AccessIndex applyPolicyDelta() {
+		return index.withPolicyPermissions(policyId, policyPermissions);
+	}
+}
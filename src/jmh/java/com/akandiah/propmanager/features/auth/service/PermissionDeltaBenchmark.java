@@ -0,0 +1,100 @@
+package com.akandiah.propmanager.features.auth.service;
+
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import com.akandiah.propmanager.benchmark.SyntheticAccess;
+import com.akandiah.propmanager.common.permission.AccessGrant;
+import com.akandiah.propmanager.common.permission.AccessIndex;
+import com.akandiah.propmanager.common.permission.PermissionDomains;
+import com.akandiah.propmanager.common.permission.PermissionSet;
+import com.akandiah.propmanager.common.permission.ResourceType;
+import com.akandiah.propmanager.config.CacheConfig;
+import com.akandiah.propmanager.features.auth.domain.PermissionsChangedEvent;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * A policy edit shared by every cached member: patching indexes in place with a
+ * {@code PolicyChanged} delta vs evicting and rebuilding them. The rebuild only
+ * compiles grants already in memory, so the eviction numbers are a lower bound;
+ * in production each rebuild is also a database round-trip.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class PermissionDeltaBenchmark {
+
+	@Param({ "10000" })
+	public int members;
+
+	@Param({ "20" })
+	public int grantsPerMember;
+
+	private final PermissionSet[] alternating = {
+			PermissionSet.of(PermissionDomains.LEASES, 1), PermissionSet.of(PermissionDomains.LEASES, 15) };
+
+	private UUID policyId;
+	private Set<UUID> userIds;
+	private Map<UUID, List<AccessGrant>> grantsByUser;
+	private Cache cache;
+	private PermissionsCacheEvictionListener listener;
+	private int round;
+
+	@Setup
+	public void setUp() {
+		SyntheticAccess synthetic = new SyntheticAccess(42);
+		policyId = synthetic.uuid();
+		grantsByUser = new HashMap<>();
+		for (int i = 0; i < members; i++) {
+			UUID orgId = synthetic.org(i);
+			List<AccessGrant> grants = new ArrayList<>(synthetic.grants(grantsPerMember - 1));
+			grants.add(AccessGrant.assignment(synthetic.uuid(), orgId, ResourceType.ORG, orgId, null, policyId,
+					Map.of(PermissionDomains.LEASES, "r")));
+			grantsByUser.put(synthetic.uuid(), grants);
+		}
+		userIds = Set.copyOf(grantsByUser.keySet());
+
+		CaffeineCacheManager manager = new CaffeineCacheManager(CacheConfig.CACHE_PERMISSIONS);
+		cache = manager.getCache(CacheConfig.CACHE_PERMISSIONS);
+		grantsByUser.forEach((userId, grants) -> cache.put(userId, AccessIndex.ofGrants(grants)));
+		listener = new PermissionsCacheEvictionListener(manager,
+				new AccessTokenRevocations(Caffeine.newBuilder().build(), false, Clock.systemUTC()));
+	}
+
+	@Benchmark
+	public void patchWithDelta() {
+		PermissionSet permissions = alternating[round++ & 1];
+		listener.onPermissionsChanged(PermissionsChangedEvent.policyChanged(policyId, permissions, userIds));
+	}
+
+	@Benchmark
+	public void evictAndRebuild() {
+		listener.onPermissionsChanged(new PermissionsChangedEvent(userIds));
+		for (UUID userId : userIds) {
+			cache.get(userId, () -> AccessIndex.ofGrants(grantsByUser.get(userId)));
+		}
+	}
+}
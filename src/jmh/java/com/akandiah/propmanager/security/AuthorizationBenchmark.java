@@ -0,0 +1,118 @@
+package com.akandiah.propmanager.security;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.akandiah.propmanager.benchmark.SyntheticAccess;
+import com.akandiah.propmanager.common.permission.AccessGrant;
+import com.akandiah.propmanager.common.permission.AccessIndex;
+import com.akandiah.propmanager.common.permission.Actions;
+import com.akandiah.propmanager.common.permission.HierarchyResolver;
+import com.akandiah.propmanager.common.permission.PermissionDomains;
+import com.akandiah.propmanager.common.permission.ResourceType;
+import com.akandiah.propmanager.common.permission.ScopeLevel;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * {@link HierarchyAwareAuthorizationService#allow} against access lists of 10 to
+ * 50k entries and hierarchy chains of depth 1 (org) to 4 (asset → unit →
+ * property → org). The grant sits at the org, so every level of the chain is
+ * probed before the decision. Runs outside a request, so the decision memo is
+ * bypassed and each call does the full check.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+public class AuthorizationBenchmark {
+
+	private static final ResourceType[] RESOURCE_BY_DEPTH = {
+			ResourceType.ORG, ResourceType.PROPERTY, ResourceType.UNIT, ResourceType.ASSET };
+
+	@Param({ "10", "1000", "50000" })
+	public int entries;
+
+	@Param({ "1", "2", "3", "4" })
+	public int depth;
+
+	private HierarchyAwareAuthorizationService service;
+	private AccessIndex access;
+	private ResourceType resourceType;
+	private UUID resourceId;
+	private UUID orgId;
+	private UUID otherOrgId;
+
+	@Setup
+	public void setUp() {
+		SyntheticAccess synthetic = new SyntheticAccess(42);
+		orgId = synthetic.uuid();
+		otherOrgId = synthetic.uuid();
+		resourceType = RESOURCE_BY_DEPTH[depth - 1];
+		resourceId = depth == 1 ? orgId : synthetic.uuid();
+
+		List<ScopeLevel> chain = new ArrayList<>();
+		chain.add(new ScopeLevel(resourceType, resourceId));
+		if (depth >= 4) {
+			chain.add(new ScopeLevel(ResourceType.UNIT, synthetic.uuid()));
+		}
+		if (depth >= 3) {
+			chain.add(new ScopeLevel(ResourceType.PROPERTY, synthetic.uuid()));
+		}
+		if (depth >= 2) {
+			chain.add(new ScopeLevel(ResourceType.ORG, orgId));
+		}
+
+		List<AccessGrant> grants = new ArrayList<>(synthetic.grants(entries - 1));
+		grants.add(AccessGrant.assignment(synthetic.uuid(), orgId, ResourceType.ORG, orgId, null, null,
+				Map.of(PermissionDomains.LEASES, "r")));
+		access = AccessIndex.ofGrants(grants);
+		service = new HierarchyAwareAuthorizationService(new FixedChainResolver(List.copyOf(chain)),
+				new AuthorizationDecisionCache(new SimpleMeterRegistry()));
+	}
+
+	@Benchmark
+	public boolean allowGranted() {
+		return service.allow(access, Actions.READ, PermissionDomains.LEASES, resourceType, resourceId, orgId);
+	}
+
+	@Benchmark
+	public boolean allowDenied() {
+		return service.allow(access, Actions.DELETE, PermissionDomains.FINANCES, resourceType, resourceId, otherOrgId);
+	}
+
+	/** Resolver returning a precomputed chain, so only the authorization check is measured. */
+	private record FixedChainResolver(List<ScopeLevel> chain) implements HierarchyResolver {
+
+		@Override
+		public List<ScopeLevel> resolve(ResourceType type, UUID id, UUID orgId) {
+			return chain;
+		}
+
+		@Override
+		public Map<UUID, List<ScopeLevel>> resolveAll(ResourceType type, Collection<UUID> ids, UUID orgId) {
+			Map<UUID, List<ScopeLevel>> chains = new HashMap<>();
+			ids.forEach(id -> chains.put(id, chain));
+			return chains;
+		}
+	}
+}
@@ -0,0 +1,30 @@
+package com.akandiah.propmanager.common.domain;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+
+/**
+ * Registers the HQL predicate {@code any_of(column, :ids)}, rendered as
+ * {@code column = any(?)} with {@code :ids} bound as a single SQL array
+ * ({@code uuid[]} for a {@code UUID[]} argument).
+ *
+ * <p>An {@code IN :ids} predicate expands to one bind parameter per element, so
+ * every distinct set size is a new SQL string in Hibernate's query plan cache
+ * and very large sets run into the driver's parameter limit. {@code any_of}
+ * always renders the same SQL. Unlike Hibernate's built-in
+ * {@code array_contains}, which compares whole arrays ({@code @>}), the
+ * column stays on the left of the comparison, so PostgreSQL can still probe its
+ * index. H2 supports the same syntax, so tests run the production SQL.
+ *
+ * <p>Loaded through {@code META-INF/services/org.hibernate.boot.model.FunctionContributor}.
+ */
+public class AnyOfFunctionContributor implements FunctionContributor {
+
+	public static final String ANY_OF = "any_of";
+
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+		functionContributions.getFunctionRegistry().registerPattern(ANY_OF, "(?1 = any(?2))",
+				functionContributions.getTypeConfiguration().standardBasicTypeForJavaType(Boolean.class));
+	}
+}
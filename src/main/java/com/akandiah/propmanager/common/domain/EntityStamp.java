@@ -0,0 +1,15 @@
+package com.akandiah.propmanager.common.domain;
+
+import java.time.Instant;
+
+/**
+ * Projection of a single entity's {@code version} and {@code updatedAt}, read
+ * without loading the entity. Backs the ETag/Last-Modified headers on detail
+ * endpoints.
+ */
+public interface EntityStamp {
+
+	Integer getVersion();
+
+	Instant getUpdatedAt();
+}
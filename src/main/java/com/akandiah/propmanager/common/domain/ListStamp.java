@@ -0,0 +1,29 @@
+package com.akandiah.propmanager.common.domain;
+
+import java.time.Instant;
+
+/**
+ * Projection of the row count and newest {@code updatedAt} across a filtered
+ * list. Backs the weak ETag on list endpoints: inserts and deletes change the
+ * count, updates move the maximum.
+ */
+public interface ListStamp {
+
+	/** Stamp for a filter that matches nothing (no query needed). */
+	ListStamp EMPTY = new ListStamp() {
+		@Override
+		public long getCount() {
+			return 0;
+		}
+
+		@Override
+		public Instant getMaxUpdatedAt() {
+			return null;
+		}
+	};
+
+	long getCount();
+
+	/** Null when the list is empty. */
+	Instant getMaxUpdatedAt();
+}
@@ -0,0 +1,20 @@
+package com.akandiah.propmanager.common.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+/**
+ * Body of a batch write endpoint. Every item is validated up front, so a
+ * malformed item rejects the whole request with 400; domain failures (unknown
+ * ids, stale versions, wrong parent) are reported per item in the
+ * {@link BatchResponse} instead.
+ */
+public record BatchRequest<T>(
+		@NotEmpty @Size(max = BatchRequest.MAX_ITEMS) List<@Valid @NotNull T> items) {
+
+	public static final int MAX_ITEMS = 500;
+}
@@ -0,0 +1,56 @@
+package com.akandiah.propmanager.common.dto;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Result of a batch write: one entry per submitted item, in request order.
+ * Succeeded items carry the written row; failed items carry the reason and
+ * were not written.
+ */
+public record BatchResponse<T>(
+		List<Item<T>> items,
+		int succeeded,
+		int failed) {
+
+	/**
+	 * @param index  position of the item in the request
+	 * @param id     id of the row, when known
+	 * @param result the row as written, or {@code null} on failure
+	 * @param error  why the item was rejected, or {@code null} on success
+	 */
+	public record Item<T>(int index, UUID id, T result, String error) {
+
+		public boolean ok() {
+			return error == null;
+		}
+	}
+
+	/**
+	 * Collects item results out of order (rejections while validating, successes
+	 * after the write) and assembles them by index.
+	 */
+	public static final class Builder<T> {
+
+		private final List<Item<T>> items;
+
+		public Builder(int size) {
+			this.items = new ArrayList<>(Collections.nCopies(size, null));
+		}
+
+		public void ok(int index, UUID id, T result) {
+			items.set(index, new Item<>(index, id, result, null));
+		}
+
+		public void failed(int index, UUID id, String error) {
+			items.set(index, new Item<>(index, id, null, error));
+		}
+
+		public BatchResponse<T> build() {
+			int ok = (int) items.stream().filter(Item::ok).count();
+			return new BatchResponse<>(List.copyOf(items), ok, items.size() - ok);
+		}
+	}
+}
@@ -0,0 +1,12 @@
+package com.akandiah.propmanager.common.dto;
+
+import java.util.UUID;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+/** One item of a batch update: the id of the row to change and its PATCH body. */
+public record BatchUpdate<T>(
+		@NotNull UUID id,
+		@NotNull @Valid T changes) {
+}
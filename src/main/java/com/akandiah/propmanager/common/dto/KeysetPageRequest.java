@@ -0,0 +1,102 @@
+package com.akandiah.propmanager.common.dto;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+import org.springframework.data.domain.Limit;
+
+/**
+ * Keyset (seek) pagination over UUID v7 ids. Entity ids are time-ordered, so
+ * {@code WHERE id > :after ORDER BY id LIMIT n} walks a list in creation order
+ * and each page costs the same no matter how deep into the list it is.
+ *
+ * <p>The cursor handed to clients is the base64url-encoded id of the last row
+ * on the previous page; clients must treat it as opaque.
+ *
+ * @param after        exclusive lower bound; {@link #START} for the first page
+ * @param size         rows per page, clamped to {@code [1, MAX_SIZE]}
+ * @param includeTotal whether to run the count query for {@code totalElements}
+ */
+public record KeysetPageRequest(UUID after, int size, boolean includeTotal) {
+
+	public static final int DEFAULT_SIZE = 50;
+	public static final int MAX_SIZE = 200;
+
+	/** Sorts before every real id, so {@code id > START} matches all rows. */
+	public static final UUID START = new UUID(0L, 0L);
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	public KeysetPageRequest {
+		after = after != null ? after : START;
+		size = Math.clamp(size, 1, MAX_SIZE);
+	}
+
+	public static KeysetPageRequest first(int size) {
+		return new KeysetPageRequest(START, size, false);
+	}
+
+	/**
+	 * Builds a request from raw query parameters.
+	 *
+	 * @throws IllegalArgumentException if {@code cursor} was not issued by this API
+	 */
+	public static KeysetPageRequest of(String cursor, Integer size, boolean includeTotal) {
+		return new KeysetPageRequest(decode(cursor), size != null ? size : DEFAULT_SIZE, includeTotal);
+	}
+
+	/** One row more than the page size, so the query reveals whether a next page exists. */
+	public Limit fetchLimit() {
+		return Limit.of(size + 1);
+	}
+
+	/**
+	 * Trims a result fetched with {@link #fetchLimit()} to the page size and
+	 * builds the response. {@code count} is only invoked when a total was requested.
+	 */
+	public <E, R> PageResponse<R> toPage(List<E> rows, Function<E, UUID> idOf, Function<E, R> mapper,
+			LongSupplier count) {
+		boolean hasNext = rows.size() > size;
+		List<E> page = hasNext ? rows.subList(0, size) : rows;
+		List<R> content = new ArrayList<>(page.size());
+		for (E row : page) {
+			content.add(mapper.apply(row));
+		}
+		String next = hasNext ? encode(idOf.apply(page.get(page.size() - 1))) : null;
+		return new PageResponse<>(List.copyOf(content), size, next, includeTotal ? count.getAsLong() : null);
+	}
+
+	/** An empty page, e.g. when the caller's access filter matches nothing. */
+	public <R> PageResponse<R> empty() {
+		return new PageResponse<>(List.of(), size, null, includeTotal ? 0L : null);
+	}
+
+	public static String encode(UUID id) {
+		ByteBuffer buf = ByteBuffer.allocate(16);
+		buf.putLong(id.getMostSignificantBits()).putLong(id.getLeastSignificantBits());
+		return ENCODER.encodeToString(buf.array());
+	}
+
+	static UUID decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return START;
+		}
+		byte[] bytes;
+		try {
+			bytes = DECODER.decode(cursor);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid page cursor");
+		}
+		if (bytes.length != 16) {
+			throw new IllegalArgumentException("Invalid page cursor");
+		}
+		ByteBuffer buf = ByteBuffer.wrap(bytes);
+		return new UUID(buf.getLong(), buf.getLong());
+	}
+}
@@ -1,23 +1,22 @@
 package com.akandiah.propmanager.common.dto;
 
-import org.springframework.data.domain.Page;
-
 import java.util.List;
 
+/**
+ * One page of a keyset-paginated list.
+ *
+ * @param content       the rows on this page, in ascending id order
+ * @param size          the page size that was requested
+ * @param nextCursor    opaque cursor for the next page, or {@code null} on the last page
+ * @param totalElements total matching rows, or {@code null} unless the caller asked for it
+ */
 public record PageResponse<T>(
-        List<T> content,
-        int page,
-        int size,
-        long totalElements,
-        int totalPages
-) {
-    public static <T> PageResponse<T> from(Page<T> page) {
-        return new PageResponse<>(
-                page.getContent(),
-                page.getNumber(),
-                page.getSize(),
-                page.getTotalElements(),
-                page.getTotalPages()
-        );
-    }
+		List<T> content,
+		int size,
+		String nextCursor,
+		Long totalElements) {
+
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
 }
@@ -0,0 +1,64 @@
+package com.akandiah.propmanager.common.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import tools.jackson.databind.ObjectMapper;
+
+/**
+ * Writes a stream of entities as newline-delimited JSON, one DTO per line, as
+ * the rows come off the JDBC cursor. Each entity is detached once written and
+ * the persistence context is cleared every {@link #FETCH_SIZE} rows, so memory
+ * stays flat regardless of how many rows are exported.
+ *
+ * <p>Must be called inside a read-only transaction that owns {@code rows};
+ * repository stream methods should carry a matching fetch-size hint.
+ */
+@Component
+@RequiredArgsConstructor
+public class NdjsonExporter {
+
+	public static final String MEDIA_TYPE = "application/x-ndjson";
+
+	/** JDBC fetch size for export streams; also the flush and context-clear interval. */
+	public static final int FETCH_SIZE = 500;
+
+	/** {@link #FETCH_SIZE} as a string, for {@code @QueryHint} values. */
+	public static final String FETCH_SIZE_HINT = "500";
+
+	private static final byte NEWLINE = '\n';
+
+	private final ObjectMapper objectMapper;
+	private final EntityManager entityManager;
+
+	/**
+	 * Maps and writes every row to {@code out}. Returns the number of rows written.
+	 *
+	 * @throws UncheckedIOException if the client disconnects mid-export
+	 */
+	public <E, R> long write(Stream<E> rows, Function<E, R> mapper, OutputStream out) {
+		long count = 0;
+		try {
+			for (E row : (Iterable<E>) rows::iterator) {
+				out.write(objectMapper.writeValueAsBytes(mapper.apply(row)));
+				out.write(NEWLINE);
+				entityManager.detach(row);
+				if (++count % FETCH_SIZE == 0) {
+					entityManager.clear();
+					out.flush();
+				}
+			}
+			out.flush();
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+		return count;
+	}
+}
@@ -1,16 +1,12 @@
 package com.akandiah.propmanager.common.notification;
 
 import java.nio.charset.StandardCharsets;
-import java.time.Instant;
-import java.time.ZoneId;
 import java.util.Map;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
-import org.thymeleaf.TemplateEngine;
-import org.thymeleaf.context.Context;
 
 import com.akandiah.propmanager.config.NotificationProperties;
 
@@ -29,7 +25,8 @@ import lombok.extern.slf4j.Slf4j;
 public class EmailNotificationService {
 
 	private final JavaMailSender mailSender;
-	private final TemplateEngine templateEngine;
+	private final SmtpConnectionPool smtpPool;
+	private final EmailTemplateRenderer templateRenderer;
 	private final NotificationProperties notificationProperties;
 
 	@Value("${spring.mail.from:noreply@propmanager.local}")
@@ -41,7 +38,8 @@ public class EmailNotificationService {
 	 * @param toEmail  Recipient email address
 	 * @param template Template to use
 	 * @param context  Data to populate the template
-	 * @throws NotificationException if sending fails
+	 * @throws SmtpPoolExhaustedException if every pooled SMTP connection stayed busy; nothing was sent
+	 * @throws NotificationException       if sending fails
 	 */
 	public void send(String toEmail, NotificationTemplate template, Map<String, Object> context) {
 		if (!notificationProperties.email().enabled()) {
@@ -53,6 +51,8 @@ public class EmailNotificationService {
 			String htmlContent = renderTemplate(template, context);
 			sendEmail(toEmail, template.getSubject(), htmlContent);
 			log.info("Email sent successfully: template={}, to={}", template.name(), toEmail);
+		} catch (SmtpPoolExhaustedException e) {
+			throw e;
 		} catch (Exception e) {
 			log.error("Failed to send email: template={}, to={}", template.name(), toEmail, e);
 			throw new NotificationException("Failed to send email to " + toEmail, e);
@@ -60,25 +60,12 @@ public class EmailNotificationService {
 	}
 
 	/**
-	 * Render the email template with the provided context data.
+	 * Render the email template with the provided context data, reusing a cached
+	 * rendering of the same template and context.
 	 */
 	private String renderTemplate(NotificationTemplate template, Map<String, Object> context) {
 		try {
-			Context thymeleafContext = new Context();
-
-			// Add common variables available to all templates
-			thymeleafContext.setVariable("appName", "PropMange");
-
-			// Globally transform Instants to ZonedDateTime so #temporals can read them
-			context.forEach((key, value) -> {
-				Object processedValue = value;
-				if (value instanceof Instant i) {
-					processedValue = i.atZone(ZoneId.systemDefault());
-				}
-				thymeleafContext.setVariable(key, processedValue);
-			});
-
-			return templateEngine.process(template.getTemplatePath(), thymeleafContext);
+			return templateRenderer.render(template, context);
 		} catch (Exception e) {
 			log.error("Failed to render template: {}", template.getTemplatePath(), e);
 			throw new NotificationException("Failed to render email template: " + template.name(), e);
@@ -86,7 +73,7 @@ public class EmailNotificationService {
 	}
 
 	/**
-	 * Send the actual email via JavaMailSender.
+	 * Send the actual email over a pooled SMTP connection.
 	 */
 	private void sendEmail(String toEmail, String subject, String htmlContent) throws MessagingException {
 		MimeMessage message = mailSender.createMimeMessage();
@@ -98,6 +85,6 @@ public class EmailNotificationService {
 		helper.setSubject(subject);
 		helper.setText(htmlContent, true); // true = HTML
 
-		mailSender.send(message);
+		smtpPool.send(message);
 	}
 }
@@ -0,0 +1,18 @@
+package com.akandiah.propmanager.common.notification;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Cache key for a rendered email body: the template plus a snapshot of the
+ * context it was rendered with. Recipients sharing a context (e.g. tenants on
+ * the same lease) share one rendering.
+ */
+public record EmailRenderKey(NotificationTemplate template, Map<String, Object> context) {
+
+	public static EmailRenderKey of(NotificationTemplate template, Map<String, Object> context) {
+		// HashMap copy rather than Map.copyOf: deserialized contexts may hold null values
+		return new EmailRenderKey(template, Collections.unmodifiableMap(new HashMap<>(context)));
+	}
+}
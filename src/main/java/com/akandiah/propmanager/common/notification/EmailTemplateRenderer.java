@@ -0,0 +1,105 @@
+package com.akandiah.propmanager.common.notification;
+
+import java.io.Writer;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.thymeleaf.IEngineConfiguration;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.TemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.templateresolver.ITemplateResolver;
+import org.thymeleaf.templateresolver.TemplateResolution;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Renders email templates with two layers of caching.
+ *
+ * <p>
+ * Parsed templates live in Thymeleaf's own template cache; {@link #preload()}
+ * fills it for every {@link NotificationTemplate} at startup so the first send
+ * of each type does not pay for resolution and parsing. Templates are
+ * preloaded by rendering them once with only the global variables; the
+ * startup log reports how many were found.
+ *
+ * <p>
+ * Rendered bodies are cached by template and context ({@link EmailRenderKey}).
+ * Bulk sends such as lease lifecycle notifications give every tenant on a
+ * lease the same context, so the body is rendered once and reused for each
+ * recipient, and relay retries of the same delivery skip rendering entirely.
+ */
+@Component
+@Slf4j
+public class EmailTemplateRenderer {
+
+	/** Common variables available to all templates. */
+	private static final Map<String, Object> GLOBALS = Map.of("appName", "PropMange");
+
+	private final ITemplateEngine templateEngine;
+	private final Cache<EmailRenderKey, String> renderCache;
+
+	public EmailTemplateRenderer(ITemplateEngine templateEngine,
+			@Qualifier("emailRenderCache") Cache<EmailRenderKey, String> renderCache) {
+		this.templateEngine = templateEngine;
+		this.renderCache = renderCache;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void preload() {
+		if (!(templateEngine instanceof TemplateEngine engine)) {
+			return;
+		}
+		int loaded = 0;
+		for (NotificationTemplate template : NotificationTemplate.values()) {
+			if (!exists(engine.getConfiguration(), template.getTemplatePath())) {
+				log.debug("No email template at {}; skipping preload", template.getTemplatePath());
+				continue;
+			}
+			try {
+				// Parsing populates Thymeleaf's template cache under the same key later sends use
+				engine.process(template.getTemplatePath(), new Context(Locale.getDefault(), GLOBALS),
+						Writer.nullWriter());
+				loaded++;
+			} catch (Exception e) {
+				log.warn("Could not preload email template {}: {}", template.getTemplatePath(), e.getMessage());
+			}
+		}
+		log.info("Preloaded {} of {} email templates", loaded, NotificationTemplate.values().length);
+	}
+
+	private static boolean exists(IEngineConfiguration configuration, String templatePath) {
+		for (ITemplateResolver resolver : configuration.getTemplateResolvers()) {
+			TemplateResolution resolution = resolver.resolveTemplate(configuration, null, templatePath, null);
+			if (resolution != null && resolution.getTemplateResource().exists()) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the HTML body for {@code template} rendered with {@code context},
+	 * from cache when the same template and context were rendered recently.
+	 */
+	public String render(NotificationTemplate template, Map<String, Object> context) {
+		return renderCache.get(EmailRenderKey.of(template, context), this::process);
+	}
+
+	private String process(EmailRenderKey key) {
+		Map<String, Object> variables = new HashMap<>(GLOBALS);
+		// Globally transform Instants to ZonedDateTime so #temporals can read them
+		key.context().forEach((name, value) -> variables.put(name,
+				value instanceof Instant i ? i.atZone(ZoneId.systemDefault()) : value));
+		return templateEngine.process(key.template().getTemplatePath(), new Context(Locale.getDefault(), variables));
+	}
+}
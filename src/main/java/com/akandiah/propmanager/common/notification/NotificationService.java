@@ -24,7 +24,8 @@ public class NotificationService {
 	 * @param toEmail  Recipient email address
 	 * @param template Template to use
 	 * @param context  Data to populate the template
-	 * @throws NotificationException if sending fails
+	 * @throws SmtpPoolExhaustedException if every pooled SMTP connection stayed busy; nothing was sent
+	 * @throws NotificationException       if sending fails
 	 */
 	public void send(String toEmail, NotificationTemplate template, Map<String, Object> context) {
 		log.info("Sending notification: template={}, to={}", template.name(), toEmail);
@@ -0,0 +1,229 @@
+package com.akandiah.propmanager.common.notification;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Date;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.angus.mail.smtp.SMTPSendFailedException;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mail.MailAuthenticationException;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import com.akandiah.propmanager.config.NotificationProperties;
+
+import jakarta.mail.Address;
+import jakarta.mail.AuthenticationFailedException;
+import jakarta.mail.MessagingException;
+import jakarta.mail.SendFailedException;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps authenticated SMTP connections open between sends, so a message costs
+ * one MAIL/RCPT/DATA exchange instead of a TCP connect, TLS handshake and AUTH
+ * each. {@link JavaMailSenderImpl#send(MimeMessage...)} opens and closes a
+ * transport per call; this borrows one from the pool instead, using the same
+ * session, host and credentials.
+ *
+ * <p>
+ * Connections are handed out most-recently-used first, so a quiet period lets
+ * the extras age out. On borrow, a connection idle longer than
+ * {@code validateAfterIdle} is health-checked with NOOP, and one idle longer
+ * than {@code maxIdle} is closed unchecked. After
+ * {@code maxMessagesPerConnection} messages a connection is rotated out, which
+ * bounds server-side per-session limits. A connection-level failure or a 4xx
+ * reply discards the connection; a permanently rejected message
+ * ({@link SendFailedException}) leaves it in the pool.
+ *
+ * <p>
+ * A connection holds its slot for the whole NOOP or send, so the session must
+ * have {@code mail.smtp.connectiontimeout}, {@code mail.smtp.timeout} and
+ * {@code mail.smtp.writetimeout} set ({@code spring.mail.properties.*});
+ * otherwise a stalled server hangs the send and, once enough slots are stuck,
+ * the pool.
+ *
+ * <p>
+ * With a mail sender that is not a {@link JavaMailSenderImpl} (e.g. a test
+ * mock), sends are delegated to it unpooled.
+ */
+@Component
+@Slf4j
+public class SmtpConnectionPool implements DisposableBean {
+
+	private final JavaMailSender mailSender;
+	private final NotificationProperties.Pool config;
+	private final Semaphore permits;
+	/** Idle connections, most recently used first. Guarded by {@code this}. */
+	private final Deque<PooledConnection> idle = new ArrayDeque<>();
+
+	public SmtpConnectionPool(JavaMailSender mailSender, NotificationProperties notificationProperties) {
+		this.mailSender = mailSender;
+		this.config = notificationProperties.email().pool();
+		this.permits = new Semaphore(config.maxConnections(), true);
+	}
+
+	/**
+	 * Sends {@code message} over a pooled connection.
+	 *
+	 * @throws SmtpPoolExhaustedException if no connection frees up within {@code borrowTimeout}
+	 * @throws MailSendException          if the server rejects the message or drops the connection
+	 */
+	public void send(MimeMessage message) throws MailException {
+		if (!(mailSender instanceof JavaMailSenderImpl)) {
+			mailSender.send(message);
+			return;
+		}
+		PooledConnection connection = borrow();
+		try {
+			sendOne(connection.transport, message);
+		} catch (SendFailedException e) {
+			// Recipient/message rejections leave the session usable; 4xx replies such as 421 do not
+			if (isTransientServerReply(e)) {
+				discard(connection);
+			} else {
+				release(connection);
+			}
+			throw new MailSendException(Map.of(message, e));
+		} catch (MessagingException | RuntimeException e) {
+			discard(connection);
+			throw new MailSendException(Map.of(message, e));
+		}
+		if (++connection.sent >= config.maxMessagesPerConnection()) {
+			discard(connection);
+		} else {
+			release(connection);
+		}
+	}
+
+	private static boolean isTransientServerReply(SendFailedException e) {
+		return e instanceof SMTPSendFailedException smtp && smtp.getReturnCode() >= 400 && smtp.getReturnCode() < 500;
+	}
+
+	private static void sendOne(Transport transport, MimeMessage message) throws MessagingException {
+		// Same preparation as JavaMailSenderImpl.doSend
+		if (message.getSentDate() == null) {
+			message.setSentDate(new Date());
+		}
+		String messageId = message.getMessageID();
+		message.saveChanges();
+		if (messageId != null) {
+			message.setHeader("Message-ID", messageId);
+		}
+		Address[] recipients = message.getAllRecipients();
+		transport.sendMessage(message, recipients != null ? recipients : new Address[0]);
+	}
+
+	private PooledConnection borrow() throws MailException {
+		try {
+			if (!permits.tryAcquire(config.borrowTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+				throw new SmtpPoolExhaustedException(
+						"Timed out after " + config.borrowTimeout() + " waiting for an SMTP connection");
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new MailSendException("Interrupted waiting for an SMTP connection", e);
+		}
+		try {
+			PooledConnection connection;
+			while ((connection = pollIdle()) != null) {
+				if (connection.isUsable(Instant.now())) {
+					return connection;
+				}
+				connection.close();
+			}
+			return open();
+		} catch (RuntimeException e) {
+			permits.release();
+			throw e;
+		}
+	}
+
+	private synchronized PooledConnection pollIdle() {
+		return idle.pollFirst();
+	}
+
+	/** Returns {@code connection} to the pool, or just frees its slot when it is null (closed). */
+	private void release(PooledConnection connection) {
+		if (connection != null) {
+			connection.lastUsed = Instant.now();
+			synchronized (this) {
+				idle.offerFirst(connection);
+			}
+		}
+		permits.release();
+	}
+
+	/** Closes {@code connection} and frees its slot. */
+	private void discard(PooledConnection connection) {
+		connection.close();
+		release(null);
+	}
+
+	private PooledConnection open() throws MailException {
+		JavaMailSenderImpl impl = (JavaMailSenderImpl) mailSender;
+		try {
+			Transport transport = impl.getSession().getTransport(
+					impl.getProtocol() != null ? impl.getProtocol() : JavaMailSenderImpl.DEFAULT_PROTOCOL);
+			String username = impl.getUsername();
+			String password = impl.getPassword();
+			if ("".equals(username)) {
+				username = null;
+				if ("".equals(password)) {
+					password = null;
+				}
+			}
+			transport.connect(impl.getHost(), impl.getPort(), username, password);
+			log.debug("Opened SMTP connection to {}:{}", impl.getHost(), impl.getPort());
+			return new PooledConnection(transport);
+		} catch (AuthenticationFailedException e) {
+			throw new MailAuthenticationException(e);
+		} catch (MessagingException e) {
+			throw new MailSendException("Could not connect to SMTP server " + impl.getHost(), e);
+		}
+	}
+
+	@Override
+	public synchronized void destroy() {
+		PooledConnection connection;
+		while ((connection = idle.pollFirst()) != null) {
+			connection.close();
+		}
+	}
+
+	private final class PooledConnection {
+
+		private final Transport transport;
+		private int sent;
+		private Instant lastUsed = Instant.now();
+
+		private PooledConnection(Transport transport) {
+			this.transport = transport;
+		}
+
+		/** Too-old connections are dropped; moderately idle ones must answer NOOP. */
+		private boolean isUsable(Instant now) {
+			if (lastUsed.plus(config.maxIdle()).isBefore(now)) {
+				return false;
+			}
+			// SMTPTransport.isConnected() sends NOOP and closes the transport if it fails
+			return !lastUsed.plus(config.validateAfterIdle()).isBefore(now) || transport.isConnected();
+		}
+
+		private void close() {
+			try {
+				transport.close();
+			} catch (MessagingException e) {
+				log.debug("Error closing SMTP connection: {}", e.getMessage());
+			}
+		}
+	}
+}
@@ -0,0 +1,16 @@
+package com.akandiah.propmanager.common.notification;
+
+import org.springframework.mail.MailSendException;
+
+/**
+ * Thrown when no pooled SMTP connection frees up within
+ * {@code app.notification.email.pool.borrow-timeout}. Nothing was sent and the
+ * mail server was not at fault, so callers should treat it as back-pressure
+ * and retry later rather than count it as a failed attempt.
+ */
+public class SmtpPoolExhaustedException extends MailSendException {
+
+	public SmtpPoolExhaustedException(String message) {
+		super(message);
+	}
+}
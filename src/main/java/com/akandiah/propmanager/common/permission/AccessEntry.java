@@ -1,6 +1,5 @@
 package com.akandiah.propmanager.common.permission;
 
-import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -8,15 +7,22 @@ import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
-/** One entry in the JWT "access" claim: effective permissions for a scope. */
+/**
+ * One entry in the JWT "access" claim: effective permissions for a scope.
+ * Permissions are held packed; the claim keeps the domain → bitmask map shape.
+ */
 public record AccessEntry(
 		UUID orgId,
 		ResourceType scopeType,
 		UUID scopeId,
-		Map<String, Integer> permissions) {
+		PermissionSet permissions) {
 
 	public AccessEntry {
-		permissions = permissions != null ? Map.copyOf(permissions) : Map.of();
+		permissions = permissions != null ? permissions : PermissionSet.NONE;
+	}
+
+	public AccessEntry(UUID orgId, ResourceType scopeType, UUID scopeId, Map<String, Integer> permissions) {
+		this(orgId, scopeType, scopeId, PermissionSet.fromMasks(permissions));
 	}
 
 	public Map<String, Object> toClaimMap() {
@@ -24,7 +30,7 @@ public record AccessEntry(
 		map.put("orgId", orgId.toString());
 		map.put("scopeType", scopeType.name());
 		map.put("scopeId", scopeId.toString());
-		map.put("permissions", new LinkedHashMap<>(permissions));
+		map.put("permissions", permissions.toMap());
 		return map;
 	}
 
@@ -32,12 +38,14 @@ public record AccessEntry(
 		UUID orgId = UUID.fromString(Objects.requireNonNull((String) map.get("orgId")));
 		ResourceType scopeType = ResourceType.valueOf((String) map.get("scopeType"));
 		UUID scopeId = UUID.fromString(Objects.requireNonNull((String) map.get("scopeId")));
-		Map<String, Integer> perms = new LinkedHashMap<>();
+		PermissionSet perms = PermissionSet.NONE;
 		Object p = map.get("permissions");
 		if (p instanceof Map<?, ?> m) {
-			m.forEach((k, v) -> perms.put(String.valueOf(k), ((Number) v).intValue()));
+			for (Map.Entry<?, ?> e : m.entrySet()) {
+				perms = perms.with(String.valueOf(e.getKey()), ((Number) e.getValue()).intValue());
+			}
 		}
-		return new AccessEntry(orgId, scopeType, scopeId, Collections.unmodifiableMap(perms));
+		return new AccessEntry(orgId, scopeType, scopeId, perms);
 	}
 
 	@SuppressWarnings("unchecked")
@@ -0,0 +1,74 @@
+package com.akandiah.propmanager.common.permission;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * One hydrated grant together with the row it came from. Tracking the source
+ * lets a cached {@link AccessIndex} be patched when that row changes instead of
+ * being rebuilt from scratch.
+ *
+ * <p>{@code policyId} is set only for assignments whose permissions come from a
+ * linked policy (no overrides), so a policy edit can find every grant it feeds.
+ * Assignments with empty permissions are kept (as {@link PermissionSet#NONE})
+ * for the same reason.
+ */
+public record AccessGrant(Source source, UUID policyId, AccessEntry entry) {
+
+	private static final int FULL_CRUD = Actions.READ | Actions.CREATE | Actions.UPDATE | Actions.DELETE;
+
+	/** Owner: full CRUD on all operational and structural domains for each owned property. */
+	public static final PermissionSet OWNER_PERMISSIONS = PermissionSet.NONE
+			.with(PermissionDomains.PORTFOLIO, FULL_CRUD)
+			.with(PermissionDomains.LEASES, FULL_CRUD)
+			.with(PermissionDomains.MAINTENANCE, FULL_CRUD)
+			.with(PermissionDomains.FINANCES, FULL_CRUD)
+			.with(PermissionDomains.TENANTS, FULL_CRUD);
+
+	/** Tenant: read-only on leases and maintenance domains. */
+	public static final PermissionSet TENANT_PERMISSIONS = PermissionSet.NONE
+			.with(PermissionDomains.LEASES, Actions.READ)
+			.with(PermissionDomains.MAINTENANCE, Actions.READ);
+
+	public enum Kind {
+		/** A policy assignment; id is the assignment id. */
+		ASSIGNMENT,
+		/** Property ownership; id is the property id. */
+		OWNERSHIP,
+		/** An active lease tenancy; id is the lease-tenant id. */
+		TENANCY
+	}
+
+	/** The row a grant was derived from. */
+	public record Source(Kind kind, UUID id) {
+	}
+
+	/**
+	 * Grant for a policy assignment. Overrides win over the linked policy; ORG
+	 * assignments are always scoped to the membership's org.
+	 */
+	public static AccessGrant assignment(UUID assignmentId, UUID orgId, ResourceType resourceType,
+			UUID resourceId, Map<String, String> overrides, UUID policyId, Map<String, String> policyPermissions) {
+		UUID scopeId = resourceType == ResourceType.ORG ? orgId : resourceId;
+		boolean useOverrides = overrides != null && !overrides.isEmpty();
+		PermissionSet permissions = PermissionSet.fromLetters(useOverrides ? overrides : policyPermissions);
+		return new AccessGrant(new Source(Kind.ASSIGNMENT, assignmentId), useOverrides ? null : policyId,
+				new AccessEntry(orgId, resourceType, scopeId, permissions));
+	}
+
+	public static AccessGrant ownership(UUID orgId, UUID propId) {
+		return new AccessGrant(new Source(Kind.OWNERSHIP, propId), null,
+				new AccessEntry(orgId, ResourceType.PROPERTY, propId, OWNER_PERMISSIONS));
+	}
+
+	public static AccessGrant tenancy(UUID leaseTenantId, UUID orgId, UUID unitId) {
+		return new AccessGrant(new Source(Kind.TENANCY, leaseTenantId), null,
+				new AccessEntry(orgId, ResourceType.UNIT, unitId, TENANT_PERMISSIONS));
+	}
+
+	/** Returns a copy carrying {@code permissions} at the same scope. */
+	public AccessGrant withPermissions(PermissionSet permissions) {
+		return new AccessGrant(source, policyId,
+				new AccessEntry(entry.orgId(), entry.scopeType(), entry.scopeId(), permissions));
+	}
+}
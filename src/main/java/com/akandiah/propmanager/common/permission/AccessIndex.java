@@ -0,0 +1,183 @@
+package com.akandiah.propmanager.common.permission;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Immutable, hashed view of a hydrated access list. Built once per user by
+ * {@code JwtHydrationService#hydrate} and cached with it, so authorization
+ * checks resolve a scope in O(1) instead of scanning every {@link AccessEntry}.
+ *
+ * <p>Entries sharing the same (orgId, scopeType, scopeId) are merged by ORing
+ * their packed {@link PermissionSet}s.
+ *
+ * <p>An index built by {@link #ofGrants(List)} also keeps the {@link AccessGrant}s
+ * it was compiled from, so it can be patched with {@link #withGrant},
+ * {@link #withoutGrant} and {@link #withPolicyPermissions} when a single source
+ * row changes. Patches return a new index; the original is never mutated.
+ */
+public final class AccessIndex {
+
+	public static final AccessIndex EMPTY = new AccessIndex(List.of(), true);
+
+	/** Hash key for one scope in the index. */
+	public record ScopeKey(UUID orgId, ResourceType scopeType, UUID scopeId) {
+	}
+
+	private record FilterKey(ResourceType scopeType, String domain, int action) {
+	}
+
+	private final List<AccessGrant> grants;
+	private final boolean tracked;
+	private final List<AccessEntry> entries;
+	private final Map<ScopeKey, PermissionSet> permissionsByScope;
+	private final ConcurrentMap<FilterKey, Set<UUID>> scopeIdsByFilter = new ConcurrentHashMap<>();
+
+	private AccessIndex(List<AccessGrant> grants, boolean tracked) {
+		this.grants = List.copyOf(grants);
+		this.tracked = tracked;
+		Map<ScopeKey, PermissionSet> merged = new LinkedHashMap<>(Math.max(16, grants.size() * 2));
+		for (AccessGrant g : this.grants) {
+			AccessEntry e = g.entry();
+			if (!e.permissions().isEmpty()) {
+				merged.merge(new ScopeKey(e.orgId(), e.scopeType(), e.scopeId()), e.permissions(), PermissionSet::merge);
+			}
+		}
+		List<AccessEntry> mergedEntries = new ArrayList<>(merged.size());
+		merged.forEach((k, p) -> mergedEntries.add(new AccessEntry(k.orgId(), k.scopeType(), k.scopeId(), p)));
+		this.entries = List.copyOf(mergedEntries);
+		this.permissionsByScope = Map.copyOf(merged);
+	}
+
+	/** Builds an untracked index (e.g. from a JWT claim); it cannot be patched. */
+	public static AccessIndex of(List<AccessEntry> entries) {
+		if (entries == null || entries.isEmpty()) {
+			return EMPTY;
+		}
+		return new AccessIndex(entries.stream().map(e -> new AccessGrant(null, null, e)).toList(), false);
+	}
+
+	/** Builds a tracked index that remembers the source of every grant. */
+	public static AccessIndex ofGrants(List<AccessGrant> grants) {
+		if (grants == null || grants.isEmpty()) {
+			return EMPTY;
+		}
+		return new AccessIndex(grants, true);
+	}
+
+	/** Merged entries, one per scope, in first-seen order. */
+	public List<AccessEntry> entries() {
+		return entries;
+	}
+
+	/** The grants this index was compiled from, including empty assignment grants. */
+	public List<AccessGrant> grants() {
+		return grants;
+	}
+
+	/** True if every grant carries its source, i.e. the index can be patched. */
+	public boolean isTracked() {
+		return tracked;
+	}
+
+	/**
+	 * Returns a copy with {@code grant} replacing any grant from the same source,
+	 * or {@code null} if this index is not tracked.
+	 */
+	public AccessIndex withGrant(AccessGrant grant) {
+		if (!tracked) {
+			return null;
+		}
+		List<AccessGrant> next = new ArrayList<>(grants.size() + 1);
+		for (AccessGrant g : grants) {
+			if (!g.source().equals(grant.source())) {
+				next.add(g);
+			}
+		}
+		next.add(grant);
+		return new AccessIndex(next, true);
+	}
+
+	/**
+	 * Returns a copy without grants from {@code source} ({@code this} if there were
+	 * none), or {@code null} if this index is not tracked.
+	 */
+	public AccessIndex withoutGrant(AccessGrant.Source source) {
+		if (!tracked) {
+			return null;
+		}
+		List<AccessGrant> next = grants.stream().filter(g -> !g.source().equals(source)).toList();
+		return next.size() == grants.size() ? this : new AccessIndex(next, true);
+	}
+
+	/**
+	 * Returns a copy where every grant fed by {@code policyId} carries
+	 * {@code permissions} ({@code this} if none are), or {@code null} if this index
+	 * is not tracked.
+	 */
+	public AccessIndex withPolicyPermissions(UUID policyId, PermissionSet permissions) {
+		if (!tracked) {
+			return null;
+		}
+		boolean changed = false;
+		List<AccessGrant> next = new ArrayList<>(grants.size());
+		for (AccessGrant g : grants) {
+			if (policyId.equals(g.policyId()) && !g.entry().permissions().equals(permissions)) {
+				next.add(g.withPermissions(permissions));
+				changed = true;
+			} else {
+				next.add(g);
+			}
+		}
+		return changed ? new AccessIndex(next, true) : this;
+	}
+
+	public boolean isEmpty() {
+		return entries.isEmpty();
+	}
+
+	public int size() {
+		return permissionsByScope.size();
+	}
+
+	/** Returns true if any entry exists for the exact scope. */
+	public boolean contains(UUID orgId, ResourceType scopeType, UUID scopeId) {
+		return permissionsByScope.containsKey(new ScopeKey(orgId, scopeType, scopeId));
+	}
+
+	/** Returns the packed permissions at the exact scope, or {@link PermissionSet#NONE}. */
+	public PermissionSet permissions(UUID orgId, ResourceType scopeType, UUID scopeId) {
+		return permissionsByScope.getOrDefault(new ScopeKey(orgId, scopeType, scopeId), PermissionSet.NONE);
+	}
+
+	/** Returns the action bitmask for {@code domain} at the exact scope, or 0 if none is granted. */
+	public int mask(UUID orgId, ResourceType scopeType, UUID scopeId, String domain) {
+		return permissions(orgId, scopeType, scopeId).mask(domain);
+	}
+
+	/**
+	 * Returns the IDs of every scope of {@code scopeType} that grants {@code action}
+	 * on {@code domain}. Computed once per (scopeType, domain, action) and memoized,
+	 * so repeated list requests against the same cached index do not rescan it.
+	 */
+	public Set<UUID> scopeIds(ResourceType scopeType, String domain, int action) {
+		return scopeIdsByFilter.computeIfAbsent(new FilterKey(scopeType, domain, action), this::collectScopeIds);
+	}
+
+	private Set<UUID> collectScopeIds(FilterKey key) {
+		Set<UUID> ids = new HashSet<>();
+		permissionsByScope.forEach((scope, permissions) -> {
+			if (scope.scopeType() == key.scopeType() && permissions.allows(key.domain(), key.action())) {
+				ids.add(scope.scopeId());
+			}
+		});
+		return Set.copyOf(ids);
+	}
+}
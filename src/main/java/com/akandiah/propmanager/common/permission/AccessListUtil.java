@@ -1,7 +1,5 @@
 package com.akandiah.propmanager.common.permission;
 
-import java.util.HashSet;
-import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -10,8 +8,8 @@ import jakarta.servlet.http.HttpServletRequest;
 import com.akandiah.propmanager.security.JwtAccessHydrationFilter;
 
 /**
- * Builds per-resource-type access filters from a hydrated access list for list
- * endpoints.
+ * Builds per-resource-type access filters from a hydrated {@link AccessIndex}
+ * for list endpoints.
  */
 public final class AccessListUtil {
 
@@ -20,10 +18,21 @@ public final class AccessListUtil {
 
 	// ──────────────────────── Filter records ────────────────────────
 
+	// The *Array() accessors return the id sets as arrays that repositories bind
+	// as one uuid[] parameter through any_of (see AnyOfFunctionContributor).
+
 	public record PropAccessFilter(Set<UUID> orgIds, Set<UUID> propIds) {
 		public boolean isEmpty() {
 			return orgIds.isEmpty() && propIds.isEmpty();
 		}
+
+		public UUID[] orgIdArray() {
+			return toArray(orgIds);
+		}
+
+		public UUID[] propIdArray() {
+			return toArray(propIds);
+		}
 	}
 
 	/**
@@ -34,52 +43,44 @@ public final class AccessListUtil {
 		public boolean isEmpty() {
 			return orgIds.isEmpty() && propIds.isEmpty() && unitIds.isEmpty();
 		}
+
+		public UUID[] orgIdArray() {
+			return toArray(orgIds);
+		}
+
+		public UUID[] propIdArray() {
+			return toArray(propIds);
+		}
+
+		public UUID[] unitIdArray() {
+			return toArray(unitIds);
+		}
+	}
+
+	private static UUID[] toArray(Set<UUID> ids) {
+		return ids.toArray(UUID[]::new);
 	}
 
 	// ──────────────────────── Builder helpers ────────────────────────
 
-	public static PropAccessFilter forProps(List<AccessEntry> access, String domain, int action) {
-		Set<UUID> orgIds = new HashSet<>();
-		Set<UUID> propIds = new HashSet<>();
-		for (AccessEntry e : access) {
-			int mask = e.permissions().getOrDefault(domain, 0);
-			if (!PermissionMaskUtil.hasAccess(mask, action))
-				continue;
-			switch (e.scopeType()) {
-				case ORG -> orgIds.add(e.orgId());
-				case PROPERTY -> propIds.add(e.scopeId());
-				case UNIT, ASSET -> {
-				}
-			}
-		}
-		return new PropAccessFilter(orgIds, propIds);
+	public static PropAccessFilter forProps(AccessIndex access, String domain, int action) {
+		return new PropAccessFilter(
+				access.scopeIds(ResourceType.ORG, domain, action),
+				access.scopeIds(ResourceType.PROPERTY, domain, action));
 	}
 
-	/** Builds a filter collecting org/property/unit IDs from the access list. */
-	public static ScopedAccessFilter forScopedResources(List<AccessEntry> access, String domain, int action) {
-		Set<UUID> orgIds = new HashSet<>();
-		Set<UUID> propIds = new HashSet<>();
-		Set<UUID> unitIds = new HashSet<>();
-		for (AccessEntry e : access) {
-			int mask = e.permissions().getOrDefault(domain, 0);
-			if (!PermissionMaskUtil.hasAccess(mask, action))
-				continue;
-			switch (e.scopeType()) {
-				case ORG -> orgIds.add(e.orgId());
-				case PROPERTY -> propIds.add(e.scopeId());
-				case UNIT -> unitIds.add(e.scopeId());
-				case ASSET -> {
-				}
-			}
-		}
-		return new ScopedAccessFilter(orgIds, propIds, unitIds);
+	/** Builds a filter collecting org/property/unit IDs from the access index. */
+	public static ScopedAccessFilter forScopedResources(AccessIndex access, String domain, int action) {
+		return new ScopedAccessFilter(
+				access.scopeIds(ResourceType.ORG, domain, action),
+				access.scopeIds(ResourceType.PROPERTY, domain, action),
+				access.scopeIds(ResourceType.UNIT, domain, action));
 	}
 
 	// ──────────────────────── Request helper ────────────────────────
 
-	@SuppressWarnings("unchecked")
-	public static List<AccessEntry> fromRequest(HttpServletRequest request) {
+	public static AccessIndex fromRequest(HttpServletRequest request) {
 		Object attr = request.getAttribute(JwtAccessHydrationFilter.REQUEST_ATTRIBUTE_ACCESS);
-		return attr instanceof List<?> list ? (List<AccessEntry>) list : List.of();
+		return attr instanceof AccessIndex index ? index : AccessIndex.EMPTY;
 	}
 }
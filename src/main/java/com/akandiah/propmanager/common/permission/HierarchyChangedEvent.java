@@ -0,0 +1,11 @@
+package com.akandiah.propmanager.common.permission;
+
+import java.util.UUID;
+
+/**
+ * Published when a property, unit or asset is re-parented or deleted.
+ * Listeners evict the resource (and anything cached beneath it) from the
+ * hierarchy cache.
+ */
+public record HierarchyChangedEvent(ResourceType resourceType, UUID resourceId) {
+}
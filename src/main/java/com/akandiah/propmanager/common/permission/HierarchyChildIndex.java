@@ -0,0 +1,51 @@
+package com.akandiah.propmanager.common.permission;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Consumer;
+
+/**
+ * Reverse index over the hierarchy cache: property or unit id → cache keys of
+ * the cached resources beneath it. Lets a re-parent or delete evict a
+ * resource's descendants without scanning the cache. Kept in step with the
+ * cache by the resolver (on load), the eviction listener (on invalidation)
+ * and the cache's eviction listener (on size/TTL eviction).
+ */
+public final class HierarchyChildIndex {
+
+	private final ConcurrentMap<UUID, Set<ScopeLevel>> childrenByParent = new ConcurrentHashMap<>();
+
+	/** Records {@code key} under each parent property/unit in {@code parents}. */
+	public void add(ScopeLevel key, HierarchyParents parents) {
+		forEachParent(parents, parentId -> childrenByParent.compute(parentId, (id, children) -> {
+			Set<ScopeLevel> set = children != null ? children : ConcurrentHashMap.newKeySet();
+			set.add(key);
+			return set;
+		}));
+	}
+
+	/** Forgets {@code key}, which was cached with {@code parents}. */
+	public void remove(ScopeLevel key, HierarchyParents parents) {
+		forEachParent(parents, parentId -> childrenByParent.computeIfPresent(parentId, (id, children) -> {
+			children.remove(key);
+			return children.isEmpty() ? null : children;
+		}));
+	}
+
+	/** Removes and returns the keys recorded under {@code parentId}. */
+	public Set<ScopeLevel> removeChildren(UUID parentId) {
+		Set<ScopeLevel> children = childrenByParent.remove(parentId);
+		return children != null ? children : Set.of();
+	}
+
+	private static void forEachParent(HierarchyParents parents, Consumer<UUID> action) {
+		if (parents.propId() != null) {
+			action.accept(parents.propId());
+		}
+		if (parents.unitId() != null) {
+			action.accept(parents.unitId());
+		}
+	}
+}
@@ -0,0 +1,27 @@
+package com.akandiah.propmanager.common.permission;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compact parent-id tuple for a property, unit or asset. This is what the
+ * hierarchy cache stores instead of entities; {@code unitId} is only set for
+ * unit-scoped assets.
+ */
+public record HierarchyParents(UUID orgId, UUID propId, UUID unitId) {
+
+	/** Builds the scope chain (most specific → least specific) for the resource owning these parents. */
+	public List<ScopeLevel> chainFor(ResourceType resourceType, UUID resourceId) {
+		List<ScopeLevel> chain = new ArrayList<>(4);
+		chain.add(new ScopeLevel(resourceType, resourceId));
+		if (unitId != null) {
+			chain.add(new ScopeLevel(ResourceType.UNIT, unitId));
+		}
+		if (propId != null && resourceType != ResourceType.PROPERTY) {
+			chain.add(new ScopeLevel(ResourceType.PROPERTY, propId));
+		}
+		chain.add(new ScopeLevel(ResourceType.ORG, orgId));
+		return chain;
+	}
+}
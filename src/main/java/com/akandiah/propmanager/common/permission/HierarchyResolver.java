@@ -1,10 +1,18 @@
 package com.akandiah.propmanager.common.permission;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 /** Resolves the hierarchy chain (most specific → least specific) for a resource. */
 public interface HierarchyResolver {
 
 	List<ScopeLevel> resolve(ResourceType resourceType, UUID resourceId, UUID orgId);
+
+	/**
+	 * Resolves chains for many resources of the same type. Resources that do not
+	 * exist or do not belong to {@code orgId} are absent from the result.
+	 */
+	Map<UUID, List<ScopeLevel>> resolveAll(ResourceType resourceType, Collection<UUID> resourceIds, UUID orgId);
 }
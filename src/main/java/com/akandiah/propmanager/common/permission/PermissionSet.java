@@ -0,0 +1,127 @@
+package com.akandiah.propmanager.common.permission;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.ObjIntConsumer;
+
+/**
+ * Packed per-domain permission masks. Each of the six {@link PermissionDomains}
+ * owns a 4-bit slot holding its {@link Actions} bitmask, so a full set fits in
+ * one {@code int} and merges with a single OR.
+ *
+ * <p>Slot order (low bits first): l, m, f, t, o, p.
+ */
+public record PermissionSet(int bits) {
+
+	public static final PermissionSet NONE = new PermissionSet(0);
+
+	private static final int BITS_PER_DOMAIN = 4;
+	private static final int ACTION_MASK = 0xF;
+
+	/** Domains in slot order. */
+	public static final List<String> DOMAINS = List.of(
+			PermissionDomains.LEASES,
+			PermissionDomains.MAINTENANCE,
+			PermissionDomains.FINANCES,
+			PermissionDomains.TENANTS,
+			PermissionDomains.ORGANIZATION,
+			PermissionDomains.PORTFOLIO);
+
+	public static PermissionSet of(String domain, int mask) {
+		return NONE.with(domain, mask);
+	}
+
+	/** Builds a set from a domain → bitmask map. Unknown domains are ignored. */
+	public static PermissionSet fromMasks(Map<String, ? extends Number> masks) {
+		if (masks == null || masks.isEmpty()) {
+			return NONE;
+		}
+		int bits = 0;
+		for (Map.Entry<String, ? extends Number> e : masks.entrySet()) {
+			int shift = shiftOf(e.getKey());
+			if (shift >= 0 && e.getValue() != null) {
+				bits |= (e.getValue().intValue() & ACTION_MASK) << shift;
+			}
+		}
+		return new PermissionSet(bits);
+	}
+
+	/** Builds a set from a domain → action letters map (e.g. {@code {"l": "cru"}}). */
+	public static PermissionSet fromLetters(Map<String, String> permissions) {
+		if (permissions == null || permissions.isEmpty()) {
+			return NONE;
+		}
+		int bits = 0;
+		for (Map.Entry<String, String> e : permissions.entrySet()) {
+			int shift = shiftOf(e.getKey());
+			if (shift >= 0) {
+				bits |= PermissionMaskUtil.parseToMask(e.getValue()) << shift;
+			}
+		}
+		return new PermissionSet(bits);
+	}
+
+	/** Returns the action bitmask for the domain, or 0 for unknown domains. */
+	public int mask(String domain) {
+		int shift = shiftOf(domain);
+		return shift < 0 ? 0 : (bits >>> shift) & ACTION_MASK;
+	}
+
+	/** Returns true if all bits of {@code requiredAction} are granted on the domain. */
+	public boolean allows(String domain, int requiredAction) {
+		return PermissionMaskUtil.hasAccess(mask(domain), requiredAction);
+	}
+
+	/** Returns a copy with {@code mask} ORed into the domain's slot. */
+	public PermissionSet with(String domain, int mask) {
+		int shift = shiftOf(domain);
+		if (shift < 0 || mask == 0) {
+			return this;
+		}
+		return new PermissionSet(bits | ((mask & ACTION_MASK) << shift));
+	}
+
+	public PermissionSet merge(PermissionSet other) {
+		if (other == null || (bits | other.bits) == bits) {
+			return this;
+		}
+		return new PermissionSet(bits | other.bits);
+	}
+
+	public boolean isEmpty() {
+		return bits == 0;
+	}
+
+	/** Visits each domain with a non-zero mask, in slot order. */
+	public void forEach(ObjIntConsumer<String> action) {
+		for (int i = 0; i < DOMAINS.size(); i++) {
+			int mask = (bits >>> (i * BITS_PER_DOMAIN)) & ACTION_MASK;
+			if (mask != 0) {
+				action.accept(DOMAINS.get(i), mask);
+			}
+		}
+	}
+
+	/** Expands to the domain → bitmask map used by the JWT "access" claim. */
+	public Map<String, Integer> toMap() {
+		Map<String, Integer> map = new LinkedHashMap<>();
+		forEach(map::put);
+		return map;
+	}
+
+	private static int shiftOf(String domain) {
+		if (domain == null) {
+			return -1;
+		}
+		return switch (domain) {
+			case PermissionDomains.LEASES -> 0;
+			case PermissionDomains.MAINTENANCE -> BITS_PER_DOMAIN;
+			case PermissionDomains.FINANCES -> 2 * BITS_PER_DOMAIN;
+			case PermissionDomains.TENANTS -> 3 * BITS_PER_DOMAIN;
+			case PermissionDomains.ORGANIZATION -> 4 * BITS_PER_DOMAIN;
+			case PermissionDomains.PORTFOLIO -> 5 * BITS_PER_DOMAIN;
+			default -> -1;
+		};
+	}
+}
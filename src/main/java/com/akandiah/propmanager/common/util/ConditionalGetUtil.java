@@ -0,0 +1,59 @@
+package com.akandiah.propmanager.common.util;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.springframework.web.context.request.WebRequest;
+
+import com.akandiah.propmanager.common.domain.EntityStamp;
+import com.akandiah.propmanager.common.domain.ListStamp;
+
+/**
+ * Utility for HTTP conditional GET. Controllers check the request against a
+ * cheap stamp query before building any DTO; when this returns {@code true} the
+ * response is already a 304 with the validators set and the handler returns
+ * {@code null}. Otherwise the ETag (and Last-Modified) headers are set on the
+ * 200 response.
+ */
+public final class ConditionalGetUtil {
+
+	private ConditionalGetUtil() {
+		throw new UnsupportedOperationException("Utility class");
+	}
+
+	/**
+	 * Detail endpoints: strong ETag from {@code version}, Last-Modified from
+	 * {@code updatedAt}. If-None-Match takes precedence when both are sent.
+	 */
+	public static boolean notModified(WebRequest request, EntityStamp stamp) {
+		return request.checkNotModified(etag(stamp), stamp.getUpdatedAt().toEpochMilli());
+	}
+
+	/**
+	 * As {@link #notModified(WebRequest, EntityStamp)}; an absent stamp is never
+	 * "not modified", so the normal lookup raises its 404/403.
+	 */
+	public static boolean notModified(WebRequest request, Optional<? extends EntityStamp> stamp) {
+		return stamp.isPresent() && notModified(request, stamp.get());
+	}
+
+	/**
+	 * List endpoints: weak ETag from count and newest {@code updatedAt} within the
+	 * caller's access filter. No Last-Modified, since a delete does not move the
+	 * maximum and If-Modified-Since alone would miss it. The filter and paging
+	 * come from the caller and URL, so the tag needs no extra variant.
+	 */
+	public static boolean notModified(WebRequest request, ListStamp stamp) {
+		return request.checkNotModified(etag(stamp));
+	}
+
+	static String etag(EntityStamp stamp) {
+		return "\"" + stamp.getVersion() + "\"";
+	}
+
+	static String etag(ListStamp stamp) {
+		Instant max = stamp.getMaxUpdatedAt();
+		String newest = max == null ? "0" : max.getEpochSecond() + "." + max.getNano();
+		return "W/\"" + stamp.getCount() + "-" + newest + "\"";
+	}
+}
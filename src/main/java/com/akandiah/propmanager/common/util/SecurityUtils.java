@@ -1,12 +1,13 @@
 package com.akandiah.propmanager.common.util;
 
-import java.util.List;
+import java.util.function.Supplier;
 
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
-import com.akandiah.propmanager.common.permission.AccessEntry;
+import com.akandiah.propmanager.common.permission.AccessIndex;
 import com.akandiah.propmanager.security.JwtAccessHydrationFilter;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,27 +21,59 @@ public final class SecurityUtils {
 		throw new UnsupportedOperationException("Utility class");
 	}
 
+	private static final String REQUEST_ATTRIBUTE_GLOBAL_ADMIN = SecurityUtils.class.getName() + ".globalAdmin";
+
+	/** A value memoized for the request, valid while {@code source} is unchanged. */
+	private record RequestMemo(Object source, Object value) {
+	}
+
+	/**
+	 * Returns true if the current authentication carries ROLE_ADMIN. Memoized for
+	 * the request (per authentication instance), since guards ask repeatedly.
+	 */
 	public static boolean isGlobalAdmin() {
 		var auth = SecurityContextHolder.getContext().getAuthentication();
-		return auth != null && auth.getAuthorities().stream()
-				.anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+		if (auth == null) {
+			return false;
+		}
+		return requestMemo(REQUEST_ATTRIBUTE_GLOBAL_ADMIN, auth, () -> auth.getAuthorities().stream()
+				.anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN")));
 	}
 
 	/**
-	 * Retrieves the {@link AccessEntry} list hydrated by
+	 * Memoizes {@code supplier} in the current request under {@code attribute}.
+	 * The value is recomputed if {@code source} (compared by identity) changes,
+	 * and computed directly when there is no active request.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> T requestMemo(String attribute, Object source, Supplier<T> supplier) {
+		RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+		if (attrs == null) {
+			return supplier.get();
+		}
+		if (attrs.getAttribute(attribute, RequestAttributes.SCOPE_REQUEST) instanceof RequestMemo memo
+				&& memo.source() == source) {
+			return (T) memo.value();
+		}
+		T value = supplier.get();
+		attrs.setAttribute(attribute, new RequestMemo(source, value), RequestAttributes.SCOPE_REQUEST);
+		return value;
+	}
+
+	/**
+	 * Retrieves the {@link AccessIndex} hydrated by
 	 * {@link JwtAccessHydrationFilter}
-	 * from the current HTTP request attributes. Returns an empty list if there is
+	 * from the current HTTP request attributes. Returns an empty index if there is
 	 * no
 	 * active request or the attribute is absent.
 	 */
-	@SuppressWarnings("unchecked")
-	public static List<AccessEntry> getAccessFromRequest() {
+	public static AccessIndex getAccessFromRequest() {
 		ServletRequestAttributes attrs = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
 		if (attrs == null) {
-			return List.of();
+			return AccessIndex.EMPTY;
 		}
 		HttpServletRequest request = attrs.getRequest();
 		Object attr = request.getAttribute(JwtAccessHydrationFilter.REQUEST_ATTRIBUTE_ACCESS);
-		return attr instanceof List<?> list ? (List<AccessEntry>) list : List.of();
+		return attr instanceof AccessIndex index ? index : AccessIndex.EMPTY;
 	}
 }
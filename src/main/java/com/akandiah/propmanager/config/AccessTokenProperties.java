@@ -0,0 +1,21 @@
+package com.akandiah.propmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Server-issued access tokens ({@code app.auth.access-token}). When enabled,
+ * clients exchange their OIDC JWT for a signed token carrying the hydrated
+ * access list and send it in {@code header} alongside the bearer token.
+ *
+ * @param secret     HMAC-SHA256 key, at least 32 bytes
+ * @param maxEntries access lists larger than this are not packed into a token
+ */
+@ConfigurationProperties(prefix = "app.auth.access-token")
+public record AccessTokenProperties(
+		@DefaultValue("false") boolean enabled,
+		String secret,
+		@DefaultValue("15") long ttlMinutes,
+		@DefaultValue("X-Access-Token") String header,
+		@DefaultValue("256") int maxEntries) {
+}
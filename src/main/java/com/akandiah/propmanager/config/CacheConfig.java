@@ -1,8 +1,10 @@
 package com.akandiah.propmanager.config;
 
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cache.CacheManager;
@@ -11,28 +13,113 @@ import org.springframework.cache.caffeine.CaffeineCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import com.akandiah.propmanager.common.notification.EmailRenderKey;
+import com.akandiah.propmanager.common.permission.HierarchyChildIndex;
+import com.akandiah.propmanager.common.permission.HierarchyParents;
+import com.akandiah.propmanager.common.permission.ScopeLevel;
+import com.akandiah.propmanager.features.auth.service.JwtHydrationService;
+import com.akandiah.propmanager.features.user.domain.IdentityKey;
+import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 
 @Configuration
 @EnableCaching
-@EnableConfigurationProperties(CacheProperties.class)
+@EnableConfigurationProperties({ CacheProperties.class, HierarchyCacheProperties.class, IdentityCacheProperties.class,
+		AccessTokenProperties.class, EmailRenderCacheProperties.class })
 public class CacheConfig {
 
 	public static final String CACHE_PERMISSIONS = "permissions";
 
+	/**
+	 * When refresh-after-write is enabled, the cache is built as a loading cache so
+	 * Caffeine can reload stale entries asynchronously via
+	 * {@link JwtHydrationService#rebuild(UUID)} while still serving the old index.
+	 */
 	@Bean
-	CacheManager cacheManager(@Qualifier("permissionCacheBuilder") Caffeine<Object, Object> caffeine) {
+	CacheManager cacheManager(@Qualifier("permissionCacheBuilder") Caffeine<Object, Object> caffeine,
+			CacheProperties properties, ObjectProvider<JwtHydrationService> hydrationService) {
 		CaffeineCacheManager manager = new CaffeineCacheManager();
 		manager.setCaffeine(caffeine);
+		if (properties.refreshAfterMinutes() > 0) {
+			manager.setCacheLoader(key -> hydrationService.getObject().rebuild((UUID) key));
+		}
 		manager.setCacheNames(List.of(CACHE_PERMISSIONS));
 		return manager;
 	}
 
 	@Bean("permissionCacheBuilder")
 	Caffeine<Object, Object> caffeineConfig(CacheProperties properties) {
-		return Caffeine.newBuilder()
+		Caffeine<Object, Object> builder = Caffeine.newBuilder()
 				.maximumSize(properties.maxSize())
 				.expireAfterWrite(properties.ttlMinutes(), TimeUnit.MINUTES)
 				.recordStats();
+		if (properties.refreshAfterMinutes() > 0) {
+			builder.refreshAfterWrite(properties.refreshAfterMinutes(), TimeUnit.MINUTES);
+		}
+		return builder;
+	}
+
+	/**
+	 * Parent-id tuples for the org → property → unit → asset hierarchy, keyed by
+	 * the resource's own scope. Evicted on re-parenting/deletes; the TTL is only
+	 * a safety net.
+	 */
+	@Bean("hierarchyCache")
+	Cache<ScopeLevel, HierarchyParents> hierarchyCache(HierarchyCacheProperties properties,
+			HierarchyChildIndex hierarchyChildIndex) {
+		return Caffeine.newBuilder()
+				.maximumSize(properties.maxSize())
+				.expireAfterWrite(properties.ttlMinutes(), TimeUnit.MINUTES)
+				.<ScopeLevel, HierarchyParents>evictionListener((key, parents, cause) -> {
+					if (key != null && parents != null) {
+						hierarchyChildIndex.remove(key, parents);
+					}
+				})
+				.recordStats()
+				.build();
+	}
+
+	/** Parent → cached children, so eviction of a property or unit need not scan {@code hierarchyCache}. */
+	@Bean
+	HierarchyChildIndex hierarchyChildIndex() {
+		return new HierarchyChildIndex();
+	}
+
+	/**
+	 * OIDC identity (issuer, sub) → user id. Only resolved identities are cached;
+	 * entries are invalidated when {@code UserService#getOrCreateUser} links or
+	 * creates an identity.
+	 */
+	@Bean("identityCache")
+	Cache<IdentityKey, UUID> identityCache(IdentityCacheProperties properties) {
+		return Caffeine.newBuilder()
+				.maximumSize(properties.maxSize())
+				.expireAfterWrite(properties.ttlMinutes(), TimeUnit.MINUTES)
+				.recordStats()
+				.build();
+	}
+
+	/**
+	 * User id → epoch millis of the last access-token revocation. Kept one minute
+	 * longer than the token TTL so no unexpired token outlives its revocation.
+	 */
+	@Bean("accessTokenRevocationCache")
+	Cache<UUID, Long> accessTokenRevocationCache(AccessTokenProperties properties) {
+		return Caffeine.newBuilder()
+				.expireAfterWrite(properties.ttlMinutes() + 1, TimeUnit.MINUTES)
+				.build();
+	}
+
+	/**
+	 * (email template, context) → rendered HTML body. Short TTL since rendered
+	 * bodies embed the current year and template edits should show up promptly.
+	 */
+	@Bean("emailRenderCache")
+	Cache<EmailRenderKey, String> emailRenderCache(EmailRenderCacheProperties properties) {
+		return Caffeine.newBuilder()
+				.maximumSize(properties.maxSize())
+				.expireAfterWrite(properties.ttlMinutes(), TimeUnit.MINUTES)
+				.recordStats()
+				.build();
 	}
 }
@@ -3,8 +3,23 @@ package com.akandiah.propmanager.config;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.context.properties.bind.DefaultValue;
 
+/**
+ * Permissions cache settings. {@code refreshAfterMinutes} (0 = off) serves the
+ * cached index while it is rebuilt in the background; it should be shorter
+ * than {@code ttlMinutes} to take effect.
+ */
 @ConfigurationProperties(prefix = "app.cache.permissions")
 public record CacheProperties(
 		@DefaultValue("10000") long maxSize,
-		@DefaultValue("60") long ttlMinutes) {
+		@DefaultValue("60") long ttlMinutes,
+		@DefaultValue("0") long refreshAfterMinutes,
+		@DefaultValue Warmup warmup) {
+
+	/** Pre-hydration of recently active users at startup and on a schedule. */
+	public record Warmup(
+			@DefaultValue("false") boolean enabled,
+			@DefaultValue("24") long activeWithinHours,
+			@DefaultValue("1000") int maxUsers,
+			@DefaultValue("0 30 6 * * *") String cron) {
+	}
 }
@@ -0,0 +1,10 @@
+package com.akandiah.propmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.cache.email-render")
+public record EmailRenderCacheProperties(
+		@DefaultValue("1000") long maxSize,
+		@DefaultValue("10") long ttlMinutes) {
+}
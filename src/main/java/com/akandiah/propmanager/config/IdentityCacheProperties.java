@@ -0,0 +1,10 @@
+package com.akandiah.propmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "app.cache.identity")
+public record IdentityCacheProperties(
+		@DefaultValue("50000") long maxSize,
+		@DefaultValue("60") long ttlMinutes) {
+}
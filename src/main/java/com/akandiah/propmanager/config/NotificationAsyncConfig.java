@@ -2,10 +2,9 @@ package com.akandiah.propmanager.config;
 
 import java.util.concurrent.Executor;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
@@ -13,40 +12,56 @@ import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
  * Async executor for outbound email / notification delivery.
  *
  * <p>
- * Email is I/O-bound (SMTP handshake, TLS, network RTT), so a thread pool
- * larger than CPU count is appropriate. Threads are named
- * {@code email-worker-N}
- * to make them easy to identify in logs and thread dumps.
+ * Email is I/O-bound (SMTP handshake, TLS, network RTT), so by default each
+ * send runs on its own virtual thread. Concurrent sends are capped at the SMTP
+ * connection pool's {@code max-connections}: a send beyond that would only
+ * wait for a connection and, after {@code borrow-timeout}, give up. The
+ * {@code PLATFORM} mode keeps the previous fixed thread pool. Threads are
+ * named {@code email-worker-N} to make them easy to identify in logs and
+ * thread dumps.
  *
  * <p>
- * Back-pressure: if both the pool and queue are full, the task is dropped with
- * a
- * warning log. The outbox pattern guarantees a PENDING row was committed before
- * the
- * task was enqueued, so the retry scheduler will recover any dropped tasks
- * safely.
+ * Back-pressure: in either mode a full executor rejects the task rather than
+ * dropping it silently. {@code NotificationDeliverySender} catches the
+ * rejection and hands the already-committed PENDING row to the outbox relay,
+ * which sends it within seconds instead of after the recovery deadline. A
+ * send that still times out waiting for a connection is handed back the same
+ * way without counting as a failed attempt.
  */
 @Configuration
 @EnableAsync
 public class NotificationAsyncConfig {
 
-	private static final Logger log = LoggerFactory.getLogger(NotificationAsyncConfig.class);
-
 	@Bean(name = "notificationExecutor")
-	public Executor notificationExecutor() {
-		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+	public Executor notificationExecutor(NotificationExecutorProperties properties,
+			NotificationProperties notificationProperties) {
+		return switch (properties.mode()) {
+			case VIRTUAL -> virtualExecutor(notificationProperties.email().pool());
+			case PLATFORM -> platformExecutor(properties);
+		};
+	}
 
-		// I/O-bound work: 10 concurrent SMTP connections is safe for a medium app.
-		executor.setCorePoolSize(10);
-		executor.setMaxPoolSize(25);
+	private static Executor virtualExecutor(NotificationProperties.Pool pool) {
+		SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("email-worker-");
+		executor.setVirtualThreads(true);
 
-		// Bounded queue — keeps memory pressure predictable under burst load.
-		executor.setQueueCapacity(500);
+		// One send per pooled connection; beyond this, sends are handed off to the relay.
+		executor.setConcurrencyLimit(pool.maxConnections());
+		executor.setRejectTasksWhenLimitReached(true);
 
-		// Discard-with-log: the PENDING outbox row is the durable record;
-		// the scheduler will recover any dropped tasks on its next cycle.
-		executor.setRejectedExecutionHandler((r, exec) -> log
-				.warn("Notification task dropped due to full queue — scheduler will recover via PENDING row"));
+		// Wait for in-flight SMTP handshakes to complete before shutdown.
+		executor.setTaskTerminationTimeout(60_000);
+		return executor;
+	}
+
+	private static Executor platformExecutor(NotificationExecutorProperties properties) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(properties.corePoolSize());
+		executor.setMaxPoolSize(properties.maxPoolSize());
+
+		// Bounded queue — keeps memory pressure predictable under burst load.
+		// The default abort policy rejects when full; the sender hands off to the relay.
+		executor.setQueueCapacity(properties.queueCapacity());
 
 		executor.setThreadNamePrefix("email-worker-");
 
@@ -0,0 +1,28 @@
+package com.akandiah.propmanager.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Executor behind {@code notificationExecutor}, which runs immediate sends and
+ * relay batches.
+ *
+ * @param mode            {@code VIRTUAL} runs each send on its own virtual thread, at most
+ *                        {@code app.notification.email.pool.max-connections} at once; further sends are
+ *                        handed off to the outbox relay. {@code PLATFORM} is the fixed thread pool below.
+ * @param corePoolSize    PLATFORM only: threads kept alive
+ * @param maxPoolSize     PLATFORM only: thread ceiling once the queue is full
+ * @param queueCapacity   PLATFORM only: sends queued before new ones are handed off to the outbox relay
+ */
+@ConfigurationProperties(prefix = "app.notification.executor")
+public record NotificationExecutorProperties(
+		@DefaultValue("VIRTUAL") Mode mode,
+		@DefaultValue("10") int corePoolSize,
+		@DefaultValue("25") int maxPoolSize,
+		@DefaultValue("500") int queueCapacity) {
+
+	public enum Mode {
+		VIRTUAL,
+		PLATFORM
+	}
+}
@@ -1,14 +1,35 @@
 package com.akandiah.propmanager.config;
 
+import java.time.Duration;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
 
 @ConfigurationProperties(prefix = "app.notification")
-public record NotificationProperties(Email email) {
+public record NotificationProperties(@DefaultValue Email email) {
 
-	public record Email(boolean enabled) {
+	public record Email(boolean enabled, @DefaultValue Pool pool) {
 
 		public Email {
 			// defaults to true if not set — matches yaml default
 		}
 	}
+
+	/**
+	 * Authenticated SMTP connections kept open between sends.
+	 *
+	 * @param maxConnections           connections open at once; senders beyond this wait up to {@code borrowTimeout}
+	 * @param maxMessagesPerConnection a connection is closed and replaced after this many messages
+	 * @param validateAfterIdle        an idle connection older than this is checked with NOOP before reuse
+	 * @param maxIdle                  an idle connection older than this is closed instead of reused,
+	 *                                 staying under typical server-side idle timeouts
+	 * @param borrowTimeout            how long a sender waits for a free connection before failing
+	 */
+	public record Pool(
+			@DefaultValue("8") int maxConnections,
+			@DefaultValue("100") int maxMessagesPerConnection,
+			@DefaultValue("5s") Duration validateAfterIdle,
+			@DefaultValue("60s") Duration maxIdle,
+			@DefaultValue("30s") Duration borrowTimeout) {
+	}
 }
@@ -0,0 +1,26 @@
+package com.akandiah.propmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Outbox relay that re-sends failed and lost notification deliveries.
+ *
+ * @param maxIdle      longest the relay sleeps when nothing is due; bounds how late it notices a row
+ *                     that became due while it was asleep (e.g. a failure on the immediate send path)
+ * @param batchSize    deliveries claimed per round trip; a run keeps claiming while batches come back full
+ * @param claimTimeout how long a claimed delivery stays IN_FLIGHT before another node may reclaim it;
+ *                     must comfortably exceed one batch's send time
+ * @param backoffBase  delay before the first retry of a failed delivery; doubles per further failure
+ * @param backoffMax   upper bound on the retry delay before jitter
+ */
+@ConfigurationProperties(prefix = "app.notification.relay")
+public record NotificationRelayProperties(
+		@DefaultValue("1m") Duration maxIdle,
+		@DefaultValue("100") int batchSize,
+		@DefaultValue("5m") Duration claimTimeout,
+		@DefaultValue("1m") Duration backoffBase,
+		@DefaultValue("6h") Duration backoffMax) {
+}
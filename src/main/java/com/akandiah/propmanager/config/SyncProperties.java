@@ -0,0 +1,21 @@
+package com.akandiah.propmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Delta sync feed ({@code GET /api/sync}).
+ *
+ * @param maxChangesPerType  rows returned per entity type (and per tombstone type) in one response
+ * @param overlap            how far behind "now" the returned cursor is placed, so rows written by
+ *                           transactions still open during the request are picked up next time
+ * @param tombstoneRetention how long deletions are kept; older cursors get a full resync
+ */
+@ConfigurationProperties(prefix = "app.sync")
+public record SyncProperties(
+		@DefaultValue("500") int maxChangesPerType,
+		@DefaultValue("30s") Duration overlap,
+		@DefaultValue("90d") Duration tombstoneRetention) {
+}
@@ -16,6 +16,11 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.akandiah.propmanager.common.dto.BatchRequest;
+import com.akandiah.propmanager.common.dto.BatchResponse;
+import com.akandiah.propmanager.common.dto.BatchUpdate;
+import com.akandiah.propmanager.common.dto.KeysetPageRequest;
+import com.akandiah.propmanager.common.dto.PageResponse;
 import com.akandiah.propmanager.features.asset.api.dto.AssetResponse;
 import com.akandiah.propmanager.features.asset.api.dto.CreateAssetRequest;
 import com.akandiah.propmanager.features.asset.api.dto.UpdateAssetRequest;
@@ -38,9 +43,12 @@ public class AssetController {
 
 	@GetMapping
 	@PreAuthorize("hasRole('ADMIN')")
-	@Operation(summary = "List all assets (admin only — no scope filter)")
-	public List<AssetResponse> listAll() {
-		return assetService.findAll();
+	@Operation(summary = "List all assets (admin only — no scope filter)", description = "Keyset-paginated: pass the returned nextCursor as ?cursor= for the next page; includeTotal=true adds totalElements.")
+	public PageResponse<AssetResponse> listAll(
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size,
+			@RequestParam(defaultValue = "false") boolean includeTotal) {
+		return assetService.findPage(KeysetPageRequest.of(cursor, size, includeTotal));
 	}
 
 	@GetMapping(params = { "propId", "orgId" })
@@ -78,6 +86,28 @@ public class AssetController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(created);
 	}
 
+	@PostMapping("/batch")
+	@PreAuthorize("@permissionGuard.hasAccess('CREATE', 'MAINTENANCE', 'PROPERTY', #propId, #orgId)")
+	@Operation(summary = "Create many assets under one prop",
+			description = "Authorized once for the prop. Each item sets the prop or one of its units as parent; returns 200 with a result per item.")
+	public BatchResponse<AssetResponse> createAll(
+			@Valid @RequestBody BatchRequest<CreateAssetRequest> request,
+			@RequestParam UUID propId,
+			@RequestParam UUID orgId) {
+		return assetService.createAll(propId, request.items());
+	}
+
+	@PatchMapping("/batch")
+	@PreAuthorize("@permissionGuard.hasAccess('UPDATE', 'MAINTENANCE', 'PROPERTY', #propId, #orgId)")
+	@Operation(summary = "Update many assets of one prop",
+			description = "Authorized once for the prop. Returns 200 with a result per item; unknown ids, stale versions and moves fail on their own.")
+	public BatchResponse<AssetResponse> updateAll(
+			@Valid @RequestBody BatchRequest<BatchUpdate<UpdateAssetRequest>> request,
+			@RequestParam UUID propId,
+			@RequestParam UUID orgId) {
+		return assetService.updateAll(propId, request.items());
+	}
+
 	@PatchMapping("/{id}")
 	@PreAuthorize("@permissionGuard.hasAssetAccess('UPDATE', 'MAINTENANCE', #id, #orgId)")
 	@Operation(summary = "Update an asset")
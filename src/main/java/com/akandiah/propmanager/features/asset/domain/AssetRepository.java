@@ -1,9 +1,11 @@
 package com.akandiah.propmanager.features.asset.domain;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -14,6 +16,9 @@ public interface AssetRepository extends JpaRepository<Asset, UUID> {
 
 	List<Asset> findByUnit_Id(UUID unitId);
 
+	/** Keyset page over every asset (admin use). */
+	List<Asset> findByIdGreaterThanOrderByIdAsc(UUID after, Limit limit);
+
 	long countByProp_Id(UUID propId);
 
 	long countByUnit_Id(UUID unitId);
@@ -22,19 +27,60 @@ public interface AssetRepository extends JpaRepository<Asset, UUID> {
 
 	boolean existsByIdAndUnit_Prop_Organization_Id(UUID id, UUID orgId);
 
+	/** Which of {@code ids} already exist, so a batch insert can reject them per item. */
+	@Query("SELECT a.id FROM Asset a WHERE a.id IN :ids")
+	List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+	/** Parent ids of an asset, as loaded for the hierarchy cache. {@code unitId} is null for property-scoped assets. */
+	interface AssetParents {
+		UUID getId();
+
+		UUID getUnitId();
+
+		UUID getPropId();
+
+		UUID getOrgId();
+	}
+
+	/**
+	 * Loads the unit/prop/org ids for many assets in one query — feeds the
+	 * hierarchy cache. Unit-scoped assets take their prop and org from the unit.
+	 */
+	@Query("""
+			SELECT a.id AS id, u.id AS unitId,
+			       COALESCE(up.id, p.id) AS propId,
+			       COALESCE(upo.id, po.id) AS orgId
+			FROM Asset a
+			LEFT JOIN a.prop p
+			LEFT JOIN p.organization po
+			LEFT JOIN a.unit u
+			LEFT JOIN u.prop up
+			LEFT JOIN up.organization upo
+			WHERE a.id IN :ids
+			""")
+	List<AssetParents> findParentsByIdIn(@Param("ids") Collection<UUID> ids);
+
 	/**
-	 * Loads an asset with its full parent chain in one query to avoid N+1 in the
-	 * hierarchy resolver. Fetches: prop → org (for property-scoped assets) and
-	 * unit → prop → org (for unit-scoped assets).
+	 * Assets in scope updated after the keyset position {@code (since, afterId)},
+	 * oldest change first — feeds the sync feed. Unit-scoped assets match through
+	 * their unit's prop and org.
 	 */
 	@Query("""
 			SELECT a FROM Asset a
-			LEFT JOIN FETCH a.prop p
-			LEFT JOIN FETCH p.organization
-			LEFT JOIN FETCH a.unit u
-			LEFT JOIN FETCH u.prop up
-			LEFT JOIN FETCH up.organization
-			WHERE a.id = :id
+			LEFT JOIN a.prop p
+			LEFT JOIN a.unit u
+			LEFT JOIN u.prop up
+			WHERE (a.updatedAt, a.id) > (:since, :afterId)
+			AND (any_of(p.organization.id, :orgIds) OR any_of(up.organization.id, :orgIds)
+			    OR any_of(p.id, :propIds) OR any_of(up.id, :propIds)
+			    OR any_of(u.id, :unitIds))
+			ORDER BY a.updatedAt ASC, a.id ASC
 			""")
-	Optional<Asset> findByIdWithParents(@Param("id") UUID id);
+	List<Asset> findChangedSince(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
+			@Param("since") Instant since,
+			@Param("afterId") UUID afterId,
+			Limit limit);
 }
@@ -1,21 +1,37 @@
 package com.akandiah.propmanager.features.asset.service;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.akandiah.propmanager.common.dto.BatchResponse;
+import com.akandiah.propmanager.common.dto.BatchUpdate;
+import com.akandiah.propmanager.common.dto.KeysetPageRequest;
+import com.akandiah.propmanager.common.dto.PageResponse;
 import com.akandiah.propmanager.common.exception.ResourceNotFoundException;
+import com.akandiah.propmanager.common.permission.HierarchyChangedEvent;
+import com.akandiah.propmanager.common.permission.ResourceType;
 import com.akandiah.propmanager.common.util.OptimisticLockingUtil;
 import com.akandiah.propmanager.features.asset.api.dto.AssetResponse;
 import com.akandiah.propmanager.features.asset.api.dto.CreateAssetRequest;
 import com.akandiah.propmanager.features.asset.api.dto.UpdateAssetRequest;
 import com.akandiah.propmanager.features.asset.domain.Asset;
 import com.akandiah.propmanager.features.asset.domain.AssetRepository;
+import com.akandiah.propmanager.features.asset.domain.AssetRepository.AssetParents;
 import com.akandiah.propmanager.features.prop.domain.Prop;
 import com.akandiah.propmanager.features.prop.domain.PropRepository;
 import com.akandiah.propmanager.features.unit.domain.Unit;
+import com.akandiah.propmanager.features.sync.domain.EntityDeletedEvent;
+import com.akandiah.propmanager.features.sync.domain.SyncEntityType;
 import com.akandiah.propmanager.features.unit.domain.UnitRepository;
 
 @Service
@@ -24,12 +40,14 @@ public class AssetService {
 	private final AssetRepository assetRepository;
 	private final PropRepository propRepository;
 	private final UnitRepository unitRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public AssetService(AssetRepository assetRepository, PropRepository propRepository,
-			UnitRepository unitRepository) {
+			UnitRepository unitRepository, ApplicationEventPublisher eventPublisher) {
 		this.assetRepository = assetRepository;
 		this.propRepository = propRepository;
 		this.unitRepository = unitRepository;
+		this.eventPublisher = eventPublisher;
 	}
 
 	@Transactional(readOnly = true)
@@ -39,6 +57,12 @@ public class AssetService {
 				.toList();
 	}
 
+	@Transactional(readOnly = true)
+	public PageResponse<AssetResponse> findPage(KeysetPageRequest page) {
+		List<Asset> rows = assetRepository.findByIdGreaterThanOrderByIdAsc(page.after(), page.fetchLimit());
+		return page.toPage(rows, Asset::getId, AssetResponse::from, assetRepository::count);
+	}
+
 	@Transactional(readOnly = true)
 	public List<AssetResponse> findByPropId(UUID propId) {
 		return assetRepository.findByProp_Id(propId).stream()
@@ -72,17 +96,7 @@ public class AssetService {
 			unit = unitRepository.findById(request.unitId())
 					.orElseThrow(() -> new ResourceNotFoundException("Unit", request.unitId()));
 		}
-		Asset asset = Asset.builder()
-				.id(request.id())
-				.prop(prop)
-				.unit(unit)
-				.category(request.category())
-				.makeModel(request.makeModel())
-				.serialNumber(request.serialNumber())
-				.installDate(request.installDate())
-				.warrantyExpiry(request.warrantyExpiry())
-				.lastServiceDate(request.lastServiceDate())
-				.build();
+		Asset asset = toAsset(request, prop, unit);
 		asset = assetRepository.save(asset);
 		return AssetResponse.from(asset);
 	}
@@ -92,6 +106,7 @@ public class AssetService {
 		Asset asset = assetRepository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Asset", id));
 		OptimisticLockingUtil.requireVersionMatch("Asset", id, asset.getVersion(), request.version());
+		boolean reparented = false;
 		if (request.propertyId() != null || request.unitId() != null) {
 			boolean hasProp = request.propertyId() != null;
 			boolean hasUnit = request.unitId() != null;
@@ -99,6 +114,7 @@ public class AssetService {
 				throw new IllegalArgumentException(
 						"Exactly one of propertyId or unitId must be set");
 			}
+			reparented = true;
 			if (hasProp) {
 				Prop prop = propRepository.findById(request.propertyId())
 						.orElseThrow(() -> new ResourceNotFoundException("Prop", request.propertyId()));
@@ -111,6 +127,134 @@ public class AssetService {
 				asset.setProp(null);
 			}
 		}
+		applyChanges(asset, request);
+		asset = assetRepository.save(asset);
+		if (reparented) {
+			eventPublisher.publishEvent(new HierarchyChangedEvent(ResourceType.ASSET, id));
+		}
+		return AssetResponse.from(asset);
+	}
+
+	/**
+	 * Creates many assets under one prop, each attached either to the prop itself
+	 * or to one of its units, inserted with JDBC batching. The prop and the named
+	 * units are loaded once; items with a bad parent or a taken id fail individually.
+	 */
+	@Transactional
+	public BatchResponse<AssetResponse> createAll(UUID propId, List<CreateAssetRequest> requests) {
+		Prop prop = propRepository.findById(propId)
+				.orElseThrow(() -> new ResourceNotFoundException("Prop", propId));
+		Map<UUID, Unit> units = new HashMap<>();
+		unitRepository.findAllById(requests.stream().map(CreateAssetRequest::unitId).filter(Objects::nonNull).toList())
+				.forEach(u -> {
+					if (u.getProp().getId().equals(propId)) {
+						units.put(u.getId(), u);
+					}
+				});
+		Set<UUID> taken = new HashSet<>(assetRepository.findIdsByIdIn(requests.stream()
+				.map(CreateAssetRequest::id).filter(Objects::nonNull).toList()));
+
+		BatchResponse.Builder<AssetResponse> results = new BatchResponse.Builder<>(requests.size());
+		Map<Integer, Asset> pending = new LinkedHashMap<>();
+		for (int i = 0; i < requests.size(); i++) {
+			CreateAssetRequest request = requests.get(i);
+			String parentError = parentError(request.propertyId(), request.unitId());
+			if (parentError != null) {
+				results.failed(i, request.id(), parentError);
+			} else if (request.propertyId() != null && !request.propertyId().equals(propId)) {
+				results.failed(i, request.id(), "propertyId must be " + propId);
+			} else if (request.unitId() != null && !units.containsKey(request.unitId())) {
+				results.failed(i, request.id(), "Unit " + request.unitId() + " not found in prop " + propId);
+			} else if (request.id() != null && !taken.add(request.id())) {
+				results.failed(i, request.id(), "Asset " + request.id() + " already exists");
+			} else {
+				pending.put(i, request.unitId() != null
+						? toAsset(request, null, units.get(request.unitId()))
+						: toAsset(request, prop, null));
+			}
+		}
+		if (!pending.isEmpty()) {
+			assetRepository.saveAll(pending.values());
+			pending.forEach((i, asset) -> results.ok(i, asset.getId(), AssetResponse.from(asset)));
+		}
+		return results.build();
+	}
+
+	/**
+	 * Applies many PATCHes to assets of one prop (on the prop or any of its
+	 * units), loading them in one query and flushing as JDBC batches. Moving an
+	 * asset is not supported here; use {@link #update} for that.
+	 */
+	@Transactional
+	public BatchResponse<AssetResponse> updateAll(UUID propId, List<BatchUpdate<UpdateAssetRequest>> updates) {
+		Map<UUID, Asset> assets = new HashMap<>();
+		assetRepository.findAllById(updates.stream().map(BatchUpdate::id).toList())
+				.forEach(a -> assets.put(a.getId(), a));
+
+		BatchResponse.Builder<AssetResponse> results = new BatchResponse.Builder<>(updates.size());
+		Map<Integer, Asset> pending = new LinkedHashMap<>();
+		Set<UUID> seen = new HashSet<>();
+		for (int i = 0; i < updates.size(); i++) {
+			UUID id = updates.get(i).id();
+			UpdateAssetRequest request = updates.get(i).changes();
+			Asset asset = assets.get(id);
+			if (asset == null || !propId.equals(propIdOf(asset))) {
+				results.failed(i, id, "Asset " + id + " not found in prop " + propId);
+			} else if (!seen.add(id)) {
+				results.failed(i, id, "Asset " + id + " appears more than once");
+			} else if (!asset.getVersion().equals(request.version())) {
+				results.failed(i, id, "Asset " + id + " has been modified by another user. Expected version "
+						+ request.version() + " but current version is " + asset.getVersion());
+			} else if (request.propertyId() != null || request.unitId() != null) {
+				results.failed(i, id, "Assets cannot be moved in a batch");
+			} else {
+				applyChanges(asset, request);
+				pending.put(i, asset);
+			}
+		}
+		if (!pending.isEmpty()) {
+			assetRepository.flush();
+			pending.forEach((i, asset) -> results.ok(i, asset.getId(), AssetResponse.from(asset)));
+		}
+		return results.build();
+	}
+
+	@Transactional
+	public void deleteById(UUID id) {
+		AssetParents parents = assetRepository.findParentsByIdIn(List.of(id)).stream()
+				.findFirst()
+				.orElseThrow(() -> new ResourceNotFoundException("Asset", id));
+		assetRepository.deleteById(id);
+		eventPublisher.publishEvent(new HierarchyChangedEvent(ResourceType.ASSET, id));
+		eventPublisher.publishEvent(new EntityDeletedEvent(SyncEntityType.ASSET, id,
+				parents.getOrgId(), parents.getPropId(), parents.getUnitId()));
+	}
+
+	private void validateExactlyOneParent(UUID propertyId, UUID unitId) {
+		String error = parentError(propertyId, unitId);
+		if (error != null) {
+			throw new IllegalArgumentException(error);
+		}
+	}
+
+	private static String parentError(UUID propertyId, UUID unitId) {
+		boolean hasProp = propertyId != null;
+		boolean hasUnit = unitId != null;
+		if (!hasProp && !hasUnit) {
+			return "Exactly one of propertyId or unitId is required";
+		}
+		if (hasProp && hasUnit) {
+			return "Only one of propertyId or unitId may be set, not both";
+		}
+		return null;
+	}
+
+	private static UUID propIdOf(Asset asset) {
+		return asset.getProp() != null ? asset.getProp().getId() : asset.getUnit().getProp().getId();
+	}
+
+	/** Copies the non-null fields of {@code request} other than the parent. */
+	private static void applyChanges(Asset asset, UpdateAssetRequest request) {
 		if (request.category() != null) {
 			asset.setCategory(request.category());
 		}
@@ -129,28 +273,19 @@ public class AssetService {
 		if (request.lastServiceDate() != null) {
 			asset.setLastServiceDate(request.lastServiceDate());
 		}
-		asset = assetRepository.save(asset);
-		return AssetResponse.from(asset);
 	}
 
-	@Transactional
-	public void deleteById(UUID id) {
-		if (!assetRepository.existsById(id)) {
-			throw new ResourceNotFoundException("Asset", id);
-		}
-		assetRepository.deleteById(id);
-	}
-
-	private void validateExactlyOneParent(UUID propertyId, UUID unitId) {
-		boolean hasProp = propertyId != null;
-		boolean hasUnit = unitId != null;
-		if (!hasProp && !hasUnit) {
-			throw new IllegalArgumentException(
-					"Exactly one of propertyId or unitId is required");
-		}
-		if (hasProp && hasUnit) {
-			throw new IllegalArgumentException(
-					"Only one of propertyId or unitId may be set, not both");
-		}
+	private static Asset toAsset(CreateAssetRequest request, Prop prop, Unit unit) {
+		return Asset.builder()
+				.id(request.id())
+				.prop(prop)
+				.unit(unit)
+				.category(request.category())
+				.makeModel(request.makeModel())
+				.serialNumber(request.serialNumber())
+				.installDate(request.installDate())
+				.warrantyExpiry(request.warrantyExpiry())
+				.lastServiceDate(request.lastServiceDate())
+				.build();
 	}
 }
@@ -0,0 +1,43 @@
+package com.akandiah.propmanager.features.auth.api;
+
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.InsufficientAuthenticationException;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.akandiah.propmanager.features.auth.api.dto.AccessTokenResponse;
+import com.akandiah.propmanager.features.auth.service.AccessTokenService;
+import com.akandiah.propmanager.security.JwtUserResolver;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/auth")
+@ConditionalOnProperty(prefix = "app.auth.access-token", name = "enabled", havingValue = "true")
+@Tag(name = "Auth", description = "Server-issued access tokens")
+@RequiredArgsConstructor
+public class AccessTokenController {
+
+	private final AccessTokenService accessTokenService;
+	private final JwtUserResolver jwtUserResolver;
+
+	@PostMapping("/access-token")
+	@Operation(summary = "Exchange the OIDC JWT for an access token", description = "Returns a signed token carrying the caller's hydrated permissions. Requests that send it alongside the bearer token skip permission lookups. Returns 204 if the access list is too large to pack into a token.")
+	public ResponseEntity<AccessTokenResponse> issue(@AuthenticationPrincipal Jwt jwt) {
+		UUID userId = jwtUserResolver.resolveOptionalId(jwt)
+				.orElseThrow(() -> new InsufficientAuthenticationException(
+						"User account not provisioned. Please call GET /me to set up your account."));
+		return accessTokenService.issue(userId, jwt)
+				.map(issued -> ResponseEntity.ok(new AccessTokenResponse(issued.token(),
+						accessTokenService.headerName(), issued.expiresAt())))
+				.orElseGet(() -> ResponseEntity.noContent().build());
+	}
+}
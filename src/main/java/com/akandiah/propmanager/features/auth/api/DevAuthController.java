@@ -66,7 +66,7 @@ public class DevAuthController {
 
 		List<Map<String, Object>> accessClaim = new ArrayList<>();
 		userRepository.findByEmail(request.email())
-				.ifPresent(user -> jwtHydrationService.hydrate(user.getId()).stream()
+				.ifPresent(user -> jwtHydrationService.hydrate(user.getId()).entries().stream()
 						.map(AccessEntry::toClaimMap)
 						.forEach(accessClaim::add));
 
@@ -106,7 +106,7 @@ public class DevAuthController {
 		// Bust the Caffeine cache so hydrate() re-reads from DB (picks up new org)
 		jwtHydrationService.evict(user.getId());
 
-		List<Map<String, Object>> accessClaim = jwtHydrationService.hydrate(user.getId()).stream()
+		List<Map<String, Object>> accessClaim = jwtHydrationService.hydrate(user.getId()).entries().stream()
 				.map(AccessEntry::toClaimMap)
 				.collect(Collectors.toList());
 
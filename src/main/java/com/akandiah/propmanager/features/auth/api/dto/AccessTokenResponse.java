@@ -0,0 +1,14 @@
+package com.akandiah.propmanager.features.auth.api.dto;
+
+import java.time.Instant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Result of POST /api/auth/access-token.
+ */
+public record AccessTokenResponse(
+		@Schema(description = "Signed access token; send it alongside the bearer token.") String token,
+		@Schema(description = "Request header to send the token in.", example = "X-Access-Token") String header,
+		@Schema(description = "When the token stops being accepted.") Instant expiresAt) {
+}
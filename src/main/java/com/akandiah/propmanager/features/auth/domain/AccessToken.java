@@ -0,0 +1,25 @@
+package com.akandiah.propmanager.features.auth.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.akandiah.propmanager.common.permission.AccessEntry;
+
+/**
+ * Decoded server-issued access token.
+ *
+ * @param subjectHash binds the token to the OIDC identity it was issued for
+ * @param issuedAt    epoch millis; doubles as the revocation epoch
+ * @param expiresAt   epoch millis
+ */
+public record AccessToken(
+		UUID userId,
+		long subjectHash,
+		long issuedAt,
+		long expiresAt,
+		List<AccessEntry> entries) {
+
+	public AccessToken {
+		entries = entries != null ? List.copyOf(entries) : List.of();
+	}
+}
@@ -0,0 +1,41 @@
+package com.akandiah.propmanager.features.auth.domain;
+
+import java.util.UUID;
+
+import com.akandiah.propmanager.common.permission.AccessGrant;
+import com.akandiah.propmanager.common.permission.AccessIndex;
+import com.akandiah.propmanager.common.permission.PermissionSet;
+
+/**
+ * A structured change to hydrated access, applied to cached {@link AccessIndex}es
+ * instead of evicting them. {@link #applyTo} returns {@code null} when the delta
+ * cannot be applied, in which case the entry is evicted.
+ */
+public sealed interface PermissionDelta {
+
+	AccessIndex applyTo(UUID userId, AccessIndex current);
+
+	/** The permissions of a shared policy changed; affects every grant linked to it. */
+	record PolicyChanged(UUID policyId, PermissionSet permissions) implements PermissionDelta {
+		@Override
+		public AccessIndex applyTo(UUID userId, AccessIndex current) {
+			return current.withPolicyPermissions(policyId, permissions);
+		}
+	}
+
+	/** A grant for {@code userId} was added or replaced (assignment, ownership, tenancy). */
+	record GrantUpserted(UUID userId, AccessGrant grant) implements PermissionDelta {
+		@Override
+		public AccessIndex applyTo(UUID target, AccessIndex current) {
+			return userId.equals(target) ? current.withGrant(grant) : current;
+		}
+	}
+
+	/** A grant for {@code userId} no longer exists. */
+	record GrantRevoked(UUID userId, AccessGrant.Source source) implements PermissionDelta {
+		@Override
+		public AccessIndex applyTo(UUID target, AccessIndex current) {
+			return userId.equals(target) ? current.withoutGrant(source) : current;
+		}
+	}
+}
@@ -1,11 +1,69 @@
 package com.akandiah.propmanager.features.auth.domain;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
+import com.akandiah.propmanager.common.permission.AccessGrant;
+import com.akandiah.propmanager.common.permission.PermissionSet;
+
 /**
  * Published after a mutation that may change a user's access list.
- * Listeners evict the affected users from the permissions cache.
+ *
+ * <p>With no {@code deltas}, listeners evict the affected users from the
+ * permissions cache. With deltas, cached entries are patched in place and only
+ * evicted if a delta cannot be applied.
  */
-public record PermissionsChangedEvent(Set<UUID> affectedUserIds) {
+public record PermissionsChangedEvent(Set<UUID> affectedUserIds, List<PermissionDelta> deltas) {
+
+	public PermissionsChangedEvent {
+		affectedUserIds = Set.copyOf(affectedUserIds);
+		deltas = deltas == null ? List.of() : List.copyOf(deltas);
+	}
+
+	/** Eviction-only event. */
+	public PermissionsChangedEvent(Set<UUID> affectedUserIds) {
+		this(affectedUserIds, List.of());
+	}
+
+	public static PermissionsChangedEvent policyChanged(UUID policyId, PermissionSet permissions,
+			Set<UUID> affectedUserIds) {
+		return new PermissionsChangedEvent(affectedUserIds,
+				List.of(new PermissionDelta.PolicyChanged(policyId, permissions)));
+	}
+
+	/** An assignment was created or updated; also used for tenancy activation. */
+	public static PermissionsChangedEvent grantUpserted(UUID userId, AccessGrant grant) {
+		return new PermissionsChangedEvent(Set.of(userId), List.of(new PermissionDelta.GrantUpserted(userId, grant)));
+	}
+
+	/** An assignment was removed or a tenancy ended. */
+	public static PermissionsChangedEvent grantRevoked(UUID userId, AccessGrant.Source source) {
+		return new PermissionsChangedEvent(Set.of(userId), List.of(new PermissionDelta.GrantRevoked(userId, source)));
+	}
+
+	/**
+	 * Property ownership moved from {@code fromUserId} to {@code toUserId}. Either
+	 * may be {@code null} (newly owned / no longer owned). Properties without an
+	 * org ({@code orgId == null}) are never hydrated, so nothing is granted.
+	 */
+	public static PermissionsChangedEvent ownershipMoved(UUID orgId, UUID propId, UUID fromUserId, UUID toUserId) {
+		Set<UUID> users = new HashSet<>();
+		List<PermissionDelta> deltas = new ArrayList<>(2);
+		if (fromUserId != null) {
+			users.add(fromUserId);
+			deltas.add(new PermissionDelta.GrantRevoked(fromUserId,
+					new AccessGrant.Source(AccessGrant.Kind.OWNERSHIP, propId)));
+		}
+		if (toUserId != null) {
+			users.add(toUserId);
+			deltas.add(orgId != null
+					? new PermissionDelta.GrantUpserted(toUserId, AccessGrant.ownership(orgId, propId))
+					: new PermissionDelta.GrantRevoked(toUserId,
+							new AccessGrant.Source(AccessGrant.Kind.OWNERSHIP, propId)));
+		}
+		return new PermissionsChangedEvent(users, deltas);
+	}
 }
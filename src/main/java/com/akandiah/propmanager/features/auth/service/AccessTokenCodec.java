@@ -0,0 +1,152 @@
+package com.akandiah.propmanager.features.auth.service;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import com.akandiah.propmanager.common.permission.AccessEntry;
+import com.akandiah.propmanager.common.permission.PermissionSet;
+import com.akandiah.propmanager.common.permission.ResourceType;
+import com.akandiah.propmanager.features.auth.domain.AccessToken;
+
+/**
+ * Binary encoding for {@link AccessToken}s, signed with HMAC-SHA256 and
+ * serialized as unpadded base64url.
+ *
+ * <p>Layout (big-endian): version (1), userId (16), subjectHash (8), issuedAt
+ * (8), expiresAt (8), org count (2) + org ids (16 each), entry count (2) +
+ * entries [org index (2), scope type (1), scope id (16), permission bits (4)],
+ * then the 32-byte MAC. Org ids are written once and referenced by index since
+ * most entries share a handful of orgs.
+ */
+public final class AccessTokenCodec {
+
+	static final byte VERSION = 1;
+	private static final String ALGORITHM = "HmacSHA256";
+	private static final int MAC_LENGTH = 32;
+	private static final int HEADER_LENGTH = 1 + 16 + 8 + 8 + 8;
+	private static final int ENTRY_LENGTH = 2 + 1 + 16 + 4;
+	private static final ResourceType[] SCOPE_TYPES = ResourceType.values();
+
+	private final SecretKeySpec key;
+
+	public AccessTokenCodec(byte[] secret) {
+		if (secret == null || secret.length < 32) {
+			throw new IllegalArgumentException("Access token secret must be at least 32 bytes");
+		}
+		this.key = new SecretKeySpec(secret, ALGORITHM);
+	}
+
+	public String encode(AccessToken token) {
+		Map<UUID, Integer> orgIndex = new LinkedHashMap<>();
+		for (AccessEntry e : token.entries()) {
+			orgIndex.putIfAbsent(e.orgId(), orgIndex.size());
+		}
+		if (orgIndex.size() > 0xFFFF || token.entries().size() > 0xFFFF) {
+			throw new IllegalArgumentException("Too many entries for an access token");
+		}
+		ByteBuffer buf = ByteBuffer.allocate(HEADER_LENGTH + 2 + orgIndex.size() * 16 + 2
+				+ token.entries().size() * ENTRY_LENGTH + MAC_LENGTH);
+		buf.put(VERSION);
+		putUuid(buf, token.userId());
+		buf.putLong(token.subjectHash());
+		buf.putLong(token.issuedAt());
+		buf.putLong(token.expiresAt());
+		buf.putShort((short) orgIndex.size());
+		orgIndex.keySet().forEach(orgId -> putUuid(buf, orgId));
+		buf.putShort((short) token.entries().size());
+		for (AccessEntry e : token.entries()) {
+			buf.putShort(orgIndex.get(e.orgId()).shortValue());
+			buf.put((byte) e.scopeType().ordinal());
+			putUuid(buf, e.scopeId());
+			buf.putInt(e.permissions().bits());
+		}
+		buf.put(mac(buf.array(), buf.position()));
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(buf.array());
+	}
+
+	/**
+	 * Decodes and verifies {@code value}. Returns empty if it is malformed, from
+	 * another version or its signature does not match; expiry and revocation are
+	 * the caller's concern.
+	 */
+	public Optional<AccessToken> decode(String value) {
+		if (value == null || value.isEmpty()) {
+			return Optional.empty();
+		}
+		try {
+			byte[] bytes = Base64.getUrlDecoder().decode(value);
+			int payloadLength = bytes.length - MAC_LENGTH;
+			if (payloadLength < HEADER_LENGTH || bytes[0] != VERSION) {
+				return Optional.empty();
+			}
+			byte[] expected = mac(bytes, payloadLength);
+			if (!MessageDigest.isEqual(expected, Arrays.copyOfRange(bytes, payloadLength, bytes.length))) {
+				return Optional.empty();
+			}
+			ByteBuffer buf = ByteBuffer.wrap(bytes, 1, payloadLength - 1);
+			UUID userId = getUuid(buf);
+			long subjectHash = buf.getLong();
+			long issuedAt = buf.getLong();
+			long expiresAt = buf.getLong();
+			UUID[] orgs = new UUID[Short.toUnsignedInt(buf.getShort())];
+			for (int i = 0; i < orgs.length; i++) {
+				orgs[i] = getUuid(buf);
+			}
+			int count = Short.toUnsignedInt(buf.getShort());
+			List<AccessEntry> entries = new ArrayList<>(count);
+			for (int i = 0; i < count; i++) {
+				UUID orgId = orgs[Short.toUnsignedInt(buf.getShort())];
+				ResourceType scopeType = SCOPE_TYPES[buf.get()];
+				entries.add(new AccessEntry(orgId, scopeType, getUuid(buf), new PermissionSet(buf.getInt())));
+			}
+			return Optional.of(new AccessToken(userId, subjectHash, issuedAt, expiresAt, entries));
+		} catch (IllegalArgumentException | BufferUnderflowException | IndexOutOfBoundsException e) {
+			return Optional.empty();
+		}
+	}
+
+	/** Stable 64-bit fingerprint of an OIDC identity, used to bind a token to its bearer JWT. */
+	public static long subjectHash(String issuer, String subject) {
+		try {
+			byte[] digest = MessageDigest.getInstance("SHA-256")
+					.digest((issuer + "|" + subject).getBytes(StandardCharsets.UTF_8));
+			return ByteBuffer.wrap(digest).getLong();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("SHA-256 not available", e);
+		}
+	}
+
+	private byte[] mac(byte[] data, int length) {
+		try {
+			Mac mac = Mac.getInstance(ALGORITHM);
+			mac.init(key);
+			mac.update(data, 0, length);
+			return mac.doFinal();
+		} catch (GeneralSecurityException e) {
+			throw new IllegalStateException("Unable to sign access token", e);
+		}
+	}
+
+	private static void putUuid(ByteBuffer buf, UUID id) {
+		buf.putLong(id.getMostSignificantBits());
+		buf.putLong(id.getLeastSignificantBits());
+	}
+
+	private static UUID getUuid(ByteBuffer buf) {
+		return new UUID(buf.getLong(), buf.getLong());
+	}
+}
@@ -0,0 +1,85 @@
+package com.akandiah.propmanager.features.auth.service;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import com.akandiah.propmanager.config.AccessTokenProperties;
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * In-memory revocation epoch per user for server-issued access tokens. A token
+ * is current only if it was issued after the user's last revocation; entries
+ * outlive the token TTL, after which every token they could reject has expired
+ * anyway. Nothing is recorded while access tokens are disabled.
+ *
+ * <p>Revocations are not persisted, so a restarted node would not know about
+ * revocations made before it started. Tokens issued before this node's boot
+ * epoch are therefore rejected outright; clients re-exchange their JWT for a
+ * fresh token.
+ *
+ * <p>With several nodes, a revocation is recorded only on the node that handled
+ * the permission change. Another node keeps accepting a token it issued until
+ * the token expires, so {@code app.auth.access-token.ttl-minutes} is the upper
+ * bound on stale access there. Keep the TTL short, or route a user's requests
+ * to one node, when running more than one instance.
+ */
+@Component
+public class AccessTokenRevocations {
+
+	private final Cache<UUID, Long> revokedAt;
+	private final boolean enabled;
+	private final Clock clock;
+	private final long bootEpoch;
+
+	@Autowired
+	public AccessTokenRevocations(@Qualifier("accessTokenRevocationCache") Cache<UUID, Long> revokedAt,
+			AccessTokenProperties properties) {
+		this(revokedAt, properties.enabled(), Clock.systemUTC());
+	}
+
+	AccessTokenRevocations(Cache<UUID, Long> revokedAt, boolean enabled, Clock clock) {
+		this.revokedAt = revokedAt;
+		this.enabled = enabled;
+		this.clock = clock;
+		this.bootEpoch = clock.millis();
+	}
+
+	/** Invalidates every token issued to these users up to now. */
+	public void revoke(Collection<UUID> userIds) {
+		if (!enabled) {
+			return;
+		}
+		long now = clock.millis();
+		for (UUID userId : userIds) {
+			revokedAt.asMap().merge(userId, now, Math::max);
+		}
+	}
+
+	/**
+	 * Issue timestamp for a new token: now, but always strictly after the last
+	 * revocation so a token issued in the same millisecond stays valid. Must be
+	 * taken <em>before</em> hydrating, so a revocation racing the issue rejects it.
+	 */
+	public long issueEpoch(UUID userId) {
+		Long last = revokedAt.getIfPresent(userId);
+		long now = clock.millis();
+		return last != null && last >= now ? last + 1 : now;
+	}
+
+	/**
+	 * True if the token was issued since this node started and after the user's
+	 * last revocation.
+	 */
+	public boolean isCurrent(UUID userId, long issuedAt) {
+		if (issuedAt < bootEpoch) {
+			return false;
+		}
+		Long last = revokedAt.getIfPresent(userId);
+		return last == null || issuedAt > last;
+	}
+}
@@ -0,0 +1,98 @@
+package com.akandiah.propmanager.features.auth.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.stereotype.Service;
+
+import com.akandiah.propmanager.common.permission.AccessEntry;
+import com.akandiah.propmanager.common.permission.AccessIndex;
+import com.akandiah.propmanager.config.AccessTokenProperties;
+import com.akandiah.propmanager.features.auth.domain.AccessToken;
+import com.akandiah.propmanager.features.user.service.UserService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Issues and verifies server-signed access tokens so requests carrying one skip
+ * the permissions cache and database entirely. Tokens are bound to the OIDC
+ * identity of the bearer JWT and rejected once expired or revoked through
+ * {@link AccessTokenRevocations}.
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.auth.access-token", name = "enabled", havingValue = "true")
+@Slf4j
+public class AccessTokenService {
+
+	private final JwtHydrationService jwtHydrationService;
+	private final AccessTokenRevocations revocations;
+	private final AccessTokenProperties properties;
+	private final AccessTokenCodec codec;
+	private final Clock clock;
+
+	@Autowired
+	public AccessTokenService(JwtHydrationService jwtHydrationService, AccessTokenRevocations revocations,
+			AccessTokenProperties properties) {
+		this(jwtHydrationService, revocations, properties, Clock.systemUTC());
+	}
+
+	AccessTokenService(JwtHydrationService jwtHydrationService, AccessTokenRevocations revocations,
+			AccessTokenProperties properties, Clock clock) {
+		this.jwtHydrationService = jwtHydrationService;
+		this.revocations = revocations;
+		this.properties = properties;
+		this.codec = new AccessTokenCodec(
+				properties.secret() != null ? properties.secret().getBytes(StandardCharsets.UTF_8) : null);
+		this.clock = clock;
+	}
+
+	/** An issued token and its expiry. */
+	public record Issued(String token, Instant expiresAt) {
+	}
+
+	/**
+	 * Packs the user's current access list into a token. Empty if the list is
+	 * larger than {@code max-entries}; the client then keeps using the bearer
+	 * token alone.
+	 */
+	public Optional<Issued> issue(UUID userId, Jwt jwt) {
+		// Taken before hydrating: a revocation landing mid-issue rejects this token
+		long issuedAt = revocations.issueEpoch(userId);
+		List<AccessEntry> entries = jwtHydrationService.hydrate(userId).entries();
+		if (entries.size() > properties.maxEntries()) {
+			log.debug("Access list for user {} has {} entries; not issuing an access token", userId, entries.size());
+			return Optional.empty();
+		}
+		long expiresAt = clock.millis() + Duration.ofMinutes(properties.ttlMinutes()).toMillis();
+		String token = codec.encode(new AccessToken(userId, subjectHash(jwt), issuedAt, expiresAt, entries));
+		return Optional.of(new Issued(token, Instant.ofEpochMilli(expiresAt)));
+	}
+
+	/**
+	 * Verifies {@code value} for the bearer {@code jwt} without any lookup.
+	 * Empty if the token is invalid, expired, revoked or issued to someone else.
+	 */
+	public Optional<AccessIndex> verify(String value, Jwt jwt) {
+		return codec.decode(value)
+				.filter(t -> t.subjectHash() == subjectHash(jwt))
+				.filter(t -> t.expiresAt() > clock.millis())
+				.filter(t -> revocations.isCurrent(t.userId(), t.issuedAt()))
+				.map(t -> AccessIndex.of(t.entries()));
+	}
+
+	public String headerName() {
+		return properties.header();
+	}
+
+	private static long subjectHash(Jwt jwt) {
+		return AccessTokenCodec.subjectHash(UserService.getIssuerString(jwt), jwt.getSubject());
+	}
+}
@@ -1,22 +1,19 @@
 package com.akandiah.propmanager.features.auth.service;
 
 import java.util.ArrayList;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.akandiah.propmanager.common.permission.AccessEntry;
-import com.akandiah.propmanager.common.permission.Actions;
-import com.akandiah.propmanager.common.permission.PermissionDomains;
-import com.akandiah.propmanager.common.permission.PermissionMaskUtil;
-import com.akandiah.propmanager.common.permission.ResourceType;
+import com.akandiah.propmanager.common.permission.AccessGrant;
+import com.akandiah.propmanager.common.permission.AccessIndex;
 import com.akandiah.propmanager.config.CacheConfig;
 import com.akandiah.propmanager.features.lease.domain.LeaseTenant;
 import com.akandiah.propmanager.features.lease.domain.LeaseTenantRepository;
@@ -39,7 +36,12 @@ import lombok.RequiredArgsConstructor;
  * <li>Active lease tenancy (LeaseTenant → READ on leases domain at UNIT scope)</li>
  * </ol>
  *
- * Entries with the same (orgId, resourceType, resourceId) are merged by ORing bitmasks.
+ * The grants are compiled into an {@link AccessIndex}, which merges entries with the
+ * same (orgId, resourceType, resourceId) by ORing bitmasks and is what gets cached.
+ *
+ * <p>With {@code app.auth.hydration.engine=sql} the grants are loaded by
+ * {@link SqlHydrationEngine} in a single PostgreSQL round-trip instead of the
+ * per-source JPA queries below.
  */
 @Service
 @RequiredArgsConstructor
@@ -49,24 +51,7 @@ public class JwtHydrationService {
 	private final PolicyAssignmentRepository policyAssignmentRepository;
 	private final PropRepository propRepository;
 	private final LeaseTenantRepository leaseTenantRepository;
-
-	private static final int FULL_CRUD = Actions.READ | Actions.CREATE | Actions.UPDATE | Actions.DELETE;
-
-	/**
-	 * Owner: full CRUD on all operational and structural domains for each owned
-	 * property.
-	 */
-	private static final Map<String, Integer> OWNER_MASKS = Map.of(
-			PermissionDomains.PORTFOLIO, FULL_CRUD,
-			PermissionDomains.LEASES, FULL_CRUD,
-			PermissionDomains.MAINTENANCE, FULL_CRUD,
-			PermissionDomains.FINANCES, FULL_CRUD,
-			PermissionDomains.TENANTS, FULL_CRUD);
-
-	/** Tenant: read-only on leases and maintenance domains. */
-	private static final Map<String, Integer> TENANT_MASKS = Map.of(
-			PermissionDomains.LEASES, Actions.READ,
-			PermissionDomains.MAINTENANCE, Actions.READ);
+	private final ObjectProvider<SqlHydrationEngine> sqlEngine;
 
 	@CacheEvict(value = CacheConfig.CACHE_PERMISSIONS, key = "#userId")
 	public void evict(UUID userId) {
@@ -75,24 +60,40 @@ public class JwtHydrationService {
 
 	@Cacheable(value = CacheConfig.CACHE_PERMISSIONS, key = "#userId", sync = true)
 	@Transactional(readOnly = true)
-	public List<AccessEntry> hydrate(UUID userId) {
-		List<AccessEntry> rawAccess = new ArrayList<>();
+	public AccessIndex hydrate(UUID userId) {
+		return rebuild(userId);
+	}
+
+	/**
+	 * Builds the access index from the database, bypassing the cache. Used by
+	 * {@link #hydrate(UUID)} on a miss and by the cache loader for asynchronous
+	 * refresh-after-write reloads.
+	 */
+	@Transactional(readOnly = true)
+	public AccessIndex rebuild(UUID userId) {
+		SqlHydrationEngine engine = sqlEngine.getIfAvailable();
+		// Entries with the same (orgId, scopeType, scopeId) are merged by ORing
+		// bitmasks; grant sources are kept so permission deltas can patch the index.
+		return AccessIndex.ofGrants(engine != null ? engine.loadGrants(userId) : loadGrants(userId));
+	}
+
+	/** The JPA hydration path: one query per grant source. */
+	List<AccessGrant> loadGrants(UUID userId) {
+		List<AccessGrant> grants = new ArrayList<>();
 
 		// 1. Memberships: template-based + custom scope permissions
-		hydrateMemberships(userId, rawAccess);
+		hydrateMemberships(userId, grants);
 
 		// 2. Property ownership — full CRUD on all domains at PROPERTY scope
-		hydratePropertyOwnership(userId, rawAccess);
+		hydratePropertyOwnership(userId, grants);
 
 		// 3. Active lease tenancy — READ on leases at UNIT scope
-		hydrateActiveTenancies(userId, rawAccess);
+		hydrateActiveTenancies(userId, grants);
 
-		// 4. Deduplicate: merge entries with same (orgId, scopeType, scopeId) by ORing
-		// bitmasks
-		return deduplicateAccess(rawAccess);
+		return grants;
 	}
 
-	private void hydrateMemberships(UUID userId, List<AccessEntry> access) {
+	private void hydrateMemberships(UUID userId, List<AccessGrant> access) {
 		List<Membership> memberships = membershipRepository.findByUserIdWithUserAndOrgForHydration(userId);
 		if (memberships.isEmpty()) {
 			return;
@@ -112,75 +113,24 @@ public class JwtHydrationService {
 				continue;
 			}
 
-			Map<String, String> effectivePermissions;
-			if (assignment.getOverrides() != null && !assignment.getOverrides().isEmpty()) {
-				effectivePermissions = assignment.getOverrides();
-			} else if (assignment.getPolicy() != null
-					&& assignment.getPolicy().getPermissions() != null
-					&& !assignment.getPolicy().getPermissions().isEmpty()) {
-				effectivePermissions = assignment.getPolicy().getPermissions();
-			} else {
-				continue; // skip empty assignments
-			}
-
-			Map<String, Integer> masks = permissionsToMasks(effectivePermissions);
-			if (masks.isEmpty()) {
-				continue;
-			}
-
-			UUID resourceId = assignment.getResourceType() == ResourceType.ORG
-					? orgId
-					: assignment.getResourceId();
-			access.add(new AccessEntry(orgId, assignment.getResourceType(), resourceId, masks));
+			// Empty assignments are kept as NONE grants so a later policy edit can fill them in
+			access.add(assignment.toAccessGrant(orgId));
 		}
 	}
 
-	private void hydratePropertyOwnership(UUID userId, List<AccessEntry> access) {
+	private void hydratePropertyOwnership(UUID userId, List<AccessGrant> access) {
 		List<Prop> ownedProps = propRepository.findByOwnerIdWithOrganization(userId);
 		for (Prop prop : ownedProps) {
-			access.add(new AccessEntry(
-					prop.getOrganization().getId(), ResourceType.PROPERTY, prop.getId(), OWNER_MASKS));
+			access.add(AccessGrant.ownership(prop.getOrganization().getId(), prop.getId()));
 		}
 	}
 
-	private void hydrateActiveTenancies(UUID userId, List<AccessEntry> access) {
+	private void hydrateActiveTenancies(UUID userId, List<AccessGrant> access) {
 		List<LeaseTenant> tenancies = leaseTenantRepository.findActiveByUserIdWithLeaseUnitPropOrg(userId);
 		for (LeaseTenant lt : tenancies) {
 			Unit unit = lt.getLease().getUnit();
 			UUID orgId = unit.getProp().getOrganization().getId();
-			access.add(new AccessEntry(orgId, ResourceType.UNIT, unit.getId(), TENANT_MASKS));
-		}
-	}
-
-	static List<AccessEntry> deduplicateAccess(List<AccessEntry> rawAccess) {
-		if (rawAccess.size() <= 1) {
-			return List.copyOf(rawAccess);
-		}
-		Map<String, AccessEntry> merged = new LinkedHashMap<>();
-		for (AccessEntry e : rawAccess) {
-			String key = e.orgId() + ":" + e.scopeType().name() + ":" + e.scopeId();
-			merged.merge(key, e, JwtHydrationService::mergeEntries);
-		}
-		return List.copyOf(merged.values());
-	}
-
-	private static AccessEntry mergeEntries(AccessEntry a, AccessEntry b) {
-		Map<String, Integer> mergedMasks = new LinkedHashMap<>(a.permissions());
-		b.permissions().forEach((domain, mask) -> mergedMasks.merge(domain, mask, (m1, m2) -> m1 | m2));
-		return new AccessEntry(a.orgId(), a.scopeType(), a.scopeId(), mergedMasks);
-	}
-
-	private static Map<String, Integer> permissionsToMasks(Map<String, String> permissions) {
-		if (permissions == null || permissions.isEmpty()) {
-			return Map.of();
-		}
-		Map<String, Integer> out = new LinkedHashMap<>();
-		for (String domain : PermissionDomains.VALID_KEYS) {
-			String letters = permissions.get(domain);
-			if (letters != null && !letters.isEmpty()) {
-				out.put(domain, PermissionMaskUtil.parseToMask(letters));
-			}
+			access.add(AccessGrant.tenancy(lt.getId(), orgId, unit.getId()));
 		}
-		return Map.copyOf(out);
 	}
 }
@@ -1,5 +1,6 @@
 package com.akandiah.propmanager.features.auth.service;
 
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -8,16 +9,23 @@ import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
 import org.springframework.transaction.event.TransactionalEventListener;
 
+import com.akandiah.propmanager.common.permission.AccessIndex;
 import com.akandiah.propmanager.config.CacheConfig;
+import com.akandiah.propmanager.features.auth.domain.PermissionDelta;
 import com.akandiah.propmanager.features.auth.domain.PermissionsChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Evicts entries from the "permissions" cache when user access may have
- * changed.
- * Listens for {@link PermissionsChangedEvent} (explicit permission mutations).
+ * Keeps the "permissions" cache in step with access mutations.
+ * Listens for {@link PermissionsChangedEvent}: when the event carries
+ * {@link PermissionDelta}s, cached indexes are patched atomically; otherwise, or
+ * when a delta cannot be applied, the affected users are evicted.
+ *
+ * <p>Outstanding access tokens of the affected users are revoked afterwards, so
+ * a token re-issued from then on is built from the updated cache.
  */
 @Component
 @RequiredArgsConstructor
@@ -25,10 +33,16 @@ import lombok.extern.slf4j.Slf4j;
 public class PermissionsCacheEvictionListener {
 
 	private final CacheManager cacheManager;
+	private final AccessTokenRevocations accessTokenRevocations;
 
 	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
 	public void onPermissionsChanged(PermissionsChangedEvent event) {
-		evict(event.affectedUserIds());
+		if (event.deltas().isEmpty()) {
+			evict(event.affectedUserIds());
+		} else {
+			patch(event.affectedUserIds(), event.deltas());
+		}
+		accessTokenRevocations.revoke(event.affectedUserIds());
 	}
 
 	private void evict(Set<UUID> userIds) {
@@ -44,4 +58,41 @@ public class PermissionsCacheEvictionListener {
 		}
 		log.debug("Evicted permissions cache for {} user(s)", userIds.size());
 	}
+
+	@SuppressWarnings("unchecked")
+	private void patch(Set<UUID> userIds, List<PermissionDelta> deltas) {
+		var cache = cacheManager.getCache(CacheConfig.CACHE_PERMISSIONS);
+		if (cache == null || !(cache.getNativeCache() instanceof Cache<?, ?> nativeCache)) {
+			evict(userIds);
+			return;
+		}
+		var entries = ((Cache<Object, Object>) nativeCache).asMap();
+		int patched = 0;
+		int evicted = 0;
+		for (UUID userId : userIds) {
+			Object before = entries.get(userId);
+			Object after = entries.computeIfPresent(userId,
+					(key, value) -> value instanceof AccessIndex index ? applyAll(userId, index, deltas) : null);
+			if (before != null) {
+				if (after == null) {
+					evicted++;
+				} else {
+					patched++;
+				}
+			}
+		}
+		log.debug("Patched permissions cache for {} user(s), evicted {}", patched, evicted);
+	}
+
+	/** Applies deltas in order; {@code null} means the entry must be evicted. */
+	static AccessIndex applyAll(UUID userId, AccessIndex index, List<PermissionDelta> deltas) {
+		AccessIndex current = index;
+		for (PermissionDelta delta : deltas) {
+			current = delta.applyTo(userId, current);
+			if (current == null) {
+				return null;
+			}
+		}
+		return current;
+	}
 }
@@ -0,0 +1,67 @@
+package com.akandiah.propmanager.features.auth.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.akandiah.propmanager.config.CacheProperties;
+import com.akandiah.propmanager.features.user.domain.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pre-hydrates the "permissions" cache for recently active users (by
+ * {@code User.lastLoggedInAt}) at startup and on {@code app.cache.permissions.warmup.cron},
+ * so the first request of the day does not pay for the rebuild.
+ *
+ * <p>Only active when {@code app.cache.permissions.warmup.enabled=true}. Users already
+ * cached are left alone; refresh-after-write keeps those current. A failure for one
+ * user does not abort the rest.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.cache.permissions.warmup", name = "enabled", havingValue = "true")
+@Slf4j
+@RequiredArgsConstructor
+public class PermissionsCacheWarmer implements ApplicationRunner {
+
+	private final UserRepository userRepository;
+	private final JwtHydrationService jwtHydrationService;
+	private final CacheProperties cacheProperties;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		warmUp();
+	}
+
+	@Scheduled(cron = "${app.cache.permissions.warmup.cron:0 30 6 * * *}")
+	public void warmUp() {
+		CacheProperties.Warmup warmup = cacheProperties.warmup();
+		Instant since = Instant.now().minus(Duration.ofHours(warmup.activeWithinHours()));
+		List<UUID> userIds = userRepository.findIdsLoggedInSince(since, PageRequest.of(0, warmup.maxUsers()));
+		if (userIds.isEmpty()) {
+			return;
+		}
+
+		long start = System.nanoTime();
+		int failed = 0;
+		for (UUID userId : userIds) {
+			try {
+				jwtHydrationService.hydrate(userId);
+			} catch (Exception e) {
+				failed++;
+				log.warn("Permissions warm-up failed for user {}", userId, e);
+			}
+		}
+		log.info("Warmed permissions cache for {} user(s) in {} ms ({} failed)",
+				userIds.size() - failed, Duration.ofNanos(System.nanoTime() - start).toMillis(), failed);
+	}
+}
@@ -0,0 +1,108 @@
+package com.akandiah.propmanager.features.auth.service;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import com.akandiah.propmanager.common.permission.AccessEntry;
+import com.akandiah.propmanager.common.permission.AccessGrant;
+import com.akandiah.propmanager.common.permission.PermissionSet;
+import com.akandiah.propmanager.common.permission.ResourceType;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * PostgreSQL hydration engine: loads every grant for a user in a single
+ * round-trip. Assignment permissions are decoded from the policy/override JSON
+ * and packed into {@link PermissionSet} bits on the server with {@code bit_or},
+ * so the rows map straight onto {@link AccessGrant}s.
+ *
+ * <p>Rows stay one per grant source (not one per scope) so the cached index can
+ * still be patched by permission deltas; scopes are merged by {@code AccessIndex}.
+ * Opt-in with {@code app.auth.hydration.engine=sql} in every profile, prod
+ * included, until {@code HydrationEngineParityTest} runs in CI rather than only
+ * against an env-supplied database; otherwise the JPA path in
+ * {@link JwtHydrationService} is used.
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.auth.hydration", name = "engine", havingValue = "sql")
+@RequiredArgsConstructor
+public class SqlHydrationEngine {
+
+	/**
+	 * Letters → action bits, shifted into the domain's {@link PermissionSet} slot
+	 * (l, m, f, t, o, p). Unknown domains and letters are ignored, matching
+	 * {@link PermissionSet#fromLetters}.
+	 */
+	private static final String PACKED_BITS = """
+			((CASE WHEN strpos(perm.value, 'r') > 0 THEN 1 ELSE 0 END)
+			 | (CASE WHEN strpos(perm.value, 'c') > 0 THEN 2 ELSE 0 END)
+			 | (CASE WHEN strpos(perm.value, 'u') > 0 THEN 4 ELSE 0 END)
+			 | (CASE WHEN strpos(perm.value, 'd') > 0 THEN 8 ELSE 0 END))
+			<< (CASE perm.key WHEN 'l' THEN 0 WHEN 'm' THEN 4 WHEN 'f' THEN 8
+			                  WHEN 't' THEN 12 WHEN 'o' THEN 16 WHEN 'p' THEN 20 END)
+			""";
+
+	static final String GRANTS_QUERY = """
+			WITH assignments AS (
+			    SELECT pa.id, m.org_id, pa.resource_type, pa.resource_id, pa.policy_id,
+			           (pa.overrides IS NOT NULL AND pa.overrides <> '{}'::jsonb) AS overridden,
+			           pa.overrides, pp.permissions
+			    FROM memberships m
+			    JOIN policy_assignments pa ON pa.membership_id = m.id
+			    LEFT JOIN permission_policies pp ON pp.id = pa.policy_id
+			    WHERE m.user_id = :userId
+			)
+			SELECT 'ASSIGNMENT' AS kind, a.id AS source_id,
+			       CASE WHEN a.overridden THEN NULL ELSE a.policy_id END AS policy_id,
+			       a.org_id, a.resource_type AS scope_type,
+			       CASE WHEN a.resource_type = 'ORG' THEN a.org_id ELSE a.resource_id END AS scope_id,
+			       COALESCE(bit_or(%s), 0) AS bits
+			FROM assignments a
+			LEFT JOIN LATERAL jsonb_each_text(
+			        CASE WHEN a.overridden THEN a.overrides ELSE COALESCE(a.permissions, '{}'::jsonb) END) perm
+			    ON perm.key IN ('l', 'm', 'f', 't', 'o', 'p')
+			GROUP BY a.id, a.policy_id, a.overridden, a.org_id, a.resource_type, a.resource_id
+			UNION ALL
+			SELECT 'OWNERSHIP', p.id, NULL, p.organization_id, 'PROPERTY', p.id, :ownerBits
+			FROM prop p
+			WHERE p.owner_id = :userId AND p.organization_id IS NOT NULL
+			UNION ALL
+			SELECT 'TENANCY', lt.id, NULL, p.organization_id, 'UNIT', u.id, :tenantBits
+			FROM lease_tenants lt
+			JOIN tenants t ON t.id = lt.tenant_id
+			JOIN leases l ON l.id = lt.lease_id
+			JOIN units u ON u.id = l.unit_id
+			JOIN prop p ON p.id = u.property_id
+			WHERE t.user_id = :userId
+			  AND l.status IN ('ACTIVE', 'REVIEW')
+			  AND p.organization_id IS NOT NULL
+			""".formatted(PACKED_BITS);
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	public List<AccessGrant> loadGrants(UUID userId) {
+		return jdbcTemplate.query(GRANTS_QUERY,
+				Map.of("userId", userId,
+						"ownerBits", AccessGrant.OWNER_PERMISSIONS.bits(),
+						"tenantBits", AccessGrant.TENANT_PERMISSIONS.bits()),
+				SqlHydrationEngine::mapGrant);
+	}
+
+	static AccessGrant mapGrant(ResultSet rs, int rowNum) throws SQLException {
+		AccessGrant.Source source = new AccessGrant.Source(
+				AccessGrant.Kind.valueOf(rs.getString("kind")), rs.getObject("source_id", UUID.class));
+		AccessEntry entry = new AccessEntry(
+				rs.getObject("org_id", UUID.class),
+				ResourceType.valueOf(rs.getString("scope_type")),
+				rs.getObject("scope_id", UUID.class),
+				new PermissionSet(rs.getInt("bits")));
+		return new AccessGrant(source, rs.getObject("policy_id", UUID.class), entry);
+	}
+}
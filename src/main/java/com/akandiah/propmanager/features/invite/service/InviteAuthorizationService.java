@@ -1,12 +1,11 @@
 package com.akandiah.propmanager.features.invite.service;
 
-import java.util.List;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 
 import com.akandiah.propmanager.common.exception.ResourceNotFoundException;
-import com.akandiah.propmanager.common.permission.AccessEntry;
+import com.akandiah.propmanager.common.permission.AccessIndex;
 import com.akandiah.propmanager.common.permission.Actions;
 import com.akandiah.propmanager.common.permission.PermissionDomains;
 import com.akandiah.propmanager.common.permission.ResourceType;
@@ -180,13 +179,13 @@ public class InviteAuthorizationService {
 						: null;
 				if (orgId == null)
 					yield false;
-				List<AccessEntry> access = SecurityUtils.getAccessFromRequest();
+				AccessIndex access = SecurityUtils.getAccessFromRequest();
 				yield authorizationService.allow(access, requiredAction, PermissionDomains.LEASES,
 						ResourceType.UNIT, unitId, orgId);
 			}
 			case MEMBERSHIP -> {
 				// targetId is the org ID
-				List<AccessEntry> access = SecurityUtils.getAccessFromRequest();
+				AccessIndex access = SecurityUtils.getAccessFromRequest();
 				yield authorizationService.allow(access, requiredAction, PermissionDomains.ORGANIZATION,
 						ResourceType.ORG, targetId, targetId);
 			}
@@ -1,10 +1,10 @@
 package com.akandiah.propmanager.features.lease.api;
 
-import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -18,13 +18,22 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
-
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.context.request.WebRequest;
+
+import com.akandiah.propmanager.common.dto.BatchRequest;
+import com.akandiah.propmanager.common.dto.BatchResponse;
+import com.akandiah.propmanager.common.dto.KeysetPageRequest;
+import com.akandiah.propmanager.common.dto.PageResponse;
+import com.akandiah.propmanager.common.export.NdjsonExporter;
 import com.akandiah.propmanager.common.permission.AccessListUtil;
 import com.akandiah.propmanager.common.permission.AccessListUtil.ScopedAccessFilter;
 import com.akandiah.propmanager.common.permission.Actions;
 import com.akandiah.propmanager.common.permission.PermissionDomains;
+import com.akandiah.propmanager.common.util.ConditionalGetUtil;
 import com.akandiah.propmanager.features.lease.api.dto.CreateLeaseRequest;
 import com.akandiah.propmanager.features.lease.api.dto.LeaseResponse;
+import com.akandiah.propmanager.features.lease.api.dto.LeaseSummaryResponse;
 import com.akandiah.propmanager.features.lease.api.dto.UpdateLeaseRequest;
 import com.akandiah.propmanager.features.lease.service.LeaseService;
 
@@ -48,30 +57,57 @@ public class LeaseController {
 
 	@GetMapping
 	@PreAuthorize("isAuthenticated()")
-	@Operation(summary = "List leases", description = "Optionally filter by ?unitId= or ?propertyId=. Results are restricted to leases the caller is authorized to see.")
-	public ResponseEntity<List<LeaseResponse>> list(
+	@Operation(summary = "List leases", description = "Optionally filter by ?unitId= or ?propertyId=. Results are restricted to leases the caller is authorized to see; the executed markdown, metadata and template parameters are returned by GET /api/leases/{id} only."
+			+ " Keyset-paginated: pass the returned nextCursor as ?cursor= for the next page; includeTotal=true adds totalElements.")
+	public ResponseEntity<PageResponse<LeaseSummaryResponse>> list(
+			@RequestParam(required = false) UUID unitId,
+			@RequestParam(required = false) UUID propertyId,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size,
+			@RequestParam(defaultValue = "false") boolean includeTotal,
+			HttpServletRequest request, WebRequest webRequest) {
+		KeysetPageRequest page = KeysetPageRequest.of(cursor, size, includeTotal);
+		ScopedAccessFilter filter = scopedFilter(unitId, propertyId, request);
+		if (ConditionalGetUtil.notModified(webRequest, service.stamp(filter))) {
+			return null;
+		}
+		return ResponseEntity.ok(service.findPage(filter, page));
+	}
+
+	@GetMapping(produces = NdjsonExporter.MEDIA_TYPE)
+	@PreAuthorize("isAuthenticated()")
+	@Operation(summary = "Export leases as NDJSON", description = "Selected with Accept: application/x-ndjson. Streams every lease the caller can see, one JSON object per line, without paging.")
+	public ResponseEntity<StreamingResponseBody> export(
 			@RequestParam(required = false) UUID unitId,
 			@RequestParam(required = false) UUID propertyId,
 			HttpServletRequest request) {
+		ScopedAccessFilter filter = scopedFilter(unitId, propertyId, request);
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(NdjsonExporter.MEDIA_TYPE))
+				.body(out -> service.exportNdjson(filter, out));
+	}
+
+	/** Narrows the caller's lease filter to ?unitId= or ?propertyId= when given. */
+	private static ScopedAccessFilter scopedFilter(UUID unitId, UUID propertyId, HttpServletRequest request) {
 		ScopedAccessFilter baseFilter = AccessListUtil.forScopedResources(
 				AccessListUtil.fromRequest(request), PermissionDomains.LEASES, Actions.READ);
 		if (unitId != null) {
-			ScopedAccessFilter unitFilter = new ScopedAccessFilter(
-					baseFilter.orgIds(), baseFilter.propIds(), Set.of(unitId));
-			return ResponseEntity.ok(service.findAll(unitFilter));
+			return new ScopedAccessFilter(baseFilter.orgIds(), baseFilter.propIds(), Set.of(unitId));
 		}
 		if (propertyId != null) {
-			ScopedAccessFilter propFilter = new ScopedAccessFilter(
-					baseFilter.orgIds(), Set.of(propertyId), baseFilter.unitIds());
-			return ResponseEntity.ok(service.findAll(propFilter));
+			return new ScopedAccessFilter(baseFilter.orgIds(), Set.of(propertyId), baseFilter.unitIds());
 		}
-		return ResponseEntity.ok(service.findAll(baseFilter));
+		return baseFilter;
 	}
 
 	@GetMapping("/{id}")
 	@PreAuthorizeLeaseAccess("READ")
 	@Operation(summary = "Get lease by ID")
-	public ResponseEntity<LeaseResponse> getById(@PathVariable UUID id, @RequestParam UUID orgId) {
+	public ResponseEntity<LeaseResponse> getById(@PathVariable UUID id, @RequestParam UUID orgId,
+			WebRequest webRequest) {
+		if (ConditionalGetUtil.notModified(webRequest, service.findStamp(id))) {
+			return null;
+		}
 		return ResponseEntity.ok(service.findById(id));
 	}
 
@@ -125,6 +161,24 @@ public class LeaseController {
 		return ResponseEntity.ok(service.terminate(id));
 	}
 
+	@PostMapping("/batch/activate")
+	@PreAuthorize("@permissionGuard.hasAccess('UPDATE', 'LEASES', 'PROPERTY', #propId, #orgId)")
+	@Operation(summary = "Activate many reviewed leases of one property",
+			description = "REVIEW → ACTIVE per lease. Authorized once for the property; returns 200 with a result per lease id.")
+	public BatchResponse<LeaseResponse> activateAll(@Valid @RequestBody BatchRequest<UUID> request,
+			@RequestParam UUID propId, @RequestParam UUID orgId) {
+		return service.activateAll(propId, request.items());
+	}
+
+	@PostMapping("/batch/terminate")
+	@PreAuthorize("@permissionGuard.hasAccess('UPDATE', 'LEASES', 'PROPERTY', #propId, #orgId)")
+	@Operation(summary = "Terminate many active leases of one property",
+			description = "ACTIVE → TERMINATED per lease. Authorized once for the property; returns 200 with a result per lease id.")
+	public BatchResponse<LeaseResponse> terminateAll(@Valid @RequestBody BatchRequest<UUID> request,
+			@RequestParam UUID propId, @RequestParam UUID orgId) {
+		return service.terminateAll(propId, request.items());
+	}
+
 	// ───────────────────────── Delete (DRAFT only) ─────────────────────────
 
 	@DeleteMapping("/{id}")
@@ -15,6 +15,9 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import com.akandiah.propmanager.common.util.ConditionalGetUtil;
 
 import com.akandiah.propmanager.features.lease.api.dto.CreateLeaseTemplateRequest;
 import com.akandiah.propmanager.features.lease.api.dto.LeaseTemplateResponse;
@@ -53,7 +56,11 @@ public class LeaseTemplateController {
 	@GetMapping("/{id}")
 	@PreAuthorize("@permissionGuard.hasOrgAccess('READ', 'LEASES', #orgId)")
 	@Operation(summary = "Get lease template by ID")
-	public ResponseEntity<LeaseTemplateResponse> getById(@PathVariable UUID id, @RequestParam UUID orgId) {
+	public ResponseEntity<LeaseTemplateResponse> getById(@PathVariable UUID id, @RequestParam UUID orgId,
+			WebRequest webRequest) {
+		if (ConditionalGetUtil.notModified(webRequest, service.findStamp(id, orgId))) {
+			return null;
+		}
 		return ResponseEntity.ok(service.findById(id, orgId));
 	}
 
@@ -0,0 +1,58 @@
+package com.akandiah.propmanager.features.lease.api.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import com.akandiah.propmanager.features.lease.domain.LateFeeType;
+import com.akandiah.propmanager.features.lease.domain.LeaseRepository.LeaseListRow;
+import com.akandiah.propmanager.features.lease.domain.LeaseStatus;
+
+/**
+ * List-view shape of a lease: {@link LeaseResponse} without the executed
+ * markdown, additional metadata and template parameters, which are returned by
+ * {@code GET /api/leases/{id}} only.
+ */
+public record LeaseSummaryResponse(
+		UUID id,
+		UUID leaseTemplateId,
+		String leaseTemplateName,
+		String leaseTemplateVersionTag,
+		UUID unitId,
+		UUID propertyId,
+		LeaseStatus status,
+		Integer version,
+		LocalDate startDate,
+		LocalDate endDate,
+		BigDecimal rentAmount,
+		Integer rentDueDay,
+		BigDecimal securityDepositHeld,
+		LateFeeType lateFeeType,
+		BigDecimal lateFeeAmount,
+		Integer noticePeriodDays,
+		Instant createdAt,
+		Instant updatedAt) {
+
+	public static LeaseSummaryResponse from(LeaseListRow row) {
+		return new LeaseSummaryResponse(
+				row.getId(),
+				row.getLeaseTemplateId(),
+				row.getLeaseTemplateName(),
+				row.getLeaseTemplateVersionTag(),
+				row.getUnitId(),
+				row.getPropertyId(),
+				row.getStatus(),
+				row.getVersion(),
+				row.getStartDate(),
+				row.getEndDate(),
+				row.getRentAmount(),
+				row.getRentDueDay(),
+				row.getSecurityDepositHeld(),
+				row.getLateFeeType(),
+				row.getLateFeeAmount(),
+				row.getNoticePeriodDays(),
+				row.getCreatedAt(),
+				row.getUpdatedAt());
+	}
+}
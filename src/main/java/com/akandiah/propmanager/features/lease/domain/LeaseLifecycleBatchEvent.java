@@ -0,0 +1,12 @@
+package com.akandiah.propmanager.features.lease.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+/** One {@link LeaseLifecycleEvent} per lease, coalesced for a bulk transition. */
+public record LeaseLifecycleBatchEvent(List<UUID> leaseIds, LeaseLifecycleEventType type) {
+
+	public LeaseLifecycleBatchEvent {
+		leaseIds = List.copyOf(leaseIds);
+	}
+}
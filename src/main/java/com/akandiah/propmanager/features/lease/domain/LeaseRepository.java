@@ -1,18 +1,50 @@
 package com.akandiah.propmanager.features.lease.domain;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.akandiah.propmanager.common.domain.EntityStamp;
+import com.akandiah.propmanager.common.domain.ListStamp;
+import com.akandiah.propmanager.common.export.NdjsonExporter;
+
+import jakarta.persistence.QueryHint;
+
 public interface LeaseRepository extends JpaRepository<Lease, UUID> {
 
+	/**
+	 * Ids of the leases reachable through an access filter, written as one UNION
+	 * branch per scope set so each branch can use its own index (org via
+	 * {@code prop.organization_id} and {@code units.property_id}, then
+	 * {@code leases.unit_id}; {@code leases.property_id}; {@code leases.unit_id})
+	 * instead of an OR across implicit joins, which PostgreSQL can only answer with
+	 * sequential scans.
+	 *
+	 * <p>Binds {@code :orgIds}, {@code :propIds} and {@code :unitIds}, each as one
+	 * {@code UUID[]} through {@code any_of}, so the SQL text and its cached plan do
+	 * not change with the number of scopes a caller holds.
+	 */
+	String LEASE_IDS_IN_SCOPE = """
+			SELECT l1.id FROM Lease l1 JOIN l1.unit u1 JOIN u1.prop p1 WHERE any_of(p1.organization.id, :orgIds)
+			UNION
+			SELECT l2.id FROM Lease l2 WHERE any_of(l2.property.id, :propIds)
+			UNION
+			SELECT l3.id FROM Lease l3 WHERE any_of(l3.unit.id, :unitIds)
+			""";
+
 	List<Lease> findByUnit_IdOrderByStartDateDesc(UUID unitId);
 
 	List<Lease> findByProperty_IdOrderByStartDateDesc(UUID propertyId);
@@ -33,6 +65,32 @@ public interface LeaseRepository extends JpaRepository<Lease, UUID> {
 	 */
 	boolean existsByUnit_IdAndStatusAndIdNot(UUID unitId, LeaseStatus status, UUID excludedLeaseId);
 
+	/**
+	 * Counts leases in {@code status} ending between {@code from} and {@code to}
+	 * (inclusive) for one property or a whole organization. Served by
+	 * {@code idx_leases_status_end_date}.
+	 */
+	long countByProperty_IdAndStatusAndEndDateBetween(UUID propertyId, LeaseStatus status, LocalDate from, LocalDate to);
+
+	long countByProperty_Organization_IdAndStatusAndEndDateBetween(UUID organizationId, LeaseStatus status,
+			LocalDate from, LocalDate to);
+
+	/** Lease count and rent total for one status. */
+	interface StatusTotals {
+		LeaseStatus getStatus();
+
+		long getCount();
+
+		BigDecimal getRentTotal();
+	}
+
+	/** Lease counts and rent totals per status for one property — feeds the portfolio stats row. */
+	@Query("""
+			SELECT l.status AS status, COUNT(l) AS count, SUM(l.rentAmount) AS rentTotal
+			FROM Lease l WHERE l.property.id = :propertyId GROUP BY l.status
+			""")
+	List<StatusTotals> sumByStatusForProperty(@Param("propertyId") UUID propertyId);
+
 	@Modifying
 	@Query("UPDATE Lease l SET l.leaseTemplate = null WHERE l.leaseTemplate.id = :templateId")
 	int clearTemplateReference(@Param("templateId") UUID templateId);
@@ -50,6 +108,14 @@ public interface LeaseRepository extends JpaRepository<Lease, UUID> {
 	@Query("SELECT l FROM Lease l JOIN FETCH l.unit JOIN FETCH l.property WHERE l.id = :id")
 	Optional<Lease> findByIdWithUnitAndProperty(@Param("id") UUID id);
 
+	/** Batch form of {@link #findByIdWithUnitAndProperty}. */
+	@Query("SELECT l FROM Lease l JOIN FETCH l.unit JOIN FETCH l.property WHERE l.id IN :ids")
+	List<Lease> findAllWithUnitAndPropertyByIdIn(@Param("ids") Collection<UUID> ids);
+
+	/** Which of {@code unitIds} have a lease in {@code status}; one query for a bulk activation. */
+	@Query("SELECT DISTINCT l.unit.id FROM Lease l WHERE l.unit.id IN :unitIds AND l.status = :status")
+	List<UUID> findUnitIdsWithStatus(@Param("unitIds") Collection<UUID> unitIds, @Param("status") LeaseStatus status);
+
 	/**
 	 * Fetch lease with unit, property and property address eagerly loaded.
 	 * Used by the invite preview endpoint to resolve all contextual data in one query.
@@ -67,14 +133,135 @@ public interface LeaseRepository extends JpaRepository<Lease, UUID> {
 	@Query("SELECT l.unit.id FROM Lease l WHERE l.id = :id")
 	Optional<UUID> findUnitIdById(@Param("id") UUID id);
 
+	@Query("SELECT l FROM Lease l WHERE l.id IN (" + LEASE_IDS_IN_SCOPE + ")")
+	List<Lease> findByAccessFilter(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds);
+
+	/**
+	 * Column subset read by list views. Leaves out the stamped markdown and the
+	 * JSON columns, which are only needed on detail reads.
+	 */
+	interface LeaseListRow {
+		UUID getId();
+
+		UUID getLeaseTemplateId();
+
+		String getLeaseTemplateName();
+
+		String getLeaseTemplateVersionTag();
+
+		UUID getUnitId();
+
+		UUID getPropertyId();
+
+		LeaseStatus getStatus();
+
+		Integer getVersion();
+
+		LocalDate getStartDate();
+
+		LocalDate getEndDate();
+
+		BigDecimal getRentAmount();
+
+		Integer getRentDueDay();
+
+		BigDecimal getSecurityDepositHeld();
+
+		LateFeeType getLateFeeType();
+
+		BigDecimal getLateFeeAmount();
+
+		Integer getNoticePeriodDays();
+
+		Instant getCreatedAt();
+
+		Instant getUpdatedAt();
+	}
+
+	/**
+	 * Keyset page of {@link #findByAccessFilter}: leases with an id after
+	 * {@code after}, in id order, projected to {@link LeaseListRow}.
+	 */
+	@Query("""
+			SELECT l.id AS id, lt.id AS leaseTemplateId,
+			       l.leaseTemplateName AS leaseTemplateName, l.leaseTemplateVersionTag AS leaseTemplateVersionTag,
+			       l.unit.id AS unitId, l.property.id AS propertyId,
+			       l.status AS status, l.version AS version,
+			       l.startDate AS startDate, l.endDate AS endDate,
+			       l.rentAmount AS rentAmount, l.rentDueDay AS rentDueDay,
+			       l.securityDepositHeld AS securityDepositHeld,
+			       l.lateFeeType AS lateFeeType, l.lateFeeAmount AS lateFeeAmount,
+			       l.noticePeriodDays AS noticePeriodDays,
+			       l.createdAt AS createdAt, l.updatedAt AS updatedAt
+			FROM Lease l
+			LEFT JOIN l.leaseTemplate lt
+			WHERE l.id IN (""" + LEASE_IDS_IN_SCOPE + """
+			)
+			AND l.id > :after
+			ORDER BY l.id ASC
+			""")
+	List<LeaseListRow> findPageByAccessFilter(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
+			@Param("after") UUID after,
+			Limit limit);
+
+	/**
+	 * Streams {@link #findByAccessFilter} in id order for NDJSON export. The caller
+	 * must consume and close the stream inside a read-only transaction.
+	 */
 	@Query("""
 			SELECT l FROM Lease l
-			WHERE l.unit.prop.organization.id IN :orgIds
-			   OR l.property.id IN :propIds
-			   OR l.unit.id IN :unitIds
+			WHERE l.id IN (""" + LEASE_IDS_IN_SCOPE + """
+			)
+			ORDER BY l.id ASC
 			""")
-	List<Lease> findByAccessFilter(
-			@Param("orgIds") Collection<UUID> orgIds,
-			@Param("propIds") Collection<UUID> propIds,
-			@Param("unitIds") Collection<UUID> unitIds);
+	@QueryHints({
+			@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonExporter.FETCH_SIZE_HINT),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	Stream<Lease> streamByAccessFilter(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds);
+
+	@Query("SELECT COUNT(l) FROM Lease l WHERE l.id IN (" + LEASE_IDS_IN_SCOPE + ")")
+	long countByAccessFilter(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds);
+
+	/** Version stamp plus the unit id, which the tenant-isolation check needs. */
+	interface LeaseStamp extends EntityStamp {
+		UUID getUnitId();
+	}
+
+	@Query("SELECT l.version AS version, l.updatedAt AS updatedAt, l.unit.id AS unitId FROM Lease l WHERE l.id = :id")
+	Optional<LeaseStamp> findStampById(@Param("id") UUID id);
+
+	/** Leases in scope updated after the keyset position {@code (since, afterId)}, oldest change first — feeds the sync feed. */
+	@Query("""
+			SELECT l FROM Lease l
+			WHERE (l.updatedAt, l.id) > (:since, :afterId)
+			AND l.id IN (""" + LEASE_IDS_IN_SCOPE + """
+			)
+			ORDER BY l.updatedAt ASC, l.id ASC
+			""")
+	List<Lease> findChangedSince(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
+			@Param("since") Instant since,
+			@Param("afterId") UUID afterId,
+			Limit limit);
+
+	@Query("SELECT COUNT(l) AS count, MAX(l.updatedAt) AS maxUpdatedAt FROM Lease l WHERE l.id IN (" + LEASE_IDS_IN_SCOPE + ")")
+	ListStamp stampByAccessFilter(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds);
 }
@@ -1,10 +1,13 @@
 package com.akandiah.propmanager.features.lease.domain;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import com.akandiah.propmanager.common.domain.EntityStamp;
+
 public interface LeaseTemplateRepository extends JpaRepository<LeaseTemplate, UUID> {
 
 	List<LeaseTemplate> findByOrg_Id(UUID orgId);
@@ -14,4 +17,6 @@ public interface LeaseTemplateRepository extends JpaRepository<LeaseTemplate, UU
 	List<LeaseTemplate> findByOrg_IdAndNameContainingIgnoreCaseOrderByNameAsc(UUID orgId, String query);
 
 	long countByOrg_Id(UUID orgId);
+
+	Optional<EntityStamp> findStampByIdAndOrg_Id(UUID id, UUID orgId);
 }
@@ -1,5 +1,6 @@
 package com.akandiah.propmanager.features.lease.domain;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -38,6 +39,16 @@ public interface LeaseTenantRepository extends JpaRepository<LeaseTenant, UUID>
 			""")
 	List<LeaseTenant> findByLease_IdWithTenantUser(@Param("leaseId") UUID leaseId);
 
+	/** Batch form of {@link #findByLease_IdWithTenantUser}. */
+	@Query("""
+			SELECT lt FROM LeaseTenant lt
+			JOIN FETCH lt.tenant t
+			JOIN FETCH t.user
+			WHERE lt.lease.id IN :leaseIds
+			AND lt.tenant IS NOT NULL
+			""")
+	List<LeaseTenant> findByLease_IdInWithTenantUser(@Param("leaseIds") Collection<UUID> leaseIds);
+
 	/**
 	 * Find active lease-tenant rows for a given user, eagerly loading the full chain
 	 * needed for permission hydration: tenant → user, lease → unit → prop → organization.
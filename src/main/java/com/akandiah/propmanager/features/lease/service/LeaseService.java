@@ -1,32 +1,56 @@
 package com.akandiah.propmanager.features.lease.service;
 
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.akandiah.propmanager.common.domain.EntityStamp;
+import com.akandiah.propmanager.common.domain.ListStamp;
+import com.akandiah.propmanager.common.dto.BatchResponse;
+import com.akandiah.propmanager.common.dto.KeysetPageRequest;
+import com.akandiah.propmanager.common.dto.PageResponse;
 import com.akandiah.propmanager.common.exception.ResourceNotFoundException;
+import com.akandiah.propmanager.common.export.NdjsonExporter;
+import com.akandiah.propmanager.features.auth.domain.PermissionDelta;
 import com.akandiah.propmanager.features.auth.domain.PermissionsChangedEvent;
+import com.akandiah.propmanager.common.permission.AccessGrant;
 import com.akandiah.propmanager.common.permission.AccessListUtil.ScopedAccessFilter;
 import com.akandiah.propmanager.common.util.DeleteGuardUtil;
 import com.akandiah.propmanager.common.util.OptimisticLockingUtil;
 import com.akandiah.propmanager.features.lease.api.dto.CreateLeaseRequest;
 import com.akandiah.propmanager.features.lease.api.dto.LeaseResponse;
+import com.akandiah.propmanager.features.lease.api.dto.LeaseSummaryResponse;
 import com.akandiah.propmanager.features.lease.api.dto.UpdateLeaseRequest;
 import com.akandiah.propmanager.features.lease.domain.Lease;
+import com.akandiah.propmanager.features.lease.domain.LeaseLifecycleBatchEvent;
 import com.akandiah.propmanager.features.lease.domain.LeaseLifecycleEvent;
 import com.akandiah.propmanager.features.lease.domain.LeaseLifecycleEventType;
 import com.akandiah.propmanager.features.lease.domain.LeaseRepository;
+import com.akandiah.propmanager.features.lease.domain.LeaseRepository.LeaseListRow;
 import com.akandiah.propmanager.features.lease.domain.LeaseStatus;
 import com.akandiah.propmanager.features.lease.domain.LeaseTemplate;
+import com.akandiah.propmanager.features.lease.domain.LeaseTenant;
 import com.akandiah.propmanager.features.lease.domain.LeaseTenantRepository;
+import com.akandiah.propmanager.features.organization.domain.Organization;
+import com.akandiah.propmanager.features.portfolio.domain.PortfolioChangedEvent;
 import com.akandiah.propmanager.features.prop.domain.Prop;
 import com.akandiah.propmanager.features.prop.domain.PropRepository;
+import com.akandiah.propmanager.features.sync.domain.EntityDeletedEvent;
+import com.akandiah.propmanager.features.sync.domain.SyncEntityType;
 import com.akandiah.propmanager.features.unit.domain.Unit;
 import com.akandiah.propmanager.features.unit.domain.UnitRepository;
 import com.akandiah.propmanager.security.JwtUserResolver;
@@ -49,6 +73,7 @@ public class LeaseService {
 	private final LeaseTemplateRenderer renderer;
 	private final ApplicationEventPublisher eventPublisher;
 	private final JwtUserResolver jwtUserResolver;
+	private final NdjsonExporter ndjsonExporter;
 
 	// ───────────────────────── Queries ─────────────────────────
 
@@ -60,11 +85,34 @@ public class LeaseService {
 
 	public List<LeaseResponse> findAll(ScopedAccessFilter filter) {
 		if (filter.isEmpty()) return List.of();
-		return leaseRepository.findByAccessFilter(filter.orgIds(), filter.propIds(), filter.unitIds()).stream()
+		return leaseRepository.findByAccessFilter(filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray()).stream()
 				.map(LeaseResponse::from)
 				.toList();
 	}
 
+	/**
+	 * Keyset page of the leases in {@code filter}, read as a column projection so
+	 * the markdown and JSON columns are never loaded for list views.
+	 */
+	public PageResponse<LeaseSummaryResponse> findPage(ScopedAccessFilter filter, KeysetPageRequest page) {
+		if (filter.isEmpty()) return page.empty();
+		List<LeaseListRow> rows = leaseRepository.findPageByAccessFilter(
+				filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), page.after(), page.fetchLimit());
+		return page.toPage(rows, LeaseListRow::getId, LeaseSummaryResponse::from,
+				() -> leaseRepository.countByAccessFilter(filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray()));
+	}
+
+	/**
+	 * Writes every lease in {@code filter} to {@code out} as NDJSON, streaming
+	 * from the database rather than loading the list. Returns the row count.
+	 */
+	public long exportNdjson(ScopedAccessFilter filter, OutputStream out) {
+		if (filter.isEmpty()) return 0;
+		try (Stream<Lease> rows = leaseRepository.streamByAccessFilter(filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray())) {
+			return ndjsonExporter.write(rows, LeaseResponse::from, out);
+		}
+	}
+
 	public List<LeaseResponse> findByUnitId(UUID unitId) {
 		return leaseRepository.findByUnit_IdOrderByStartDateDesc(unitId).stream()
 				.map(LeaseResponse::from)
@@ -77,18 +125,36 @@ public class LeaseService {
 				.toList();
 	}
 
+	/** Count and newest update across {@link #findPage}'s filter, for the list ETag. */
+	public ListStamp stamp(ScopedAccessFilter filter) {
+		if (filter.isEmpty()) return ListStamp.EMPTY;
+		return leaseRepository.stampByAccessFilter(filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray());
+	}
+
+	/** Version stamp of a lease, applying the same tenant isolation as {@link #findById}. */
+	public Optional<EntityStamp> findStamp(UUID id) {
+		return leaseRepository.findStampById(id).map(stamp -> {
+			requireOwnLeaseForTenant(id, stamp.getUnitId());
+			return stamp;
+		});
+	}
+
 	public LeaseResponse findById(UUID id) {
 		Lease lease = getEntity(id);
-		// Tenant isolation: if the caller is a tenant on this unit, they may only see their own lease,
-		// not co-tenants' leases on the same unit.
+		requireOwnLeaseForTenant(id, lease.getUnit().getId());
+		return LeaseResponse.from(lease);
+	}
+
+	// Tenant isolation: if the caller is a tenant on this unit, they may only see their own lease,
+	// not co-tenants' leases on the same unit.
+	private void requireOwnLeaseForTenant(UUID leaseId, UUID unitId) {
 		jwtUserResolver.resolveOptionalId().ifPresent(userId -> {
-			if (leaseTenantRepository.existsByLease_Unit_IdAndTenant_User_Id(lease.getUnit().getId(), userId)) {
-				if (!leaseTenantRepository.existsByLease_IdAndTenant_User_Id(id, userId)) {
+			if (leaseTenantRepository.existsByLease_Unit_IdAndTenant_User_Id(unitId, userId)) {
+				if (!leaseTenantRepository.existsByLease_IdAndTenant_User_Id(leaseId, userId)) {
 					throw new AccessDeniedException("Tenants can only access their own lease");
 				}
 			}
 		});
-		return LeaseResponse.from(lease);
 	}
 
 	// ───────────────────────── Stamp (create) ─────────────────────────
@@ -136,7 +202,9 @@ public class LeaseService {
 				.templateParameters(request.templateParameters())
 				.build();
 
-		return LeaseResponse.from(leaseRepository.save(lease));
+		Lease saved = leaseRepository.save(lease);
+		publishPortfolioChanged(saved);
+		return LeaseResponse.from(saved);
 	}
 
 	// ───────────────────────── Update (DRAFT only) ─────────────────────────
@@ -207,6 +275,7 @@ public class LeaseService {
 		}
 		Lease saved = leaseRepository.save(lease);
 		eventPublisher.publishEvent(new LeaseLifecycleEvent(saved.getId(), LeaseLifecycleEventType.SUBMITTED_FOR_REVIEW));
+		publishPortfolioChanged(saved);
 		return LeaseResponse.from(saved);
 	}
 
@@ -220,7 +289,8 @@ public class LeaseService {
 		stateMachine.activate(lease);
 		Lease saved = leaseRepository.save(lease);
 		eventPublisher.publishEvent(new LeaseLifecycleEvent(saved.getId(), LeaseLifecycleEventType.ACTIVATED));
-		publishPermissionsChangedForLeaseTenants(id);
+		publishPortfolioChanged(saved);
+		publishPermissionsChangedForLeaseTenants(saved, true);
 		return LeaseResponse.from(saved);
 	}
 
@@ -233,7 +303,9 @@ public class LeaseService {
 		Lease lease = getEntity(id);
 		stateMachine.revertToDraft(lease);
 		lease.setExecutedContentMarkdown(null);
-		return LeaseResponse.from(leaseRepository.save(lease));
+		Lease saved = leaseRepository.save(lease);
+		publishPortfolioChanged(saved);
+		return LeaseResponse.from(saved);
 	}
 
 	/** Terminate an active lease early. */
@@ -242,10 +314,92 @@ public class LeaseService {
 		Lease lease = getEntity(id);
 		stateMachine.terminate(lease);
 		LeaseResponse response = LeaseResponse.from(leaseRepository.save(lease));
-		publishPermissionsChangedForLeaseTenants(id);
+		publishPermissionsChangedForLeaseTenants(lease, false);
+		publishPortfolioChanged(lease);
 		return response;
 	}
 
+	// ───────────────────────── Bulk transitions ─────────────────────────
+
+	/**
+	 * Activates many reviewed leases of one property. The one-active-lease rule is
+	 * checked for every unit in a single query, the changes are flushed as JDBC
+	 * batches, and listeners get one lifecycle, permissions and portfolio event
+	 * for the batch instead of one per lease.
+	 */
+	@Transactional
+	public BatchResponse<LeaseResponse> activateAll(UUID propertyId, List<UUID> ids) {
+		Map<UUID, Lease> leases = loadForTransition(ids);
+		Set<UUID> occupiedUnits = new HashSet<>(leaseRepository.findUnitIdsWithStatus(
+				leases.values().stream().map(l -> l.getUnit().getId()).collect(Collectors.toSet()), LeaseStatus.ACTIVE));
+		return transitionAll(propertyId, ids, leases, lease -> {
+			if (occupiedUnits.contains(lease.getUnit().getId())) {
+				throw new IllegalStateException("Cannot activate: unit already has an active lease.");
+			}
+			stateMachine.activate(lease);
+			occupiedUnits.add(lease.getUnit().getId());
+		}, true, LeaseLifecycleEventType.ACTIVATED);
+	}
+
+	/** Terminates many active leases of one property; see {@link #activateAll}. */
+	@Transactional
+	public BatchResponse<LeaseResponse> terminateAll(UUID propertyId, List<UUID> ids) {
+		return transitionAll(propertyId, ids, loadForTransition(ids), stateMachine::terminate, false, null);
+	}
+
+	private Map<UUID, Lease> loadForTransition(List<UUID> ids) {
+		return leaseRepository.findAllWithUnitAndPropertyByIdIn(ids).stream()
+				.collect(Collectors.toMap(Lease::getId, l -> l));
+	}
+
+	/**
+	 * Applies {@code transition} to each lease, reporting guard failures per item.
+	 * {@code lifecycleType} is null for transitions that notify nobody.
+	 */
+	private BatchResponse<LeaseResponse> transitionAll(UUID propertyId, List<UUID> ids, Map<UUID, Lease> leases,
+			Consumer<Lease> transition, boolean tenancyActive, LeaseLifecycleEventType lifecycleType) {
+		BatchResponse.Builder<LeaseResponse> results = new BatchResponse.Builder<>(ids.size());
+		Map<Integer, Lease> changed = new LinkedHashMap<>();
+		Set<UUID> seen = new HashSet<>();
+		for (int i = 0; i < ids.size(); i++) {
+			UUID id = ids.get(i);
+			Lease lease = leases.get(id);
+			if (lease == null || !lease.getProperty().getId().equals(propertyId)) {
+				results.failed(i, id, "Lease " + id + " not found in property " + propertyId);
+			} else if (!seen.add(id)) {
+				results.failed(i, id, "Lease " + id + " appears more than once");
+			} else {
+				try {
+					transition.accept(lease);
+					changed.put(i, lease);
+				} catch (IllegalStateException e) {
+					results.failed(i, id, e.getMessage());
+				}
+			}
+		}
+		if (changed.isEmpty()) {
+			return results.build();
+		}
+		leaseRepository.flush();
+		changed.forEach((i, lease) -> results.ok(i, lease.getId(), LeaseResponse.from(lease)));
+
+		List<UUID> changedIds = changed.values().stream().map(Lease::getId).toList();
+		if (lifecycleType != null) {
+			eventPublisher.publishEvent(new LeaseLifecycleBatchEvent(changedIds, lifecycleType));
+		}
+		Set<UUID> userIds = new HashSet<>();
+		List<PermissionDelta> deltas = new ArrayList<>();
+		Map<UUID, Lease> byId = changed.values().stream().collect(Collectors.toMap(Lease::getId, l -> l));
+		for (LeaseTenant lt : leaseTenantRepository.findByLease_IdInWithTenantUser(changedIds)) {
+			addTenancyDelta(byId.get(lt.getLease().getId()), lt, tenancyActive, userIds, deltas);
+		}
+		if (!userIds.isEmpty()) {
+			eventPublisher.publishEvent(new PermissionsChangedEvent(userIds, deltas));
+		}
+		eventPublisher.publishEvent(new PortfolioChangedEvent(propertyId));
+		return results.build();
+	}
+
 	// ───────────────────────── Delete (DRAFT only) ─────────────────────────
 
 	@Transactional
@@ -254,19 +408,47 @@ public class LeaseService {
 		stateMachine.requireDraft(lease);
 		DeleteGuardUtil.requireNoChildren("Lease", id, leaseTenantRepository.countByLease_Id(id), "tenant assignment(s)", "Remove those first.");
 		leaseRepository.delete(lease);
+		publishPortfolioChanged(lease);
+		Organization org = lease.getProperty().getOrganization();
+		eventPublisher.publishEvent(new EntityDeletedEvent(SyncEntityType.LEASE, id,
+				org != null ? org.getId() : null, lease.getProperty().getId(), lease.getUnit().getId()));
 	}
 
 	// ───────────────────────── Helpers ─────────────────────────
 
-	private void publishPermissionsChangedForLeaseTenants(UUID leaseId) {
-		Set<UUID> userIds = leaseTenantRepository.findByLease_IdWithTenantUser(leaseId).stream()
-				.map(lt -> lt.getTenant().getUser().getId())
-				.collect(Collectors.toSet());
+	/**
+	 * Publishes one event carrying a tenancy grant (activation) or revocation
+	 * (termination) per linked tenant, so cached access is patched, not rebuilt.
+	 */
+	private void publishPermissionsChangedForLeaseTenants(Lease lease, boolean tenancyActive) {
+		Set<UUID> userIds = new HashSet<>();
+		List<PermissionDelta> deltas = new ArrayList<>();
+		for (LeaseTenant lt : leaseTenantRepository.findByLease_IdWithTenantUser(lease.getId())) {
+			addTenancyDelta(lease, lt, tenancyActive, userIds, deltas);
+		}
 		if (!userIds.isEmpty()) {
-			eventPublisher.publishEvent(new PermissionsChangedEvent(userIds));
+			eventPublisher.publishEvent(new PermissionsChangedEvent(userIds, deltas));
 		}
 	}
 
+	private static void addTenancyDelta(Lease lease, LeaseTenant lt, boolean tenancyActive,
+			Set<UUID> userIds, List<PermissionDelta> deltas) {
+		// Tenancies on props without an org are never hydrated, so there is nothing to grant
+		Organization org = lease.getUnit().getProp().getOrganization();
+		boolean grant = tenancyActive && org != null;
+		UUID userId = lt.getTenant().getUser().getId();
+		userIds.add(userId);
+		deltas.add(grant
+				? new PermissionDelta.GrantUpserted(userId,
+						AccessGrant.tenancy(lt.getId(), org.getId(), lease.getUnit().getId()))
+				: new PermissionDelta.GrantRevoked(userId,
+						new AccessGrant.Source(AccessGrant.Kind.TENANCY, lt.getId())));
+	}
+
+	private void publishPortfolioChanged(Lease lease) {
+		eventPublisher.publishEvent(new PortfolioChangedEvent(lease.getProperty().getId()));
+	}
+
 	private Lease getEntity(UUID id) {
 		return leaseRepository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Lease", id));
@@ -1,12 +1,14 @@
 package com.akandiah.propmanager.features.lease.service;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.akandiah.propmanager.common.domain.EntityStamp;
 import com.akandiah.propmanager.common.exception.ResourceNotFoundException;
 import com.akandiah.propmanager.common.util.DeleteGuardUtil;
 import com.akandiah.propmanager.common.util.OptimisticLockingUtil;
@@ -55,6 +57,15 @@ public class LeaseTemplateService {
 				.toList();
 	}
 
+	/**
+	 * Version stamp of a template in {@code orgId}. Empty when missing or in another
+	 * org; {@link #findById} then raises the matching error.
+	 */
+	@Transactional(readOnly = true)
+	public Optional<EntityStamp> findStamp(UUID id, UUID orgId) {
+		return repository.findStampByIdAndOrg_Id(id, orgId);
+	}
+
 	@Transactional(readOnly = true)
 	public LeaseTemplateResponse findById(UUID id, UUID orgId) {
 		LeaseTemplate template = repository.findById(id)
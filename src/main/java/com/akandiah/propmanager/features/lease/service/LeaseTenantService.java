@@ -15,6 +15,7 @@ import org.springframework.context.event.EventListener;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.akandiah.propmanager.common.permission.AccessGrant;
 import com.akandiah.propmanager.common.exception.ResourceNotFoundException;
 import com.akandiah.propmanager.features.auth.domain.PermissionsChangedEvent;
 import com.akandiah.propmanager.features.invite.api.dto.InviteResponse;
@@ -177,7 +178,8 @@ public class LeaseTenantService {
 		leaseTenantRepository.delete(leaseTenant);
 
 		if (tenantUserId != null) {
-			eventPublisher.publishEvent(new PermissionsChangedEvent(Set.of(tenantUserId)));
+			eventPublisher.publishEvent(PermissionsChangedEvent.grantRevoked(tenantUserId,
+					new AccessGrant.Source(AccessGrant.Kind.TENANCY, leaseTenantId)));
 		}
 		log.info("Removed LeaseTenant {} from lease {}", leaseTenantId, leaseId);
 	}
@@ -221,7 +223,14 @@ public class LeaseTenantService {
 		leaseTenant.setRole(LeaseTenantRole.valueOf(roleValue));
 		leaseTenantRepository.save(leaseTenant);
 
-		eventPublisher.publishEvent(new PermissionsChangedEvent(Set.of(claimedUser.getId())));
+		Lease lease = leaseTenant.getLease();
+		if (lease.getStatus() == LeaseStatus.ACTIVE || lease.getStatus() == LeaseStatus.REVIEW) {
+			eventPublisher.publishEvent(PermissionsChangedEvent.grantUpserted(claimedUser.getId(),
+					AccessGrant.tenancy(leaseTenant.getId(), lease.getUnit().getProp().getOrganization().getId(),
+							lease.getUnit().getId())));
+		} else {
+			eventPublisher.publishEvent(new PermissionsChangedEvent(Set.of(claimedUser.getId())));
+		}
 
 		log.info("Linked tenant {} to LeaseTenant {} via invite {}", tenant.getId(), leaseTenant.getId(),
 				invite.getId());
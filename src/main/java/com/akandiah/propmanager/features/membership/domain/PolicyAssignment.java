@@ -7,6 +7,7 @@ import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
 import com.akandiah.propmanager.common.domain.BaseEntity;
+import com.akandiah.propmanager.common.permission.AccessGrant;
 import com.akandiah.propmanager.common.permission.ResourceType;
 
 import jakarta.persistence.Column;
@@ -69,4 +70,14 @@ public class PolicyAssignment extends BaseEntity {
 	@JdbcTypeCode(SqlTypes.JSON)
 	@Column(name = "overrides")
 	private Map<String, String> overrides;
+
+	/**
+	 * The hydrated grant for this assignment, given the org of its membership.
+	 * Overrides win over the linked policy.
+	 */
+	public AccessGrant toAccessGrant(UUID orgId) {
+		return AccessGrant.assignment(getId(), orgId, resourceType, resourceId, overrides,
+				policy != null ? policy.getId() : null,
+				policy != null ? policy.getPermissions() : null);
+	}
 }
@@ -1,12 +1,11 @@
 package com.akandiah.propmanager.features.membership.service;
 
-import java.util.List;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import com.akandiah.propmanager.common.permission.AccessEntry;
+import com.akandiah.propmanager.common.permission.AccessIndex;
 import com.akandiah.propmanager.common.permission.Actions;
 import com.akandiah.propmanager.common.permission.PermissionDomains;
 import com.akandiah.propmanager.common.permission.ResourceType;
@@ -103,7 +102,7 @@ public class MembershipAuthorizationService {
 			if (!membershipRepository.findByIdAndOrganizationId(membershipId, orgId).isPresent()) {
 				return false;
 			}
-			List<AccessEntry> access = SecurityUtils.getAccessFromRequest();
+			AccessIndex access = SecurityUtils.getAccessFromRequest();
 			return authorizationService.allow(access, action, PermissionDomains.ORGANIZATION,
 					ResourceType.ORG, orgId, orgId);
 		} catch (Exception e) {
@@ -139,7 +138,7 @@ public class MembershipAuthorizationService {
 			return true;
 		}
 		UUID orgId = m.getOrganization().getId();
-		List<AccessEntry> access = SecurityUtils.getAccessFromRequest();
+		AccessIndex access = SecurityUtils.getAccessFromRequest();
 		return authorizationService.allow(access, action, PermissionDomains.ORGANIZATION,
 				ResourceType.ORG, orgId, orgId);
 	}
@@ -14,6 +14,7 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.akandiah.propmanager.common.exception.ResourceNotFoundException;
 import com.akandiah.propmanager.common.permission.Actions;
+import com.akandiah.propmanager.common.permission.PermissionSet;
 import com.akandiah.propmanager.common.permission.PermissionStringValidator;
 import com.akandiah.propmanager.common.permission.ResourceType;
 import com.akandiah.propmanager.common.util.DeleteGuardUtil;
@@ -23,7 +24,6 @@ import com.akandiah.propmanager.features.auth.domain.PermissionsChangedEvent;
 import com.akandiah.propmanager.features.membership.api.dto.CreatePermissionPolicyRequest;
 import com.akandiah.propmanager.features.membership.api.dto.PermissionPolicyResponse;
 import com.akandiah.propmanager.features.membership.api.dto.UpdatePermissionPolicyRequest;
-import com.akandiah.propmanager.features.membership.domain.Membership;
 import com.akandiah.propmanager.features.membership.domain.PermissionPolicy;
 import com.akandiah.propmanager.features.membership.domain.PermissionPolicyRepository;
 import com.akandiah.propmanager.features.membership.domain.PolicyAssignmentRepository;
@@ -115,7 +115,12 @@ public class PermissionPolicyService {
 		policy = repository.save(policy);
 
 		if (permissionsChanged) {
-			evictLinkedMemberships(id);
+			Set<UUID> userIds = linkedUserIds(id);
+			if (!userIds.isEmpty()) {
+				// Patch cached indexes in place rather than evicting every linked member
+				eventPublisher.publishEvent(PermissionsChangedEvent.policyChanged(
+						id, PermissionSet.fromLetters(policy.getPermissions()), userIds));
+			}
 		}
 
 		return PermissionPolicyResponse.from(policy);
@@ -172,17 +177,19 @@ public class PermissionPolicyService {
 	 * Evicts the permissions cache for all users whose assignments reference this policy.
 	 */
 	private void evictLinkedMemberships(UUID policyId) {
-		List<Membership> linked = assignmentRepository.findByPolicyId(policyId)
+		Set<UUID> userIds = linkedUserIds(policyId);
+		if (!userIds.isEmpty()) {
+			eventPublisher.publishEvent(new PermissionsChangedEvent(userIds));
+		}
+	}
+
+	/** Users whose assignments reference this policy. */
+	private Set<UUID> linkedUserIds(UUID policyId) {
+		return assignmentRepository.findByPolicyId(policyId)
 				.stream()
 				.map(a -> a.getMembership())
 				.filter(m -> m.getUser() != null)
-				.toList();
-		if (linked.isEmpty()) {
-			return;
-		}
-		Set<UUID> userIds = linked.stream()
 				.map(m -> m.getUser().getId())
 				.collect(Collectors.toSet());
-		eventPublisher.publishEvent(new PermissionsChangedEvent(userIds));
 	}
 }
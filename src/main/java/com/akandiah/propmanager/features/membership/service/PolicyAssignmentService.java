@@ -1,7 +1,6 @@
 package com.akandiah.propmanager.features.membership.service;
 
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 
 import org.springframework.context.ApplicationEventPublisher;
@@ -9,6 +8,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.akandiah.propmanager.common.exception.ResourceNotFoundException;
+import com.akandiah.propmanager.common.permission.AccessGrant;
 import com.akandiah.propmanager.common.permission.PermissionStringValidator;
 import com.akandiah.propmanager.common.permission.ResourceType;
 import com.akandiah.propmanager.common.util.OptimisticLockingUtil;
@@ -57,11 +57,12 @@ public class PolicyAssignmentService {
 	public PolicyAssignmentResponse create(UUID membershipId, CreatePolicyAssignmentRequest request) {
 		Membership membership = membershipRepository.findById(membershipId)
 				.orElseThrow(() -> new ResourceNotFoundException("Membership", membershipId));
-		PolicyAssignmentResponse response = doCreate(membership, request);
+		PolicyAssignment assignment = doCreate(membership, request);
 		if (membership.getUser() != null) {
-			eventPublisher.publishEvent(new PermissionsChangedEvent(Set.of(membership.getUser().getId())));
+			eventPublisher.publishEvent(PermissionsChangedEvent.grantUpserted(membership.getUser().getId(),
+					assignment.toAccessGrant(membership.getOrganization().getId())));
 		}
-		return response;
+		return PolicyAssignmentResponse.from(assignment);
 	}
 
 	/**
@@ -72,10 +73,10 @@ public class PolicyAssignmentService {
 	PolicyAssignmentResponse createWithoutEvent(UUID membershipId, CreatePolicyAssignmentRequest request) {
 		Membership membership = membershipRepository.findById(membershipId)
 				.orElseThrow(() -> new ResourceNotFoundException("Membership", membershipId));
-		return doCreate(membership, request);
+		return PolicyAssignmentResponse.from(doCreate(membership, request));
 	}
 
-	private PolicyAssignmentResponse doCreate(Membership membership, CreatePolicyAssignmentRequest request) {
+	private PolicyAssignment doCreate(Membership membership, CreatePolicyAssignmentRequest request) {
 		UUID orgId = membership.getOrganization().getId();
 		validateResourceBelongsToOrg(request.resourceType(), request.resourceId(), orgId);
 
@@ -98,8 +99,7 @@ public class PolicyAssignmentService {
 				.policy(policy)
 				.overrides(request.overrides())
 				.build();
-		assignment = assignmentRepository.save(assignment);
-		return PolicyAssignmentResponse.from(assignment);
+		return assignmentRepository.save(assignment);
 	}
 
 	@Transactional
@@ -125,9 +125,10 @@ public class PolicyAssignmentService {
 		assignment.setOverrides(request.overrides());
 
 		assignment = assignmentRepository.save(assignment);
-		if (assignment.getMembership().getUser() != null) {
-			eventPublisher.publishEvent(
-					new PermissionsChangedEvent(Set.of(assignment.getMembership().getUser().getId())));
+		Membership membership = assignment.getMembership();
+		if (membership.getUser() != null) {
+			eventPublisher.publishEvent(PermissionsChangedEvent.grantUpserted(membership.getUser().getId(),
+					assignment.toAccessGrant(membership.getOrganization().getId())));
 		}
 		return PolicyAssignmentResponse.from(assignment, membershipId);
 	}
@@ -141,7 +142,8 @@ public class PolicyAssignmentService {
 				: null;
 		assignmentRepository.deleteById(assignmentId);
 		if (userId != null) {
-			eventPublisher.publishEvent(new PermissionsChangedEvent(Set.of(userId)));
+			eventPublisher.publishEvent(PermissionsChangedEvent.grantRevoked(userId,
+					new AccessGrant.Source(AccessGrant.Kind.ASSIGNMENT, assignmentId)));
 		}
 	}
 
@@ -92,6 +92,16 @@ public class NotificationDelivery {
 	@Column(name = "viewed_at")
 	private Instant viewedAt;
 
+	/**
+	 * When the outbox relay should next pick this row up: the recovery deadline
+	 * for PENDING, the backoff-with-jitter retry time for FAILED, the claim
+	 * expiry for IN_FLIGHT. Null once SENT or CANCELLED, or when retries are
+	 * exhausted.
+	 */
+	@Setter
+	@Column(name = "next_attempt_at")
+	private Instant nextAttemptAt;
+
 	@Column(name = "created_at", nullable = false, updatable = false)
 	private Instant createdAt;
 
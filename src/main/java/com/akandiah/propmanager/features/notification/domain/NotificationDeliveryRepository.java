@@ -2,15 +2,24 @@ package com.akandiah.propmanager.features.notification.domain;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.hibernate.Timeouts;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import com.akandiah.propmanager.common.notification.NotificationReferenceType;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 public interface NotificationDeliveryRepository extends JpaRepository<NotificationDelivery, UUID> {
 
 	List<NotificationDelivery> findByUserIdOrderByCreatedAtDesc(UUID userId);
@@ -18,7 +27,7 @@ public interface NotificationDeliveryRepository extends JpaRepository<Notificati
 	/**
 	 * Finds the most recent delivery for a given reference (e.g. the latest email attempt for an Invite).
 	 */
-	java.util.Optional<NotificationDelivery> findTopByReferenceTypeAndReferenceIdOrderByCreatedAtDesc(
+	Optional<NotificationDelivery> findTopByReferenceTypeAndReferenceIdOrderByCreatedAtDesc(
 			NotificationReferenceType referenceType, UUID referenceId);
 
 	/**
@@ -39,39 +48,56 @@ public interface NotificationDeliveryRepository extends JpaRepository<Notificati
 			@Param("referenceType") NotificationReferenceType referenceType,
 			@Param("referenceIds") java.util.Collection<UUID> referenceIds);
 
+	/**
+	 * Locks up to {@code limit} deliveries the outbox relay should (re)send,
+	 * earliest due first: FAILED rows whose backoff has elapsed, PENDING rows
+	 * whose async send was lost (e.g. JVM crash), and IN_FLIGHT rows whose claim
+	 * expired because the claiming node died mid-send. Served by
+	 * {@code idx_notification_deliveries_next_attempt}. Rows locked by another
+	 * node's claim are skipped ({@code FOR UPDATE SKIP LOCKED}) rather than
+	 * waited on, so several nodes can drain the backlog in parallel.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = SpecHints.HINT_SPEC_LOCK_TIMEOUT, value = "" + Timeouts.SKIP_LOCKED_MILLI))
 	@Query("""
 			SELECT d FROM NotificationDelivery d
-			WHERE d.status = 'FAILED'
-			AND d.retryCount < :maxRetries
-			AND d.updatedAt < :retryBefore
-			ORDER BY d.updatedAt ASC
+			WHERE d.status IN ('PENDING', 'FAILED', 'IN_FLIGHT')
+			AND d.nextAttemptAt <= :now
+			ORDER BY d.nextAttemptAt ASC
 			""")
-	List<NotificationDelivery> findRetryableFailedDeliveries(
-			@Param("maxRetries") int maxRetries,
-			@Param("retryBefore") Instant retryBefore);
+	List<NotificationDelivery> findDue(@Param("now") Instant now, Limit limit);
+
+	/** Earliest {@code nextAttemptAt} over rows the relay may claim, so it can sleep until then. */
+	@Query("""
+			SELECT MIN(d.nextAttemptAt) FROM NotificationDelivery d
+			WHERE d.status IN ('PENDING', 'FAILED', 'IN_FLIGHT')
+			""")
+	Optional<Instant> findEarliestNextAttemptAt();
 
 	/**
-	 * Finds PENDING deliveries that have been stuck longer than the given threshold.
-	 * Used by the retry scheduler to recover deliveries whose async send was lost (e.g. JVM crash).
+	 * Makes a PENDING delivery due immediately, so the relay sends it on its next
+	 * run instead of waiting for the recovery deadline.
 	 */
+	@Modifying
 	@Query("""
-			SELECT d FROM NotificationDelivery d
-			WHERE d.status = 'PENDING'
-			AND d.createdAt < :stuckBefore
-			ORDER BY d.createdAt ASC
+			UPDATE NotificationDelivery d
+			SET d.nextAttemptAt = :now
+			WHERE d.id = :id
+			AND d.status = 'PENDING'
 			""")
-	List<NotificationDelivery> findStuckPendingDeliveries(@Param("stuckBefore") Instant stuckBefore);
+	int makeDue(@Param("id") UUID id, @Param("now") Instant now);
 
 	/**
-	 * Bulk-cancels PENDING and FAILED deliveries for a given reference (e.g. before a resend).
+	 * Bulk-cancels PENDING, FAILED and IN_FLIGHT deliveries for a given reference (e.g. before a resend).
+	 * A relay node holding an IN_FLIGHT claim skips the send once it sees the cancellation.
 	 */
 	@Modifying
 	@Query("""
 			UPDATE NotificationDelivery d
-			SET d.status = 'CANCELLED'
+			SET d.status = 'CANCELLED', d.nextAttemptAt = NULL
 			WHERE d.referenceType = :referenceType
 			AND d.referenceId = :referenceId
-			AND d.status IN ('PENDING', 'FAILED')
+			AND d.status IN ('PENDING', 'FAILED', 'IN_FLIGHT')
 			""")
 	int cancelActiveDeliveriesForReference(
 			@Param("referenceType") NotificationReferenceType referenceType,
@@ -2,6 +2,8 @@ package com.akandiah.propmanager.features.notification.domain;
 
 public enum NotificationDeliveryStatus {
 	PENDING,
+	/** Claimed by an outbox relay node until {@code nextAttemptAt}; reclaimable after that. */
+	IN_FLIGHT,
 	SENT,
 	FAILED,
 	CANCELLED
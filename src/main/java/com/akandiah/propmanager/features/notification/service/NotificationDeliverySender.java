@@ -1,28 +1,66 @@
 package com.akandiah.propmanager.features.notification.service;
 
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
-import org.springframework.scheduling.annotation.Async;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 
 /**
- * Thin async delegate for sending a notification delivery.
+ * Hands a committed PENDING delivery to the {@code notificationExecutor} for
+ * an immediate send.
  *
- * <p>Spring's proxy-based {@code @Async} requires the call to cross a bean boundary,
- * so this cannot live on {@link NotificationDeliveryService} itself.
- * The outbox pattern guarantees a PENDING row exists before this is called,
- * so a dropped task (queue overflow, JVM crash) is safely recovered by the scheduler.
+ * <p>If the executor is saturated (e.g. a burst of lease-expiry emails), the
+ * task is not dropped: the row is made due now and the outbox relay is woken,
+ * so it is claimed and sent within seconds. The same applies when the task
+ * runs but every SMTP connection stays busy. A JVM crash before the send is
+ * still recovered by the relay once the row's recovery deadline passes.
  */
 @Component
-@RequiredArgsConstructor
+@Slf4j
 public class NotificationDeliverySender {
 
 	private final NotificationDeliveryService deliveryService;
+	private final NotificationOutboxRelay relay;
+	private final Executor executor;
+
+	public NotificationDeliverySender(NotificationDeliveryService deliveryService, NotificationOutboxRelay relay,
+			@Qualifier("notificationExecutor") Executor executor) {
+		this.deliveryService = deliveryService;
+		this.relay = relay;
+		this.executor = executor;
+	}
 
-	@Async("notificationExecutor")
 	public void sendAsync(UUID deliveryId) {
-		deliveryService.sendDelivery(deliveryId);
+		try {
+			executor.execute(() -> send(deliveryId));
+		} catch (RejectedExecutionException e) {
+			log.debug("Notification executor saturated; handing delivery {} to the relay", deliveryId);
+			handOff(deliveryId);
+		}
+	}
+
+	private void send(UUID deliveryId) {
+		try {
+			if (!deliveryService.sendDelivery(deliveryId)) {
+				// No SMTP connection freed up; the row is already due for the relay
+				relay.wakeUp();
+			}
+		} catch (Exception e) {
+			log.error("Async send failed for delivery id={}: {}", deliveryId, e.getMessage(), e);
+		}
+	}
+
+	private void handOff(UUID deliveryId) {
+		try {
+			deliveryService.releaseToRelay(deliveryId);
+			relay.wakeUp();
+		} catch (Exception e) {
+			// The row keeps its recovery deadline, so the relay still picks it up later
+			log.warn("Could not hand delivery {} to the relay: {}", deliveryId, e.getMessage());
+		}
 	}
 }
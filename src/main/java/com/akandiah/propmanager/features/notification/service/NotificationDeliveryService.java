@@ -1,10 +1,14 @@
 package com.akandiah.propmanager.features.notification.service;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
@@ -14,6 +18,9 @@ import com.akandiah.propmanager.common.notification.NotificationChannel;
 import com.akandiah.propmanager.common.notification.NotificationReferenceType;
 import com.akandiah.propmanager.common.notification.NotificationService;
 import com.akandiah.propmanager.common.notification.NotificationType;
+import com.akandiah.propmanager.common.notification.SmtpPoolExhaustedException;
+import com.akandiah.propmanager.config.InviteProperties;
+import com.akandiah.propmanager.config.NotificationRelayProperties;
 import com.akandiah.propmanager.features.notification.api.dto.NotificationDeliveryResponse;
 import com.akandiah.propmanager.features.notification.domain.NotificationDelivery;
 import com.akandiah.propmanager.features.notification.domain.NotificationDeliveryRepository;
@@ -36,6 +43,8 @@ public class NotificationDeliveryService {
 	private final NotificationDeliveryRepository deliveryRepository;
 	private final UserNotificationPreferenceRepository preferenceRepository;
 	private final NotificationService notificationService;
+	private final InviteProperties inviteProperties;
+	private final NotificationRelayProperties relayProperties;
 
 	/**
 	 * Returns all deliveries for a user, newest first.
@@ -83,6 +92,8 @@ public class NotificationDeliveryService {
 				.referenceType(referenceType)
 				.templateContext(templateContext)
 				.status(NotificationDeliveryStatus.PENDING)
+				// Recovery deadline in case the immediate async send is lost
+				.nextAttemptAt(Instant.now().plus(Duration.ofMinutes(inviteProperties.emailRetryIntervalMinutes())))
 				.build();
 
 		delivery = deliveryRepository.save(delivery);
@@ -93,9 +104,12 @@ public class NotificationDeliveryService {
 	 * Sends a PENDING or FAILED delivery by ID.
 	 * Loads the delivery, attempts to send, and persists the resulting status.
 	 * Runs in REQUIRES_NEW so send failures are isolated per delivery.
+	 *
+	 * @return false if no SMTP connection was free and the delivery was left
+	 *         PENDING and due now for the outbox relay; true otherwise
 	 */
 	@Transactional(propagation = Propagation.REQUIRES_NEW)
-	public void sendDelivery(UUID deliveryId) {
+	public boolean sendDelivery(UUID deliveryId) {
 		NotificationDelivery delivery = deliveryRepository.findById(deliveryId)
 				.orElseThrow(() -> new ResourceNotFoundException("NotificationDelivery", deliveryId));
 
@@ -103,6 +117,77 @@ public class NotificationDeliveryService {
 				&& delivery.getStatus() != NotificationDeliveryStatus.FAILED) {
 			log.warn("Send skipped: delivery {} is not in PENDING or FAILED state (status={})",
 					deliveryId, delivery.getStatus());
+			return true;
+		}
+
+		boolean attempted = attemptSend(delivery, delivery.getTemplateContext());
+		deliveryRepository.save(delivery);
+		return attempted;
+	}
+
+	/**
+	 * A delivery claimed by {@link #claimForRelay}. {@code expiresAt} is the
+	 * {@code nextAttemptAt} written by the claim and identifies it: once the row
+	 * is reclaimed it carries a different value.
+	 */
+	public record Claim(UUID deliveryId, Instant expiresAt) {
+	}
+
+	/**
+	 * Claims up to {@code limit} due deliveries for the outbox relay, marking
+	 * them IN_FLIGHT with {@code nextAttemptAt} pushed out to the claim expiry.
+	 * Rows claimed by other nodes are skipped, and the claim is committed before
+	 * returning so the row locks are held only for this short transaction, not
+	 * for the sends.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public List<Claim> claimForRelay(int limit) {
+		Instant now = Instant.now();
+		// Truncated to the column's precision so the stored value compares equal in sendClaimed
+		Instant expiresAt = now.plus(relayProperties.claimTimeout()).truncatedTo(ChronoUnit.MICROS);
+		List<NotificationDelivery> claimed = deliveryRepository.findDue(now, Limit.of(limit));
+		for (NotificationDelivery delivery : claimed) {
+			delivery.setStatus(NotificationDeliveryStatus.IN_FLIGHT);
+			delivery.setNextAttemptAt(expiresAt);
+		}
+		return claimed.stream().map(delivery -> new Claim(delivery.getId(), expiresAt)).toList();
+	}
+
+	/**
+	 * Hands a PENDING delivery whose immediate send could not be scheduled to
+	 * the outbox relay by making it due now.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void releaseToRelay(UUID deliveryId) {
+		deliveryRepository.makeDue(deliveryId, Instant.now());
+	}
+
+	/** Earliest time any delivery becomes due for the relay, if one is pending a retry. */
+	@Transactional(readOnly = true)
+	public Optional<Instant> findNextDueAt() {
+		return deliveryRepository.findEarliestNextAttemptAt();
+	}
+
+	/**
+	 * Sends a delivery previously claimed by {@link #claimForRelay}. A delivery
+	 * no longer IN_FLIGHT (e.g. cancelled after the claim) is left alone, as is
+	 * one whose claim has expired or been replaced by a later claim: a relay run
+	 * that gave up waiting on this send may already have handed the row to
+	 * another sender.
+	 */
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	public void sendClaimed(Claim claim) {
+		UUID deliveryId = claim.deliveryId();
+		NotificationDelivery delivery = deliveryRepository.findById(deliveryId)
+				.orElseThrow(() -> new ResourceNotFoundException("NotificationDelivery", deliveryId));
+
+		if (delivery.getStatus() != NotificationDeliveryStatus.IN_FLIGHT) {
+			log.warn("Send skipped: delivery {} is no longer IN_FLIGHT (status={})", deliveryId, delivery.getStatus());
+			return;
+		}
+		if (!claim.expiresAt().equals(delivery.getNextAttemptAt()) || !claim.expiresAt().isAfter(Instant.now())) {
+			log.warn("Send skipped: claim on delivery {} expired or was superseded (claim={}, current={})",
+					deliveryId, claim.expiresAt(), delivery.getNextAttemptAt());
 			return;
 		}
 
@@ -146,20 +231,43 @@ public class NotificationDeliveryService {
 		sendDelivery(deliveryId);
 	}
 
-	private void attemptSend(NotificationDelivery delivery, Map<String, Object> context) {
+	/**
+	 * On failure, schedules the next relay attempt with exponential backoff and
+	 * jitter, or clears it once {@code app.invite.max-email-retries} is reached.
+	 * If every SMTP connection stayed busy, nothing was attempted: the delivery
+	 * goes back to PENDING, due now, without counting a retry.
+	 *
+	 * @return false if the send was deferred for lack of an SMTP connection
+	 */
+	private boolean attemptSend(NotificationDelivery delivery, Map<String, Object> context) {
 		try {
 			notificationService.send(delivery.getRecipientAddress(), delivery.getNotificationType().getTemplate(),
 					context);
 			delivery.setStatus(NotificationDeliveryStatus.SENT);
 			delivery.setSentAt(Instant.now());
 			delivery.setErrorMessage(null);
+			delivery.setNextAttemptAt(null);
 			log.info("Notification sent: type={}, to={}", delivery.getNotificationType(), delivery.getRecipientAddress());
+		} catch (SmtpPoolExhaustedException e) {
+			log.info("Notification deferred to relay: type={}, to={}: {}",
+					delivery.getNotificationType(), delivery.getRecipientAddress(), e.getMessage());
+			delivery.setStatus(NotificationDeliveryStatus.PENDING);
+			delivery.setNextAttemptAt(Instant.now());
+			return false;
 		} catch (Exception e) {
 			log.warn("Notification failed: type={}, to={}, attempt={}",
 					delivery.getNotificationType(), delivery.getRecipientAddress(), delivery.getRetryCount() + 1, e);
 			delivery.setRetryCount(delivery.getRetryCount() + 1);
 			delivery.setStatus(NotificationDeliveryStatus.FAILED);
 			delivery.setErrorMessage(e.getMessage() != null ? e.getMessage().substring(0, Math.min(e.getMessage().length(), 500)) : "Unknown error");
+			delivery.setNextAttemptAt(delivery.getRetryCount() < inviteProperties.maxEmailRetries()
+					? Instant.now().plus(backoff().delay(delivery.getRetryCount()))
+					: null);
 		}
+		return true;
+	}
+
+	private RetryBackoff backoff() {
+		return new RetryBackoff(relayProperties.backoffBase(), relayProperties.backoffMax());
 	}
 }
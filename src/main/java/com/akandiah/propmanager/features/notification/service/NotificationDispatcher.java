@@ -6,6 +6,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionPhase;
@@ -19,7 +20,9 @@ import com.akandiah.propmanager.features.invite.domain.Invite;
 import com.akandiah.propmanager.features.invite.domain.InviteEmailRequestedEvent;
 import com.akandiah.propmanager.features.invite.domain.InviteRepository;
 import com.akandiah.propmanager.features.lease.domain.Lease;
+import com.akandiah.propmanager.features.lease.domain.LeaseLifecycleBatchEvent;
 import com.akandiah.propmanager.features.lease.domain.LeaseLifecycleEvent;
+import com.akandiah.propmanager.features.lease.domain.LeaseLifecycleEventType;
 import com.akandiah.propmanager.features.lease.domain.LeaseTenant;
 import com.akandiah.propmanager.features.lease.domain.LeaseTenantRepository;
 import com.akandiah.propmanager.features.lease.domain.LeaseRepository;
@@ -111,7 +114,25 @@ public class NotificationDispatcher {
 			return;
 		}
 
-		NotificationType type = switch (event.type()) {
+		dispatchLeaseLifecycle(lease, leaseTenantRepository.findByLease_IdWithTenantUser(event.leaseId()), event.type());
+	}
+
+	/**
+	 * Bulk transitions publish one event for the whole batch; leases and tenants
+	 * are loaded in one query each instead of two per lease.
+	 */
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onLeaseLifecycleBatch(LeaseLifecycleBatchEvent event) {
+		Map<UUID, List<LeaseTenant>> tenantsByLease = leaseTenantRepository
+				.findByLease_IdInWithTenantUser(event.leaseIds()).stream()
+				.collect(Collectors.groupingBy(lt -> lt.getLease().getId()));
+		for (Lease lease : leaseRepository.findAllWithUnitAndPropertyByIdIn(event.leaseIds())) {
+			dispatchLeaseLifecycle(lease, tenantsByLease.getOrDefault(lease.getId(), List.of()), event.type());
+		}
+	}
+
+	private void dispatchLeaseLifecycle(Lease lease, List<LeaseTenant> tenants, LeaseLifecycleEventType eventType) {
+		NotificationType type = switch (eventType) {
 			case SUBMITTED_FOR_REVIEW -> NotificationType.LEASE_SUBMITTED_FOR_REVIEW;
 			case ACTIVATED -> NotificationType.LEASE_ACTIVATED;
 			case EXPIRING_SOON -> NotificationType.LEASE_EXPIRING_SOON;
@@ -122,11 +143,10 @@ public class NotificationDispatcher {
 				"unitNumber", lease.getUnit().getUnitNumber(),
 				"startDate", lease.getStartDate(),
 				"endDate", lease.getEndDate(),
-				"eventType", event.type().name());
+				"eventType", eventType.name());
 
-		List<LeaseTenant> tenants = leaseTenantRepository.findByLease_IdWithTenantUser(event.leaseId());
 		if (tenants.isEmpty()) {
-			log.info("No accepted tenants for lease={}, skipping lifecycle notification type={}", event.leaseId(),
+			log.info("No accepted tenants for lease={}, skipping lifecycle notification type={}", lease.getId(),
 					type);
 			return;
 		}
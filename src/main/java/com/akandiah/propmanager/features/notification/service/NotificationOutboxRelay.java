@@ -0,0 +1,206 @@
+package com.akandiah.propmanager.features.notification.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Component;
+
+import com.akandiah.propmanager.config.NotificationRelayProperties;
+import com.akandiah.propmanager.features.notification.service.NotificationDeliveryService.Claim;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Outbox relay for notification deliveries that need recovery.
+ *
+ * <p>
+ * Each run claims deliveries in batches with {@code FOR UPDATE SKIP LOCKED}
+ * (see {@link NotificationDeliveryService#claimForRelay}) and sends each batch
+ * concurrently on the {@code notificationExecutor}, claiming again while
+ * batches come back full. Three cases are claimed:
+ * <ol>
+ * <li>FAILED deliveries whose exponential backoff (with jitter) has
+ * elapsed.</li>
+ * <li>Stuck PENDING deliveries — rows written by the outbox step whose async
+ * send was never executed (JVM crash), or that
+ * {@link NotificationDeliverySender} handed off because the executor was full.</li>
+ * <li>IN_FLIGHT deliveries whose claim expired because the claiming node died
+ * or its send task was dropped.</li>
+ * </ol>
+ *
+ * <p>
+ * A claimed row is IN_FLIGHT and invisible to other nodes until its claim
+ * expires, so several instances drain a backlog in parallel without sending
+ * the same delivery twice. A send that starts after its claim expired or was
+ * reclaimed is skipped. Failures in one delivery do not abort the rest.
+ *
+ * <p>
+ * Instead of polling on a fixed interval, each run schedules the next one for
+ * the earliest {@code nextAttemptAt} still outstanding, capped at
+ * {@code app.notification.relay.max-idle} so rows that become due while it
+ * sleeps are noticed reasonably soon. {@link #wakeUp()} pulls the next run
+ * forward; at most one run is pending at a time.
+ *
+ * <p>
+ * The retry cap is {@code app.invite.max-email-retries}; backoff and batching
+ * are controlled by {@code app.notification.relay.*}.
+ */
+@Component
+@Slf4j
+public class NotificationOutboxRelay {
+
+	/** Lower bound between runs, so rows that stay due (e.g. a stalled batch) cannot spin the relay. */
+	static final Duration MIN_IDLE = Duration.ofSeconds(1);
+
+	private final NotificationDeliveryService deliveryService;
+	private final NotificationRelayProperties relayProperties;
+	private final Executor executor;
+	private final TaskScheduler taskScheduler;
+
+	/** Next scheduled run, or null while a run is in progress. Guarded by {@code this}. */
+	private ScheduledFuture<?> next;
+	private Instant nextAt;
+	private boolean running;
+	private boolean wakeRequested;
+
+	public NotificationOutboxRelay(NotificationDeliveryService deliveryService,
+			NotificationRelayProperties relayProperties, @Qualifier("notificationExecutor") Executor executor,
+			TaskScheduler taskScheduler) {
+		this.deliveryService = deliveryService;
+		this.relayProperties = relayProperties;
+		this.executor = executor;
+		this.taskScheduler = taskScheduler;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		wakeUp();
+	}
+
+	/**
+	 * Runs the relay as soon as possible. A wake-up during a run makes the next
+	 * run start immediately after it, rather than overlapping it.
+	 */
+	public synchronized void wakeUp() {
+		if (running) {
+			wakeRequested = true;
+		} else {
+			scheduleAt(Instant.now());
+		}
+	}
+
+	void runAndReschedule() {
+		synchronized (this) {
+			next = null;
+			running = true;
+			wakeRequested = false;
+		}
+		try {
+			relay();
+		} catch (Exception e) {
+			log.error("Notification relay run failed", e);
+		} finally {
+			Instant wakeAt = nextWakeUp(Instant.now());
+			synchronized (this) {
+				running = false;
+				scheduleAt(wakeRequested ? Instant.now() : wakeAt);
+			}
+		}
+	}
+
+	/** Schedules a run at {@code at} unless one is already pending no later than that. */
+	private void scheduleAt(Instant at) {
+		if (next != null && (!nextAt.isAfter(at) || !next.cancel(false))) {
+			return;
+		}
+		next = taskScheduler.schedule(this::runAndReschedule, at);
+		nextAt = at;
+	}
+
+	/** Earliest due row, clamped to {@code [now + MIN_IDLE, now + maxIdle]}. */
+	Instant nextWakeUp(Instant now) {
+		Instant earliest = now.plus(MIN_IDLE);
+		Instant latest = now.plus(relayProperties.maxIdle());
+		Instant due;
+		try {
+			due = deliveryService.findNextDueAt().orElse(latest);
+		} catch (Exception e) {
+			log.warn("Could not look up next due notification delivery: {}", e.getMessage());
+			due = latest;
+		}
+		return due.isBefore(earliest) ? earliest : due.isAfter(latest) ? latest : due;
+	}
+
+	public void relay() {
+		int total = 0;
+		List<Claim> claimed;
+		do {
+			claimed = deliveryService.claimForRelay(relayProperties.batchSize());
+			total += claimed.size();
+			if (!claimed.isEmpty() && !dispatch(claimed)) {
+				break;
+			}
+		} while (claimed.size() == relayProperties.batchSize());
+
+		if (total > 0) {
+			log.info("Relayed {} notification delivery(ies)", total);
+		}
+	}
+
+	/**
+	 * Sends one claimed batch concurrently and waits for it, up to the claim
+	 * timeout. Returns false if the batch did not finish (a task was dropped by
+	 * the executor or sends are hanging); its rows are reclaimed once their claim
+	 * expires, so the run stops rather than piling more work onto the executor.
+	 */
+	private boolean dispatch(List<Claim> claims) {
+		CompletableFuture<?>[] sends = claims.stream()
+				.map(this::submit)
+				.toArray(CompletableFuture[]::new);
+		try {
+			CompletableFuture.allOf(sends).get(relayProperties.claimTimeout().toMillis(), TimeUnit.MILLISECONDS);
+			return true;
+		} catch (TimeoutException e) {
+			log.warn("Relay batch of {} did not finish within {}; remaining rows will be reclaimed",
+					claims.size(), relayProperties.claimTimeout());
+			return false;
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			return false;
+		} catch (ExecutionException e) {
+			// send() handles its own failures; anything here is unexpected but per-row
+			log.error("Relay batch completed with an error", e.getCause());
+			return true;
+		}
+	}
+
+	/** Sends on the executor, or on the relay thread itself if the executor is saturated. */
+	private CompletableFuture<Void> submit(Claim claim) {
+		try {
+			return CompletableFuture.runAsync(() -> send(claim), executor);
+		} catch (RejectedExecutionException e) {
+			send(claim);
+			return CompletableFuture.completedFuture(null);
+		}
+	}
+
+	private void send(Claim claim) {
+		try {
+			deliveryService.sendClaimed(claim);
+		} catch (Exception e) {
+			log.error("Relay failed for delivery id={}: {}", claim.deliveryId(), e.getMessage(), e);
+		}
+	}
+}
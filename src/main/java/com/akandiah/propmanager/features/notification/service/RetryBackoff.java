@@ -0,0 +1,31 @@
+package com.akandiah.propmanager.features.notification.service;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with "equal jitter": the n-th retry waits a random time
+ * in {@code [cap/2, cap]} where {@code cap = min(max, base * 2^(n-1))}. The
+ * fixed half keeps retries from collapsing to zero; the random half spreads
+ * deliveries that failed together (e.g. during an SMTP outage) so they do not
+ * come back as one synchronized wave.
+ */
+record RetryBackoff(Duration base, Duration max) {
+
+	/** Delay before retry {@code attempt} (1-based, i.e. the retry count after the failure). */
+	Duration delay(int attempt) {
+		return delay(attempt, ThreadLocalRandom.current().nextDouble());
+	}
+
+	/** Same as {@link #delay(int)} with the random draw in {@code [0, 1)} supplied. */
+	Duration delay(int attempt, double random) {
+		long capMillis = max.toMillis();
+		int shift = Math.max(0, attempt - 1);
+		// Stop doubling before overflow; anything past max is clamped anyway
+		if (shift < 62 && base.toMillis() <= capMillis >> shift) {
+			capMillis = base.toMillis() << shift;
+		}
+		long half = capMillis / 2;
+		return Duration.ofMillis(half + (long) ((capMillis - half) * random));
+	}
+}
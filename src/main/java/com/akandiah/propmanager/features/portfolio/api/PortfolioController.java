@@ -0,0 +1,47 @@
+package com.akandiah.propmanager.features.portfolio.api;
+
+import java.util.UUID;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.akandiah.propmanager.features.portfolio.api.dto.PortfolioSummaryResponse;
+import com.akandiah.propmanager.features.portfolio.service.PortfolioStatsService;
+import com.akandiah.propmanager.security.annotations.PreAuthorizePropAccess;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/portfolio")
+@RequiredArgsConstructor
+@Tag(name = "Portfolio", description = "Occupancy, rent roll and lease-expiry dashboard figures")
+public class PortfolioController {
+
+	private final PortfolioStatsService statsService;
+
+	@GetMapping("/summary")
+	@PreAuthorize("@permissionGuard.hasAccess('READ', 'PORTFOLIO', 'ORG', #orgId, #orgId)")
+	@Operation(summary = "Portfolio summary for an organization",
+			description = "Unit counts by status, lease counts by status, active rent roll and leases ending within expiringWithinDays.")
+	public PortfolioSummaryResponse organizationSummary(
+			@RequestParam UUID orgId,
+			@RequestParam(defaultValue = "" + PortfolioStatsService.DEFAULT_EXPIRING_WITHIN_DAYS) int expiringWithinDays) {
+		return statsService.summarizeOrganization(orgId, expiringWithinDays);
+	}
+
+	@GetMapping("/summary/props/{id}")
+	@PreAuthorizePropAccess("READ")
+	@Operation(summary = "Portfolio summary for a single prop")
+	public PortfolioSummaryResponse propertySummary(
+			@PathVariable UUID id,
+			@RequestParam UUID orgId,
+			@RequestParam(defaultValue = "" + PortfolioStatsService.DEFAULT_EXPIRING_WITHIN_DAYS) int expiringWithinDays) {
+		return statsService.summarizeProperty(id, expiringWithinDays);
+	}
+}
@@ -0,0 +1,73 @@
+package com.akandiah.propmanager.features.portfolio.api.dto;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.akandiah.propmanager.features.lease.domain.LeaseStatus;
+import com.akandiah.propmanager.features.portfolio.domain.PortfolioStats;
+import com.akandiah.propmanager.features.unit.domain.UnitStatus;
+
+/**
+ * Dashboard figures for an organization ({@code propertyId} null) or a single
+ * property. Every status is present in the maps, with zero when there are
+ * none. {@code occupancyRate} counts OCCUPIED and NOTICE_GIVEN units as
+ * occupied. The rent figures cover ACTIVE leases only (the rent roll).
+ * {@code statsUpdatedAt} is the most recent refresh among the summed rows.
+ */
+public record PortfolioSummaryResponse(
+		UUID organizationId,
+		UUID propertyId,
+		int propertyCount,
+		long unitCount,
+		Map<UnitStatus, Long> unitsByStatus,
+		BigDecimal occupancyRate,
+		Map<LeaseStatus, Long> leasesByStatus,
+		BigDecimal activeRentTotal,
+		BigDecimal averageActiveRent,
+		int expiringWithinDays,
+		long expiringLeaseCount,
+		Instant statsUpdatedAt) {
+
+	public static PortfolioSummaryResponse from(UUID organizationId, UUID propertyId, List<PortfolioStats> rows,
+			int expiringWithinDays, long expiringLeaseCount) {
+		Map<UnitStatus, Long> units = new EnumMap<>(UnitStatus.class);
+		for (UnitStatus s : UnitStatus.values()) {
+			units.put(s, rows.stream().mapToLong(r -> r.getUnitCounts().getOrDefault(s.name(), 0L)).sum());
+		}
+		Map<LeaseStatus, Long> leases = new EnumMap<>(LeaseStatus.class);
+		for (LeaseStatus s : LeaseStatus.values()) {
+			leases.put(s, rows.stream().mapToLong(r -> r.getLeaseCounts().getOrDefault(s.name(), 0L)).sum());
+		}
+		long unitCount = units.values().stream().mapToLong(Long::longValue).sum();
+		long occupied = units.get(UnitStatus.OCCUPIED) + units.get(UnitStatus.NOTICE_GIVEN);
+		long active = leases.get(LeaseStatus.ACTIVE);
+		BigDecimal rentTotal = rows.stream().map(PortfolioStats::getActiveRentTotal)
+				.reduce(BigDecimal.ZERO, BigDecimal::add);
+		Instant updatedAt = rows.stream().map(PortfolioStats::getUpdatedAt)
+				.max(Instant::compareTo).orElse(null);
+
+		return new PortfolioSummaryResponse(
+				organizationId,
+				propertyId,
+				rows.size(),
+				unitCount,
+				units,
+				ratio(occupied, unitCount),
+				leases,
+				rentTotal,
+				active == 0 ? BigDecimal.ZERO : rentTotal.divide(BigDecimal.valueOf(active), 2, RoundingMode.HALF_UP),
+				expiringWithinDays,
+				expiringLeaseCount,
+				updatedAt);
+	}
+
+	private static BigDecimal ratio(long part, long whole) {
+		return whole == 0 ? BigDecimal.ZERO
+				: BigDecimal.valueOf(part).divide(BigDecimal.valueOf(whole), 4, RoundingMode.HALF_UP);
+	}
+}
@@ -0,0 +1,11 @@
+package com.akandiah.propmanager.features.portfolio.domain;
+
+import java.util.UUID;
+
+/**
+ * Published when a unit, lease or property mutation may change the portfolio
+ * stats of {@code propertyId}. The row is recomputed before the publishing
+ * transaction commits.
+ */
+public record PortfolioChangedEvent(UUID propertyId) {
+}
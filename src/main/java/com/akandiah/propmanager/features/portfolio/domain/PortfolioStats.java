@@ -0,0 +1,66 @@
+package com.akandiah.propmanager.features.portfolio.domain;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Materialized per-property dashboard counters: units by {@code UnitStatus},
+ * leases by {@code LeaseStatus} and the rent roll of ACTIVE leases. Derived
+ * data, recomputed by {@code PortfolioStatsService} whenever a unit, lease or
+ * property changes; org-level summaries add up the rows of an organization.
+ *
+ * <p>Counts are keyed by enum name so a new status needs no schema change.
+ */
+@Entity
+@Table(name = "portfolio_stats")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class PortfolioStats {
+
+	@Id
+	@Column(name = "property_id")
+	private UUID propertyId;
+
+	@Column(name = "organization_id", nullable = false)
+	private UUID organizationId;
+
+	@JdbcTypeCode(SqlTypes.JSON)
+	@Column(name = "unit_counts", nullable = false)
+	private Map<String, Long> unitCounts;
+
+	@JdbcTypeCode(SqlTypes.JSON)
+	@Column(name = "lease_counts", nullable = false)
+	private Map<String, Long> leaseCounts;
+
+	@Column(name = "active_rent_total", nullable = false, precision = 19, scale = 4)
+	private BigDecimal activeRentTotal;
+
+	@Column(name = "updated_at", nullable = false)
+	private Instant updatedAt;
+
+	public void update(UUID organizationId, Map<String, Long> unitCounts, Map<String, Long> leaseCounts,
+			BigDecimal activeRentTotal) {
+		this.organizationId = organizationId;
+		this.unitCounts = unitCounts;
+		this.leaseCounts = leaseCounts;
+		this.activeRentTotal = activeRentTotal;
+		this.updatedAt = Instant.now();
+	}
+}
@@ -0,0 +1,40 @@
+package com.akandiah.propmanager.features.portfolio.domain;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+
+public interface PortfolioStatsRepository extends JpaRepository<PortfolioStats, UUID>, PortfolioStatsRepositoryCustom {
+
+	/**
+	 * Loads a property's stats row with a row lock, so concurrent refreshes of the
+	 * same property run one after the other and each recount sees the previous
+	 * one's committed changes.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("SELECT s FROM PortfolioStats s WHERE s.propertyId = :propertyId")
+	Optional<PortfolioStats> findForUpdate(@Param("propertyId") UUID propertyId);
+
+	/** Every stats row of an organization; served by {@code idx_portfolio_stats_org_id}. */
+	List<PortfolioStats> findByOrganizationId(UUID organizationId);
+
+	/**
+	 * Bulk delete, so it does not fail when the row is already gone through the
+	 * {@code ON DELETE CASCADE} foreign key to {@code prop}.
+	 */
+	@Modifying
+	@Query("DELETE FROM PortfolioStats s WHERE s.propertyId = :propertyId")
+	int deleteByPropertyId(@Param("propertyId") UUID propertyId);
+
+	/** Properties that have no stats row yet (created before the table existed, or seeded directly). */
+	@Query("SELECT p.id FROM Prop p WHERE NOT EXISTS (SELECT 1 FROM PortfolioStats s WHERE s.propertyId = p.id)")
+	List<UUID> findPropertyIdsWithoutStats();
+}
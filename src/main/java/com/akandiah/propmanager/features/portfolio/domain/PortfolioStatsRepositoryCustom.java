@@ -0,0 +1,20 @@
+package com.akandiah.propmanager.features.portfolio.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/** Queries that Spring Data cannot derive or declare with {@code @Query}. */
+public interface PortfolioStatsRepositoryCustom {
+
+	/**
+	 * Inserts a zeroed stats row for a property unless it already has one. On
+	 * PostgreSQL a concurrent insert of the same property waits on the primary
+	 * key and then does nothing, rather than failing with a duplicate key, so
+	 * {@link PortfolioStatsRepository#findForUpdate} has a row to lock afterwards.
+	 * H2 drops the {@code ON CONFLICT} clause, so callers should only use this
+	 * once they have seen the row missing.
+	 *
+	 * @return 1 if the row was inserted, 0 if it already existed
+	 */
+	int insertIfAbsent(UUID propertyId, UUID organizationId, Instant now);
+}
@@ -0,0 +1,39 @@
+package com.akandiah.propmanager.features.portfolio.domain;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+import org.hibernate.Session;
+import org.hibernate.type.BindableType;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * Written against the Hibernate session because the empty count maps must be
+ * bound with the JSON type of {@link PortfolioStats#getUnitCounts()}; a plain
+ * {@code @Query} parameter would be bound as a serialized Java object.
+ */
+class PortfolioStatsRepositoryImpl implements PortfolioStatsRepositoryCustom {
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public int insertIfAbsent(UUID propertyId, UUID organizationId, Instant now) {
+		BindableType<Map<String, Long>> countsType = (BindableType<Map<String, Long>>) entityManager.getMetamodel()
+				.entity(PortfolioStats.class).getSingularAttribute("unitCounts").getType();
+		return entityManager.unwrap(Session.class).createMutationQuery("""
+				INSERT INTO PortfolioStats (propertyId, organizationId, unitCounts, leaseCounts, activeRentTotal, updatedAt)
+				VALUES (:propertyId, :organizationId, :noCounts, :noCounts, 0, :now)
+				ON CONFLICT (propertyId) DO NOTHING
+				""")
+				.setParameter("propertyId", propertyId)
+				.setParameter("organizationId", organizationId)
+				.setParameter("noCounts", Map.of(), countsType)
+				.setParameter("now", now)
+				.executeUpdate();
+	}
+}
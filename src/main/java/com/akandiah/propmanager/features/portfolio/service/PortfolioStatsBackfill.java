@@ -0,0 +1,48 @@
+package com.akandiah.propmanager.features.portfolio.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.akandiah.propmanager.features.portfolio.domain.PortfolioStatsRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Builds stats rows for properties that have none: those created before the
+ * table existed and those seeded straight through repositories (dev data).
+ * Runs after the other initializers; each property is refreshed in its own
+ * transaction, so one failure does not abort the rest.
+ */
+@Component
+@Order(3)
+@Slf4j
+@RequiredArgsConstructor
+public class PortfolioStatsBackfill implements ApplicationRunner {
+
+	private final PortfolioStatsRepository statsRepository;
+	private final PortfolioStatsService statsService;
+
+	@Override
+	public void run(ApplicationArguments args) {
+		List<UUID> missing = statsRepository.findPropertyIdsWithoutStats();
+		if (missing.isEmpty()) {
+			return;
+		}
+		int failed = 0;
+		for (UUID propertyId : missing) {
+			try {
+				statsService.refresh(propertyId);
+			} catch (Exception e) {
+				failed++;
+				log.warn("Portfolio stats backfill failed for property {}", propertyId, e);
+			}
+		}
+		log.info("Backfilled portfolio stats for {} propert(ies) ({} failed)", missing.size() - failed, failed);
+	}
+}
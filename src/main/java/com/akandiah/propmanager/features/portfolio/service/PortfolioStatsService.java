@@ -0,0 +1,122 @@
+package com.akandiah.propmanager.features.portfolio.service;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.akandiah.propmanager.common.exception.ResourceNotFoundException;
+import com.akandiah.propmanager.features.lease.domain.LeaseRepository;
+import com.akandiah.propmanager.features.lease.domain.LeaseStatus;
+import com.akandiah.propmanager.features.portfolio.api.dto.PortfolioSummaryResponse;
+import com.akandiah.propmanager.features.portfolio.domain.PortfolioChangedEvent;
+import com.akandiah.propmanager.features.portfolio.domain.PortfolioStats;
+import com.akandiah.propmanager.features.portfolio.domain.PortfolioStatsRepository;
+import com.akandiah.propmanager.features.prop.domain.Prop;
+import com.akandiah.propmanager.features.prop.domain.PropRepository;
+import com.akandiah.propmanager.features.unit.domain.UnitRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Maintains the {@link PortfolioStats} table and serves dashboard summaries
+ * from it.
+ *
+ * <p>Unit, lease and property services publish {@link PortfolioChangedEvent}s;
+ * each is handled just before the publishing transaction commits by recounting
+ * that one property (indexed by {@code units.property_id} and
+ * {@code leases.property_id}) under a row lock. The summary therefore commits
+ * or rolls back together with the change that caused it, and reading a
+ * dashboard is one lookup instead of a scan over every unit and lease.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PortfolioStatsService {
+
+	public static final int DEFAULT_EXPIRING_WITHIN_DAYS = 60;
+	public static final int MAX_EXPIRING_WITHIN_DAYS = 3650;
+
+	private final PortfolioStatsRepository statsRepository;
+	private final PropRepository propRepository;
+	private final UnitRepository unitRepository;
+	private final LeaseRepository leaseRepository;
+
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void onPortfolioChanged(PortfolioChangedEvent event) {
+		refresh(event.propertyId());
+	}
+
+	/**
+	 * Recounts the stats row of one property, creating it if missing and removing
+	 * it if the property no longer exists. A missing row is inserted with
+	 * {@code ON CONFLICT DO NOTHING} and then locked, so two transactions
+	 * refreshing a new property (e.g. a request racing
+	 * {@link PortfolioStatsBackfill}) serialize on the row instead of one failing
+	 * with a duplicate key and rolling back the caller's change.
+	 */
+	@Transactional
+	public void refresh(UUID propertyId) {
+		Prop prop = propRepository.findById(propertyId).orElse(null);
+		if (prop == null) {
+			statsRepository.deleteByPropertyId(propertyId);
+			return;
+		}
+		PortfolioStats stats = statsRepository.findForUpdate(propertyId).orElse(null);
+		if (stats == null) {
+			statsRepository.insertIfAbsent(propertyId, prop.getOrganization().getId(), Instant.now());
+			stats = statsRepository.findForUpdate(propertyId)
+					.orElseThrow(() -> new IllegalStateException("Portfolio stats row missing for property " + propertyId));
+		}
+
+		Map<String, Long> unitCounts = new TreeMap<>();
+		for (UnitRepository.StatusCount c : unitRepository.countByStatusForProp(propertyId)) {
+			unitCounts.put(c.getStatus().name(), c.getCount());
+		}
+		Map<String, Long> leaseCounts = new TreeMap<>();
+		BigDecimal activeRentTotal = BigDecimal.ZERO;
+		for (LeaseRepository.StatusTotals t : leaseRepository.sumByStatusForProperty(propertyId)) {
+			leaseCounts.put(t.getStatus().name(), t.getCount());
+			if (t.getStatus() == LeaseStatus.ACTIVE && t.getRentTotal() != null) {
+				activeRentTotal = t.getRentTotal();
+			}
+		}
+		stats.update(prop.getOrganization().getId(), unitCounts, leaseCounts, activeRentTotal);
+		statsRepository.save(stats);
+	}
+
+	/** Sums the stats rows of every property in the organization. */
+	public PortfolioSummaryResponse summarizeOrganization(UUID organizationId, int expiringWithinDays) {
+		LocalDate today = requireWindowStart(expiringWithinDays);
+		List<PortfolioStats> rows = statsRepository.findByOrganizationId(organizationId);
+		long expiring = leaseRepository.countByProperty_Organization_IdAndStatusAndEndDateBetween(
+				organizationId, LeaseStatus.ACTIVE, today, today.plusDays(expiringWithinDays));
+		return PortfolioSummaryResponse.from(organizationId, null, rows, expiringWithinDays, expiring);
+	}
+
+	public PortfolioSummaryResponse summarizeProperty(UUID propertyId, int expiringWithinDays) {
+		LocalDate today = requireWindowStart(expiringWithinDays);
+		PortfolioStats stats = statsRepository.findById(propertyId)
+				.orElseThrow(() -> new ResourceNotFoundException("Prop", propertyId));
+		long expiring = leaseRepository.countByProperty_IdAndStatusAndEndDateBetween(
+				propertyId, LeaseStatus.ACTIVE, today, today.plusDays(expiringWithinDays));
+		return PortfolioSummaryResponse.from(stats.getOrganizationId(), propertyId, List.of(stats),
+				expiringWithinDays, expiring);
+	}
+
+	private static LocalDate requireWindowStart(int expiringWithinDays) {
+		if (expiringWithinDays < 0 || expiringWithinDays > MAX_EXPIRING_WITHIN_DAYS) {
+			throw new IllegalArgumentException(
+					"expiringWithinDays must be between 0 and " + MAX_EXPIRING_WITHIN_DAYS);
+		}
+		return LocalDate.now();
+	}
+}
@@ -15,13 +15,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.akandiah.propmanager.security.annotations.PreAuthorizePropAccess;
 
+import com.akandiah.propmanager.common.dto.KeysetPageRequest;
+import com.akandiah.propmanager.common.dto.PageResponse;
 import com.akandiah.propmanager.common.permission.AccessListUtil;
 import com.akandiah.propmanager.common.permission.AccessListUtil.PropAccessFilter;
 import com.akandiah.propmanager.common.permission.Actions;
 import com.akandiah.propmanager.common.permission.PermissionDomains;
+import com.akandiah.propmanager.common.util.ConditionalGetUtil;
 import com.akandiah.propmanager.features.prop.api.dto.CreatePropRequest;
 import com.akandiah.propmanager.features.prop.api.dto.PropResponse;
 import com.akandiah.propmanager.features.prop.api.dto.UpdatePropRequest;
@@ -49,17 +53,28 @@ public class PropController {
 
 	@GetMapping
 	@PreAuthorize("isAuthenticated()")
-	@Operation(summary = "List props visible to the caller")
-	public List<PropResponse> list(HttpServletRequest request) {
+	@Operation(summary = "List props visible to the caller",
+			description = "Keyset-paginated: pass the returned nextCursor as ?cursor= for the next page; includeTotal=true adds totalElements.")
+	public PageResponse<PropResponse> list(
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size,
+			@RequestParam(defaultValue = "false") boolean includeTotal,
+			HttpServletRequest request, WebRequest webRequest) {
 		PropAccessFilter filter = AccessListUtil.forProps(
 				AccessListUtil.fromRequest(request), PermissionDomains.PORTFOLIO, Actions.READ);
-		return propService.findAll(filter);
+		if (ConditionalGetUtil.notModified(webRequest, propService.stamp(filter))) {
+			return null;
+		}
+		return propService.findPage(filter, KeysetPageRequest.of(cursor, size, includeTotal));
 	}
 
 	@GetMapping("/{id}")
 	@PreAuthorizePropAccess("READ")
 	@Operation(summary = "Get prop by ID")
-	public PropResponse getById(@PathVariable UUID id, @RequestParam UUID orgId) {
+	public PropResponse getById(@PathVariable UUID id, @RequestParam UUID orgId, WebRequest webRequest) {
+		if (ConditionalGetUtil.notModified(webRequest, propService.findStamp(id))) {
+			return null;
+		}
 		return propService.findById(id);
 	}
 
@@ -4,6 +4,7 @@ import java.time.Instant;
 import java.util.UUID;
 
 import com.akandiah.propmanager.features.prop.domain.Prop;
+import com.akandiah.propmanager.features.prop.domain.PropRepository.PropListRow;
 import com.akandiah.propmanager.features.prop.domain.PropertyType;
 
 public record PropResponse(
@@ -39,4 +40,35 @@ public record PropResponse(
 				prop.getCreatedAt(),
 				prop.getUpdatedAt());
 	}
+
+	public static PropResponse from(PropListRow row) {
+		AddressView address = row.getAddressId() == null ? null
+				: new AddressView(
+						row.getAddressId(),
+						row.getAddressLine1(),
+						row.getAddressLine2(),
+						row.getCity(),
+						row.getStateProvinceRegion(),
+						row.getPostalCode(),
+						row.getCountryCode(),
+						row.getLatitude(),
+						row.getLongitude(),
+						row.getAddressCreatedAt(),
+						row.getAddressUpdatedAt());
+		return new PropResponse(
+				row.getId(),
+				row.getLegalName(),
+				row.getAddressId(),
+				address,
+				row.getPropertyType(),
+				row.getDescription(),
+				row.getParcelNumber(),
+				row.getOrganizationId(),
+				row.getOwnerId(),
+				row.getTotalArea(),
+				row.getYearBuilt(),
+				row.getVersion(),
+				row.getCreatedAt(),
+				row.getUpdatedAt());
+	}
 }
@@ -1,12 +1,19 @@
 package com.akandiah.propmanager.features.prop.domain;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import com.akandiah.propmanager.common.domain.EntityStamp;
+import com.akandiah.propmanager.common.domain.ListStamp;
+
 public interface PropRepository extends JpaRepository<Prop, UUID> {
 
 	long countByOrganization_Id(UUID organizationId);
@@ -16,8 +23,128 @@ public interface PropRepository extends JpaRepository<Prop, UUID> {
 	@Query("SELECT p FROM Prop p JOIN FETCH p.organization WHERE p.ownerId = :userId AND p.organization IS NOT NULL")
 	List<Prop> findByOwnerIdWithOrganization(@Param("userId") UUID userId);
 
-	@Query("SELECT p FROM Prop p WHERE p.organization.id IN :orgIds OR p.id IN :propIds")
+	/** Parent ids of a prop, as loaded for the hierarchy cache. */
+	interface PropParents {
+		UUID getId();
+
+		UUID getOrgId();
+	}
+
+	/** Loads the org ids for many props in one query — feeds the hierarchy cache. */
+	@Query("SELECT p.id AS id, o.id AS orgId FROM Prop p JOIN p.organization o WHERE p.id IN :ids")
+	List<PropParents> findParentsByIdIn(@Param("ids") java.util.Collection<UUID> ids);
+
+	@Query("SELECT p FROM Prop p WHERE any_of(p.organization.id, :orgIds) OR any_of(p.id, :propIds)")
 	List<Prop> findByOrganizationIdInOrIdIn(
-			@Param("orgIds") java.util.Collection<UUID> orgIds,
-			@Param("propIds") java.util.Collection<UUID> propIds);
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds);
+
+	/**
+	 * Column projection read by list views. The address is read through a join
+	 * in the same row instead of one lazy load per property.
+	 */
+	interface PropListRow {
+		UUID getId();
+
+		String getLegalName();
+
+		PropertyType getPropertyType();
+
+		String getDescription();
+
+		String getParcelNumber();
+
+		UUID getOrganizationId();
+
+		UUID getOwnerId();
+
+		Integer getTotalArea();
+
+		Integer getYearBuilt();
+
+		Integer getVersion();
+
+		Instant getCreatedAt();
+
+		Instant getUpdatedAt();
+
+		UUID getAddressId();
+
+		String getAddressLine1();
+
+		String getAddressLine2();
+
+		String getCity();
+
+		String getStateProvinceRegion();
+
+		String getPostalCode();
+
+		String getCountryCode();
+
+		BigDecimal getLatitude();
+
+		BigDecimal getLongitude();
+
+		Instant getAddressCreatedAt();
+
+		Instant getAddressUpdatedAt();
+	}
+
+	/**
+	 * Keyset page of {@link #findByOrganizationIdInOrIdIn}: props with an id after
+	 * {@code after}, in id order, projected to {@link PropListRow}.
+	 */
+	@Query("""
+			SELECT p.id AS id, p.legalName AS legalName, p.propertyType AS propertyType,
+			       p.description AS description, p.parcelNumber AS parcelNumber,
+			       o.id AS organizationId, p.ownerId AS ownerId,
+			       p.totalArea AS totalArea, p.yearBuilt AS yearBuilt, p.version AS version,
+			       p.createdAt AS createdAt, p.updatedAt AS updatedAt,
+			       a.id AS addressId, a.addressLine1 AS addressLine1, a.addressLine2 AS addressLine2,
+			       a.city AS city, a.stateProvinceRegion AS stateProvinceRegion,
+			       a.postalCode AS postalCode, a.countryCode AS countryCode,
+			       a.latitude AS latitude, a.longitude AS longitude,
+			       a.createdAt AS addressCreatedAt, a.updatedAt AS addressUpdatedAt
+			FROM Prop p
+			LEFT JOIN p.organization o
+			JOIN p.address a
+			WHERE (any_of(o.id, :orgIds) OR any_of(p.id, :propIds))
+			AND p.id > :after
+			ORDER BY p.id ASC
+			""")
+	List<PropListRow> findPageByOrganizationIdInOrIdIn(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("after") UUID after,
+			Limit limit);
+
+	@Query("SELECT COUNT(p) FROM Prop p WHERE any_of(p.organization.id, :orgIds) OR any_of(p.id, :propIds)")
+	long countByOrganizationIdInOrIdIn(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds);
+
+	Optional<EntityStamp> findStampById(UUID id);
+
+	/** Props in scope updated after the keyset position {@code (since, afterId)}, oldest change first — feeds the sync feed. */
+	@Query("""
+			SELECT p FROM Prop p
+			WHERE (p.updatedAt, p.id) > (:since, :afterId)
+			AND (any_of(p.organization.id, :orgIds) OR any_of(p.id, :propIds))
+			ORDER BY p.updatedAt ASC, p.id ASC
+			""")
+	List<Prop> findChangedSince(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("since") Instant since,
+			@Param("afterId") UUID afterId,
+			Limit limit);
+
+	@Query("""
+			SELECT COUNT(p) AS count, MAX(p.updatedAt) AS maxUpdatedAt FROM Prop p
+			WHERE any_of(p.organization.id, :orgIds) OR any_of(p.id, :propIds)
+			""")
+	ListStamp stampByOrganizationIdInOrIdIn(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds);
 }
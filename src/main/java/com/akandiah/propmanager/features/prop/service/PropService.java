@@ -2,6 +2,7 @@ package com.akandiah.propmanager.features.prop.service;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -9,8 +10,13 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.akandiah.propmanager.common.domain.EntityStamp;
+import com.akandiah.propmanager.common.domain.ListStamp;
+import com.akandiah.propmanager.common.dto.KeysetPageRequest;
+import com.akandiah.propmanager.common.dto.PageResponse;
 import com.akandiah.propmanager.common.exception.ResourceNotFoundException;
 import com.akandiah.propmanager.common.permission.AccessListUtil.PropAccessFilter;
+import com.akandiah.propmanager.common.permission.HierarchyChangedEvent;
 import com.akandiah.propmanager.common.permission.ResourceType;
 import com.akandiah.propmanager.common.util.DeleteGuardUtil;
 import com.akandiah.propmanager.common.util.OptimisticLockingUtil;
@@ -20,6 +26,7 @@ import com.akandiah.propmanager.features.lease.domain.LeaseRepository;
 import com.akandiah.propmanager.features.membership.domain.PolicyAssignmentRepository;
 import com.akandiah.propmanager.features.organization.domain.Organization;
 import com.akandiah.propmanager.features.organization.domain.OrganizationRepository;
+import com.akandiah.propmanager.features.portfolio.domain.PortfolioChangedEvent;
 import com.akandiah.propmanager.features.prop.api.dto.CreatePropRequest;
 import com.akandiah.propmanager.features.prop.api.dto.CreatePropRequest.AddressInput;
 import com.akandiah.propmanager.features.prop.api.dto.PropResponse;
@@ -28,6 +35,9 @@ import com.akandiah.propmanager.features.prop.domain.Address;
 import com.akandiah.propmanager.features.prop.domain.AddressRepository;
 import com.akandiah.propmanager.features.prop.domain.Prop;
 import com.akandiah.propmanager.features.prop.domain.PropRepository;
+import com.akandiah.propmanager.features.prop.domain.PropRepository.PropListRow;
+import com.akandiah.propmanager.features.sync.domain.EntityDeletedEvent;
+import com.akandiah.propmanager.features.sync.domain.SyncEntityType;
 import com.akandiah.propmanager.features.unit.domain.UnitRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -48,11 +58,32 @@ public class PropService {
 	@Transactional(readOnly = true)
 	public List<PropResponse> findAll(PropAccessFilter filter) {
 		if (filter.isEmpty()) return List.of();
-		return repository.findByOrganizationIdInOrIdIn(filter.orgIds(), filter.propIds()).stream()
+		return repository.findByOrganizationIdInOrIdIn(filter.orgIdArray(), filter.propIdArray()).stream()
 				.map(PropResponse::from)
 				.toList();
 	}
 
+	@Transactional(readOnly = true)
+	public PageResponse<PropResponse> findPage(PropAccessFilter filter, KeysetPageRequest page) {
+		if (filter.isEmpty()) return page.empty();
+		List<PropListRow> rows = repository.findPageByOrganizationIdInOrIdIn(
+				filter.orgIdArray(), filter.propIdArray(), page.after(), page.fetchLimit());
+		return page.toPage(rows, PropListRow::getId, PropResponse::from,
+				() -> repository.countByOrganizationIdInOrIdIn(filter.orgIdArray(), filter.propIdArray()));
+	}
+
+	/** Count and newest update across {@link #findPage}'s filter, for the list ETag. */
+	@Transactional(readOnly = true)
+	public ListStamp stamp(PropAccessFilter filter) {
+		if (filter.isEmpty()) return ListStamp.EMPTY;
+		return repository.stampByOrganizationIdInOrIdIn(filter.orgIdArray(), filter.propIdArray());
+	}
+
+	@Transactional(readOnly = true)
+	public Optional<EntityStamp> findStamp(UUID id) {
+		return repository.findStampById(id);
+	}
+
 	@Transactional(readOnly = true)
 	public PropResponse findById(UUID id) {
 		Prop prop = repository.findById(id)
@@ -79,8 +110,10 @@ public class PropService {
 				.yearBuilt(request.yearBuilt())
 				.build();
 		prop = repository.save(prop);
+		eventPublisher.publishEvent(new PortfolioChangedEvent(prop.getId()));
 		if (prop.getOwnerId() != null) {
-			eventPublisher.publishEvent(new PermissionsChangedEvent(Set.of(prop.getOwnerId())));
+			eventPublisher.publishEvent(PermissionsChangedEvent.ownershipMoved(
+					organization.getId(), prop.getId(), null, prop.getOwnerId()));
 		}
 		return PropResponse.from(prop);
 	}
@@ -114,6 +147,7 @@ public class PropService {
 		Prop prop = repository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Prop", id));
 		OptimisticLockingUtil.requireVersionMatch("Prop", id, prop.getVersion(), request.version());
+		boolean reparented = false;
 
 		if (request.legalName() != null) {
 			prop.setLegalName(request.legalName());
@@ -133,14 +167,13 @@ public class PropService {
 		if (request.organizationId() != null) {
 			Organization org = organizationRepository.findById(request.organizationId())
 					.orElseThrow(() -> new ResourceNotFoundException("Organization", request.organizationId()));
+			reparented = prop.getOrganization() == null || !org.getId().equals(prop.getOrganization().getId());
 			prop.setOrganization(org);
 		}
-		Set<UUID> affectedOwners = new HashSet<>();
+		boolean ownerChanged = false;
+		UUID previousOwnerId = prop.getOwnerId();
 		if (request.ownerId() != null && !request.ownerId().equals(prop.getOwnerId())) {
-			if (prop.getOwnerId() != null) {
-				affectedOwners.add(prop.getOwnerId());
-			}
-			affectedOwners.add(request.ownerId());
+			ownerChanged = true;
 			prop.setOwnerId(request.ownerId());
 		}
 		if (request.totalArea() != null) {
@@ -150,8 +183,14 @@ public class PropService {
 			prop.setYearBuilt(request.yearBuilt());
 		}
 		prop = repository.save(prop);
-		if (!affectedOwners.isEmpty()) {
-			eventPublisher.publishEvent(new PermissionsChangedEvent(affectedOwners));
+		if (ownerChanged) {
+			UUID orgId = prop.getOrganization() != null ? prop.getOrganization().getId() : null;
+			eventPublisher.publishEvent(PermissionsChangedEvent.ownershipMoved(
+					orgId, id, previousOwnerId, prop.getOwnerId()));
+		}
+		if (reparented) {
+			eventPublisher.publishEvent(new PortfolioChangedEvent(id));
+			eventPublisher.publishEvent(new HierarchyChangedEvent(ResourceType.PROPERTY, id));
 		}
 		return PropResponse.from(prop);
 	}
@@ -180,8 +219,12 @@ public class PropService {
 			affectedUserIds.add(ownerId);
 		}
 		Address address = prop.getAddress();
+		UUID orgId = prop.getOrganization() != null ? prop.getOrganization().getId() : null;
 		repository.deleteById(id);
 		addressRepository.delete(address);
+		eventPublisher.publishEvent(new HierarchyChangedEvent(ResourceType.PROPERTY, id));
+		eventPublisher.publishEvent(new PortfolioChangedEvent(id));
+		eventPublisher.publishEvent(new EntityDeletedEvent(SyncEntityType.PROP, id, orgId, id, null));
 		if (!affectedUserIds.isEmpty()) {
 			eventPublisher.publishEvent(new PermissionsChangedEvent(affectedUserIds));
 		}
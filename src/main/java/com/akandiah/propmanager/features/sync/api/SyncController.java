@@ -0,0 +1,35 @@
+package com.akandiah.propmanager.features.sync.api;
+
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.akandiah.propmanager.common.permission.AccessListUtil;
+import com.akandiah.propmanager.features.sync.api.dto.SyncResponse;
+import com.akandiah.propmanager.features.sync.service.SyncService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+
+@RestController
+@RequestMapping("/api/sync")
+@RequiredArgsConstructor
+@Tag(name = "Sync", description = "Delta feed for offline-first clients")
+public class SyncController {
+
+	private final SyncService syncService;
+
+	@GetMapping
+	@PreAuthorize("isAuthenticated()")
+	@Operation(summary = "Changes since a cursor",
+			description = "Props, units, leases, assets and tenants created, updated or deleted since ?since=, limited to what the caller can read."
+					+ " Omit since on first sync. Apply deleted before upserted per type, store nextCursor, and repeat immediately while hasMore is true;"
+					+ " reset=true means the local cache must be cleared first.")
+	public SyncResponse changes(@RequestParam(required = false) String since, HttpServletRequest request) {
+		return syncService.changesSince(AccessListUtil.fromRequest(request), since);
+	}
+}
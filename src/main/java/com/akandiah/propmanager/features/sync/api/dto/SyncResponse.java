@@ -0,0 +1,34 @@
+package com.akandiah.propmanager.features.sync.api.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+import com.akandiah.propmanager.features.asset.api.dto.AssetResponse;
+import com.akandiah.propmanager.features.lease.api.dto.LeaseResponse;
+import com.akandiah.propmanager.features.prop.api.dto.PropResponse;
+import com.akandiah.propmanager.features.tenant.api.dto.TenantResponse;
+import com.akandiah.propmanager.features.unit.api.dto.UnitResponse;
+
+/**
+ * One page of the delta sync feed. Clients apply each type's {@code deleted}
+ * ids before its {@code upserted} rows, then send {@code nextCursor} as
+ * {@code ?since=}. Windows overlap, so rows may repeat; upserts are idempotent
+ * by id and version.
+ *
+ * @param hasMore true when a type hit the per-response limit; request again right away
+ * @param reset   true when the client must drop its local cache first (first sync, or a
+ *                cursor older than the tombstone retention)
+ */
+public record SyncResponse(
+		ChangeSet<PropResponse> props,
+		ChangeSet<UnitResponse> units,
+		ChangeSet<LeaseResponse> leases,
+		ChangeSet<AssetResponse> assets,
+		ChangeSet<TenantResponse> tenants,
+		String nextCursor,
+		boolean hasMore,
+		boolean reset) {
+
+	public record ChangeSet<T>(List<T> upserted, List<UUID> deleted) {
+	}
+}
@@ -0,0 +1,13 @@
+package com.akandiah.propmanager.features.sync.domain;
+
+import java.util.UUID;
+
+/**
+ * Published when a synced entity is deleted. Carries the org, property and unit
+ * it sat under at the time, so the resulting tombstone can be matched against
+ * access filters after the entity and its parents are gone. Parent ids that do
+ * not apply (e.g. the unit of a property) are null.
+ */
+public record EntityDeletedEvent(SyncEntityType entityType, UUID entityId,
+		UUID organizationId, UUID propertyId, UUID unitId) {
+}
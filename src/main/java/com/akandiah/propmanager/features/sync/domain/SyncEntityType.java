@@ -0,0 +1,9 @@
+package com.akandiah.propmanager.features.sync.domain;
+
+/** Entity types whose deletions are recorded as {@link SyncTombstone}s. */
+public enum SyncEntityType {
+	PROP,
+	UNIT,
+	LEASE,
+	ASSET
+}
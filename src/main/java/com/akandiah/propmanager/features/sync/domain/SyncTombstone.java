@@ -0,0 +1,67 @@
+package com.akandiah.propmanager.features.sync.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import com.akandiah.propmanager.common.domain.AssignedOrRandomUuid;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Record of a deleted entity, kept so {@code GET /api/sync} can tell offline
+ * clients to drop their cached copy. Immutable; rows older than the configured
+ * retention are purged, and clients whose cursor predates that receive a full
+ * resync instead.
+ */
+@Entity
+@Table(name = "sync_tombstones")
+@Getter
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class SyncTombstone {
+
+	@Id
+	@AssignedOrRandomUuid
+	private UUID id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "entity_type", nullable = false, length = 16)
+	private SyncEntityType entityType;
+
+	@Column(name = "entity_id", nullable = false)
+	private UUID entityId;
+
+	@Column(name = "organization_id")
+	private UUID organizationId;
+
+	@Column(name = "property_id")
+	private UUID propertyId;
+
+	@Column(name = "unit_id")
+	private UUID unitId;
+
+	@Column(name = "deleted_at", nullable = false)
+	private Instant deletedAt;
+
+	public static SyncTombstone from(EntityDeletedEvent event) {
+		return SyncTombstone.builder()
+				.entityType(event.entityType())
+				.entityId(event.entityId())
+				.organizationId(event.organizationId())
+				.propertyId(event.propertyId())
+				.unitId(event.unitId())
+				.deletedAt(Instant.now())
+				.build();
+	}
+}
@@ -0,0 +1,38 @@
+package com.akandiah.propmanager.features.sync.domain;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SyncTombstoneRepository extends JpaRepository<SyncTombstone, UUID> {
+
+	/**
+	 * Tombstones of one entity type recorded after the keyset position
+	 * {@code (since, afterId)} under any of the given scopes, oldest first.
+	 */
+	@Query("""
+			SELECT t FROM SyncTombstone t
+			WHERE t.entityType = :type
+			AND (t.deletedAt, t.id) > (:since, :afterId)
+			AND (any_of(t.organizationId, :orgIds) OR any_of(t.propertyId, :propIds) OR any_of(t.unitId, :unitIds))
+			ORDER BY t.deletedAt ASC, t.id ASC
+			""")
+	List<SyncTombstone> findChangedSince(
+			@Param("type") SyncEntityType type,
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
+			@Param("since") Instant since,
+			@Param("afterId") UUID afterId,
+			Limit limit);
+
+	@Modifying
+	@Query("DELETE FROM SyncTombstone t WHERE t.deletedAt < :cutoff")
+	int deleteByDeletedAtBefore(@Param("cutoff") Instant cutoff);
+}
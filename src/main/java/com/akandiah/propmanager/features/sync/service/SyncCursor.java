@@ -0,0 +1,79 @@
+package com.akandiah.propmanager.features.sync.service;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Opaque cursor for {@code GET /api/sync}: a base64url-encoded keyset position
+ * {@code (since, afterId)}. The next request reads rows whose
+ * {@code (updated_at, id)} sorts after it, so a page cut off among rows that
+ * share a timestamp still resumes past the last row returned. A missing cursor
+ * means "from the beginning".
+ *
+ * <p>Positions are ordered by instant, then by id compared as unsigned bytes,
+ * which is how PostgreSQL and H2 order {@code uuid} columns.
+ */
+record SyncCursor(Instant since, UUID afterId) implements Comparable<SyncCursor> {
+
+	/** Sorts before every real id, so {@code at(t)} resumes at {@code updated_at >= t}. */
+	private static final UUID MIN_ID = new UUID(0, 0);
+
+	static final SyncCursor START = at(Instant.EPOCH);
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+	/** Instant-only cursors issued before the id was added; still accepted. */
+	private static final int LEGACY_LENGTH = 12;
+	private static final int LENGTH = 28;
+
+	/** Position just before every row stamped at or after {@code since}. */
+	static SyncCursor at(Instant since) {
+		return new SyncCursor(since, MIN_ID);
+	}
+
+	@Override
+	public int compareTo(SyncCursor other) {
+		int byInstant = since.compareTo(other.since);
+		if (byInstant != 0) {
+			return byInstant;
+		}
+		int byHigh = Long.compareUnsigned(afterId.getMostSignificantBits(), other.afterId.getMostSignificantBits());
+		return byHigh != 0 ? byHigh
+				: Long.compareUnsigned(afterId.getLeastSignificantBits(), other.afterId.getLeastSignificantBits());
+	}
+
+	String encode() {
+		ByteBuffer buf = ByteBuffer.allocate(LENGTH);
+		buf.putLong(since.getEpochSecond()).putInt(since.getNano())
+				.putLong(afterId.getMostSignificantBits()).putLong(afterId.getLeastSignificantBits());
+		return ENCODER.encodeToString(buf.array());
+	}
+
+	/**
+	 * @throws IllegalArgumentException if {@code cursor} was not issued by this API
+	 */
+	static SyncCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return START;
+		}
+		byte[] bytes;
+		try {
+			bytes = DECODER.decode(cursor);
+		} catch (IllegalArgumentException e) {
+			throw new IllegalArgumentException("Invalid sync cursor");
+		}
+		if (bytes.length != LENGTH && bytes.length != LEGACY_LENGTH) {
+			throw new IllegalArgumentException("Invalid sync cursor");
+		}
+		ByteBuffer buf = ByteBuffer.wrap(bytes);
+		long seconds = buf.getLong();
+		int nanos = buf.getInt();
+		if (nanos < 0 || nanos > 999_999_999) {
+			throw new IllegalArgumentException("Invalid sync cursor");
+		}
+		Instant since = Instant.ofEpochSecond(seconds, nanos);
+		return bytes.length == LENGTH ? new SyncCursor(since, new UUID(buf.getLong(), buf.getLong())) : at(since);
+	}
+}
@@ -0,0 +1,190 @@
+package com.akandiah.propmanager.features.sync.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.akandiah.propmanager.common.permission.AccessIndex;
+import com.akandiah.propmanager.common.permission.AccessListUtil;
+import com.akandiah.propmanager.common.permission.AccessListUtil.PropAccessFilter;
+import com.akandiah.propmanager.common.permission.AccessListUtil.ScopedAccessFilter;
+import com.akandiah.propmanager.common.permission.Actions;
+import com.akandiah.propmanager.common.permission.PermissionDomains;
+import com.akandiah.propmanager.config.SyncProperties;
+import com.akandiah.propmanager.features.asset.api.dto.AssetResponse;
+import com.akandiah.propmanager.features.asset.domain.Asset;
+import com.akandiah.propmanager.features.asset.domain.AssetRepository;
+import com.akandiah.propmanager.features.lease.api.dto.LeaseResponse;
+import com.akandiah.propmanager.features.lease.domain.Lease;
+import com.akandiah.propmanager.features.lease.domain.LeaseRepository;
+import com.akandiah.propmanager.features.prop.api.dto.PropResponse;
+import com.akandiah.propmanager.features.prop.domain.Prop;
+import com.akandiah.propmanager.features.prop.domain.PropRepository;
+import com.akandiah.propmanager.features.sync.api.dto.SyncResponse;
+import com.akandiah.propmanager.features.sync.api.dto.SyncResponse.ChangeSet;
+import com.akandiah.propmanager.features.sync.domain.SyncEntityType;
+import com.akandiah.propmanager.features.sync.domain.SyncTombstone;
+import com.akandiah.propmanager.features.sync.domain.SyncTombstoneRepository;
+import com.akandiah.propmanager.features.tenant.api.dto.TenantResponse;
+import com.akandiah.propmanager.features.tenant.domain.Tenant;
+import com.akandiah.propmanager.features.tenant.domain.TenantRepository;
+import com.akandiah.propmanager.features.unit.api.dto.UnitResponse;
+import com.akandiah.propmanager.features.unit.domain.Unit;
+import com.akandiah.propmanager.features.unit.domain.UnitRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Delta sync feed for offline clients: props, units, leases, assets and tenants
+ * created, updated or deleted since a cursor, each type scoped by the caller's
+ * access filter for its permission domain.
+ *
+ * <p>Every type is read as a keyset page,
+ * {@code (updated_at, id) > (since, afterId) ORDER BY updated_at, id}
+ * (deletions from {@link SyncTombstone}s by {@code deleted_at}), capped at
+ * {@link SyncProperties#maxChangesPerType()}. The next cursor is placed
+ * {@link SyncProperties#overlap()} behind the request time, so a row stamped by
+ * a transaction that commits after this read is still returned next time. When
+ * a type is cut off, the cursor moves back to the last row returned for it
+ * instead, and {@code hasMore} tells the client to continue; because the
+ * cursor carries that row's id, the next page starts after it even when many
+ * rows share its timestamp.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class SyncService {
+
+	private static final UUID[] NONE = new UUID[0];
+
+	private final PropRepository propRepository;
+	private final UnitRepository unitRepository;
+	private final LeaseRepository leaseRepository;
+	private final AssetRepository assetRepository;
+	private final TenantRepository tenantRepository;
+	private final SyncTombstoneRepository tombstoneRepository;
+	private final SyncProperties properties;
+
+	/**
+	 * @throws IllegalArgumentException if {@code cursor} was not issued by this API
+	 */
+	public SyncResponse changesSince(AccessIndex access, String cursor) {
+		Instant now = Instant.now();
+		SyncCursor since = SyncCursor.decode(cursor);
+		boolean reset = since.since().isBefore(now.minus(properties.tombstoneRetention()));
+		if (reset) {
+			since = SyncCursor.START;
+		}
+		Window window = new Window(since, properties.maxChangesPerType(), SyncCursor.at(now.minus(properties.overlap())));
+		Instant sinceAt = since.since();
+		UUID afterId = since.afterId();
+
+		PropAccessFilter props = AccessListUtil.forProps(access, PermissionDomains.PORTFOLIO, Actions.READ);
+		ScopedAccessFilter units = AccessListUtil.forScopedResources(access, PermissionDomains.PORTFOLIO, Actions.READ);
+		ScopedAccessFilter leases = AccessListUtil.forScopedResources(access, PermissionDomains.LEASES, Actions.READ);
+		ScopedAccessFilter assets = AccessListUtil.forScopedResources(access, PermissionDomains.MAINTENANCE, Actions.READ);
+		ScopedAccessFilter tenants = AccessListUtil.forScopedResources(access, PermissionDomains.TENANTS, Actions.READ);
+
+		ChangeSet<PropResponse> propChanges = new ChangeSet<>(
+				window.take(props.isEmpty() ? List.of()
+						: propRepository.findChangedSince(props.orgIdArray(), props.propIdArray(), sinceAt, afterId,
+								window.fetchLimit()),
+						p -> new SyncCursor(p.getUpdatedAt(), p.getId()), PropResponse::from),
+				deleted(SyncEntityType.PROP, props.isEmpty(), props.orgIdArray(), props.propIdArray(), NONE, window));
+		ChangeSet<UnitResponse> unitChanges = new ChangeSet<>(
+				window.take(units.isEmpty() ? List.of()
+						: unitRepository.findChangedSince(units.orgIdArray(), units.propIdArray(), units.unitIdArray(),
+								sinceAt, afterId, window.fetchLimit()),
+						u -> new SyncCursor(u.getUpdatedAt(), u.getId()), UnitResponse::from),
+				deleted(SyncEntityType.UNIT, units, window));
+		ChangeSet<LeaseResponse> leaseChanges = new ChangeSet<>(
+				window.take(leases.isEmpty() ? List.of()
+						: leaseRepository.findChangedSince(leases.orgIdArray(), leases.propIdArray(), leases.unitIdArray(),
+								sinceAt, afterId, window.fetchLimit()),
+						l -> new SyncCursor(l.getUpdatedAt(), l.getId()), LeaseResponse::from),
+				deleted(SyncEntityType.LEASE, leases, window));
+		ChangeSet<AssetResponse> assetChanges = new ChangeSet<>(
+				window.take(assets.isEmpty() ? List.of()
+						: assetRepository.findChangedSince(assets.orgIdArray(), assets.propIdArray(), assets.unitIdArray(),
+								sinceAt, afterId, window.fetchLimit()),
+						a -> new SyncCursor(a.getUpdatedAt(), a.getId()), AssetResponse::from),
+				deleted(SyncEntityType.ASSET, assets, window));
+		// Tenants are never deleted, only unlinked from leases, so they have no tombstones
+		ChangeSet<TenantResponse> tenantChanges = new ChangeSet<>(
+				window.take(tenants.isEmpty() ? List.of()
+						: tenantRepository.findChangedSince(tenants.orgIdArray(), tenants.propIdArray(), tenants.unitIdArray(),
+								false, sinceAt, afterId, window.fetchLimit()),
+						t -> new SyncCursor(t.getUpdatedAt(), t.getId()), TenantResponse::from),
+				List.of());
+
+		return new SyncResponse(propChanges, unitChanges, leaseChanges, assetChanges, tenantChanges,
+				window.nextSince().encode(), window.truncated, reset);
+	}
+
+	private List<UUID> deleted(SyncEntityType type, ScopedAccessFilter filter, Window window) {
+		return deleted(type, filter.isEmpty(), filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), window);
+	}
+
+	private List<UUID> deleted(SyncEntityType type, boolean emptyFilter, UUID[] orgIds, UUID[] propIds, UUID[] unitIds,
+			Window window) {
+		if (emptyFilter) {
+			return List.of();
+		}
+		return window.take(
+				tombstoneRepository.findChangedSince(type, orgIds, propIds, unitIds, window.since.since(),
+						window.since.afterId(), window.fetchLimit()),
+				t -> new SyncCursor(t.getDeletedAt(), t.getId()), SyncTombstone::getEntityId);
+	}
+
+	/** Per-request read window; tracks where the next request must resume. */
+	private static final class Window {
+
+		private final SyncCursor since;
+		private final int limit;
+		private SyncCursor next;
+		private boolean truncated;
+
+		Window(SyncCursor since, int limit, SyncCursor upTo) {
+			this.since = since;
+			this.limit = limit;
+			this.next = upTo;
+		}
+
+		/** One row more than the limit, so the query reveals whether it was cut off. */
+		Limit fetchLimit() {
+			return Limit.of(limit + 1);
+		}
+
+		/**
+		 * Trims rows fetched with {@link #fetchLimit()} to the limit. When cut off,
+		 * pulls the next cursor back to the last row kept, which always lies past
+		 * {@code since}; the next page resumes right after it.
+		 */
+		<E, R> List<R> take(List<E> rows, Function<E, SyncCursor> positionOf, Function<E, R> mapper) {
+			List<E> kept = rows;
+			if (rows.size() > limit) {
+				kept = rows.subList(0, limit);
+				SyncCursor last = positionOf.apply(kept.get(limit - 1));
+				if (last.compareTo(next) < 0) {
+					next = last;
+				}
+				truncated = true;
+			}
+			List<R> out = new ArrayList<>(kept.size());
+			for (E row : kept) {
+				out.add(mapper.apply(row));
+			}
+			return List.copyOf(out);
+		}
+
+		SyncCursor nextSince() {
+			return next.compareTo(since) < 0 ? since : next;
+		}
+	}
+}
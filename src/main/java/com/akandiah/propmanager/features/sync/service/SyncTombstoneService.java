@@ -0,0 +1,45 @@
+package com.akandiah.propmanager.features.sync.service;
+
+import java.time.Instant;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.akandiah.propmanager.config.SyncProperties;
+import com.akandiah.propmanager.features.sync.domain.EntityDeletedEvent;
+import com.akandiah.propmanager.features.sync.domain.SyncTombstone;
+import com.akandiah.propmanager.features.sync.domain.SyncTombstoneRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Records a {@link SyncTombstone} for every {@link EntityDeletedEvent}, just
+ * before the deleting transaction commits, so the tombstone exists exactly when
+ * the delete does. Tombstones past the retention window are purged nightly.
+ */
+@Service
+@Slf4j
+@RequiredArgsConstructor
+public class SyncTombstoneService {
+
+	private final SyncTombstoneRepository repository;
+	private final SyncProperties properties;
+
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+	public void onEntityDeleted(EntityDeletedEvent event) {
+		repository.save(SyncTombstone.from(event));
+	}
+
+	@Scheduled(cron = "0 45 3 * * *")
+	@Transactional
+	public void purgeExpired() {
+		int purged = repository.deleteByDeletedAtBefore(Instant.now().minus(properties.tombstoneRetention()));
+		if (purged > 0) {
+			log.info("Purged {} sync tombstone(s) older than {}", purged, properties.tombstoneRetention());
+		}
+	}
+}
@@ -1,8 +1,8 @@
 package com.akandiah.propmanager.features.tenant.api;
 
-import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -14,11 +14,17 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.akandiah.propmanager.common.dto.KeysetPageRequest;
+import com.akandiah.propmanager.common.dto.PageResponse;
+import com.akandiah.propmanager.common.export.NdjsonExporter;
 import com.akandiah.propmanager.common.permission.AccessListUtil;
 import com.akandiah.propmanager.common.permission.Actions;
 import com.akandiah.propmanager.common.permission.PermissionDomains;
 import com.akandiah.propmanager.common.permission.AccessListUtil.ScopedAccessFilter;
+import com.akandiah.propmanager.common.util.ConditionalGetUtil;
 import com.akandiah.propmanager.common.util.SecurityUtils;
 import com.akandiah.propmanager.features.tenant.api.dto.TenantResponse;
 import com.akandiah.propmanager.features.tenant.api.dto.UpdateTenantRequest;
@@ -47,16 +53,41 @@ public class TenantController {
 	@GetMapping
 	@PreAuthorize("isAuthenticated()")
 	@Operation(summary = "List tenants",
-			description = "Admins see all tenants. Authenticated users with LEASES:READ access see only tenants on their managed properties/units. Pass activeOnly=false to include tenants from expired leases.")
-	public ResponseEntity<List<TenantResponse>> list(
+			description = "Admins see all tenants. Authenticated users with LEASES:READ access see only tenants on their managed properties/units. Pass activeOnly=false to include tenants from expired leases."
+					+ " Keyset-paginated: pass the returned nextCursor as ?cursor= for the next page; includeTotal=true adds totalElements.")
+	public ResponseEntity<PageResponse<TenantResponse>> list(
 			@RequestParam(defaultValue = "true") boolean activeOnly,
-			HttpServletRequest request) {
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size,
+			@RequestParam(defaultValue = "false") boolean includeTotal,
+			HttpServletRequest request, WebRequest webRequest) {
+		KeysetPageRequest page = KeysetPageRequest.of(cursor, size, includeTotal);
 		if (SecurityUtils.isGlobalAdmin()) {
-			return ResponseEntity.ok(tenantService.findAll());
+			if (ConditionalGetUtil.notModified(webRequest, tenantService.stamp())) {
+				return null;
+			}
+			return ResponseEntity.ok(tenantService.findPage(page));
 		}
 		ScopedAccessFilter filter = AccessListUtil.forScopedResources(
 				AccessListUtil.fromRequest(request), PermissionDomains.TENANTS, Actions.READ);
-		return ResponseEntity.ok(tenantService.findAll(filter, activeOnly));
+		if (ConditionalGetUtil.notModified(webRequest, tenantService.stamp(filter, activeOnly))) {
+			return null;
+		}
+		return ResponseEntity.ok(tenantService.findPage(filter, activeOnly, page));
+	}
+
+	@GetMapping(produces = NdjsonExporter.MEDIA_TYPE)
+	@PreAuthorize("isAuthenticated()")
+	@Operation(summary = "Export tenants as NDJSON",
+			description = "Selected with Accept: application/x-ndjson. Streams every tenant on the caller's managed properties/units, one JSON object per line, without paging.")
+	public ResponseEntity<StreamingResponseBody> export(
+			@RequestParam(defaultValue = "true") boolean activeOnly,
+			HttpServletRequest request) {
+		ScopedAccessFilter filter = AccessListUtil.forScopedResources(
+				AccessListUtil.fromRequest(request), PermissionDomains.TENANTS, Actions.READ);
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(NdjsonExporter.MEDIA_TYPE))
+				.body(out -> tenantService.exportNdjson(filter, activeOnly, out));
 	}
 
 	@GetMapping("/{id}")
@@ -1,22 +1,51 @@
 package com.akandiah.propmanager.features.tenant.domain;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.akandiah.propmanager.common.domain.ListStamp;
+import com.akandiah.propmanager.common.export.NdjsonExporter;
+import com.akandiah.propmanager.features.lease.domain.LeaseRepository;
+
+import jakarta.persistence.QueryHint;
+
 public interface TenantRepository extends JpaRepository<Tenant, UUID> {
 
+	/**
+	 * Ids of the tenants on leases reachable through an access filter. The lease
+	 * side reuses {@link LeaseRepository#LEASE_IDS_IN_SCOPE}, so each scope set is
+	 * its own indexed UNION branch, and tenants are then found through
+	 * {@code lease_tenants.lease_id}. Selecting ids makes the outer query free of
+	 * duplicates without a DISTINCT over whole rows. Binds {@code :orgIds},
+	 * {@code :propIds}, {@code :unitIds} and {@code :activeOnly}; when
+	 * {@code activeOnly} is true only ACTIVE and REVIEW leases count.
+	 */
+	String TENANT_IDS_IN_SCOPE = """
+			SELECT lt.tenant.id FROM LeaseTenant lt JOIN lt.lease sl
+			WHERE sl.id IN (""" + LeaseRepository.LEASE_IDS_IN_SCOPE + """
+			)
+			AND (:activeOnly = false OR sl.status IN (
+			    com.akandiah.propmanager.features.lease.domain.LeaseStatus.ACTIVE,
+			    com.akandiah.propmanager.features.lease.domain.LeaseStatus.REVIEW
+			))
+			""";
+
 	Optional<Tenant> findByUser_Id(UUID userId);
 
 	/**
 	 * Returns tenants reachable via leases that fall within the given scoped access
 	 * filter. JOIN FETCH on user prevents N+1 when mapping to {@code TenantResponse}.
-	 * DISTINCT is required because a tenant may appear on multiple leases.
+	 * Matching on tenant ids keeps a tenant on several leases from appearing twice.
 	 *
 	 * @param orgIds     organization IDs the caller has access to
 	 * @param propIds    property IDs the caller has access to
@@ -24,21 +53,102 @@ public interface TenantRepository extends JpaRepository<Tenant, UUID> {
 	 * @param activeOnly when true, only tenants on ACTIVE or REVIEW leases are returned
 	 */
 	@Query("""
-			SELECT DISTINCT t FROM Tenant t
+			SELECT t FROM Tenant t
 			JOIN FETCH t.user u
-			JOIN LeaseTenant lt ON lt.tenant = t
-			JOIN lt.lease l
-			WHERE (l.unit.prop.organization.id IN :orgIds
-			   OR l.property.id IN :propIds
-			   OR l.unit.id IN :unitIds)
-			AND (:activeOnly = false OR l.status IN (
-			    com.akandiah.propmanager.features.lease.domain.LeaseStatus.ACTIVE,
-			    com.akandiah.propmanager.features.lease.domain.LeaseStatus.REVIEW
-			))
+			WHERE t.id IN (""" + TENANT_IDS_IN_SCOPE + """
+			)
 			""")
 	List<Tenant> findByAccessFilter(
-			@Param("orgIds") Set<UUID> orgIds,
-			@Param("propIds") Set<UUID> propIds,
-			@Param("unitIds") Set<UUID> unitIds,
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
+			@Param("activeOnly") boolean activeOnly);
+
+	/**
+	 * Keyset page of {@link #findByAccessFilter}: tenants with an id after
+	 * {@code after}, in id order.
+	 */
+	@Query("""
+			SELECT t FROM Tenant t
+			JOIN FETCH t.user u
+			WHERE t.id IN (""" + TENANT_IDS_IN_SCOPE + """
+			)
+			AND t.id > :after
+			ORDER BY t.id ASC
+			""")
+	List<Tenant> findPageByAccessFilter(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
+			@Param("activeOnly") boolean activeOnly,
+			@Param("after") UUID after,
+			Limit limit);
+
+	/**
+	 * Streams {@link #findByAccessFilter} in id order for NDJSON export. The caller
+	 * must consume and close the stream inside a read-only transaction.
+	 */
+	@Query("""
+			SELECT t FROM Tenant t
+			JOIN FETCH t.user u
+			WHERE t.id IN (""" + TENANT_IDS_IN_SCOPE + """
+			)
+			ORDER BY t.id ASC
+			""")
+	@QueryHints({
+			@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonExporter.FETCH_SIZE_HINT),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	Stream<Tenant> streamByAccessFilter(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
 			@Param("activeOnly") boolean activeOnly);
+
+	@Query("""
+			SELECT COUNT(t) FROM Tenant t
+			WHERE t.id IN (""" + TENANT_IDS_IN_SCOPE + """
+			)
+			""")
+	long countByAccessFilter(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
+			@Param("activeOnly") boolean activeOnly);
+
+	@Query("""
+			SELECT COUNT(t) AS count, MAX(t.updatedAt) AS maxUpdatedAt FROM Tenant t
+			WHERE t.id IN (""" + TENANT_IDS_IN_SCOPE + """
+			)
+			""")
+	ListStamp stampByAccessFilter(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
+			@Param("activeOnly") boolean activeOnly);
+
+	/** Tenants in scope updated after the keyset position {@code (since, afterId)}, oldest change first — feeds the sync feed. */
+	@Query("""
+			SELECT t FROM Tenant t
+			JOIN FETCH t.user u
+			WHERE (t.updatedAt, t.id) > (:since, :afterId)
+			AND t.id IN (""" + TENANT_IDS_IN_SCOPE + """
+			)
+			ORDER BY t.updatedAt ASC, t.id ASC
+			""")
+	List<Tenant> findChangedSince(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
+			@Param("activeOnly") boolean activeOnly,
+			@Param("since") Instant since,
+			@Param("afterId") UUID afterId,
+			Limit limit);
+
+	@Query("SELECT COUNT(t) AS count, MAX(t.updatedAt) AS maxUpdatedAt FROM Tenant t")
+	ListStamp stampAll();
+
+	/** Keyset page over every tenant (admin use). */
+	@Query("SELECT t FROM Tenant t JOIN FETCH t.user WHERE t.id > :after ORDER BY t.id ASC")
+	List<Tenant> findPage(@Param("after") UUID after, Limit limit);
 }
@@ -1,13 +1,19 @@
 package com.akandiah.propmanager.features.tenant.service;
 
+import java.io.OutputStream;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.akandiah.propmanager.common.domain.ListStamp;
+import com.akandiah.propmanager.common.dto.KeysetPageRequest;
+import com.akandiah.propmanager.common.dto.PageResponse;
 import com.akandiah.propmanager.common.exception.ResourceNotFoundException;
+import com.akandiah.propmanager.common.export.NdjsonExporter;
 import com.akandiah.propmanager.common.permission.AccessListUtil.ScopedAccessFilter;
 import com.akandiah.propmanager.common.util.OptimisticLockingUtil;
 import com.akandiah.propmanager.features.tenant.api.dto.TenantResponse;
@@ -24,6 +30,7 @@ import lombok.RequiredArgsConstructor;
 public class TenantService {
 
 	private final TenantRepository tenantRepository;
+	private final NdjsonExporter ndjsonExporter;
 
 	// ───────────────────────── Queries ─────────────────────────
 
@@ -45,12 +52,54 @@ public class TenantService {
 	public List<TenantResponse> findAll(ScopedAccessFilter filter, boolean activeOnly) {
 		if (filter.isEmpty()) return List.of();
 		return tenantRepository
-				.findByAccessFilter(filter.orgIds(), filter.propIds(), filter.unitIds(), activeOnly)
+				.findByAccessFilter(filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), activeOnly)
 				.stream()
 				.map(TenantResponse::from)
 				.toList();
 	}
 
+	/** Keyset page over all tenants (admin use only — no scope filtering). */
+	public PageResponse<TenantResponse> findPage(KeysetPageRequest page) {
+		List<Tenant> rows = tenantRepository.findPage(page.after(), page.fetchLimit());
+		return page.toPage(rows, Tenant::getId, TenantResponse::from, tenantRepository::count);
+	}
+
+	/**
+	 * Keyset page of {@link #findAll(ScopedAccessFilter, boolean)}. Returns an
+	 * empty page without querying when the filter is empty.
+	 */
+	public PageResponse<TenantResponse> findPage(ScopedAccessFilter filter, boolean activeOnly, KeysetPageRequest page) {
+		if (filter.isEmpty()) return page.empty();
+		List<Tenant> rows = tenantRepository.findPageByAccessFilter(
+				filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), activeOnly, page.after(), page.fetchLimit());
+		return page.toPage(rows, Tenant::getId, TenantResponse::from,
+				() -> tenantRepository.countByAccessFilter(filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), activeOnly));
+	}
+
+	/** Count and newest update across all tenants, for the admin list ETag. */
+	public ListStamp stamp() {
+		return tenantRepository.stampAll();
+	}
+
+	/** Count and newest update across {@link #findPage(ScopedAccessFilter, boolean, KeysetPageRequest)}'s filter. */
+	public ListStamp stamp(ScopedAccessFilter filter, boolean activeOnly) {
+		if (filter.isEmpty()) return ListStamp.EMPTY;
+		return tenantRepository.stampByAccessFilter(
+				filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), activeOnly);
+	}
+
+	/**
+	 * Writes every tenant visible through {@code filter} to {@code out} as NDJSON,
+	 * streaming from the database rather than loading the list. Returns the row count.
+	 */
+	public long exportNdjson(ScopedAccessFilter filter, boolean activeOnly, OutputStream out) {
+		if (filter.isEmpty()) return 0;
+		try (Stream<Tenant> rows = tenantRepository.streamByAccessFilter(
+				filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), activeOnly)) {
+			return ndjsonExporter.write(rows, TenantResponse::from, out);
+		}
+	}
+
 	public TenantResponse findById(UUID id) {
 		Tenant tenant = tenantRepository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Tenant", id));
@@ -1,9 +1,9 @@
 package com.akandiah.propmanager.features.unit.api;
 
-import java.util.List;
 import java.util.UUID;
 
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -17,11 +17,20 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.context.request.WebRequest;
 
+import com.akandiah.propmanager.common.dto.BatchRequest;
+import com.akandiah.propmanager.common.dto.BatchResponse;
+import com.akandiah.propmanager.common.dto.BatchUpdate;
+import com.akandiah.propmanager.common.dto.KeysetPageRequest;
+import com.akandiah.propmanager.common.dto.PageResponse;
+import com.akandiah.propmanager.common.export.NdjsonExporter;
 import com.akandiah.propmanager.common.permission.AccessListUtil;
 import com.akandiah.propmanager.common.permission.AccessListUtil.ScopedAccessFilter;
 import com.akandiah.propmanager.common.permission.Actions;
 import com.akandiah.propmanager.common.permission.PermissionDomains;
+import com.akandiah.propmanager.common.util.ConditionalGetUtil;
 import com.akandiah.propmanager.features.unit.api.dto.CreateUnitRequest;
 import com.akandiah.propmanager.features.unit.api.dto.UnitResponse;
 import com.akandiah.propmanager.features.unit.api.dto.UpdateUnitRequest;
@@ -45,20 +54,45 @@ public class UnitController {
 
 	@GetMapping
 	@PreAuthorize("@orgGuard.isMember(#orgId, authentication)")
-	@Operation(summary = "List units (optionally filtered by propId, or all accessible in organization)")
-	public List<UnitResponse> list(
+	@Operation(summary = "List units (optionally filtered by propId, or all accessible in organization)",
+			description = "Keyset-paginated: pass the returned nextCursor as ?cursor= for the next page; includeTotal=true adds totalElements.")
+	public PageResponse<UnitResponse> list(
+			@RequestParam(required = false) UUID propId,
+			@RequestParam UUID orgId,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(required = false) Integer size,
+			@RequestParam(defaultValue = "false") boolean includeTotal,
+			HttpServletRequest request, WebRequest webRequest) {
+		ScopedAccessFilter filter = AccessListUtil.forScopedResources(
+				AccessListUtil.fromRequest(request), PermissionDomains.PORTFOLIO, Actions.READ);
+		if (ConditionalGetUtil.notModified(webRequest, unitService.stamp(filter, orgId, propId))) {
+			return null;
+		}
+		return unitService.findPage(filter, orgId, propId, KeysetPageRequest.of(cursor, size, includeTotal));
+	}
+
+	@GetMapping(produces = NdjsonExporter.MEDIA_TYPE)
+	@PreAuthorize("@orgGuard.isMember(#orgId, authentication)")
+	@Operation(summary = "Export units as NDJSON",
+			description = "Selected with Accept: application/x-ndjson. Streams every accessible unit, one JSON object per line, without paging.")
+	public ResponseEntity<StreamingResponseBody> export(
 			@RequestParam(required = false) UUID propId,
 			@RequestParam UUID orgId,
 			HttpServletRequest request) {
 		ScopedAccessFilter filter = AccessListUtil.forScopedResources(
 				AccessListUtil.fromRequest(request), PermissionDomains.PORTFOLIO, Actions.READ);
-		return unitService.findAll(filter, orgId, propId);
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(NdjsonExporter.MEDIA_TYPE))
+				.body(out -> unitService.exportNdjson(filter, orgId, propId, out));
 	}
 
 	@GetMapping("/{id}")
 	@PreAuthorizeUnitAccess("READ")
 	@Operation(summary = "Get unit by ID")
-	public UnitResponse getById(@PathVariable UUID id, @RequestParam UUID orgId) {
+	public UnitResponse getById(@PathVariable UUID id, @RequestParam UUID orgId, WebRequest webRequest) {
+		if (ConditionalGetUtil.notModified(webRequest, unitService.findStamp(id))) {
+			return null;
+		}
 		return unitService.findById(id);
 	}
 
@@ -71,6 +105,25 @@ public class UnitController {
 		return ResponseEntity.status(HttpStatus.CREATED).body(created);
 	}
 
+	@PostMapping("/batch")
+	@PreAuthorize("@permissionGuard.hasAccess('CREATE', 'PORTFOLIO', 'PROPERTY', #propId, #orgId)")
+	@Operation(summary = "Create many units under one prop",
+			description = "Authorized once for the prop. Returns 200 with a result per item; an item naming another prop or an existing id fails on its own.")
+	public BatchResponse<UnitResponse> createAll(@Valid @RequestBody BatchRequest<CreateUnitRequest> request,
+			@RequestParam UUID propId, @RequestParam UUID orgId) {
+		return unitService.createAll(propId, request.items());
+	}
+
+	@PatchMapping("/batch")
+	@PreAuthorize("@permissionGuard.hasAccess('UPDATE', 'PORTFOLIO', 'PROPERTY', #propId, #orgId)")
+	@Operation(summary = "Update many units of one prop",
+			description = "Authorized once for the prop. Returns 200 with a result per item; unknown ids, stale versions and moves to another prop fail on their own.")
+	public BatchResponse<UnitResponse> updateAll(
+			@Valid @RequestBody BatchRequest<BatchUpdate<UpdateUnitRequest>> request,
+			@RequestParam UUID propId, @RequestParam UUID orgId) {
+		return unitService.updateAll(propId, request.items());
+	}
+
 	@PatchMapping("/{id}")
 	@PreAuthorizeUnitAccess("UPDATE")
 	@Operation(summary = "Update a unit")
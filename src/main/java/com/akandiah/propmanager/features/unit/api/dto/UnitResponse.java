@@ -5,6 +5,7 @@ import java.time.Instant;
 import java.util.UUID;
 
 import com.akandiah.propmanager.features.unit.domain.Unit;
+import com.akandiah.propmanager.features.unit.domain.UnitRepository.UnitListRow;
 import com.akandiah.propmanager.features.unit.domain.UnitStatus;
 import com.akandiah.propmanager.features.unit.domain.UnitType;
 
@@ -47,4 +48,25 @@ public record UnitResponse(
 				unit.getCreatedAt(),
 				unit.getUpdatedAt());
 	}
+
+	public static UnitResponse from(UnitListRow row) {
+		return new UnitResponse(
+				row.getId(),
+				row.getPropertyId(),
+				row.getUnitNumber(),
+				row.getStatus(),
+				row.getUnitType(),
+				row.getDescription(),
+				row.getRentAmount(),
+				row.getSecurityDeposit(),
+				row.getBedrooms(),
+				row.getBathrooms(),
+				row.getSquareFootage(),
+				row.getBalcony(),
+				row.getLaundryInUnit(),
+				row.getHardwoodFloors(),
+				row.getVersion(),
+				row.getCreatedAt(),
+				row.getUpdatedAt());
+	}
 }
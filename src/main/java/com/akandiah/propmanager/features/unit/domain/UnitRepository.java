@@ -1,39 +1,228 @@
 package com.akandiah.propmanager.features.unit.domain;
 
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import com.akandiah.propmanager.common.domain.EntityStamp;
+import com.akandiah.propmanager.common.domain.ListStamp;
+import com.akandiah.propmanager.common.export.NdjsonExporter;
+
+import jakarta.persistence.QueryHint;
+
 public interface UnitRepository extends JpaRepository<Unit, UUID> {
 
+	/**
+	 * Ids of the units reachable through an access filter, one UNION branch per
+	 * scope set so each can use its own index ({@code prop.organization_id} then
+	 * {@code units.property_id}; {@code units.property_id}; the primary key)
+	 * instead of an OR across joins. Binds {@code :orgIds}, {@code :propIds} and
+	 * {@code :unitIds}, each as one {@code UUID[]} through {@code any_of}.
+	 */
+	String UNIT_IDS_IN_SCOPE = """
+			SELECT u1.id FROM Unit u1 JOIN u1.prop p1 WHERE any_of(p1.organization.id, :orgIds)
+			UNION
+			SELECT u2.id FROM Unit u2 WHERE any_of(u2.prop.id, :propIds)
+			UNION
+			SELECT u3.id FROM Unit u3 WHERE any_of(u3.id, :unitIds)
+			""";
+
 	List<Unit> findByProp_IdOrderByUnitNumberAsc(UUID propId);
 
 	long countByProp_Id(UUID propId);
 
 	boolean existsByIdAndProp_Organization_Id(UUID id, UUID organizationId);
 
-	/** Fetches a unit with its prop and org in a single join — avoids the N+1 in hierarchy resolution. */
-	@Query("SELECT u FROM Unit u JOIN FETCH u.prop p JOIN FETCH p.organization WHERE u.id = :id")
-	Optional<Unit> findByIdWithPropAndOrg(@Param("id") UUID id);
+	/** Which of {@code ids} already exist, so a batch insert can reject them per item. */
+	@Query("SELECT u.id FROM Unit u WHERE u.id IN :ids")
+	List<UUID> findIdsByIdIn(@Param("ids") Collection<UUID> ids);
+
+	/** Parent ids of a unit, as loaded for the hierarchy cache. */
+	interface UnitParents {
+		UUID getId();
+
+		UUID getPropId();
+
+		UUID getOrgId();
+	}
+
+	/** Parent ids of one unit; {@code orgId} is null when the prop has no organization. */
+	@Query("SELECT u.id AS id, p.id AS propId, o.id AS orgId FROM Unit u JOIN u.prop p LEFT JOIN p.organization o WHERE u.id = :id")
+	Optional<UnitParents> findParentsById(@Param("id") UUID id);
+
+	/** Unit count for one status. */
+	interface StatusCount {
+		UnitStatus getStatus();
+
+		long getCount();
+	}
+
+	/** Unit counts per status for one property — feeds the portfolio stats row. */
+	@Query("SELECT u.status AS status, COUNT(u) AS count FROM Unit u WHERE u.prop.id = :propId GROUP BY u.status")
+	List<StatusCount> countByStatusForProp(@Param("propId") UUID propId);
+
+	/** Loads the prop/org ids for many units in one query — feeds the hierarchy cache. */
+	@Query("SELECT u.id AS id, p.id AS propId, o.id AS orgId FROM Unit u JOIN u.prop p JOIN p.organization o WHERE u.id IN :ids")
+	List<UnitParents> findParentsByIdIn(@Param("ids") Collection<UUID> ids);
 
 	@Query("""
 			SELECT u FROM Unit u
-			WHERE (u.prop.organization.id IN :orgIds
-			   OR u.prop.id IN :propIds
-			   OR u.id IN :unitIds)
+			WHERE u.id IN (""" + UNIT_IDS_IN_SCOPE + """
+			)
 			AND u.prop.organization.id = :orgId
 			AND (:propId IS NULL OR u.prop.id = :propId)
 			ORDER BY u.prop.legalName ASC, u.unitNumber ASC
 			""")
 	List<Unit> findByAccessFilter(
-			@Param("orgIds") Collection<UUID> orgIds,
-			@Param("propIds") Collection<UUID> propIds,
-			@Param("unitIds") Collection<UUID> unitIds,
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
+			@Param("orgId") UUID orgId,
+			@Param("propId") UUID propId);
+
+	/** Column projection read by list views, so no managed {@link Unit} is built per row. */
+	interface UnitListRow {
+		UUID getId();
+
+		UUID getPropertyId();
+
+		String getUnitNumber();
+
+		UnitStatus getStatus();
+
+		UnitType getUnitType();
+
+		String getDescription();
+
+		BigDecimal getRentAmount();
+
+		BigDecimal getSecurityDeposit();
+
+		Integer getBedrooms();
+
+		Integer getBathrooms();
+
+		Integer getSquareFootage();
+
+		Boolean getBalcony();
+
+		Boolean getLaundryInUnit();
+
+		Boolean getHardwoodFloors();
+
+		Integer getVersion();
+
+		Instant getCreatedAt();
+
+		Instant getUpdatedAt();
+	}
+
+	/**
+	 * Keyset page of {@link #findByAccessFilter}, projected to {@link UnitListRow}.
+	 * Ordered by id rather than property name and unit number, so the page
+	 * boundary is a single indexed seek.
+	 */
+	@Query("""
+			SELECT u.id AS id, u.prop.id AS propertyId, u.unitNumber AS unitNumber,
+			       u.status AS status, u.unitType AS unitType, u.description AS description,
+			       u.rentAmount AS rentAmount, u.securityDeposit AS securityDeposit,
+			       u.bedrooms AS bedrooms, u.bathrooms AS bathrooms, u.squareFootage AS squareFootage,
+			       u.balcony AS balcony, u.laundryInUnit AS laundryInUnit, u.hardwoodFloors AS hardwoodFloors,
+			       u.version AS version, u.createdAt AS createdAt, u.updatedAt AS updatedAt
+			FROM Unit u
+			WHERE u.id IN (""" + UNIT_IDS_IN_SCOPE + """
+			)
+			AND u.prop.organization.id = :orgId
+			AND (:propId IS NULL OR u.prop.id = :propId)
+			AND u.id > :after
+			ORDER BY u.id ASC
+			""")
+	List<UnitListRow> findPageByAccessFilter(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
+			@Param("orgId") UUID orgId,
+			@Param("propId") UUID propId,
+			@Param("after") UUID after,
+			Limit limit);
+
+	/**
+	 * Streams {@link #findByAccessFilter} in id order for NDJSON export. The caller
+	 * must consume and close the stream inside a read-only transaction.
+	 */
+	@Query("""
+			SELECT u FROM Unit u
+			WHERE u.id IN (""" + UNIT_IDS_IN_SCOPE + """
+			)
+			AND u.prop.organization.id = :orgId
+			AND (:propId IS NULL OR u.prop.id = :propId)
+			ORDER BY u.id ASC
+			""")
+	@QueryHints({
+			@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = NdjsonExporter.FETCH_SIZE_HINT),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+	})
+	Stream<Unit> streamByAccessFilter(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
+			@Param("orgId") UUID orgId,
+			@Param("propId") UUID propId);
+
+	@Query("""
+			SELECT COUNT(u) FROM Unit u
+			WHERE u.id IN (""" + UNIT_IDS_IN_SCOPE + """
+			)
+			AND u.prop.organization.id = :orgId
+			AND (:propId IS NULL OR u.prop.id = :propId)
+			""")
+	long countByAccessFilter(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
+			@Param("orgId") UUID orgId,
+			@Param("propId") UUID propId);
+
+	Optional<EntityStamp> findStampById(UUID id);
+
+	/** Units in scope updated after the keyset position {@code (since, afterId)}, oldest change first — feeds the sync feed. */
+	@Query("""
+			SELECT u FROM Unit u
+			WHERE (u.updatedAt, u.id) > (:since, :afterId)
+			AND u.id IN (""" + UNIT_IDS_IN_SCOPE + """
+			)
+			ORDER BY u.updatedAt ASC, u.id ASC
+			""")
+	List<Unit> findChangedSince(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
+			@Param("since") Instant since,
+			@Param("afterId") UUID afterId,
+			Limit limit);
+
+	@Query("""
+			SELECT COUNT(u) AS count, MAX(u.updatedAt) AS maxUpdatedAt FROM Unit u
+			WHERE u.id IN (""" + UNIT_IDS_IN_SCOPE + """
+			)
+			AND u.prop.organization.id = :orgId
+			AND (:propId IS NULL OR u.prop.id = :propId)
+			""")
+	ListStamp stampByAccessFilter(
+			@Param("orgIds") UUID[] orgIds,
+			@Param("propIds") UUID[] propIds,
+			@Param("unitIds") UUID[] unitIds,
 			@Param("orgId") UUID orgId,
 			@Param("propId") UUID propId);
 }
@@ -1,16 +1,31 @@
 package com.akandiah.propmanager.features.unit.service;
 
+import java.io.OutputStream;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.akandiah.propmanager.common.domain.EntityStamp;
+import com.akandiah.propmanager.common.domain.ListStamp;
+import com.akandiah.propmanager.common.dto.BatchResponse;
+import com.akandiah.propmanager.common.dto.BatchUpdate;
+import com.akandiah.propmanager.common.dto.KeysetPageRequest;
+import com.akandiah.propmanager.common.dto.PageResponse;
 import com.akandiah.propmanager.common.exception.ResourceNotFoundException;
+import com.akandiah.propmanager.common.export.NdjsonExporter;
 import com.akandiah.propmanager.common.permission.AccessListUtil.ScopedAccessFilter;
+import com.akandiah.propmanager.common.permission.HierarchyChangedEvent;
 import com.akandiah.propmanager.common.permission.ResourceType;
 import com.akandiah.propmanager.common.util.DeleteGuardUtil;
 import com.akandiah.propmanager.common.util.OptimisticLockingUtil;
@@ -18,13 +33,18 @@ import com.akandiah.propmanager.features.auth.domain.PermissionsChangedEvent;
 import com.akandiah.propmanager.features.asset.domain.AssetRepository;
 import com.akandiah.propmanager.features.lease.domain.LeaseRepository;
 import com.akandiah.propmanager.features.membership.domain.PolicyAssignmentRepository;
+import com.akandiah.propmanager.features.portfolio.domain.PortfolioChangedEvent;
 import com.akandiah.propmanager.features.prop.domain.Prop;
 import com.akandiah.propmanager.features.prop.domain.PropRepository;
+import com.akandiah.propmanager.features.sync.domain.EntityDeletedEvent;
+import com.akandiah.propmanager.features.sync.domain.SyncEntityType;
 import com.akandiah.propmanager.features.unit.api.dto.CreateUnitRequest;
 import com.akandiah.propmanager.features.unit.api.dto.UnitResponse;
 import com.akandiah.propmanager.features.unit.api.dto.UpdateUnitRequest;
 import com.akandiah.propmanager.features.unit.domain.Unit;
 import com.akandiah.propmanager.features.unit.domain.UnitRepository;
+import com.akandiah.propmanager.features.unit.domain.UnitRepository.UnitListRow;
+import com.akandiah.propmanager.features.unit.domain.UnitRepository.UnitParents;
 
 import lombok.RequiredArgsConstructor;
 
@@ -39,6 +59,7 @@ public class UnitService {
 	private final LeaseRepository leaseRepository;
 	private final PolicyAssignmentRepository assignmentRepository;
 	private final ApplicationEventPublisher eventPublisher;
+	private final NdjsonExporter ndjsonExporter;
 
 	public List<UnitResponse> findAll() {
 		return unitRepository.findAll().stream()
@@ -48,17 +69,49 @@ public class UnitService {
 
 	public List<UnitResponse> findAll(ScopedAccessFilter filter, UUID orgId, UUID propId) {
 		if (filter.isEmpty()) return List.of();
-		return unitRepository.findByAccessFilter(filter.orgIds(), filter.propIds(), filter.unitIds(), orgId, propId).stream()
+		return unitRepository.findByAccessFilter(filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), orgId, propId).stream()
 				.map(UnitResponse::from)
 				.toList();
 	}
 
+	public PageResponse<UnitResponse> findPage(ScopedAccessFilter filter, UUID orgId, UUID propId,
+			KeysetPageRequest page) {
+		if (filter.isEmpty()) return page.empty();
+		List<UnitListRow> rows = unitRepository.findPageByAccessFilter(
+				filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), orgId, propId, page.after(), page.fetchLimit());
+		return page.toPage(rows, UnitListRow::getId, UnitResponse::from,
+				() -> unitRepository.countByAccessFilter(filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), orgId, propId));
+	}
+
+	/**
+	 * Writes every unit in {@code filter} to {@code out} as NDJSON, streaming
+	 * from the database rather than loading the list. Returns the row count.
+	 */
+	public long exportNdjson(ScopedAccessFilter filter, UUID orgId, UUID propId, OutputStream out) {
+		if (filter.isEmpty()) return 0;
+		try (Stream<Unit> rows = unitRepository.streamByAccessFilter(
+				filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), orgId, propId)) {
+			return ndjsonExporter.write(rows, UnitResponse::from, out);
+		}
+	}
+
 	public List<UnitResponse> findByPropId(UUID propId) {
 		return unitRepository.findByProp_IdOrderByUnitNumberAsc(propId).stream()
 				.map(UnitResponse::from)
 				.toList();
 	}
 
+	/** Count and newest update across {@link #findPage}'s filter, for the list ETag. */
+	public ListStamp stamp(ScopedAccessFilter filter, UUID orgId, UUID propId) {
+		if (filter.isEmpty()) return ListStamp.EMPTY;
+		return unitRepository.stampByAccessFilter(
+				filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), orgId, propId);
+	}
+
+	public Optional<EntityStamp> findStamp(UUID id) {
+		return unitRepository.findStampById(id);
+	}
+
 	public UnitResponse findById(UUID id) {
 		Unit unit = unitRepository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Unit", id));
@@ -69,23 +122,9 @@ public class UnitService {
 	public UnitResponse create(CreateUnitRequest request) {
 		Prop prop = propRepository.findById(request.propertyId())
 				.orElseThrow(() -> new ResourceNotFoundException("Prop", request.propertyId()));
-		Unit unit = Unit.builder()
-				.id(request.id())
-				.prop(prop)
-				.unitNumber(request.unitNumber())
-				.status(request.status())
-				.unitType(request.unitType())
-				.description(request.description())
-				.rentAmount(request.rentAmount())
-				.securityDeposit(request.securityDeposit())
-				.bedrooms(request.bedrooms())
-				.bathrooms(request.bathrooms())
-				.squareFootage(request.squareFootage())
-				.balcony(request.balcony())
-				.laundryInUnit(request.laundryInUnit())
-				.hardwoodFloors(request.hardwoodFloors())
-				.build();
+		Unit unit = toUnit(request, prop);
 		unit = unitRepository.save(unit);
+		eventPublisher.publishEvent(new PortfolioChangedEvent(prop.getId()));
 		return UnitResponse.from(unit);
 	}
 
@@ -94,11 +133,128 @@ public class UnitService {
 		Unit unit = unitRepository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("Unit", id));
 		OptimisticLockingUtil.requireVersionMatch("Unit", id, unit.getVersion(), request.version());
+		UUID previousPropId = unit.getProp().getId();
+		boolean reparented = false;
 		if (request.propertyId() != null) {
 			Prop prop = propRepository.findById(request.propertyId())
 					.orElseThrow(() -> new ResourceNotFoundException("Prop", request.propertyId()));
+			reparented = !prop.getId().equals(previousPropId);
 			unit.setProp(prop);
 		}
+		applyChanges(unit, request);
+		unit = unitRepository.save(unit);
+		eventPublisher.publishEvent(new PortfolioChangedEvent(unit.getProp().getId()));
+		if (reparented) {
+			eventPublisher.publishEvent(new PortfolioChangedEvent(previousPropId));
+			eventPublisher.publishEvent(new HierarchyChangedEvent(ResourceType.UNIT, id));
+		}
+		return UnitResponse.from(unit);
+	}
+
+	/**
+	 * Creates many units under one prop, inserted with JDBC batching. The prop is
+	 * loaded once; items whose propertyId names another prop or whose id is
+	 * already taken are rejected individually.
+	 */
+	@Transactional
+	public BatchResponse<UnitResponse> createAll(UUID propId, List<CreateUnitRequest> requests) {
+		Prop prop = propRepository.findById(propId)
+				.orElseThrow(() -> new ResourceNotFoundException("Prop", propId));
+		Set<UUID> taken = new HashSet<>(unitRepository.findIdsByIdIn(requests.stream()
+				.map(CreateUnitRequest::id).filter(Objects::nonNull).toList()));
+
+		BatchResponse.Builder<UnitResponse> results = new BatchResponse.Builder<>(requests.size());
+		Map<Integer, Unit> pending = new LinkedHashMap<>();
+		for (int i = 0; i < requests.size(); i++) {
+			CreateUnitRequest request = requests.get(i);
+			if (!propId.equals(request.propertyId())) {
+				results.failed(i, request.id(), "propertyId must be " + propId);
+			} else if (request.id() != null && !taken.add(request.id())) {
+				results.failed(i, request.id(), "Unit " + request.id() + " already exists");
+			} else {
+				pending.put(i, toUnit(request, prop));
+			}
+		}
+		if (!pending.isEmpty()) {
+			unitRepository.saveAll(pending.values());
+			pending.forEach((i, unit) -> results.ok(i, unit.getId(), UnitResponse.from(unit)));
+			eventPublisher.publishEvent(new PortfolioChangedEvent(propId));
+		}
+		return results.build();
+	}
+
+	/**
+	 * Applies many PATCHes to units of one prop, loading them in one query and
+	 * flushing the changes as JDBC batches. Moving a unit to another prop is not
+	 * supported here; use {@link #update} for that.
+	 */
+	@Transactional
+	public BatchResponse<UnitResponse> updateAll(UUID propId, List<BatchUpdate<UpdateUnitRequest>> updates) {
+		Map<UUID, Unit> units = new HashMap<>();
+		unitRepository.findAllById(updates.stream().map(BatchUpdate::id).toList())
+				.forEach(u -> units.put(u.getId(), u));
+
+		BatchResponse.Builder<UnitResponse> results = new BatchResponse.Builder<>(updates.size());
+		Map<Integer, Unit> pending = new LinkedHashMap<>();
+		Set<UUID> seen = new HashSet<>();
+		for (int i = 0; i < updates.size(); i++) {
+			UUID id = updates.get(i).id();
+			UpdateUnitRequest request = updates.get(i).changes();
+			Unit unit = units.get(id);
+			if (unit == null || !unit.getProp().getId().equals(propId)) {
+				results.failed(i, id, "Unit " + id + " not found in prop " + propId);
+			} else if (!seen.add(id)) {
+				results.failed(i, id, "Unit " + id + " appears more than once");
+			} else if (!unit.getVersion().equals(request.version())) {
+				results.failed(i, id, "Unit " + id + " has been modified by another user. Expected version "
+						+ request.version() + " but current version is " + unit.getVersion());
+			} else if (request.propertyId() != null && !request.propertyId().equals(propId)) {
+				results.failed(i, id, "Units cannot be moved to another prop in a batch");
+			} else {
+				applyChanges(unit, request);
+				pending.put(i, unit);
+			}
+		}
+		if (!pending.isEmpty()) {
+			unitRepository.flush();
+			pending.forEach((i, unit) -> results.ok(i, unit.getId(), UnitResponse.from(unit)));
+			eventPublisher.publishEvent(new PortfolioChangedEvent(propId));
+		}
+		return results.build();
+	}
+
+	@Transactional
+	public void deleteById(UUID id) {
+		UnitParents parents = unitRepository.findParentsById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Unit", id));
+		UUID propId = parents.getPropId();
+
+		// Guard against orphaning child records
+		DeleteGuardUtil.requireNoChildren("Unit", id, assetRepository.countByUnit_Id(id), "asset(s)", "Delete those first.");
+		DeleteGuardUtil.requireNoChildren("Unit", id, leaseRepository.countByUnit_Id(id), "lease(s)", "Delete those first.");
+
+		// Collect userIds from affected assignments before deleting them
+		Set<UUID> affectedUserIds = new HashSet<>();
+		assignmentRepository.findByResourceTypeAndResourceId(ResourceType.UNIT, id)
+				.forEach(a -> {
+					if (a.getMembership().getUser() != null) {
+						affectedUserIds.add(a.getMembership().getUser().getId());
+					}
+				});
+
+		assignmentRepository.deleteByResourceTypeAndResourceId(ResourceType.UNIT, id);
+		unitRepository.deleteById(id);
+		eventPublisher.publishEvent(new HierarchyChangedEvent(ResourceType.UNIT, id));
+		eventPublisher.publishEvent(new PortfolioChangedEvent(propId));
+		eventPublisher.publishEvent(new EntityDeletedEvent(SyncEntityType.UNIT, id, parents.getOrgId(), propId, id));
+
+		if (!affectedUserIds.isEmpty()) {
+			eventPublisher.publishEvent(new PermissionsChangedEvent(affectedUserIds));
+		}
+	}
+
+	/** Copies the non-null fields of {@code request} other than the parent prop. */
+	private static void applyChanges(Unit unit, UpdateUnitRequest request) {
 		if (request.unitNumber() != null) {
 			unit.setUnitNumber(request.unitNumber());
 		}
@@ -135,34 +291,24 @@ public class UnitService {
 		if (request.hardwoodFloors() != null) {
 			unit.setHardwoodFloors(request.hardwoodFloors());
 		}
-		unit = unitRepository.save(unit);
-		return UnitResponse.from(unit);
 	}
 
-	@Transactional
-	public void deleteById(UUID id) {
-		if (!unitRepository.existsById(id)) {
-			throw new ResourceNotFoundException("Unit", id);
-		}
-
-		// Guard against orphaning child records
-		DeleteGuardUtil.requireNoChildren("Unit", id, assetRepository.countByUnit_Id(id), "asset(s)", "Delete those first.");
-		DeleteGuardUtil.requireNoChildren("Unit", id, leaseRepository.countByUnit_Id(id), "lease(s)", "Delete those first.");
-
-		// Collect userIds from affected assignments before deleting them
-		Set<UUID> affectedUserIds = new HashSet<>();
-		assignmentRepository.findByResourceTypeAndResourceId(ResourceType.UNIT, id)
-				.forEach(a -> {
-					if (a.getMembership().getUser() != null) {
-						affectedUserIds.add(a.getMembership().getUser().getId());
-					}
-				});
-
-		assignmentRepository.deleteByResourceTypeAndResourceId(ResourceType.UNIT, id);
-		unitRepository.deleteById(id);
-
-		if (!affectedUserIds.isEmpty()) {
-			eventPublisher.publishEvent(new PermissionsChangedEvent(affectedUserIds));
-		}
+	private static Unit toUnit(CreateUnitRequest request, Prop prop) {
+		return Unit.builder()
+				.id(request.id())
+				.prop(prop)
+				.unitNumber(request.unitNumber())
+				.status(request.status())
+				.unitType(request.unitType())
+				.description(request.description())
+				.rentAmount(request.rentAmount())
+				.securityDeposit(request.securityDeposit())
+				.bedrooms(request.bedrooms())
+				.bathrooms(request.bathrooms())
+				.squareFootage(request.squareFootage())
+				.balcony(request.balcony())
+				.laundryInUnit(request.laundryInUnit())
+				.hardwoodFloors(request.hardwoodFloors())
+				.build();
 	}
 }
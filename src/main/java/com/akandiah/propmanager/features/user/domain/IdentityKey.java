@@ -0,0 +1,5 @@
+package com.akandiah.propmanager.features.user.domain;
+
+/** Cache key for an OIDC identity: normalized issuer plus subject. */
+public record IdentityKey(String issuer, String sub) {
+}
@@ -14,4 +14,7 @@ public interface UserIdentityRepository extends JpaRepository<UserIdentity, UUID
 
 	@Query("select ui from UserIdentity ui join fetch ui.user where ui.issuer = :issuer and ui.sub = :sub")
 	Optional<UserIdentity> findByIssuerAndSubWithUser(String issuer, String sub);
+
+	@Query("select ui.user.id from UserIdentity ui where ui.issuer = :issuer and ui.sub = :sub")
+	Optional<UUID> findUserIdByIssuerAndSub(String issuer, String sub);
 }
@@ -1,13 +1,22 @@
 package com.akandiah.propmanager.features.user.domain;
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, UUID> {
 
 	Optional<User> findByEmail(String email);
+
+	/** IDs of users who signed in at or after {@code since}, most recent first. */
+	@Query("SELECT u.id FROM User u WHERE u.lastLoggedInAt >= :since ORDER BY u.lastLoggedInAt DESC")
+	List<UUID> findIdsLoggedInSince(@Param("since") Instant since, Pageable pageable);
 }
@@ -2,18 +2,23 @@ package com.akandiah.propmanager.features.user.service;
 
 import java.time.Instant;
 import java.util.Optional;
+import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.akandiah.propmanager.features.user.domain.IdentityKey;
 import com.akandiah.propmanager.features.user.domain.User;
 import com.akandiah.propmanager.features.user.domain.UserIdentity;
 import com.akandiah.propmanager.features.user.domain.UserIdentityRepository;
 import com.akandiah.propmanager.features.user.domain.UserRegisteredEvent;
 import com.akandiah.propmanager.features.user.domain.UserRepository;
 
+import com.github.benmanes.caffeine.cache.Cache;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -32,6 +37,8 @@ public class UserService {
 	private final UserRepository userRepository;
 	private final UserIdentityRepository userIdentityRepository;
 	private final ApplicationEventPublisher eventPublisher;
+	@Qualifier("identityCache")
+	private final Cache<IdentityKey, UUID> identityCache;
 
 	/**
 	 * Resolves the user for the given OIDC identity (issuer + subject).
@@ -56,6 +63,26 @@ public class UserService {
 		return findUserByIdentity(issuer, sub);
 	}
 
+	/**
+	 * Resolves only the current user's ID from the JWT. Served from the identity
+	 * cache when warm; otherwise a single id-only query, cached on success.
+	 */
+	@Transactional(readOnly = true)
+	public Optional<UUID> findUserIdFromJwt(Jwt jwt) {
+		String sub = jwt.getSubject();
+		if (sub == null || sub.isBlank()) {
+			return Optional.empty();
+		}
+		IdentityKey key = new IdentityKey(normalizeIssuer(getIssuerString(jwt)), sub);
+		UUID cached = identityCache.getIfPresent(key);
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		Optional<UUID> userId = userIdentityRepository.findUserIdByIssuerAndSub(key.issuer(), key.sub());
+		userId.ifPresent(id -> identityCache.put(key, id));
+		return userId;
+	}
+
 	/**
 	 * Issuer string from JWT. Prefers {@link Jwt#getIssuer()} (spec-correct); falls back to
 	 * {@code iss} claim as string when conversion to URL fails (e.g. some dev decoders).
@@ -106,6 +133,7 @@ public class UserService {
 					.issuer(normIssuer)
 					.sub(sub)
 					.build());
+			identityCache.invalidate(new IdentityKey(normIssuer, sub));
 			if (name != null) {
 				user.setName(name);
 			}
@@ -127,6 +155,7 @@ public class UserService {
 				.issuer(normIssuer)
 				.sub(sub)
 				.build());
+		identityCache.invalidate(new IdentityKey(normIssuer, sub));
 		eventPublisher.publishEvent(new UserRegisteredEvent(saved.getId()));
 		return saved;
 	}
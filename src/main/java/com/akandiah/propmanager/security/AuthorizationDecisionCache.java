@@ -0,0 +1,87 @@
+package com.akandiah.propmanager.security;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.BooleanSupplier;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import com.akandiah.propmanager.common.permission.AccessIndex;
+import com.akandiah.propmanager.common.permission.ResourceType;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Request-scoped memo of authorization decisions. A single request often asks
+ * the same question several times (SpEL meta-annotation, then a service-level
+ * check), so each (action, domain, resourceType, resourceId, orgId) is decided
+ * once and reused for the rest of the request.
+ *
+ * <p>Decisions are stored in a request attribute and tied to the
+ * {@link AccessIndex} they were computed against; outside a request, or for a
+ * different index, the decision is computed directly. Hits and misses are
+ * published as {@code authz.decision.cache} counters (tag {@code result}).
+ */
+@Component
+public class AuthorizationDecisionCache {
+
+	static final String REQUEST_ATTRIBUTE = AuthorizationDecisionCache.class.getName() + ".decisions";
+	static final String METER_NAME = "authz.decision.cache";
+
+	record DecisionKey(int action, String domain, ResourceType resourceType, UUID resourceId, UUID orgId) {
+	}
+
+	private record Decisions(AccessIndex access, Map<DecisionKey, Boolean> byKey) {
+	}
+
+	private final Counter hits;
+	private final Counter misses;
+
+	public AuthorizationDecisionCache(MeterRegistry meterRegistry) {
+		this.hits = Counter.builder(METER_NAME)
+				.tag("result", "hit")
+				.description("Authorization decisions served from the request-scoped memo")
+				.register(meterRegistry);
+		this.misses = Counter.builder(METER_NAME)
+				.tag("result", "miss")
+				.description("Authorization decisions computed and memoized for the request")
+				.register(meterRegistry);
+	}
+
+	/**
+	 * Returns the memoized decision for {@code key}, computing it with
+	 * {@code decision} on the first call within the current request.
+	 */
+	public boolean decide(AccessIndex access, DecisionKey key, BooleanSupplier decision) {
+		RequestAttributes attrs = RequestContextHolder.getRequestAttributes();
+		if (attrs == null) {
+			return decision.getAsBoolean();
+		}
+		Decisions decisions = (Decisions) attrs.getAttribute(REQUEST_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+		if (decisions == null || decisions.access() != access) {
+			decisions = new Decisions(access, new HashMap<>());
+			attrs.setAttribute(REQUEST_ATTRIBUTE, decisions, RequestAttributes.SCOPE_REQUEST);
+		}
+		Boolean cached = decisions.byKey().get(key);
+		if (cached != null) {
+			hits.increment();
+			return cached;
+		}
+		misses.increment();
+		boolean allowed = decision.getAsBoolean();
+		decisions.byKey().put(key, allowed);
+		return allowed;
+	}
+
+	public double hitCount() {
+		return hits.count();
+	}
+
+	public double missCount() {
+		return misses.count();
+	}
+}
@@ -1,96 +1,111 @@
 package com.akandiah.propmanager.security;
 
-import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
+import com.akandiah.propmanager.common.permission.HierarchyChildIndex;
+import com.akandiah.propmanager.common.permission.HierarchyParents;
+import com.akandiah.propmanager.common.permission.HierarchyResolver;
 import com.akandiah.propmanager.common.permission.ResourceType;
 import com.akandiah.propmanager.common.permission.ScopeLevel;
-import com.akandiah.propmanager.common.permission.HierarchyResolver;
 import com.akandiah.propmanager.features.asset.domain.AssetRepository;
-import com.akandiah.propmanager.features.prop.domain.Prop;
 import com.akandiah.propmanager.features.prop.domain.PropRepository;
 import com.akandiah.propmanager.features.unit.domain.UnitRepository;
+import com.github.benmanes.caffeine.cache.Cache;
 
-import lombok.RequiredArgsConstructor;
-
-/** Resolves org → property → unit → asset hierarchy. */
+/**
+ * Resolves org → property → unit → asset hierarchy.
+ *
+ * <p>Parent ids are cached per resource in the {@code hierarchyCache} as
+ * {@link HierarchyParents} tuples, so a warm check costs no queries. Misses are
+ * loaded together with one projection query per resource type. Entries are
+ * evicted by {@link HierarchyCacheEvictionListener} when a resource is
+ * re-parented or deleted.
+ */
 @Component
-@RequiredArgsConstructor
 public class DefaultHierarchyResolver implements HierarchyResolver {
 
 	private final UnitRepository unitRepository;
 	private final PropRepository propRepository;
 	private final AssetRepository assetRepository;
+	private final Cache<ScopeLevel, HierarchyParents> cache;
+	private final HierarchyChildIndex childIndex;
+
+	public DefaultHierarchyResolver(UnitRepository unitRepository, PropRepository propRepository,
+			AssetRepository assetRepository,
+			@Qualifier("hierarchyCache") Cache<ScopeLevel, HierarchyParents> cache, HierarchyChildIndex childIndex) {
+		this.unitRepository = unitRepository;
+		this.propRepository = propRepository;
+		this.assetRepository = assetRepository;
+		this.cache = cache;
+		this.childIndex = childIndex;
+	}
 
 	@Override
-	@Transactional(readOnly = true)
 	public List<ScopeLevel> resolve(ResourceType resourceType, UUID resourceId, UUID orgId) {
-		return switch (resourceType) {
-			case ORG -> List.of(new ScopeLevel(ResourceType.ORG, orgId));
-			case PROPERTY -> resolveProperty(resourceId, orgId);
-			case UNIT -> resolveUnit(resourceId, orgId);
-			case ASSET -> resolveAsset(resourceId, orgId);
-		};
+		if (resourceType == ResourceType.ORG) {
+			return List.of(new ScopeLevel(ResourceType.ORG, orgId));
+		}
+		return resolveAll(resourceType, Set.of(resourceId), orgId).getOrDefault(resourceId, List.of());
 	}
 
-	private List<ScopeLevel> resolveProperty(UUID propId, UUID orgId) {
-		if (!propRepository.existsByIdAndOrganization_Id(propId, orgId)) {
-			return List.of();
+	@Override
+	public Map<UUID, List<ScopeLevel>> resolveAll(ResourceType resourceType, Collection<UUID> resourceIds,
+			UUID orgId) {
+		Map<UUID, List<ScopeLevel>> chains = new LinkedHashMap<>();
+		if (resourceIds.isEmpty()) {
+			return chains;
+		}
+		if (resourceType == ResourceType.ORG) {
+			for (UUID id : resourceIds) {
+				chains.put(id, List.of(new ScopeLevel(ResourceType.ORG, orgId)));
+			}
+			return chains;
 		}
-		List<ScopeLevel> chain = new ArrayList<>();
-		chain.add(new ScopeLevel(ResourceType.PROPERTY, propId));
-		chain.add(new ScopeLevel(ResourceType.ORG, orgId));
-		return chain;
-	}
 
-	private List<ScopeLevel> resolveUnit(UUID unitId, UUID orgId) {
-		return unitRepository.findByIdWithPropAndOrg(unitId)
-				.filter(unit -> unit.getProp() != null && unit.getProp().getOrganization() != null)
-				.filter(unit -> unit.getProp().getOrganization().getId().equals(orgId))
-				.map(unit -> {
-					Prop prop = unit.getProp();
-					UUID propId = prop.getId();
-					UUID resolvedOrgId = prop.getOrganization().getId();
-					List<ScopeLevel> chain = new ArrayList<>();
-					chain.add(new ScopeLevel(ResourceType.UNIT, unitId));
-					chain.add(new ScopeLevel(ResourceType.PROPERTY, propId));
-					chain.add(new ScopeLevel(ResourceType.ORG, resolvedOrgId));
-					return chain;
-				})
-				.orElse(List.of());
+		List<ScopeLevel> keys = resourceIds.stream()
+				.map(id -> new ScopeLevel(resourceType, id))
+				.toList();
+		Map<ScopeLevel, HierarchyParents> parents = cache.getAll(keys, this::load);
+		parents.forEach((key, p) -> {
+			if (p.orgId() == null && p.propId() == null && p.unitId() == null) {
+				// Asset attached to neither a property nor a unit: scoped to the requested org only
+				chains.put(key.scopeId(), new HierarchyParents(orgId, null, null).chainFor(resourceType, key.scopeId()));
+			} else if (p.orgId() != null && p.orgId().equals(orgId)) {
+				chains.put(key.scopeId(), p.chainFor(resourceType, key.scopeId()));
+			}
+		});
+		return chains;
 	}
 
-	private List<ScopeLevel> resolveAsset(UUID assetId, UUID orgId) {
-		return assetRepository.findByIdWithParents(assetId)
-				.map(asset -> {
-					List<ScopeLevel> chain = new ArrayList<>();
-					chain.add(new ScopeLevel(ResourceType.ASSET, assetId));
-
-					if (asset.getUnit() != null) {
-						// Unit-scoped asset: [ASSET -> UNIT -> PROPERTY -> ORG]
-						if (asset.getUnit().getProp() == null ||
-								asset.getUnit().getProp().getOrganization() == null ||
-								!asset.getUnit().getProp().getOrganization().getId().equals(orgId)) {
-							return List.<ScopeLevel>of();
-						}
-						chain.add(new ScopeLevel(ResourceType.UNIT, asset.getUnit().getId()));
-						chain.add(new ScopeLevel(ResourceType.PROPERTY, asset.getUnit().getProp().getId()));
-					} else if (asset.getProp() != null) {
-						// Property-scoped asset: [ASSET -> PROPERTY -> ORG]
-						if (asset.getProp().getOrganization() == null ||
-								!asset.getProp().getOrganization().getId().equals(orgId)) {
-							return List.<ScopeLevel>of();
-						}
-						chain.add(new ScopeLevel(ResourceType.PROPERTY, asset.getProp().getId()));
-					}
-
-					chain.add(new ScopeLevel(ResourceType.ORG, orgId));
-					return chain;
-				})
-				.orElse(List.of());
+	/** Bulk loader for cache misses. All keys share one resource type; missing resources are not cached. */
+	private Map<ScopeLevel, HierarchyParents> load(Set<? extends ScopeLevel> keys) {
+		ResourceType type = keys.iterator().next().scopeType();
+		List<UUID> ids = keys.stream().map(ScopeLevel::scopeId).toList();
+		Map<ScopeLevel, HierarchyParents> loaded = new HashMap<>();
+		switch (type) {
+			case PROPERTY -> propRepository.findParentsByIdIn(ids).forEach(p -> loaded.put(
+					new ScopeLevel(ResourceType.PROPERTY, p.getId()),
+					new HierarchyParents(p.getOrgId(), null, null)));
+			case UNIT -> unitRepository.findParentsByIdIn(ids).forEach(u -> loaded.put(
+					new ScopeLevel(ResourceType.UNIT, u.getId()),
+					new HierarchyParents(u.getOrgId(), u.getPropId(), null)));
+			case ASSET -> assetRepository.findParentsByIdIn(ids).forEach(a -> loaded.put(
+					new ScopeLevel(ResourceType.ASSET, a.getId()),
+					new HierarchyParents(a.getOrgId(), a.getPropId(), a.getUnitId())));
+			case ORG -> {
+				// ORG chains are never cached
+			}
+		}
+		loaded.forEach(childIndex::add);
+		return loaded;
 	}
 }
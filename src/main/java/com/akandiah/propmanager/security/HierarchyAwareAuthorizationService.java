@@ -1,49 +1,63 @@
 package com.akandiah.propmanager.security;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 import org.springframework.stereotype.Service;
 
-import com.akandiah.propmanager.common.permission.AccessEntry;
+import com.akandiah.propmanager.common.permission.AccessIndex;
 import com.akandiah.propmanager.common.permission.HierarchyResolver;
-import com.akandiah.propmanager.common.permission.PermissionMaskUtil;
+import com.akandiah.propmanager.common.permission.PermissionSet;
 import com.akandiah.propmanager.common.permission.ResourceType;
 import com.akandiah.propmanager.common.permission.ScopeLevel;
 
 import lombok.RequiredArgsConstructor;
 
-/** Resolves the scope chain and checks the JWT access list. First matching scope wins. */
+/**
+ * Resolves the scope chain and checks it against the hydrated access index. First matching scope wins.
+ * Single-resource decisions are memoized for the request by {@link AuthorizationDecisionCache}.
+ */
 @Service
 @RequiredArgsConstructor
 public class HierarchyAwareAuthorizationService {
 
 	private final HierarchyResolver hierarchyResolver;
+	private final AuthorizationDecisionCache decisionCache;
 
-	public boolean allow(List<AccessEntry> access, int requiredAction, String domain,
+	public boolean allow(AccessIndex access, int requiredAction, String domain,
 			ResourceType resourceType, UUID resourceId, UUID orgId) {
 		if (access == null || access.isEmpty()) {
 			return false;
 		}
 
-		List<ScopeLevel> chain = hierarchyResolver.resolve(resourceType, resourceId, orgId);
-		for (ScopeLevel level : chain) {
-			Integer mask = findMask(access, orgId, level, domain);
-			if (mask != null && PermissionMaskUtil.hasAccess(mask, requiredAction)) {
-				return true;
-			}
+		var key = new AuthorizationDecisionCache.DecisionKey(requiredAction, domain, resourceType, resourceId, orgId);
+		return decisionCache.decide(access, key, () -> allowsChain(access, requiredAction, domain,
+				hierarchyResolver.resolve(resourceType, resourceId, orgId), orgId));
+	}
+
+	/**
+	 * Returns true if any of the resources is allowed. Chains are resolved in one
+	 * batch instead of one lookup per resource.
+	 */
+	public boolean allowAny(AccessIndex access, int requiredAction, String domain,
+			ResourceType resourceType, Collection<UUID> resourceIds, UUID orgId) {
+		if (access == null || access.isEmpty() || resourceIds.isEmpty()) {
+			return false;
 		}
-		return false;
+
+		return hierarchyResolver.resolveAll(resourceType, resourceIds, orgId).values().stream()
+				.anyMatch(chain -> allowsChain(access, requiredAction, domain, chain, orgId));
 	}
 
-	private Integer findMask(List<AccessEntry> access, UUID orgId, ScopeLevel level, String domain) {
-		for (AccessEntry entry : access) {
-			if (entry.orgId().equals(orgId)
-					&& level.scopeType() == entry.scopeType()
-					&& level.scopeId().equals(entry.scopeId())) {
-				return entry.permissions().get(domain);
+	private static boolean allowsChain(AccessIndex access, int requiredAction, String domain,
+			List<ScopeLevel> chain, UUID orgId) {
+		for (ScopeLevel level : chain) {
+			PermissionSet permissions = access.permissions(orgId, level.scopeType(), level.scopeId());
+			if (!permissions.isEmpty() && permissions.allows(domain, requiredAction)) {
+				return true;
 			}
 		}
-		return null;
+		return false;
 	}
 }
@@ -0,0 +1,55 @@
+package com.akandiah.propmanager.security;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.akandiah.propmanager.common.permission.HierarchyChangedEvent;
+import com.akandiah.propmanager.common.permission.HierarchyChildIndex;
+import com.akandiah.propmanager.common.permission.HierarchyParents;
+import com.akandiah.propmanager.common.permission.ResourceType;
+import com.akandiah.propmanager.common.permission.ScopeLevel;
+import com.github.benmanes.caffeine.cache.Cache;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts entries from the "hierarchyCache" when a property, unit or asset is
+ * re-parented or deleted. Descendants are evicted too, since their cached
+ * tuples carry the changed resource's parents; they are found through the
+ * {@link HierarchyChildIndex} rather than by scanning the cache.
+ *
+ * <p>Eviction is node-local. Other nodes keep their cached tuples until
+ * {@code app.cache.hierarchy.ttl-minutes} expires them, which bounds how long a
+ * re-parented resource can resolve to its old chain there.
+ */
+@Component
+@Slf4j
+public class HierarchyCacheEvictionListener {
+
+	private final Cache<ScopeLevel, HierarchyParents> cache;
+	private final HierarchyChildIndex childIndex;
+
+	public HierarchyCacheEvictionListener(@Qualifier("hierarchyCache") Cache<ScopeLevel, HierarchyParents> cache,
+			HierarchyChildIndex childIndex) {
+		this.cache = cache;
+		this.childIndex = childIndex;
+	}
+
+	@TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+	public void onHierarchyChanged(HierarchyChangedEvent event) {
+		evict(new ScopeLevel(event.resourceType(), event.resourceId()));
+		if (event.resourceType() == ResourceType.PROPERTY || event.resourceType() == ResourceType.UNIT) {
+			childIndex.removeChildren(event.resourceId()).forEach(this::evict);
+		}
+		log.debug("Evicted hierarchy cache for {} {}", event.resourceType(), event.resourceId());
+	}
+
+	private void evict(ScopeLevel key) {
+		HierarchyParents parents = cache.asMap().remove(key);
+		if (parents != null) {
+			childIndex.remove(key, parents);
+		}
+	}
+}
@@ -2,6 +2,9 @@ package com.akandiah.propmanager.security;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Optional;
+
+import org.springframework.beans.factory.ObjectProvider;
 
 import org.springframework.stereotype.Component;
 import org.springframework.security.core.Authentication;
@@ -9,6 +12,8 @@ import org.springframework.security.oauth2.server.resource.authentication.JwtAut
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import com.akandiah.propmanager.common.permission.AccessEntry;
+import com.akandiah.propmanager.common.permission.AccessIndex;
+import com.akandiah.propmanager.features.auth.service.AccessTokenService;
 import com.akandiah.propmanager.features.auth.service.JwtHydrationService;
 
 import jakarta.servlet.FilterChain;
@@ -19,8 +24,9 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 /**
- * Hydrates the access list from JWT claim (dev) or DB (prod) and sets it as a
- * request attribute.
+ * Hydrates the access list from JWT claim (dev), a server-issued access token
+ * (verified in memory, see {@link AccessTokenService}) or the cache/DB, and
+ * exposes it as an {@link AccessIndex} request attribute.
  */
 @Component
 @Slf4j
@@ -28,13 +34,14 @@ import lombok.extern.slf4j.Slf4j;
 public class JwtAccessHydrationFilter extends OncePerRequestFilter {
 
 	/**
-	 * Request attribute for the hydrated access list. Use this in authorization
-	 * checks.
+	 * Request attribute for the hydrated {@link AccessIndex}. Use this in
+	 * authorization checks.
 	 */
 	public static final String REQUEST_ATTRIBUTE_ACCESS = "com.akandiah.propmanager.jwt.access";
 
 	private final JwtUserResolver jwtUserResolver;
 	private final JwtHydrationService jwtHydrationService;
+	private final ObjectProvider<AccessTokenService> accessTokenService;
 
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
@@ -44,11 +51,14 @@ public class JwtAccessHydrationFilter extends OncePerRequestFilter {
 				.getAuthentication();
 
 		if (auth instanceof JwtAuthenticationToken jwtAuth && auth.isAuthenticated()) {
-			List<AccessEntry> access = getAccessFromToken(jwtAuth);
+			AccessIndex access = getAccessFromToken(jwtAuth);
+			if (access == null) {
+				access = getAccessFromAccessToken(request, jwtAuth).orElse(null);
+			}
 			if (access == null) {
 				access = hydrateFromDb(jwtAuth);
 			}
-			if (access != null && !access.isEmpty()) {
+			if (!access.isEmpty()) {
 				request.setAttribute(REQUEST_ATTRIBUTE_ACCESS, access);
 			}
 		}
@@ -56,11 +66,11 @@ public class JwtAccessHydrationFilter extends OncePerRequestFilter {
 		filterChain.doFilter(request, response);
 	}
 
-	private List<AccessEntry> getAccessFromToken(JwtAuthenticationToken jwtAuth) {
+	private AccessIndex getAccessFromToken(JwtAuthenticationToken jwtAuth) {
 		try {
 			Object claim = jwtAuth.getToken().getClaim("access");
 			if (claim instanceof List<?> list) {
-				return AccessEntry.fromClaimList(list);
+				return AccessIndex.of(AccessEntry.fromClaimList(list));
 			}
 		} catch (Exception e) {
 			log.trace("No or invalid access claim in JWT", e);
@@ -68,9 +78,26 @@ public class JwtAccessHydrationFilter extends OncePerRequestFilter {
 		return null;
 	}
 
-	private List<AccessEntry> hydrateFromDb(JwtAuthenticationToken jwtAuth) {
-		return jwtUserResolver.resolveOptional(jwtAuth.getToken())
-				.map(user -> jwtHydrationService.hydrate(user.getId()))
-				.orElse(List.of());
+	private Optional<AccessIndex> getAccessFromAccessToken(HttpServletRequest request,
+			JwtAuthenticationToken jwtAuth) {
+		AccessTokenService service = accessTokenService.getIfAvailable();
+		if (service == null) {
+			return Optional.empty();
+		}
+		String value = request.getHeader(service.headerName());
+		if (value == null || value.isBlank()) {
+			return Optional.empty();
+		}
+		Optional<AccessIndex> access = service.verify(value.trim(), jwtAuth.getToken());
+		if (access.isEmpty()) {
+			log.debug("Rejected access token; falling back to hydration");
+		}
+		return access;
+	}
+
+	private AccessIndex hydrateFromDb(JwtAuthenticationToken jwtAuth) {
+		return jwtUserResolver.resolveOptionalId(jwtAuth.getToken())
+				.map(jwtHydrationService::hydrate)
+				.orElse(AccessIndex.EMPTY);
 	}
 }
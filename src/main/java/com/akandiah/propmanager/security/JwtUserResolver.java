@@ -10,6 +10,7 @@ import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.stereotype.Component;
 
+import com.akandiah.propmanager.common.util.SecurityUtils;
 import com.akandiah.propmanager.features.user.domain.User;
 import com.akandiah.propmanager.features.user.service.UserService;
 
@@ -26,6 +27,8 @@ import lombok.extern.slf4j.Slf4j;
  *       directly. Throws 401 if no JWT principal or user is not provisioned.</li>
  *   <li>{@link #resolveOptional(Jwt)} — use in auth filters / permission checks where a
  *       missing user means "deny" rather than an error.</li>
+ *   <li>{@link #resolveOptionalId(Jwt)} — use in auth filters / guards that only need the
+ *       user ID. Cached by identity and memoized per request.</li>
  *   <li>{@link #resolveOptionalId()} — use where only the user ID is needed and a missing
  *       user is non-fatal (e.g. audit/isolation best-effort checks).</li>
  * </ul>
@@ -39,6 +42,8 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class JwtUserResolver {
 
+	private static final String REQUEST_ATTRIBUTE_USER_ID = JwtUserResolver.class.getName() + ".userId";
+
 	private final UserService userService;
 
 	/**
@@ -71,15 +76,26 @@ public class JwtUserResolver {
 		return userService.findUserFromJwt(jwt);
 	}
 
+	/**
+	 * Resolves only the user ID for the JWT, without loading the {@link User} entity.
+	 * Backed by the identity cache and memoized for the current request, so a request
+	 * performs at most one identity lookup (none when the cache is warm).
+	 */
+	public Optional<UUID> resolveOptionalId(Jwt jwt) {
+		return SecurityUtils.requestMemo(REQUEST_ATTRIBUTE_USER_ID, jwt,
+				() -> userService.findUserIdFromJwt(jwt));
+	}
+
 	/**
 	 * Non-throwing variant that pulls from {@link SecurityContextHolder} and returns only
 	 * the user ID. Returns empty if there is no JWT principal or the user is not provisioned.
+	 * Shares the per-request memo with {@link #resolveOptionalId(Jwt)}.
 	 */
 	public Optional<UUID> resolveOptionalId() {
 		try {
 			Authentication auth = SecurityContextHolder.getContext().getAuthentication();
 			if (auth instanceof JwtAuthenticationToken jwtAuth) {
-				return userService.findUserFromJwt(jwtAuth.getToken()).map(User::getId);
+				return resolveOptionalId(jwtAuth.getToken());
 			}
 		} catch (Exception e) {
 			log.warn("Could not resolve current user id from security context", e);
@@ -33,8 +33,8 @@ public class OrgGuard {
 		if (!(auth instanceof JwtAuthenticationToken jwtAuth)) {
 			return false;
 		}
-		return jwtUserResolver.resolveOptional(jwtAuth.getToken())
-				.map(user -> membershipRepository.existsByUserIdAndOrganizationId(user.getId(), orgId))
+		return jwtUserResolver.resolveOptionalId(jwtAuth.getToken())
+				.map(userId -> membershipRepository.existsByUserIdAndOrganizationId(userId, orgId))
 				.orElse(false);
 	}
 }
@@ -1,12 +1,11 @@
 package com.akandiah.propmanager.security;
 
-import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
 import org.springframework.stereotype.Component;
 
-import com.akandiah.propmanager.common.permission.AccessEntry;
+import com.akandiah.propmanager.common.permission.AccessIndex;
 import com.akandiah.propmanager.common.permission.Actions;
 import com.akandiah.propmanager.common.permission.PermissionDomains;
 import com.akandiah.propmanager.common.permission.ResourceType;
@@ -109,7 +108,7 @@ public class PermissionGuard {
 		if (SecurityUtils.isGlobalAdmin()) {
 			return true;
 		}
-		List<AccessEntry> access = SecurityUtils.getAccessFromRequest();
+		AccessIndex access = SecurityUtils.getAccessFromRequest();
 		return authorizationService.allow(access, requiredAction, domain, resourceType, resourceId, orgId);
 	}
 
@@ -157,10 +156,9 @@ public class PermissionGuard {
 		if (SecurityUtils.isGlobalAdmin()) {
 			return true;
 		}
-		List<AccessEntry> access = SecurityUtils.getAccessFromRequest();
-		return leaseTenantRepository.findUnitIdsByTenantId(tenantId).stream()
-				.anyMatch(uid -> authorizationService.allow(
-						access, requiredAction, domain, ResourceType.UNIT, uid, orgId));
+		AccessIndex access = SecurityUtils.getAccessFromRequest();
+		return authorizationService.allowAny(access, requiredAction, domain, ResourceType.UNIT,
+				leaseTenantRepository.findUnitIdsByTenantId(tenantId), orgId);
 	}
 
 	/**
@@ -0,0 +1,95 @@
+package com.akandiah.propmanager.common.dto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link KeysetPageRequest}.
+ */
+class KeysetPageRequestTest {
+
+	@Nested
+	class Cursor {
+
+		@Test
+		void shouldRoundTripId() {
+			UUID id = UUID.randomUUID();
+
+			KeysetPageRequest page = KeysetPageRequest.of(KeysetPageRequest.encode(id), 10, false);
+
+			assertThat(page.after()).isEqualTo(id);
+		}
+
+		@Test
+		void shouldStartFromBeginningWithoutCursor() {
+			assertThat(KeysetPageRequest.of(null, null, false).after()).isEqualTo(KeysetPageRequest.START);
+			assertThat(KeysetPageRequest.of(" ", null, false).after()).isEqualTo(KeysetPageRequest.START);
+		}
+
+		@Test
+		void shouldRejectMalformedCursor() {
+			assertThatThrownBy(() -> KeysetPageRequest.of("not a cursor!", 10, false))
+					.isInstanceOf(IllegalArgumentException.class)
+					.hasMessage("Invalid page cursor");
+			assertThatThrownBy(() -> KeysetPageRequest.of("AAAA", 10, false))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+
+		@Test
+		void shouldClampSize() {
+			assertThat(KeysetPageRequest.of(null, null, false).size()).isEqualTo(KeysetPageRequest.DEFAULT_SIZE);
+			assertThat(KeysetPageRequest.of(null, 0, false).size()).isEqualTo(1);
+			assertThat(KeysetPageRequest.of(null, 10_000, false).size()).isEqualTo(KeysetPageRequest.MAX_SIZE);
+			assertThat(KeysetPageRequest.first(25).fetchLimit().max()).isEqualTo(26);
+		}
+	}
+
+	@Nested
+	class ToPage {
+
+		@Test
+		void shouldTrimExtraRowAndPointCursorAtLastReturnedRow() {
+			List<UUID> rows = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+			KeysetPageRequest page = KeysetPageRequest.first(2);
+
+			PageResponse<String> result = page.toPage(rows, id -> id, UUID::toString, () -> 99L);
+
+			assertThat(result.content()).containsExactly(rows.get(0).toString(), rows.get(1).toString());
+			assertThat(result.hasNext()).isTrue();
+			assertThat(KeysetPageRequest.of(result.nextCursor(), 2, false).after()).isEqualTo(rows.get(1));
+			assertThat(result.totalElements()).isNull();
+		}
+
+		@Test
+		void shouldOmitCursorOnLastPage() {
+			List<UUID> rows = List.of(UUID.randomUUID(), UUID.randomUUID());
+
+			PageResponse<UUID> result = KeysetPageRequest.first(2).toPage(rows, id -> id, id -> id, () -> 2L);
+
+			assertThat(result.content()).hasSize(2);
+			assertThat(result.nextCursor()).isNull();
+		}
+
+		@Test
+		void shouldCountOnlyWhenTotalRequested() {
+			AtomicInteger counts = new AtomicInteger();
+			KeysetPageRequest withTotal = new KeysetPageRequest(null, 5, true);
+
+			List<UUID> none = List.of();
+
+			PageResponse<UUID> result = withTotal.toPage(none, id -> id, id -> id, () -> counts.incrementAndGet() * 42L);
+			KeysetPageRequest.first(5).toPage(none, id -> id, id -> id, () -> counts.incrementAndGet());
+
+			assertThat(result.totalElements()).isEqualTo(42L);
+			assertThat(counts).hasValue(1);
+			assertThat(withTotal.<UUID>empty().totalElements()).isZero();
+		}
+	}
+}
@@ -0,0 +1,77 @@
+package com.akandiah.propmanager.common.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import jakarta.persistence.EntityManager;
+import tools.jackson.databind.json.JsonMapper;
+
+@ExtendWith(MockitoExtension.class)
+class NdjsonExporterTest {
+
+	record Row(int n, String name) {
+	}
+
+	@Mock
+	private EntityManager entityManager;
+
+	private NdjsonExporter exporter;
+
+	@BeforeEach
+	void setUp() {
+		exporter = new NdjsonExporter(JsonMapper.builder().build(), entityManager);
+	}
+
+	@Test
+	void shouldWriteOneJsonObjectPerLine() {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		long written = exporter.write(Stream.of(1, 2), n -> new Row(n, "r" + n), out);
+
+		assertThat(written).isEqualTo(2);
+		assertThat(out.toString(StandardCharsets.UTF_8))
+				.isEqualTo("{\"n\":1,\"name\":\"r1\"}\n{\"n\":2,\"name\":\"r2\"}\n");
+	}
+
+	@Test
+	void shouldDetachEachRowAndClearContextEveryFetch() {
+		int rows = NdjsonExporter.FETCH_SIZE * 2 + 1;
+
+		long written = exporter.write(IntStream.range(0, rows).boxed(), n -> n, OutputStream.nullOutputStream());
+
+		assertThat(written).isEqualTo(rows);
+		verify(entityManager, times(rows)).detach(any());
+		verify(entityManager, times(2)).clear();
+	}
+
+	@Test
+	void shouldSurfaceClientDisconnect() {
+		OutputStream broken = new OutputStream() {
+			@Override
+			public void write(int b) throws IOException {
+				throw new IOException("Broken pipe");
+			}
+		};
+
+		assertThatThrownBy(() -> exporter.write(Stream.of(1), n -> n, broken))
+				.isInstanceOf(UncheckedIOException.class)
+				.hasRootCauseMessage("Broken pipe");
+	}
+}
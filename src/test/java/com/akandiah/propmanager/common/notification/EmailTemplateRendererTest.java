@@ -0,0 +1,82 @@
+package com.akandiah.propmanager.common.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.thymeleaf.ITemplateEngine;
+import org.thymeleaf.context.Context;
+import org.thymeleaf.context.IContext;
+import org.thymeleaf.spring6.SpringTemplateEngine;
+import org.thymeleaf.templateresolver.ClassLoaderTemplateResolver;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Unit tests for {@link EmailTemplateRenderer}.
+ */
+class EmailTemplateRendererTest {
+
+	private final ITemplateEngine templateEngine = mock(ITemplateEngine.class);
+	private final EmailTemplateRenderer renderer = new EmailTemplateRenderer(templateEngine,
+			Caffeine.newBuilder().build());
+
+	@Test
+	void shouldRenderSharedContextOnce() {
+		when(templateEngine.process(eq("email/lease-expiring"), any(IContext.class))).thenReturn("<p>body</p>");
+
+		String first = renderer.render(NotificationTemplate.LEASE_EXPIRING_SOON, Map.of("unitNumber", "1A"));
+		String second = renderer.render(NotificationTemplate.LEASE_EXPIRING_SOON, Map.of("unitNumber", "1A"));
+
+		assertThat(first).isEqualTo("<p>body</p>").isEqualTo(second);
+		verify(templateEngine, times(1)).process(eq("email/lease-expiring"), any(IContext.class));
+	}
+
+	@Test
+	void shouldRenderAgainForDifferentContext() {
+		when(templateEngine.process(eq("email/lease-expiring"), any(IContext.class))).thenReturn("<p>body</p>");
+
+		renderer.render(NotificationTemplate.LEASE_EXPIRING_SOON, Map.of("unitNumber", "1A"));
+		renderer.render(NotificationTemplate.LEASE_EXPIRING_SOON, Map.of("unitNumber", "2B"));
+
+		verify(templateEngine, times(2)).process(eq("email/lease-expiring"), any(IContext.class));
+	}
+
+	@Test
+	void shouldExposeInstantsAsZonedDateTimeWithGlobals() {
+		ArgumentCaptor<Context> context = ArgumentCaptor.forClass(Context.class);
+		when(templateEngine.process(eq("email/account-created"), context.capture())).thenReturn("");
+
+		renderer.render(NotificationTemplate.ACCOUNT_CREATED, Map.of("createdAt", Instant.EPOCH));
+
+		assertThat(context.getValue().getVariable("createdAt")).isInstanceOf(ZonedDateTime.class);
+		assertThat(context.getValue().getVariable("appName")).isEqualTo("PropMange");
+	}
+
+	@Test
+	void shouldPreloadExistingTemplatesIntoTemplateCache() {
+		ClassLoaderTemplateResolver resolver = new ClassLoaderTemplateResolver();
+		resolver.setPrefix("templates/");
+		resolver.setSuffix(".html");
+		resolver.setCheckExistence(true);
+		SpringTemplateEngine engine = new SpringTemplateEngine();
+		engine.setTemplateResolver(resolver);
+
+		new EmailTemplateRenderer(engine, Caffeine.newBuilder().build()).preload();
+
+		assertThat(engine.getCacheManager().getTemplateCache().keySet())
+				.extracting(Object::toString)
+				.anyMatch(key -> key.contains("email/lease-expiring"))
+				.anyMatch(key -> key.contains("email/invite-lease"));
+	}
+}
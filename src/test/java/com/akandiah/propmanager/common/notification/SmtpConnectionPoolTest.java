@@ -0,0 +1,156 @@
+package com.akandiah.propmanager.common.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+import java.time.Duration;
+import java.util.Properties;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import com.akandiah.propmanager.config.NotificationProperties;
+
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+
+/**
+ * Runs {@link SmtpConnectionPool} against {@link StubSmtpServer}.
+ */
+class SmtpConnectionPoolTest {
+
+	private StubSmtpServer server;
+	private JavaMailSenderImpl mailSender;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		server = new StubSmtpServer(Duration.ZERO);
+		mailSender = new JavaMailSenderImpl();
+		mailSender.setHost("127.0.0.1");
+		mailSender.setPort(server.port());
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		server.close();
+	}
+
+	@Test
+	void shouldReuseOneConnectionAcrossSends() throws Exception {
+		SmtpConnectionPool pool = pool(100, Duration.ofMinutes(1));
+
+		for (int i = 0; i < 3; i++) {
+			pool.send(message("to" + i + "@example.com"));
+		}
+		pool.destroy();
+
+		assertThat(server.messages()).isEqualTo(3);
+		assertThat(server.connections()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldRotateConnectionAfterMaxMessages() throws Exception {
+		SmtpConnectionPool pool = pool(2, Duration.ofMinutes(1));
+
+		for (int i = 0; i < 5; i++) {
+			pool.send(message("to" + i + "@example.com"));
+		}
+		pool.destroy();
+
+		assertThat(server.messages()).isEqualTo(5);
+		assertThat(server.connections()).isEqualTo(3);
+	}
+
+	@Test
+	void shouldReplaceConnectionThatFailsHealthCheck() throws Exception {
+		SmtpConnectionPool pool = pool(100, Duration.ZERO);
+		pool.send(message("a@example.com"));
+
+		server.dropConnections();
+		Thread.sleep(5);
+		pool.send(message("b@example.com"));
+		pool.destroy();
+
+		assertThat(server.messages()).isEqualTo(2);
+		assertThat(server.connections()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldDiscardConnectionAfterTransientServerReply() throws Exception {
+		SmtpConnectionPool pool = pool(100, Duration.ofMinutes(1));
+		server.rejectNextMail("421 4.3.2 try again later");
+
+		assertThatThrownBy(() -> pool.send(message("a@example.com"))).isInstanceOf(MailSendException.class);
+		pool.send(message("b@example.com"));
+		pool.destroy();
+
+		assertThat(server.messages()).isEqualTo(1);
+		assertThat(server.connections()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldKeepConnectionAfterPermanentRejection() throws Exception {
+		SmtpConnectionPool pool = pool(100, Duration.ofMinutes(1));
+		server.rejectNextMail("550 5.7.1 sender rejected");
+
+		assertThatThrownBy(() -> pool.send(message("a@example.com"))).isInstanceOf(MailSendException.class);
+		pool.send(message("b@example.com"));
+		pool.destroy();
+
+		assertThat(server.messages()).isEqualTo(1);
+		assertThat(server.connections()).isEqualTo(1);
+	}
+
+	@Test
+	void shouldFreeConnectionSlotWhenServerStalls() throws Exception {
+		Properties javaMailProperties = new Properties();
+		javaMailProperties.setProperty("mail.smtp.timeout", "200");
+		mailSender.setJavaMailProperties(javaMailProperties);
+		SmtpConnectionPool pool = pool(100, Duration.ofMinutes(1));
+		server.stallNextMail();
+
+		assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+			assertThatThrownBy(() -> pool.send(message("a@example.com"))).isInstanceOf(MailSendException.class);
+			pool.send(message("b@example.com"));
+			pool.send(message("c@example.com"));
+		});
+		pool.destroy();
+
+		assertThat(server.messages()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldDelegateUnpooledToNonStandardSender() {
+		JavaMailSender delegate = mock(JavaMailSender.class);
+		MimeMessage message = mailSender.createMimeMessage();
+
+		new SmtpConnectionPool(delegate, properties(100, Duration.ofMinutes(1))).send(message);
+
+		verify(delegate).send(message);
+	}
+
+	private SmtpConnectionPool pool(int maxMessagesPerConnection, Duration validateAfterIdle) {
+		return new SmtpConnectionPool(mailSender, properties(maxMessagesPerConnection, validateAfterIdle));
+	}
+
+	private static NotificationProperties properties(int maxMessagesPerConnection, Duration validateAfterIdle) {
+		return new NotificationProperties(new NotificationProperties.Email(true, new NotificationProperties.Pool(
+				2, maxMessagesPerConnection, validateAfterIdle, Duration.ofMinutes(1), Duration.ofSeconds(5))));
+	}
+
+	private MimeMessage message(String to) throws MessagingException {
+		MimeMessage message = mailSender.createMimeMessage();
+		message.setFrom("noreply@example.com");
+		message.setRecipients(MimeMessage.RecipientType.TO, to);
+		message.setSubject("Test");
+		message.setText("Hello");
+		return message;
+	}
+}
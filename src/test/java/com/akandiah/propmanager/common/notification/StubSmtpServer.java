@@ -0,0 +1,140 @@
+package com.akandiah.propmanager.common.notification;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Minimal in-process SMTP server for tests and the mail benchmark. Accepts
+ * every message and counts connections and messages. {@code handshakeDelay}
+ * is slept before the greeting to stand in for the TCP/TLS/AUTH round trips
+ * of a real relay.
+ */
+public final class StubSmtpServer implements AutoCloseable {
+
+	private final ServerSocket serverSocket;
+	private final Duration handshakeDelay;
+	private final ExecutorService workers = Executors.newCachedThreadPool();
+	private final Set<Socket> open = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger connections = new AtomicInteger();
+	private final AtomicInteger messages = new AtomicInteger();
+	private final AtomicReference<String> nextMailReply = new AtomicReference<>();
+
+	private static final String STALL = "stall";
+
+	public StubSmtpServer(Duration handshakeDelay) throws IOException {
+		this.serverSocket = new ServerSocket(0, 128, InetAddress.getLoopbackAddress());
+		this.handshakeDelay = handshakeDelay;
+		workers.submit(this::acceptLoop);
+	}
+
+	public int port() {
+		return serverSocket.getLocalPort();
+	}
+
+	public int connections() {
+		return connections.get();
+	}
+
+	public int messages() {
+		return messages.get();
+	}
+
+	/** Answers the next MAIL FROM with {@code reply} (e.g. {@code "421 try later"}) instead of 250. */
+	public void rejectNextMail(String reply) {
+		nextMailReply.set(reply);
+	}
+
+	/** Leaves the next MAIL FROM unanswered, as a stalled server or half-open socket would. */
+	public void stallNextMail() {
+		nextMailReply.set(STALL);
+	}
+
+	/** Drops every open connection, as a server-side idle timeout would. */
+	public void dropConnections() throws IOException {
+		for (Socket socket : open) {
+			socket.close();
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		serverSocket.close();
+		dropConnections();
+		workers.shutdownNow();
+	}
+
+	private void acceptLoop() {
+		while (!serverSocket.isClosed()) {
+			try {
+				Socket socket = serverSocket.accept();
+				connections.incrementAndGet();
+				open.add(socket);
+				workers.submit(() -> serve(socket));
+			} catch (IOException e) {
+				return;
+			}
+		}
+	}
+
+	private void serve(Socket socket) {
+		try (socket;
+				BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+				OutputStream out = socket.getOutputStream()) {
+			Thread.sleep(handshakeDelay);
+			reply(out, "220 stub ESMTP");
+			String line;
+			while ((line = in.readLine()) != null) {
+				String command = line.length() >= 4 ? line.substring(0, 4).toUpperCase() : line.toUpperCase();
+				switch (command) {
+					case "EHLO" -> reply(out, "250-stub\r\n250 8BITMIME");
+					case "MAIL" -> {
+						String rejection = nextMailReply.getAndSet(null);
+						if (STALL.equals(rejection)) {
+							// Read until the client gives up and closes the socket
+							while (in.readLine() != null) {
+							}
+							return;
+						}
+						reply(out, rejection != null ? rejection : "250 OK");
+					}
+					case "HELO", "RCPT", "RSET", "NOOP" -> reply(out, "250 OK");
+					case "DATA" -> {
+						reply(out, "354 End data with <CR><LF>.<CR><LF>");
+						while ((line = in.readLine()) != null && !line.equals(".")) {
+							// discard body
+						}
+						messages.incrementAndGet();
+						reply(out, "250 OK queued");
+					}
+					case "QUIT" -> {
+						reply(out, "221 Bye");
+						return;
+					}
+					default -> reply(out, "502 Command not implemented");
+				}
+			}
+		} catch (IOException | InterruptedException e) {
+			// connection dropped or server closed
+		} finally {
+			open.remove(socket);
+		}
+	}
+
+	private static void reply(OutputStream out, String response) throws IOException {
+		out.write((response + "\r\n").getBytes(StandardCharsets.US_ASCII));
+		out.flush();
+	}
+}
@@ -0,0 +1,151 @@
+package com.akandiah.propmanager.common.permission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link AccessIndex}.
+ */
+class AccessIndexTest {
+
+	private static final UUID ORG_ID = UUID.randomUUID();
+	private static final UUID PROP_ID = UUID.randomUUID();
+	private static final UUID UNIT_ID = UUID.randomUUID();
+
+	@Nested
+	class Mask {
+
+		@Test
+		void shouldReturnMaskForExactScope() {
+			AccessIndex index = AccessIndex.of(List.of(
+					new AccessEntry(ORG_ID, ResourceType.PROPERTY, PROP_ID, Map.of(PermissionDomains.LEASES, 7))));
+
+			assertThat(index.mask(ORG_ID, ResourceType.PROPERTY, PROP_ID, PermissionDomains.LEASES)).isEqualTo(7);
+		}
+
+		@Test
+		void shouldReturnZeroForMissingScopeOrDomain() {
+			AccessIndex index = AccessIndex.of(List.of(
+					new AccessEntry(ORG_ID, ResourceType.PROPERTY, PROP_ID, Map.of(PermissionDomains.LEASES, 7))));
+
+			assertThat(index.mask(ORG_ID, ResourceType.UNIT, PROP_ID, PermissionDomains.LEASES)).isZero();
+			assertThat(index.mask(ORG_ID, ResourceType.PROPERTY, PROP_ID, PermissionDomains.FINANCES)).isZero();
+			assertThat(index.mask(UUID.randomUUID(), ResourceType.PROPERTY, PROP_ID, PermissionDomains.LEASES)).isZero();
+		}
+
+		@Test
+		void shouldOrDuplicateScopes() {
+			AccessIndex index = AccessIndex.of(List.of(
+					new AccessEntry(ORG_ID, ResourceType.UNIT, UNIT_ID, Map.of(PermissionDomains.LEASES, 1)),
+					new AccessEntry(ORG_ID, ResourceType.UNIT, UNIT_ID, Map.of(PermissionDomains.LEASES, 4))));
+
+			assertThat(index.mask(ORG_ID, ResourceType.UNIT, UNIT_ID, PermissionDomains.LEASES)).isEqualTo(5);
+			assertThat(index.size()).isEqualTo(1);
+		}
+
+		@Test
+		void shouldReturnEmptyForNullOrEmptyList() {
+			assertThat(AccessIndex.of(null)).isSameAs(AccessIndex.EMPTY);
+			assertThat(AccessIndex.of(List.of()).isEmpty()).isTrue();
+		}
+	}
+
+	@Nested
+	class ScopeIds {
+
+		@Test
+		void shouldCollectOnlyScopesGrantingAction() {
+			UUID otherProp = UUID.randomUUID();
+			AccessIndex index = AccessIndex.of(List.of(
+					new AccessEntry(ORG_ID, ResourceType.ORG, ORG_ID, Map.of(PermissionDomains.PORTFOLIO, Actions.READ)),
+					new AccessEntry(ORG_ID, ResourceType.PROPERTY, PROP_ID, Map.of(PermissionDomains.PORTFOLIO, 15)),
+					new AccessEntry(ORG_ID, ResourceType.PROPERTY, otherProp, Map.of(PermissionDomains.LEASES, 15))));
+
+			assertThat(index.scopeIds(ResourceType.ORG, PermissionDomains.PORTFOLIO, Actions.READ))
+					.containsExactly(ORG_ID);
+			assertThat(index.scopeIds(ResourceType.PROPERTY, PermissionDomains.PORTFOLIO, Actions.READ))
+					.containsExactly(PROP_ID);
+			assertThat(index.scopeIds(ResourceType.ORG, PermissionDomains.PORTFOLIO, Actions.UPDATE)).isEmpty();
+		}
+
+		@Test
+		void shouldMemoizeResult() {
+			AccessIndex index = AccessIndex.of(List.of(
+					new AccessEntry(ORG_ID, ResourceType.UNIT, UNIT_ID, Map.of(PermissionDomains.LEASES, 1))));
+
+			assertThat(index.scopeIds(ResourceType.UNIT, PermissionDomains.LEASES, Actions.READ))
+					.isSameAs(index.scopeIds(ResourceType.UNIT, PermissionDomains.LEASES, Actions.READ));
+		}
+	}
+
+	@Nested
+	class Patching {
+
+		private final UUID policyId = UUID.randomUUID();
+		private final AccessGrant assignment = AccessGrant.assignment(UUID.randomUUID(), ORG_ID, ResourceType.UNIT,
+				UNIT_ID, null, policyId, Map.of(PermissionDomains.LEASES, "r"));
+		private final AccessGrant ownership = AccessGrant.ownership(ORG_ID, PROP_ID);
+
+		@Test
+		void withGrantShouldReplaceGrantFromSameSource() {
+			AccessIndex index = AccessIndex.ofGrants(List.of(assignment, ownership));
+
+			AccessIndex patched = index.withGrant(assignment.withPermissions(PermissionSet.of(PermissionDomains.LEASES, 15)));
+
+			assertThat(patched.grants()).hasSize(2);
+			assertThat(patched.mask(ORG_ID, ResourceType.UNIT, UNIT_ID, PermissionDomains.LEASES)).isEqualTo(15);
+			assertThat(index.mask(ORG_ID, ResourceType.UNIT, UNIT_ID, PermissionDomains.LEASES)).isEqualTo(Actions.READ);
+		}
+
+		@Test
+		void withoutGrantShouldDropScopeAndReturnSameInstanceWhenAbsent() {
+			AccessIndex index = AccessIndex.ofGrants(List.of(assignment, ownership));
+
+			AccessIndex patched = index.withoutGrant(ownership.source());
+
+			assertThat(patched.contains(ORG_ID, ResourceType.PROPERTY, PROP_ID)).isFalse();
+			assertThat(patched.withoutGrant(ownership.source())).isSameAs(patched);
+		}
+
+		@Test
+		void withPolicyPermissionsShouldOnlyTouchLinkedGrants() {
+			AccessGrant overridden = AccessGrant.assignment(UUID.randomUUID(), ORG_ID, ResourceType.PROPERTY, PROP_ID,
+					Map.of(PermissionDomains.LEASES, "r"), policyId, Map.of());
+			AccessIndex index = AccessIndex.ofGrants(List.of(assignment, overridden));
+
+			AccessIndex patched = index.withPolicyPermissions(policyId, PermissionSet.of(PermissionDomains.LEASES, 3));
+
+			assertThat(patched.mask(ORG_ID, ResourceType.UNIT, UNIT_ID, PermissionDomains.LEASES)).isEqualTo(3);
+			assertThat(patched.mask(ORG_ID, ResourceType.PROPERTY, PROP_ID, PermissionDomains.LEASES))
+					.isEqualTo(Actions.READ);
+			assertThat(index.withPolicyPermissions(UUID.randomUUID(), PermissionSet.NONE)).isSameAs(index);
+		}
+
+		@Test
+		void emptyAssignmentShouldBeKeptSoPolicyEditsCanGrantAccess() {
+			AccessGrant empty = AccessGrant.assignment(UUID.randomUUID(), ORG_ID, ResourceType.UNIT, UNIT_ID, null,
+					policyId, Map.of());
+			AccessIndex index = AccessIndex.ofGrants(List.of(empty));
+
+			assertThat(index.isEmpty()).isTrue();
+			assertThat(index.withPolicyPermissions(policyId, PermissionSet.of(PermissionDomains.LEASES, 1))
+					.mask(ORG_ID, ResourceType.UNIT, UNIT_ID, PermissionDomains.LEASES)).isEqualTo(1);
+		}
+
+		@Test
+		void untrackedIndexShouldNotBePatchable() {
+			AccessIndex index = AccessIndex.of(List.of(ownership.entry()));
+
+			assertThat(index.isTracked()).isFalse();
+			assertThat(index.withGrant(assignment)).isNull();
+			assertThat(index.withoutGrant(ownership.source())).isNull();
+			assertThat(index.withPolicyPermissions(policyId, PermissionSet.NONE)).isNull();
+		}
+	}
+}
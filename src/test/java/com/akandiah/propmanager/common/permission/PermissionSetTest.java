@@ -0,0 +1,106 @@
+package com.akandiah.propmanager.common.permission;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link PermissionSet}.
+ */
+class PermissionSetTest {
+
+	@Nested
+	class Packing {
+
+		@Test
+		void shouldKeepDomainsInSeparateSlots() {
+			PermissionSet set = PermissionSet.NONE
+					.with(PermissionDomains.LEASES, 15)
+					.with(PermissionDomains.PORTFOLIO, Actions.READ);
+
+			assertThat(set.mask(PermissionDomains.LEASES)).isEqualTo(15);
+			assertThat(set.mask(PermissionDomains.PORTFOLIO)).isEqualTo(Actions.READ);
+			assertThat(set.mask(PermissionDomains.MAINTENANCE)).isZero();
+		}
+
+		@Test
+		void shouldParseLetters() {
+			PermissionSet set = PermissionSet.fromLetters(Map.of("l", "cru", "o", "r"));
+
+			assertThat(set.mask("l")).isEqualTo(7);
+			assertThat(set.mask("o")).isEqualTo(1);
+		}
+
+		@Test
+		void shouldIgnoreUnknownDomains() {
+			PermissionSet set = PermissionSet.fromMasks(Map.of("x", 15, "l", 1));
+
+			assertThat(set).isEqualTo(PermissionSet.of("l", 1));
+			assertThat(set.mask("x")).isZero();
+			assertThat(set.mask(null)).isZero();
+		}
+	}
+
+	@Nested
+	class MergeAndCheck {
+
+		@Test
+		void shouldOrMasksPerDomain() {
+			PermissionSet a = PermissionSet.fromMasks(Map.of("l", 1));
+			PermissionSet b = PermissionSet.fromMasks(Map.of("l", 6, "m", 3));
+
+			PermissionSet merged = a.merge(b);
+
+			assertThat(merged.mask("l")).isEqualTo(7);
+			assertThat(merged.mask("m")).isEqualTo(3);
+		}
+
+		@Test
+		void shouldReturnSameInstanceWhenMergeAddsNothing() {
+			PermissionSet a = PermissionSet.fromMasks(Map.of("l", 7));
+
+			assertThat(a.merge(PermissionSet.of("l", 1))).isSameAs(a);
+		}
+
+		@Test
+		void shouldRequireAllActionBits() {
+			PermissionSet set = PermissionSet.of("l", Actions.READ | Actions.UPDATE);
+
+			assertThat(set.allows("l", Actions.READ)).isTrue();
+			assertThat(set.allows("l", Actions.READ | Actions.UPDATE)).isTrue();
+			assertThat(set.allows("l", Actions.DELETE)).isFalse();
+		}
+	}
+
+	@Nested
+	class Iteration {
+
+		@Test
+		void shouldVisitNonZeroDomainsInSlotOrder() {
+			PermissionSet set = PermissionSet.fromMasks(Map.of("p", 1, "l", 2, "f", 4));
+			List<String> visited = new ArrayList<>();
+
+			set.forEach((domain, mask) -> visited.add(domain + mask));
+
+			assertThat(visited).containsExactly("l2", "f4", "p1");
+		}
+
+		@Test
+		void claimMapShouldRoundTrip() {
+			AccessEntry entry = new AccessEntry(UUID.randomUUID(), ResourceType.UNIT, UUID.randomUUID(),
+					Map.of("l", 7, "m", 3));
+
+			@SuppressWarnings("unchecked")
+			Map<String, Object> claimPerms = (Map<String, Object>) entry.toClaimMap().get("permissions");
+
+			assertThat(claimPerms).containsExactlyInAnyOrderEntriesOf(Map.of("l", 7, "m", 3));
+			assertThat(AccessEntry.fromClaimMap(entry.toClaimMap())).isEqualTo(entry);
+		}
+	}
+}
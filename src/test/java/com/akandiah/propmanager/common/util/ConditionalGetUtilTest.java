@@ -0,0 +1,124 @@
+package com.akandiah.propmanager.common.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import com.akandiah.propmanager.common.domain.EntityStamp;
+import com.akandiah.propmanager.common.domain.ListStamp;
+
+/**
+ * Unit tests for {@link ConditionalGetUtil}.
+ */
+class ConditionalGetUtilTest {
+
+	private static final Instant UPDATED_AT = Instant.parse("2026-03-01T12:00:00.123456Z");
+
+	private final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/props/1");
+	private final MockHttpServletResponse response = new MockHttpServletResponse();
+	private final ServletWebRequest webRequest = new ServletWebRequest(request, response);
+
+	@Nested
+	class Detail {
+
+		@Test
+		void shouldSetStrongEtagAndLastModifiedOnFirstRequest() {
+			assertThat(ConditionalGetUtil.notModified(webRequest, stamp(3))).isFalse();
+
+			assertThat(response.getStatus()).isEqualTo(200);
+			assertThat(response.getHeader("ETag")).isEqualTo("\"3\"");
+			assertThat(response.getDateHeader("Last-Modified")).isEqualTo(UPDATED_AT.toEpochMilli() / 1000 * 1000);
+		}
+
+		@Test
+		void shouldReturnNotModifiedWhenVersionMatches() {
+			request.addHeader("If-None-Match", "\"3\"");
+
+			assertThat(ConditionalGetUtil.notModified(webRequest, stamp(3))).isTrue();
+			assertThat(response.getStatus()).isEqualTo(304);
+		}
+
+		@Test
+		void shouldIgnoreLastModifiedWhenVersionChanged() {
+			request.addHeader("If-None-Match", "\"3\"");
+			request.addHeader("If-Modified-Since", UPDATED_AT.plusSeconds(60).toEpochMilli());
+
+			assertThat(ConditionalGetUtil.notModified(webRequest, stamp(4))).isFalse();
+			assertThat(response.getHeader("ETag")).isEqualTo("\"4\"");
+		}
+
+		@Test
+		void shouldNeverShortCircuitWithoutStamp() {
+			request.addHeader("If-None-Match", "*");
+
+			assertThat(ConditionalGetUtil.notModified(webRequest, Optional.<EntityStamp>empty())).isFalse();
+			assertThat(response.getHeader("ETag")).isNull();
+		}
+	}
+
+	@Nested
+	class List {
+
+		@Test
+		void shouldSetWeakEtagWithoutLastModified() {
+			assertThat(ConditionalGetUtil.notModified(webRequest, listStamp(2, UPDATED_AT))).isFalse();
+
+			assertThat(response.getHeader("ETag")).isEqualTo("W/\"2-" + UPDATED_AT.getEpochSecond() + ".123456000\"");
+			assertThat(response.getHeader("Last-Modified")).isNull();
+		}
+
+		@Test
+		void shouldReturnNotModifiedWhenCountAndNewestUpdateMatch() {
+			request.addHeader("If-None-Match", ConditionalGetUtil.etag(listStamp(2, UPDATED_AT)));
+
+			assertThat(ConditionalGetUtil.notModified(webRequest, listStamp(2, UPDATED_AT))).isTrue();
+			assertThat(response.getStatus()).isEqualTo(304);
+		}
+
+		@Test
+		void shouldChangeEtagWhenRowDeleted() {
+			assertThat(ConditionalGetUtil.etag(listStamp(1, UPDATED_AT)))
+					.isNotEqualTo(ConditionalGetUtil.etag(listStamp(2, UPDATED_AT)));
+		}
+
+		@Test
+		void shouldTagEmptyList() {
+			assertThat(ConditionalGetUtil.etag(ListStamp.EMPTY)).isEqualTo("W/\"0-0\"");
+		}
+	}
+
+	private static EntityStamp stamp(int version) {
+		return new EntityStamp() {
+			@Override
+			public Integer getVersion() {
+				return version;
+			}
+
+			@Override
+			public Instant getUpdatedAt() {
+				return UPDATED_AT;
+			}
+		};
+	}
+
+	private static ListStamp listStamp(long count, Instant maxUpdatedAt) {
+		return new ListStamp() {
+			@Override
+			public long getCount() {
+				return count;
+			}
+
+			@Override
+			public Instant getMaxUpdatedAt() {
+				return maxUpdatedAt;
+			}
+		};
+	}
+}
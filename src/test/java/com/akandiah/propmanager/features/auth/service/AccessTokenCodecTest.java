@@ -0,0 +1,85 @@
+package com.akandiah.propmanager.features.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+
+import com.akandiah.propmanager.common.permission.AccessEntry;
+import com.akandiah.propmanager.common.permission.AccessGrant;
+import com.akandiah.propmanager.common.permission.PermissionDomains;
+import com.akandiah.propmanager.common.permission.PermissionSet;
+import com.akandiah.propmanager.common.permission.ResourceType;
+import com.akandiah.propmanager.features.auth.domain.AccessToken;
+
+class AccessTokenCodecTest {
+
+	private static final byte[] SECRET = "test-secret-key-at-least-32-chars-long".getBytes(StandardCharsets.UTF_8);
+
+	private final AccessTokenCodec codec = new AccessTokenCodec(SECRET);
+
+	private static AccessToken token() {
+		UUID orgId = UUID.randomUUID();
+		return new AccessToken(UUID.randomUUID(), 42L, 1_000L, 2_000L, List.of(
+				new AccessEntry(orgId, ResourceType.ORG, orgId, PermissionSet.of(PermissionDomains.ORGANIZATION, 1)),
+				new AccessEntry(orgId, ResourceType.PROPERTY, UUID.randomUUID(), AccessGrant.OWNER_PERMISSIONS),
+				new AccessEntry(UUID.randomUUID(), ResourceType.UNIT, UUID.randomUUID(), AccessGrant.TENANT_PERMISSIONS)));
+	}
+
+	@Test
+	void shouldRoundTrip() {
+		AccessToken token = token();
+
+		assertThat(codec.decode(codec.encode(token))).contains(token);
+	}
+
+	@Test
+	void shouldWriteEachOrgIdOnce() {
+		AccessToken token = token();
+		int bytes = Base64.getUrlDecoder().decode(codec.encode(token)).length;
+
+		// header 41 + orgs (2 + 2*16) + entries (2 + 3*23) + mac 32
+		assertThat(bytes).isEqualTo(41 + 34 + 71 + 32);
+	}
+
+	@Test
+	void shouldRejectTamperedToken() {
+		byte[] bytes = Base64.getUrlDecoder().decode(codec.encode(token()));
+		bytes[20] ^= 1;
+
+		assertThat(codec.decode(Base64.getUrlEncoder().withoutPadding().encodeToString(bytes))).isEmpty();
+	}
+
+	@Test
+	void shouldRejectTokenSignedWithAnotherKey() {
+		AccessTokenCodec other = new AccessTokenCodec("another-secret-key-at-least-32-chars".getBytes(StandardCharsets.UTF_8));
+
+		assertThat(codec.decode(other.encode(token()))).isEmpty();
+	}
+
+	@Test
+	void shouldRejectGarbage() {
+		assertThat(codec.decode(null)).isEmpty();
+		assertThat(codec.decode("not base64 !")).isEmpty();
+		assertThat(codec.decode("AAAA")).isEmpty();
+	}
+
+	@Test
+	void shouldRequireLongSecret() {
+		assertThatThrownBy(() -> new AccessTokenCodec("short".getBytes(StandardCharsets.UTF_8)))
+				.isInstanceOf(IllegalArgumentException.class);
+	}
+
+	@Test
+	void subjectHashShouldDependOnIssuerAndSubject() {
+		assertThat(AccessTokenCodec.subjectHash("https://idp", "alice"))
+				.isEqualTo(AccessTokenCodec.subjectHash("https://idp", "alice"))
+				.isNotEqualTo(AccessTokenCodec.subjectHash("https://idp", "bob"))
+				.isNotEqualTo(AccessTokenCodec.subjectHash("https://other", "alice"));
+	}
+}
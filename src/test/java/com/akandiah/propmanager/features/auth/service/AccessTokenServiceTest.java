@@ -0,0 +1,144 @@
+package com.akandiah.propmanager.features.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import com.akandiah.propmanager.common.permission.AccessGrant;
+import com.akandiah.propmanager.common.permission.AccessIndex;
+import com.akandiah.propmanager.common.permission.ResourceType;
+import com.akandiah.propmanager.config.AccessTokenProperties;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+@ExtendWith(MockitoExtension.class)
+class AccessTokenServiceTest {
+
+	private static final UUID USER_ID = UUID.randomUUID();
+	private static final UUID ORG_ID = UUID.randomUUID();
+	private static final UUID PROP_ID = UUID.randomUUID();
+
+	@Mock
+	private JwtHydrationService jwtHydrationService;
+
+	private MutableClock clock;
+	private AccessTokenRevocations revocations;
+	private AccessTokenService service;
+
+	@BeforeEach
+	void setUp() {
+		clock = new MutableClock(Instant.parse("2026-01-01T00:00:00Z"));
+		revocations = new AccessTokenRevocations(Caffeine.newBuilder().build(), true, clock);
+		AccessTokenProperties properties = new AccessTokenProperties(true,
+				"test-secret-key-at-least-32-chars-long", 15, "X-Access-Token", 2);
+		service = new AccessTokenService(jwtHydrationService, revocations, properties, clock);
+	}
+
+	private static Jwt jwt(String subject) {
+		return Jwt.withTokenValue("t").header("alg", "none").issuer("https://idp.example.com").subject(subject).build();
+	}
+
+	private String issue() {
+		when(jwtHydrationService.hydrate(USER_ID))
+				.thenReturn(AccessIndex.ofGrants(List.of(AccessGrant.ownership(ORG_ID, PROP_ID))));
+		return service.issue(USER_ID, jwt("alice")).orElseThrow().token();
+	}
+
+	@Test
+	void issuedTokenShouldVerifyWithoutHydration() {
+		String token = issue();
+
+		AccessIndex access = service.verify(token, jwt("alice")).orElseThrow();
+
+		assertThat(access.contains(ORG_ID, ResourceType.PROPERTY, PROP_ID)).isTrue();
+	}
+
+	@Test
+	void shouldRejectTokenPresentedWithAnotherIdentity() {
+		String token = issue();
+
+		assertThat(service.verify(token, jwt("mallory"))).isEmpty();
+	}
+
+	@Test
+	void shouldRejectExpiredToken() {
+		String token = issue();
+		clock.advanceMillis(15 * 60_000L);
+
+		assertThat(service.verify(token, jwt("alice"))).isEmpty();
+	}
+
+	@Test
+	void shouldRejectTokenIssuedBeforeRevocation() {
+		String token = issue();
+		clock.advanceMillis(1);
+
+		revocations.revoke(Set.of(USER_ID));
+
+		assertThat(service.verify(token, jwt("alice"))).isEmpty();
+		assertThat(service.verify(issue(), jwt("alice"))).isPresent();
+	}
+
+	@Test
+	void shouldRejectTokenIssuedBeforeRestart() {
+		String token = issue();
+		clock.advanceMillis(60_000);
+
+		AccessTokenRevocations restarted = new AccessTokenRevocations(Caffeine.newBuilder().build(), true, clock);
+		AccessTokenService afterRestart = new AccessTokenService(jwtHydrationService, restarted,
+				new AccessTokenProperties(true, "test-secret-key-at-least-32-chars-long", 15, "X-Access-Token", 2),
+				clock);
+
+		assertThat(afterRestart.verify(token, jwt("alice"))).isEmpty();
+	}
+
+	@Test
+	void shouldNotIssueWhenAccessListIsTooLarge() {
+		when(jwtHydrationService.hydrate(USER_ID)).thenReturn(AccessIndex.ofGrants(List.of(
+				AccessGrant.ownership(ORG_ID, UUID.randomUUID()),
+				AccessGrant.ownership(ORG_ID, UUID.randomUUID()),
+				AccessGrant.ownership(ORG_ID, UUID.randomUUID()))));
+
+		assertThat(service.issue(USER_ID, jwt("alice"))).isEmpty();
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant now;
+
+		MutableClock(Instant now) {
+			this.now = now;
+		}
+
+		void advanceMillis(long millis) {
+			now = now.plusMillis(millis);
+		}
+
+		@Override
+		public Instant instant() {
+			return now;
+		}
+
+		@Override
+		public ZoneOffset getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(java.time.ZoneId zone) {
+			return this;
+		}
+	}
+}
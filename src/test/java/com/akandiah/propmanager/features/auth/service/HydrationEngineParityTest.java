@@ -0,0 +1,199 @@
+package com.akandiah.propmanager.features.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.akandiah.propmanager.common.permission.AccessGrant;
+import com.akandiah.propmanager.common.permission.ResourceType;
+import com.akandiah.propmanager.config.TestSecurityConfig;
+import com.akandiah.propmanager.features.invite.domain.Invite;
+import com.akandiah.propmanager.features.invite.domain.InviteRepository;
+import com.akandiah.propmanager.features.invite.domain.TargetType;
+import com.akandiah.propmanager.features.lease.domain.Lease;
+import com.akandiah.propmanager.features.lease.domain.LeaseRepository;
+import com.akandiah.propmanager.features.lease.domain.LeaseStatus;
+import com.akandiah.propmanager.features.lease.domain.LeaseTenant;
+import com.akandiah.propmanager.features.lease.domain.LeaseTenantRepository;
+import com.akandiah.propmanager.features.lease.domain.LeaseTenantRole;
+import com.akandiah.propmanager.features.membership.domain.Membership;
+import com.akandiah.propmanager.features.membership.domain.MembershipRepository;
+import com.akandiah.propmanager.features.membership.domain.PermissionPolicy;
+import com.akandiah.propmanager.features.membership.domain.PermissionPolicyRepository;
+import com.akandiah.propmanager.features.membership.domain.PolicyAssignment;
+import com.akandiah.propmanager.features.membership.domain.PolicyAssignmentRepository;
+import com.akandiah.propmanager.features.organization.domain.Organization;
+import com.akandiah.propmanager.features.organization.domain.OrganizationRepository;
+import com.akandiah.propmanager.features.prop.domain.Address;
+import com.akandiah.propmanager.features.prop.domain.AddressRepository;
+import com.akandiah.propmanager.features.prop.domain.Prop;
+import com.akandiah.propmanager.features.prop.domain.PropRepository;
+import com.akandiah.propmanager.features.prop.domain.PropertyType;
+import com.akandiah.propmanager.features.tenant.domain.Tenant;
+import com.akandiah.propmanager.features.tenant.domain.TenantRepository;
+import com.akandiah.propmanager.features.unit.domain.Unit;
+import com.akandiah.propmanager.features.unit.domain.UnitRepository;
+import com.akandiah.propmanager.features.unit.domain.UnitStatus;
+import com.akandiah.propmanager.features.user.domain.User;
+import com.akandiah.propmanager.features.user.domain.UserRepository;
+
+/**
+ * Parity between the JPA hydration path and {@link SqlHydrationEngine}. The SQL
+ * engine is PostgreSQL-only, so this suite runs only when
+ * {@code HYDRATION_PARITY_DB_URL} points at a Postgres database (schema applied
+ * by Liquibase; every test rolls back).
+ */
+@SpringBootTest(properties = {
+		"spring.datasource.url=${HYDRATION_PARITY_DB_URL}",
+		"spring.datasource.username=${HYDRATION_PARITY_DB_USER:postgres}",
+		"spring.datasource.password=${HYDRATION_PARITY_DB_PASSWORD:postgres}",
+		"spring.datasource.driver-class-name=org.postgresql.Driver",
+		"spring.jpa.hibernate.ddl-auto=validate",
+		"spring.liquibase.enabled=true",
+		"app.auth.hydration.engine=sql"
+})
+@Import(TestSecurityConfig.class)
+@EnabledIfEnvironmentVariable(named = "HYDRATION_PARITY_DB_URL", matches = ".+")
+@Transactional
+class HydrationEngineParityTest {
+
+	@Autowired
+	private JwtHydrationService hydrationService;
+	@Autowired
+	private SqlHydrationEngine sqlEngine;
+
+	@Autowired
+	private UserRepository userRepository;
+	@Autowired
+	private OrganizationRepository organizationRepository;
+	@Autowired
+	private MembershipRepository membershipRepository;
+	@Autowired
+	private PermissionPolicyRepository policyRepository;
+	@Autowired
+	private PolicyAssignmentRepository assignmentRepository;
+	@Autowired
+	private AddressRepository addressRepository;
+	@Autowired
+	private PropRepository propRepository;
+	@Autowired
+	private UnitRepository unitRepository;
+	@Autowired
+	private LeaseRepository leaseRepository;
+	@Autowired
+	private TenantRepository tenantRepository;
+	@Autowired
+	private InviteRepository inviteRepository;
+	@Autowired
+	private LeaseTenantRepository leaseTenantRepository;
+
+	private User user;
+	private Organization org;
+	private Membership membership;
+
+	@BeforeEach
+	void setUp() {
+		user = user("parity");
+		org = organizationRepository.save(Organization.builder().name("Parity Org").build());
+		membership = membershipRepository.save(Membership.builder().user(user).organization(org).build());
+	}
+
+	@Test
+	void emptyUser() {
+		assertParity(user("nobody").getId());
+	}
+
+	@Test
+	void orgAndResourceScopedPolicyAssignments() {
+		PermissionPolicy policy = policy(Map.of("l", "rcud", "m", "r", "o", "r"));
+		assign(ResourceType.ORG, UUID.randomUUID(), policy, null);
+		assign(ResourceType.PROPERTY, UUID.randomUUID(), policy, null);
+
+		assertParity(user.getId());
+	}
+
+	@Test
+	void overridesWinAndEmptyOverridesFallBackToPolicy() {
+		PermissionPolicy policy = policy(Map.of("f", "r"));
+		assign(ResourceType.UNIT, UUID.randomUUID(), policy, Map.of("t", "cu"));
+		assign(ResourceType.ASSET, UUID.randomUUID(), policy, Map.of());
+		assign(ResourceType.PROPERTY, UUID.randomUUID(), null, null);
+
+		assertParity(user.getId());
+	}
+
+	@Test
+	void unknownDomainsAndLettersAreIgnored() {
+		assign(ResourceType.PROPERTY, UUID.randomUUID(), null, Map.of("x", "rcud", "p", "rzq", "l", ""));
+
+		assertParity(user.getId());
+	}
+
+	@Test
+	void ownershipAndActiveTenancies() {
+		Prop owned = prop(user.getId());
+		Unit unit = unitRepository.save(Unit.builder().prop(owned).unitNumber("1A").status(UnitStatus.OCCUPIED).build());
+		Tenant tenant = tenantRepository.save(Tenant.builder().user(user).build());
+		tenancy(unit, tenant, LeaseStatus.ACTIVE);
+		tenancy(unit, tenant, LeaseStatus.REVIEW);
+		tenancy(unit, tenant, LeaseStatus.TERMINATED);
+		prop(UUID.randomUUID());
+
+		List<AccessGrant> grants = sqlEngine.loadGrants(user.getId());
+
+		assertThat(grants).filteredOn(g -> g.source().kind() == AccessGrant.Kind.TENANCY).hasSize(2);
+		assertParity(user.getId());
+	}
+
+	private void assertParity(UUID userId) {
+		assertThat(sqlEngine.loadGrants(userId))
+				.containsExactlyInAnyOrderElementsOf(hydrationService.loadGrants(userId));
+	}
+
+	private User user(String name) {
+		return userRepository.save(User.builder().name(name).email(name + "-" + UUID.randomUUID() + "@example.com")
+				.build());
+	}
+
+	private PermissionPolicy policy(Map<String, String> permissions) {
+		return policyRepository.save(PermissionPolicy.builder().org(org).name("policy-" + UUID.randomUUID())
+				.permissions(permissions).build());
+	}
+
+	private void assign(ResourceType type, UUID resourceId, PermissionPolicy policy, Map<String, String> overrides) {
+		assignmentRepository.save(PolicyAssignment.builder().membership(membership).resourceType(type)
+				.resourceId(resourceId).policy(policy).overrides(overrides).build());
+	}
+
+	private Prop prop(UUID ownerId) {
+		Address address = addressRepository.save(Address.builder().addressLine1("1 Main St").city("Toronto")
+				.stateProvinceRegion("ON").postalCode("M1M1M1").countryCode("CA").build());
+		return propRepository.save(Prop.builder().legalName("Parity Prop").address(address)
+				.propertyType(PropertyType.APARTMENT_BUILDING).organization(org).ownerId(ownerId).build());
+	}
+
+	private void tenancy(Unit unit, Tenant tenant, LeaseStatus status) {
+		Lease lease = leaseRepository.save(Lease.builder().unit(unit).property(unit.getProp()).status(status)
+				.startDate(LocalDate.now()).endDate(LocalDate.now().plusYears(1)).rentAmount(BigDecimal.TEN)
+				.rentDueDay(1).build());
+		Invite invite = inviteRepository.save(Invite.builder().email(tenant.getUser().getEmail())
+				.token(UUID.randomUUID().toString()).targetType(TargetType.LEASE).targetId(lease.getId())
+				.invitedBy(user).expiresAt(Instant.now().plus(7, ChronoUnit.DAYS)).build());
+		leaseTenantRepository.save(LeaseTenant.builder().lease(lease).invite(invite).tenant(tenant)
+				.role(LeaseTenantRole.PRIMARY).build());
+	}
+}
@@ -1,6 +1,8 @@
 package com.akandiah.propmanager.features.auth.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
@@ -14,8 +16,11 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
 
 import com.akandiah.propmanager.common.permission.AccessEntry;
+import com.akandiah.propmanager.common.permission.AccessGrant;
+import com.akandiah.propmanager.common.permission.AccessIndex;
 import com.akandiah.propmanager.common.permission.Actions;
 import com.akandiah.propmanager.common.permission.PermissionDomains;
 import com.akandiah.propmanager.features.lease.domain.Lease;
@@ -48,13 +53,15 @@ class JwtHydrationServiceTest {
 	private PropRepository propRepository;
 	@Mock
 	private LeaseTenantRepository leaseTenantRepository;
+	@Mock
+	private ObjectProvider<SqlHydrationEngine> sqlEngine;
 
 	private JwtHydrationService service;
 
 	@BeforeEach
 	void setUp() {
 		service = new JwtHydrationService(membershipRepository, assignmentRepository,
-				propRepository, leaseTenantRepository);
+				propRepository, leaseTenantRepository, sqlEngine);
 	}
 
 	@Nested
@@ -67,7 +74,7 @@ class JwtHydrationServiceTest {
 			when(propRepository.findByOwnerIdWithOrganization(userId)).thenReturn(List.of());
 			when(leaseTenantRepository.findActiveByUserIdWithLeaseUnitPropOrg(userId)).thenReturn(List.of());
 
-			List<AccessEntry> result = service.hydrate(userId);
+			List<AccessEntry> result = service.hydrate(userId).entries();
 
 			assertThat(result).isEmpty();
 		}
@@ -83,7 +90,7 @@ class JwtHydrationServiceTest {
 			when(propRepository.findByOwnerIdWithOrganization(userId)).thenReturn(List.of());
 			when(leaseTenantRepository.findActiveByUserIdWithLeaseUnitPropOrg(userId)).thenReturn(List.of());
 
-			List<AccessEntry> result = service.hydrate(userId);
+			List<AccessEntry> result = service.hydrate(userId).entries();
 
 			assertThat(result).isEmpty();
 		}
@@ -103,15 +110,15 @@ class JwtHydrationServiceTest {
 			when(propRepository.findByOwnerIdWithOrganization(userId)).thenReturn(List.of());
 			when(leaseTenantRepository.findActiveByUserIdWithLeaseUnitPropOrg(userId)).thenReturn(List.of());
 
-			List<AccessEntry> result = service.hydrate(userId);
+			List<AccessEntry> result = service.hydrate(userId).entries();
 
 			assertThat(result).hasSize(1);
 			AccessEntry entry = result.get(0);
 			assertThat(entry.orgId()).isEqualTo(orgId);
 			assertThat(entry.scopeType()).isEqualTo(ResourceType.ORG);
 			assertThat(entry.scopeId()).isEqualTo(orgId);
-			assertThat(entry.permissions()).containsEntry("l", 3); // c=2, r=1
-			assertThat(entry.permissions()).containsEntry("m", 1); // r=1
+			assertThat(entry.permissions().mask("l")).isEqualTo(3); // c=2, r=1
+			assertThat(entry.permissions().mask("m")).isEqualTo(1); // r=1
 		}
 
 		@Test
@@ -130,13 +137,13 @@ class JwtHydrationServiceTest {
 			when(propRepository.findByOwnerIdWithOrganization(userId)).thenReturn(List.of());
 			when(leaseTenantRepository.findActiveByUserIdWithLeaseUnitPropOrg(userId)).thenReturn(List.of());
 
-			List<AccessEntry> result = service.hydrate(userId);
+			List<AccessEntry> result = service.hydrate(userId).entries();
 
 			assertThat(result).hasSize(1);
 			AccessEntry entry = result.get(0);
 			assertThat(entry.scopeType()).isEqualTo(ResourceType.PROPERTY);
 			assertThat(entry.scopeId()).isEqualTo(propId);
-			assertThat(entry.permissions()).containsEntry("l", 15);
+			assertThat(entry.permissions().mask("l")).isEqualTo(15);
 		}
 
 		@Test
@@ -156,7 +163,7 @@ class JwtHydrationServiceTest {
 			when(propRepository.findByOwnerIdWithOrganization(userId)).thenReturn(List.of());
 			when(leaseTenantRepository.findActiveByUserIdWithLeaseUnitPropOrg(userId)).thenReturn(List.of());
 
-			List<AccessEntry> result = service.hydrate(userId);
+			List<AccessEntry> result = service.hydrate(userId).entries();
 
 			assertThat(result).hasSize(2);
 		}
@@ -176,7 +183,7 @@ class JwtHydrationServiceTest {
 			when(propRepository.findByOwnerIdWithOrganization(userId)).thenReturn(List.of(prop));
 			when(leaseTenantRepository.findActiveByUserIdWithLeaseUnitPropOrg(userId)).thenReturn(List.of());
 
-			List<AccessEntry> result = service.hydrate(userId);
+			List<AccessEntry> result = service.hydrate(userId).entries();
 
 			assertThat(result).hasSize(1);
 			AccessEntry entry = result.get(0);
@@ -184,10 +191,10 @@ class JwtHydrationServiceTest {
 			assertThat(entry.scopeType()).isEqualTo(ResourceType.PROPERTY);
 			assertThat(entry.scopeId()).isEqualTo(propId);
 			int fullCrud = Actions.READ | Actions.CREATE | Actions.UPDATE | Actions.DELETE;
-			assertThat(entry.permissions()).containsEntry(PermissionDomains.LEASES, fullCrud);
-			assertThat(entry.permissions()).containsEntry(PermissionDomains.MAINTENANCE, fullCrud);
-			assertThat(entry.permissions()).containsEntry(PermissionDomains.FINANCES, fullCrud);
-			assertThat(entry.permissions()).containsEntry(PermissionDomains.TENANTS, fullCrud);
+			assertThat(entry.permissions().mask(PermissionDomains.LEASES)).isEqualTo(fullCrud);
+			assertThat(entry.permissions().mask(PermissionDomains.MAINTENANCE)).isEqualTo(fullCrud);
+			assertThat(entry.permissions().mask(PermissionDomains.FINANCES)).isEqualTo(fullCrud);
+			assertThat(entry.permissions().mask(PermissionDomains.TENANTS)).isEqualTo(fullCrud);
 		}
 
 		@Test
@@ -201,7 +208,7 @@ class JwtHydrationServiceTest {
 			when(propRepository.findByOwnerIdWithOrganization(userId)).thenReturn(List.of(prop1, prop2));
 			when(leaseTenantRepository.findActiveByUserIdWithLeaseUnitPropOrg(userId)).thenReturn(List.of());
 
-			List<AccessEntry> result = service.hydrate(userId);
+			List<AccessEntry> result = service.hydrate(userId).entries();
 
 			assertThat(result).hasSize(2);
 			assertThat(result).extracting(AccessEntry::scopeId)
@@ -226,17 +233,17 @@ class JwtHydrationServiceTest {
 			when(propRepository.findByOwnerIdWithOrganization(userId)).thenReturn(List.of());
 			when(leaseTenantRepository.findActiveByUserIdWithLeaseUnitPropOrg(userId)).thenReturn(List.of(lt));
 
-			List<AccessEntry> result = service.hydrate(userId);
+			List<AccessEntry> result = service.hydrate(userId).entries();
 
 			assertThat(result).hasSize(1);
 			AccessEntry entry = result.get(0);
 			assertThat(entry.orgId()).isEqualTo(orgId);
 			assertThat(entry.scopeType()).isEqualTo(ResourceType.UNIT);
 			assertThat(entry.scopeId()).isEqualTo(unitId);
-			assertThat(entry.permissions()).containsEntry(PermissionDomains.LEASES, Actions.READ);
-			assertThat(entry.permissions()).containsEntry(PermissionDomains.MAINTENANCE, Actions.READ);
-			assertThat(entry.permissions()).doesNotContainKey(PermissionDomains.FINANCES);
-			assertThat(entry.permissions()).doesNotContainKey(PermissionDomains.TENANTS);
+			assertThat(entry.permissions().mask(PermissionDomains.LEASES)).isEqualTo(Actions.READ);
+			assertThat(entry.permissions().mask(PermissionDomains.MAINTENANCE)).isEqualTo(Actions.READ);
+			assertThat(entry.permissions().mask(PermissionDomains.FINANCES)).isZero();
+			assertThat(entry.permissions().mask(PermissionDomains.TENANTS)).isZero();
 		}
 
 		@Test
@@ -252,7 +259,7 @@ class JwtHydrationServiceTest {
 			when(propRepository.findByOwnerIdWithOrganization(userId)).thenReturn(List.of());
 			when(leaseTenantRepository.findActiveByUserIdWithLeaseUnitPropOrg(userId)).thenReturn(List.of(lt));
 
-			List<AccessEntry> result = service.hydrate(userId);
+			List<AccessEntry> result = service.hydrate(userId).entries();
 
 			assertThat(result).hasSize(1);
 			assertThat(result.get(0).scopeType()).isEqualTo(ResourceType.UNIT);
@@ -260,33 +267,26 @@ class JwtHydrationServiceTest {
 	}
 
 	@Nested
-	class Deduplication {
-
-		@Test
-		void mergesSameOrgResourceTypeScopeIdByOringBitmasks() {
-			AccessEntry a = new AccessEntry(
-					UUID.randomUUID(), ResourceType.PROPERTY, UUID.randomUUID(), Map.of("l", 1));
-			AccessEntry b = new AccessEntry(
-					a.orgId(), ResourceType.PROPERTY, a.scopeId(), Map.of("l", 6, "m", 3));
-
-			List<AccessEntry> result = JwtHydrationService.deduplicateAccess(List.of(a, b));
-
-			assertThat(result).hasSize(1);
-			AccessEntry merged = result.get(0);
-			assertThat(merged.permissions()).containsEntry("l", 7); // 1 | 6 = 7
-			assertThat(merged.permissions()).containsEntry("m", 3);
-		}
+	class SqlEngine {
 
 		@Test
-		void differentScopeIdsRemainSeparate() {
+		void delegatesToSqlEngineWhenEnabled() {
+			UUID userId = UUID.randomUUID();
 			UUID orgId = UUID.randomUUID();
-			AccessEntry a = new AccessEntry(orgId, ResourceType.PROPERTY, UUID.randomUUID(), Map.of("l", 1));
-			AccessEntry b = new AccessEntry(orgId, ResourceType.PROPERTY, UUID.randomUUID(), Map.of("l", 2));
+			UUID propId = UUID.randomUUID();
+			SqlHydrationEngine engine = mock(SqlHydrationEngine.class);
+			when(sqlEngine.getIfAvailable()).thenReturn(engine);
+			when(engine.loadGrants(userId)).thenReturn(List.of(AccessGrant.ownership(orgId, propId)));
 
-			List<AccessEntry> result = JwtHydrationService.deduplicateAccess(List.of(a, b));
+			AccessIndex index = service.hydrate(userId);
 
-			assertThat(result).hasSize(2);
+			assertThat(index.contains(orgId, ResourceType.PROPERTY, propId)).isTrue();
+			verifyNoInteractions(membershipRepository, propRepository, leaseTenantRepository);
 		}
+	}
+
+	@Nested
+	class Deduplication {
 
 		@Test
 		void ownerAndAssignmentMergedForSameProperty() {
@@ -305,13 +305,13 @@ class JwtHydrationServiceTest {
 			when(propRepository.findByOwnerIdWithOrganization(userId)).thenReturn(List.of(prop));
 			when(leaseTenantRepository.findActiveByUserIdWithLeaseUnitPropOrg(userId)).thenReturn(List.of());
 
-			List<AccessEntry> result = service.hydrate(userId);
+			List<AccessEntry> result = service.hydrate(userId).entries();
 
 			assertThat(result).hasSize(1);
 			AccessEntry entry = result.get(0);
 			int fullCrud = Actions.READ | Actions.CREATE | Actions.UPDATE | Actions.DELETE;
-			assertThat(entry.permissions()).containsEntry(PermissionDomains.LEASES, fullCrud);
-			assertThat(entry.permissions()).containsEntry(PermissionDomains.MAINTENANCE, fullCrud);
+			assertThat(entry.permissions().mask(PermissionDomains.LEASES)).isEqualTo(fullCrud);
+			assertThat(entry.permissions().mask(PermissionDomains.MAINTENANCE)).isEqualTo(fullCrud);
 		}
 	}
 
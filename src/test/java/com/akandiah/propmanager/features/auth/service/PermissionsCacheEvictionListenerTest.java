@@ -0,0 +1,140 @@
+package com.akandiah.propmanager.features.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Clock;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+import com.akandiah.propmanager.common.permission.AccessEntry;
+import com.akandiah.propmanager.common.permission.AccessGrant;
+import com.akandiah.propmanager.common.permission.AccessIndex;
+import com.akandiah.propmanager.common.permission.PermissionDomains;
+import com.akandiah.propmanager.common.permission.PermissionSet;
+import com.akandiah.propmanager.common.permission.ResourceType;
+import com.akandiah.propmanager.config.CacheConfig;
+import com.akandiah.propmanager.features.auth.domain.PermissionsChangedEvent;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+class PermissionsCacheEvictionListenerTest {
+
+	private static final UUID ORG_ID = UUID.randomUUID();
+	private static final UUID UNIT_ID = UUID.randomUUID();
+	private static final UUID POLICY_ID = UUID.randomUUID();
+
+	private Cache cache;
+	private AccessTokenRevocations revocations;
+	private PermissionsCacheEvictionListener listener;
+
+	@BeforeEach
+	void setUp() {
+		CaffeineCacheManager manager = new CaffeineCacheManager(CacheConfig.CACHE_PERMISSIONS);
+		cache = manager.getCache(CacheConfig.CACHE_PERMISSIONS);
+		revocations = new AccessTokenRevocations(Caffeine.newBuilder().build(), true, Clock.systemUTC());
+		listener = new PermissionsCacheEvictionListener(manager, revocations);
+	}
+
+	private static AccessGrant linkedAssignment() {
+		return AccessGrant.assignment(UUID.randomUUID(), ORG_ID, ResourceType.UNIT, UNIT_ID, null, POLICY_ID,
+				Map.of(PermissionDomains.LEASES, "r"));
+	}
+
+	private AccessIndex cached(UUID userId) {
+		return cache.get(userId, AccessIndex.class);
+	}
+
+	@Test
+	void shouldEvictWhenEventCarriesNoDeltas() {
+		UUID userId = UUID.randomUUID();
+		cache.put(userId, AccessIndex.ofGrants(List.of(linkedAssignment())));
+
+		listener.onPermissionsChanged(new PermissionsChangedEvent(Set.of(userId)));
+
+		assertThat(cached(userId)).isNull();
+	}
+
+	@Test
+	void shouldPatchPolicyChangeInPlaceForEveryLinkedUser() {
+		Set<UUID> userIds = new HashSet<>();
+		for (int i = 0; i < 10_000; i++) {
+			UUID userId = UUID.randomUUID();
+			userIds.add(userId);
+			cache.put(userId, AccessIndex.ofGrants(List.of(linkedAssignment())));
+		}
+
+		listener.onPermissionsChanged(PermissionsChangedEvent.policyChanged(
+				POLICY_ID, PermissionSet.of(PermissionDomains.LEASES, 15), userIds));
+
+		assertThat(userIds).allSatisfy(userId -> assertThat(cached(userId)
+				.mask(ORG_ID, ResourceType.UNIT, UNIT_ID, PermissionDomains.LEASES)).isEqualTo(15));
+	}
+
+	@Test
+	void shouldApplyGrantDeltasOnlyToTheirUser() {
+		UUID owner = UUID.randomUUID();
+		UUID other = UUID.randomUUID();
+		UUID propId = UUID.randomUUID();
+		AccessIndex otherIndex = AccessIndex.ofGrants(List.of(linkedAssignment()));
+		cache.put(owner, AccessIndex.ofGrants(List.of(AccessGrant.ownership(ORG_ID, propId))));
+		cache.put(other, otherIndex);
+
+		listener.onPermissionsChanged(PermissionsChangedEvent.ownershipMoved(ORG_ID, propId, owner, other));
+
+		assertThat(cached(owner).contains(ORG_ID, ResourceType.PROPERTY, propId)).isFalse();
+		assertThat(cached(other).contains(ORG_ID, ResourceType.PROPERTY, propId)).isTrue();
+		assertThat(otherIndex.contains(ORG_ID, ResourceType.PROPERTY, propId)).isFalse();
+	}
+
+	@Test
+	void shouldRevokeAccessTokensOfAffectedUsers() {
+		UUID userId = UUID.randomUUID();
+		long issuedAt = revocations.issueEpoch(userId);
+
+		listener.onPermissionsChanged(PermissionsChangedEvent.grantUpserted(userId, linkedAssignment()));
+
+		assertThat(revocations.isCurrent(userId, issuedAt)).isFalse();
+		assertThat(revocations.isCurrent(userId, revocations.issueEpoch(userId))).isTrue();
+	}
+
+	@Test
+	void shouldNotPopulateUsersThatAreNotCached() {
+		UUID userId = UUID.randomUUID();
+
+		listener.onPermissionsChanged(PermissionsChangedEvent.grantUpserted(userId, linkedAssignment()));
+
+		assertThat(cached(userId)).isNull();
+	}
+
+	@Test
+	void shouldEvictUntrackedIndexes() {
+		UUID userId = UUID.randomUUID();
+		cache.put(userId, AccessIndex.of(List.of(
+				new AccessEntry(ORG_ID, ResourceType.UNIT, UNIT_ID, Map.of(PermissionDomains.LEASES, 1)))));
+
+		listener.onPermissionsChanged(PermissionsChangedEvent.grantUpserted(userId, linkedAssignment()));
+
+		assertThat(cached(userId)).isNull();
+	}
+
+	@Test
+	void shouldFallBackToEvictionForNonCaffeineCaches() {
+		ConcurrentMapCacheManager manager = new ConcurrentMapCacheManager(CacheConfig.CACHE_PERMISSIONS);
+		Cache mapCache = manager.getCache(CacheConfig.CACHE_PERMISSIONS);
+		UUID userId = UUID.randomUUID();
+		mapCache.put(userId, AccessIndex.ofGrants(List.of(linkedAssignment())));
+
+		new PermissionsCacheEvictionListener(manager, revocations).onPermissionsChanged(
+				PermissionsChangedEvent.grantUpserted(userId, linkedAssignment()));
+
+		assertThat(mapCache.get(userId)).isNull();
+	}
+}
@@ -0,0 +1,74 @@
+package com.akandiah.propmanager.features.auth.service;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import com.akandiah.propmanager.common.permission.AccessIndex;
+import com.akandiah.propmanager.config.CacheProperties;
+import com.akandiah.propmanager.features.user.domain.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PermissionsCacheWarmerTest {
+
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private JwtHydrationService jwtHydrationService;
+
+	private PermissionsCacheWarmer warmer;
+
+	@BeforeEach
+	void setUp() {
+		CacheProperties properties = new CacheProperties(10_000, 60, 45,
+				new CacheProperties.Warmup(true, 24, 50, "0 30 6 * * *"));
+		warmer = new PermissionsCacheWarmer(userRepository, jwtHydrationService, properties);
+	}
+
+	@Test
+	void warmUp_hydratesRecentlyActiveUsersUpToLimit() {
+		UUID first = UUID.randomUUID();
+		UUID second = UUID.randomUUID();
+		when(userRepository.findIdsLoggedInSince(any(), eq(PageRequest.of(0, 50)))).thenReturn(List.of(first, second));
+		when(jwtHydrationService.hydrate(any())).thenReturn(AccessIndex.EMPTY);
+
+		warmer.warmUp();
+
+		verify(jwtHydrationService).hydrate(first);
+		verify(jwtHydrationService).hydrate(second);
+	}
+
+	@Test
+	void warmUp_continuesAfterFailure() {
+		UUID failing = UUID.randomUUID();
+		UUID next = UUID.randomUUID();
+		when(userRepository.findIdsLoggedInSince(any(), any())).thenReturn(List.of(failing, next));
+		when(jwtHydrationService.hydrate(failing)).thenThrow(new IllegalStateException("db down"));
+		when(jwtHydrationService.hydrate(next)).thenReturn(AccessIndex.EMPTY);
+
+		warmer.warmUp();
+
+		verify(jwtHydrationService).hydrate(next);
+	}
+
+	@Test
+	void warmUp_doesNothingWithoutActiveUsers() {
+		when(userRepository.findIdsLoggedInSince(any(), any())).thenReturn(List.of());
+
+		warmer.warmUp();
+
+		verify(jwtHydrationService, never()).hydrate(any());
+	}
+}
@@ -0,0 +1,143 @@
+package com.akandiah.propmanager.features.lease.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.akandiah.propmanager.common.domain.ListStamp;
+import com.akandiah.propmanager.config.TestSecurityConfig;
+import com.akandiah.propmanager.features.organization.domain.Organization;
+import com.akandiah.propmanager.features.organization.domain.OrganizationRepository;
+import com.akandiah.propmanager.features.prop.domain.Address;
+import com.akandiah.propmanager.features.prop.domain.AddressRepository;
+import com.akandiah.propmanager.features.prop.domain.Prop;
+import com.akandiah.propmanager.features.prop.domain.PropRepository;
+import com.akandiah.propmanager.features.prop.domain.PropertyType;
+import com.akandiah.propmanager.features.unit.domain.Unit;
+import com.akandiah.propmanager.features.unit.domain.UnitRepository;
+import com.akandiah.propmanager.features.unit.domain.UnitStatus;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Runs the access-filter queries against H2 to check the per-scope UNION
+ * branches, the {@code any_of} array binding and the sync feed's keyset
+ * paging end to end.
+ */
+@SpringBootTest
+@Import(TestSecurityConfig.class)
+@Transactional
+class LeaseRepositoryAccessFilterTest {
+
+	private static final UUID[] NONE = new UUID[0];
+
+	@Autowired
+	private LeaseRepository leaseRepository;
+	@Autowired
+	private UnitRepository unitRepository;
+	@Autowired
+	private PropRepository propRepository;
+	@Autowired
+	private AddressRepository addressRepository;
+	@Autowired
+	private OrganizationRepository organizationRepository;
+	@Autowired
+	private EntityManager entityManager;
+
+	private Organization org;
+	private Prop prop;
+	private Unit leasedUnit;
+	private Unit vacantUnit;
+	private Lease lease;
+
+	@BeforeEach
+	void setUp() {
+		org = organizationRepository.save(Organization.builder().name("Org").build());
+		Address address = addressRepository.save(Address.builder()
+				.addressLine1("1 Main St").city("Toronto").stateProvinceRegion("ON")
+				.postalCode("M1M1M1").countryCode("CA").build());
+		prop = propRepository.save(Prop.builder()
+				.legalName("Prop").address(address).propertyType(PropertyType.APARTMENT_BUILDING)
+				.organization(org).ownerId(UUID.randomUUID()).build());
+		leasedUnit = unitRepository.save(Unit.builder().prop(prop).unitNumber("101").status(UnitStatus.OCCUPIED).build());
+		vacantUnit = unitRepository.save(Unit.builder().prop(prop).unitNumber("102").status(UnitStatus.VACANT).build());
+		lease = leaseRepository.saveAndFlush(Lease.builder()
+				.unit(leasedUnit).property(prop).status(LeaseStatus.ACTIVE)
+				.startDate(LocalDate.now()).endDate(LocalDate.now().plusYears(1))
+				.rentAmount(BigDecimal.TEN).rentDueDay(1).build());
+	}
+
+	@Test
+	void shouldMatchLeasesThroughEachScope() {
+		assertThat(leaseRepository.findByAccessFilter(new UUID[] { org.getId() }, NONE, NONE)).containsExactly(lease);
+		assertThat(leaseRepository.findByAccessFilter(NONE, new UUID[] { prop.getId() }, NONE)).containsExactly(lease);
+		assertThat(leaseRepository.findByAccessFilter(NONE, NONE, new UUID[] { leasedUnit.getId() })).containsExactly(lease);
+		assertThat(leaseRepository.findByAccessFilter(NONE, NONE, new UUID[] { vacantUnit.getId() })).isEmpty();
+	}
+
+	@Test
+	void shouldNotDuplicateRowsMatchedByOverlappingScopes() {
+		UUID[] orgIds = { org.getId() };
+		UUID[] propIds = { prop.getId() };
+		UUID[] unitIds = { leasedUnit.getId(), vacantUnit.getId() };
+
+		assertThat(leaseRepository.countByAccessFilter(orgIds, propIds, unitIds)).isEqualTo(1);
+		assertThat(unitRepository.findByAccessFilter(orgIds, propIds, unitIds, org.getId(), null))
+				.containsExactlyInAnyOrder(leasedUnit, vacantUnit);
+	}
+
+	@Test
+	void shouldStampLeasesWithinTheFilter() {
+		ListStamp stamp = leaseRepository.stampByAccessFilter(new UUID[] { org.getId() }, NONE, NONE);
+		assertThat(stamp.getCount()).isEqualTo(1);
+		assertThat(stamp.getMaxUpdatedAt()).isCloseTo(lease.getUpdatedAt(), within(1, ChronoUnit.MICROS));
+
+		assertThat(leaseRepository.stampByAccessFilter(NONE, NONE, new UUID[] { vacantUnit.getId() }).getCount()).isZero();
+		assertThat(leaseRepository.findStampById(lease.getId())).hasValueSatisfying(s -> {
+			assertThat(s.getVersion()).isEqualTo(lease.getVersion());
+			assertThat(s.getUnitId()).isEqualTo(leasedUnit.getId());
+		});
+	}
+
+	@Test
+	void shouldBindIdSetsLargerThanTheBindParameterLimit() {
+		UUID[] unitIds = Stream.concat(
+				IntStream.range(0, 40_000).mapToObj(i -> UUID.randomUUID()),
+				Stream.of(leasedUnit.getId()))
+				.toArray(UUID[]::new);
+
+		assertThat(leaseRepository.findByAccessFilter(NONE, NONE, unitIds)).containsExactly(lease);
+	}
+
+	@Test
+	void shouldPageChangedUnitsPastRowsSharingATimestamp() {
+		Instant stamp = Instant.now().truncatedTo(ChronoUnit.MICROS);
+		entityManager.createQuery("UPDATE Unit u SET u.updatedAt = :stamp").setParameter("stamp", stamp).executeUpdate();
+		entityManager.clear();
+		UUID[] orgIds = { org.getId() };
+
+		List<Unit> first = unitRepository.findChangedSince(orgIds, NONE, NONE, Instant.EPOCH, new UUID(0, 0), Limit.of(1));
+		List<Unit> second = unitRepository.findChangedSince(orgIds, NONE, NONE, stamp, first.get(0).getId(), Limit.of(1));
+		List<Unit> rest = unitRepository.findChangedSince(orgIds, NONE, NONE, stamp, second.get(0).getId(), Limit.of(1));
+
+		assertThat(List.of(first.get(0).getId(), second.get(0).getId()))
+				.containsExactlyInAnyOrder(leasedUnit.getId(), vacantUnit.getId());
+		assertThat(rest).isEmpty();
+	}
+}
@@ -20,6 +20,7 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import com.akandiah.propmanager.common.export.NdjsonExporter;
 import com.akandiah.propmanager.features.lease.domain.Lease;
 import com.akandiah.propmanager.features.lease.domain.LeaseRepository;
 import com.akandiah.propmanager.features.lease.domain.LeaseTenantRepository;
@@ -60,6 +61,8 @@ class LeaseServiceTenantFilterTest {
 	ApplicationEventPublisher eventPublisher;
 	@Mock
 	JwtUserResolver jwtUserResolver;
+	@Mock
+	NdjsonExporter ndjsonExporter;
 
 	LeaseService service;
 
@@ -72,7 +75,7 @@ class LeaseServiceTenantFilterTest {
 	void setUp() {
 		service = new LeaseService(leaseRepository, templateService,
 				unitRepository, propRepository, leaseTenantRepository,
-				stateMachine, renderer, eventPublisher, jwtUserResolver);
+				stateMachine, renderer, eventPublisher, jwtUserResolver, ndjsonExporter);
 		// Clear security context so tests start clean
 		SecurityContextHolder.clearContext();
 	}
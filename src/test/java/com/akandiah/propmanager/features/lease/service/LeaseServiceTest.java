@@ -11,18 +11,24 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -30,20 +36,34 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.security.access.AccessDeniedException;
 
+import com.akandiah.propmanager.common.dto.BatchResponse;
+import com.akandiah.propmanager.common.dto.KeysetPageRequest;
+import com.akandiah.propmanager.common.dto.PageResponse;
 import com.akandiah.propmanager.common.exception.HasChildrenException;
 import com.akandiah.propmanager.common.exception.ResourceNotFoundException;
+import com.akandiah.propmanager.common.export.NdjsonExporter;
+import com.akandiah.propmanager.common.permission.AccessListUtil.ScopedAccessFilter;
 import com.akandiah.propmanager.features.lease.api.dto.CreateLeaseRequest;
 import com.akandiah.propmanager.features.lease.api.dto.LeaseResponse;
+import com.akandiah.propmanager.features.lease.api.dto.LeaseSummaryResponse;
 import com.akandiah.propmanager.features.lease.api.dto.UpdateLeaseRequest;
 import org.springframework.context.ApplicationEventPublisher;
 
 import com.akandiah.propmanager.features.lease.domain.LateFeeType;
 import com.akandiah.propmanager.features.lease.domain.Lease;
+import com.akandiah.propmanager.features.lease.domain.LeaseLifecycleBatchEvent;
+import com.akandiah.propmanager.features.lease.domain.LeaseLifecycleEventType;
 import com.akandiah.propmanager.features.lease.domain.LeaseRepository;
+import com.akandiah.propmanager.features.lease.domain.LeaseRepository.LeaseListRow;
+import com.akandiah.propmanager.features.lease.domain.LeaseRepository.LeaseStamp;
 import com.akandiah.propmanager.features.lease.domain.LeaseStatus;
 import com.akandiah.propmanager.features.lease.domain.LeaseTemplate;
 import com.akandiah.propmanager.features.lease.domain.LeaseTenantRepository;
+import com.akandiah.propmanager.features.portfolio.domain.PortfolioChangedEvent;
 import com.akandiah.propmanager.features.prop.domain.Prop;
 import com.akandiah.propmanager.features.prop.domain.PropRepository;
 import com.akandiah.propmanager.features.unit.domain.Unit;
@@ -86,13 +106,16 @@ class LeaseServiceTest {
 	@Mock
 	private JwtUserResolver jwtUserResolver;
 
+	@Mock
+	private NdjsonExporter ndjsonExporter;
+
 	private LeaseService leaseService;
 
 	@BeforeEach
 	void setUp() {
 		leaseService = new LeaseService(leaseRepository, templateService,
 				unitRepository, propRepository, leaseTenantRepository,
-				stateMachine, renderer, eventPublisher, jwtUserResolver);
+				stateMachine, renderer, eventPublisher, jwtUserResolver, ndjsonExporter);
 	}
 
 	// ═══════════════════════════════════════════════════════════════════════
@@ -111,6 +134,56 @@ class LeaseServiceTest {
 		assertThat(responses).hasSize(2);
 	}
 
+	// ═══════════════════════════════════════════════════════════════════════
+	// FindPage
+	// ═══════════════════════════════════════════════════════════════════════
+
+	@Test
+	void shouldPageLeaseProjectionsWithoutLoadingEntities() {
+		ScopedAccessFilter filter = new ScopedAccessFilter(Set.of(UUID.randomUUID()), Set.of(), Set.of());
+		UUID id = UUID.randomUUID();
+		LeaseListRow row = new SpelAwareProxyProjectionFactory().createProjection(LeaseListRow.class,
+				Map.of("id", id, "status", LeaseStatus.ACTIVE, "rentAmount", new BigDecimal("1500.00")));
+		when(leaseRepository.findPageByAccessFilter(filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(),
+				KeysetPageRequest.START, Limit.of(11))).thenReturn(List.of(row));
+
+		PageResponse<LeaseSummaryResponse> page = leaseService.findPage(filter, KeysetPageRequest.first(10));
+
+		assertThat(page.content()).singleElement().satisfies(l -> {
+			assertThat(l.id()).isEqualTo(id);
+			assertThat(l.status()).isEqualTo(LeaseStatus.ACTIVE);
+			assertThat(l.rentAmount()).isEqualByComparingTo("1500.00");
+		});
+		assertThat(page.hasNext()).isFalse();
+		verify(leaseRepository, never()).findByAccessFilter(any(), any(), any());
+	}
+
+	// ═══════════════════════════════════════════════════════════════════════
+	// ExportNdjson
+	// ═══════════════════════════════════════════════════════════════════════
+
+	@Test
+	void shouldStreamScopedLeasesToExporterAndCloseStream() {
+		ScopedAccessFilter filter = new ScopedAccessFilter(Set.of(UUID.randomUUID()), Set.of(), Set.of());
+		AtomicBoolean closed = new AtomicBoolean();
+		Stream<Lease> rows = Stream.of(lease().id(UUID.randomUUID()).build()).onClose(() -> closed.set(true));
+		OutputStream out = OutputStream.nullOutputStream();
+
+		when(leaseRepository.streamByAccessFilter(filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray())).thenReturn(rows);
+		when(ndjsonExporter.write(eq(rows), any(), eq(out))).thenReturn(1L);
+
+		assertThat(leaseService.exportNdjson(filter, out)).isEqualTo(1L);
+		assertThat(closed).isTrue();
+	}
+
+	@Test
+	void shouldNotQueryWhenExportFilterIsEmpty() {
+		ScopedAccessFilter filter = new ScopedAccessFilter(Set.of(), Set.of(), Set.of());
+
+		assertThat(leaseService.exportNdjson(filter, OutputStream.nullOutputStream())).isZero();
+		verify(leaseRepository, never()).streamByAccessFilter(any(), any(), any());
+	}
+
 	// ═══════════════════════════════════════════════════════════════════════
 	// FindByUnitId
 	// ═══════════════════════════════════════════════════════════════════════
@@ -181,6 +254,23 @@ class LeaseServiceTest {
 				.hasMessageContaining(leaseId.toString());
 	}
 
+	@Test
+	void shouldRejectCoTenantReadingAnotherLeaseStamp() {
+		UUID leaseId = UUID.randomUUID();
+		UUID unitId = UUID.randomUUID();
+		UUID userId = UUID.randomUUID();
+		LeaseStamp stamp = new SpelAwareProxyProjectionFactory().createProjection(LeaseStamp.class,
+				Map.of("version", 2, "updatedAt", Instant.now(), "unitId", unitId));
+
+		when(leaseRepository.findStampById(leaseId)).thenReturn(Optional.of(stamp));
+		when(jwtUserResolver.resolveOptionalId()).thenReturn(Optional.of(userId));
+		when(leaseTenantRepository.existsByLease_Unit_IdAndTenant_User_Id(unitId, userId)).thenReturn(true);
+		when(leaseTenantRepository.existsByLease_IdAndTenant_User_Id(leaseId, userId)).thenReturn(false);
+
+		assertThatThrownBy(() -> leaseService.findStamp(leaseId))
+				.isInstanceOf(AccessDeniedException.class);
+	}
+
 	// ═══════════════════════════════════════════════════════════════════════
 	// Create - Lease Stamping from Template
 	// ═══════════════════════════════════════════════════════════════════════
@@ -567,6 +657,75 @@ class LeaseServiceTest {
 		verify(leaseRepository).save(activeLease);
 	}
 
+	// ═══════════════════════════════════════════════════════════════════════
+	// Bulk transitions
+	// ═══════════════════════════════════════════════════════════════════════
+
+	@Test
+	void shouldBulkActivateCheckingOccupiedUnitsOnceAndCoalescingEvents() {
+		Prop property = prop().id(UUID.randomUUID()).build();
+		Unit free = unit().id(UUID.randomUUID()).prop(property).build();
+		Unit occupied = unit().id(UUID.randomUUID()).prop(property).build();
+		Lease first = lease().id(UUID.randomUUID()).status(LeaseStatus.REVIEW).unit(free).property(property).build();
+		Lease sameUnit = lease().id(UUID.randomUUID()).status(LeaseStatus.REVIEW).unit(free).property(property).build();
+		Lease blocked = lease().id(UUID.randomUUID()).status(LeaseStatus.REVIEW).unit(occupied).property(property).build();
+		Lease foreign = lease().id(UUID.randomUUID()).status(LeaseStatus.REVIEW).build();
+		List<UUID> ids = List.of(first.getId(), sameUnit.getId(), blocked.getId(), foreign.getId());
+
+		when(leaseRepository.findAllWithUnitAndPropertyByIdIn(ids)).thenReturn(List.of(first, sameUnit, blocked, foreign));
+		when(leaseRepository.findUnitIdsWithStatus(any(), eq(LeaseStatus.ACTIVE))).thenReturn(List.of(occupied.getId()));
+
+		BatchResponse<LeaseResponse> result = leaseService.activateAll(property.getId(), ids);
+
+		assertThat(result.succeeded()).isEqualTo(1);
+		assertThat(result.items()).extracting(BatchResponse.Item::error).containsExactly(
+				null,
+				"Cannot activate: unit already has an active lease.",
+				"Cannot activate: unit already has an active lease.",
+				"Lease " + foreign.getId() + " not found in property " + property.getId());
+		verify(stateMachine).activate(first);
+		verify(stateMachine, never()).activate(blocked);
+		verify(leaseRepository).flush();
+		verify(leaseRepository, never()).existsByUnit_IdAndStatusAndIdNot(any(), any(), any());
+		verify(eventPublisher).publishEvent(new LeaseLifecycleBatchEvent(List.of(first.getId()), LeaseLifecycleEventType.ACTIVATED));
+		verify(eventPublisher).publishEvent(new PortfolioChangedEvent(property.getId()));
+	}
+
+	@Test
+	void shouldReportGuardFailuresPerLeaseWhenBulkTerminating() {
+		Prop property = prop().id(UUID.randomUUID()).build();
+		Lease active = lease().id(UUID.randomUUID()).status(LeaseStatus.ACTIVE).property(property).build();
+		Lease draft = lease().id(UUID.randomUUID()).status(LeaseStatus.DRAFT).property(property).build();
+		List<UUID> ids = List.of(active.getId(), draft.getId());
+
+		when(leaseRepository.findAllWithUnitAndPropertyByIdIn(ids)).thenReturn(List.of(active, draft));
+		doAnswer(invocation -> {
+			if (invocation.getArgument(0) == draft) {
+				throw new IllegalStateException("Cannot terminate");
+			}
+			return null;
+		}).when(stateMachine).terminate(any());
+
+		BatchResponse<LeaseResponse> result = leaseService.terminateAll(property.getId(), ids);
+
+		assertThat(result.succeeded()).isEqualTo(1);
+		assertThat(result.items().get(1).error()).isEqualTo("Cannot terminate");
+		verify(leaseTenantRepository).findByLease_IdInWithTenantUser(List.of(active.getId()));
+		verify(eventPublisher, never()).publishEvent(any(LeaseLifecycleBatchEvent.class));
+	}
+
+	@Test
+	void shouldNotFlushOrPublishWhenNoLeaseTransitions() {
+		UUID missing = UUID.randomUUID();
+		when(leaseRepository.findAllWithUnitAndPropertyByIdIn(List.of(missing))).thenReturn(List.of());
+
+		BatchResponse<LeaseResponse> result = leaseService.terminateAll(UUID.randomUUID(), List.of(missing));
+
+		assertThat(result.failed()).isEqualTo(1);
+		verify(leaseRepository, never()).flush();
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
 	// ═══════════════════════════════════════════════════════════════════════
 	// Delete - DRAFT Only
 	// ═══════════════════════════════════════════════════════════════════════
@@ -0,0 +1,71 @@
+package com.akandiah.propmanager.features.notification.service;
+
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.core.task.TaskRejectedException;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDeliverySenderTest {
+
+	private static final UUID DELIVERY_ID = UUID.randomUUID();
+
+	@Mock
+	private NotificationDeliveryService deliveryService;
+	@Mock
+	private NotificationOutboxRelay relay;
+
+	@Test
+	void shouldSendOnExecutor() {
+		when(deliveryService.sendDelivery(DELIVERY_ID)).thenReturn(true);
+
+		new NotificationDeliverySender(deliveryService, relay, Runnable::run).sendAsync(DELIVERY_ID);
+
+		verify(deliveryService).sendDelivery(DELIVERY_ID);
+		verifyNoInteractions(relay);
+	}
+
+	@Test
+	void shouldWakeRelayWhenNoSmtpConnectionFreedUp() {
+		when(deliveryService.sendDelivery(DELIVERY_ID)).thenReturn(false);
+
+		new NotificationDeliverySender(deliveryService, relay, Runnable::run).sendAsync(DELIVERY_ID);
+
+		verify(relay).wakeUp();
+		verify(deliveryService, never()).releaseToRelay(DELIVERY_ID);
+	}
+
+	@Test
+	void shouldHandOffToRelayWhenExecutorIsSaturated() {
+		NotificationDeliverySender sender = new NotificationDeliverySender(deliveryService, relay, task -> {
+			throw new TaskRejectedException("full");
+		});
+
+		sender.sendAsync(DELIVERY_ID);
+
+		verify(deliveryService).releaseToRelay(DELIVERY_ID);
+		verify(relay).wakeUp();
+		verify(deliveryService, never()).sendDelivery(DELIVERY_ID);
+	}
+
+	@Test
+	void shouldNotPropagateFailedHandOff() {
+		doThrow(new IllegalStateException("db down")).when(deliveryService).releaseToRelay(DELIVERY_ID);
+		NotificationDeliverySender sender = new NotificationDeliverySender(deliveryService, relay, task -> {
+			throw new TaskRejectedException("full");
+		});
+
+		sender.sendAsync(DELIVERY_ID);
+
+		verify(relay, never()).wakeUp();
+	}
+}
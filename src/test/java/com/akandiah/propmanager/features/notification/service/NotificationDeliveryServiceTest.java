@@ -0,0 +1,152 @@
+package com.akandiah.propmanager.features.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.akandiah.propmanager.common.notification.NotificationChannel;
+import com.akandiah.propmanager.common.notification.NotificationException;
+import com.akandiah.propmanager.common.notification.NotificationService;
+import com.akandiah.propmanager.common.notification.NotificationTemplate;
+import com.akandiah.propmanager.common.notification.NotificationType;
+import com.akandiah.propmanager.common.notification.SmtpPoolExhaustedException;
+import com.akandiah.propmanager.config.InviteProperties;
+import com.akandiah.propmanager.config.NotificationRelayProperties;
+import com.akandiah.propmanager.features.notification.domain.NotificationDelivery;
+import com.akandiah.propmanager.features.notification.domain.NotificationDeliveryRepository;
+import com.akandiah.propmanager.features.notification.domain.NotificationDeliveryStatus;
+import com.akandiah.propmanager.features.notification.domain.UserNotificationPreferenceRepository;
+import com.akandiah.propmanager.features.notification.service.NotificationDeliveryService.Claim;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationDeliveryServiceTest {
+
+	private static final UUID DELIVERY_ID = UUID.randomUUID();
+	private static final String RECIPIENT = "tenant@example.com";
+
+	@Mock
+	private NotificationDeliveryRepository deliveryRepository;
+	@Mock
+	private UserNotificationPreferenceRepository preferenceRepository;
+	@Mock
+	private NotificationService notificationService;
+
+	private NotificationDeliveryService service;
+
+	@BeforeEach
+	void setUp() {
+		service = new NotificationDeliveryService(deliveryRepository, preferenceRepository, notificationService,
+				new InviteProperties(72, 15, 3, 15),
+				new NotificationRelayProperties(Duration.ofMinutes(1), 100, Duration.ofMinutes(5),
+						Duration.ofMinutes(1), Duration.ofHours(6)));
+	}
+
+	@Nested
+	class SendDelivery {
+
+		@Test
+		void shouldHandBackToRelayWithoutCountingRetryWhenNoConnectionIsFree() {
+			NotificationDelivery delivery = delivery(NotificationDeliveryStatus.PENDING);
+			when(deliveryRepository.findById(DELIVERY_ID)).thenReturn(Optional.of(delivery));
+			doThrow(new SmtpPoolExhaustedException("Timed out"))
+					.when(notificationService).send(eq(RECIPIENT), any(NotificationTemplate.class), anyMap());
+			Instant before = Instant.now();
+
+			boolean attempted = service.sendDelivery(DELIVERY_ID);
+
+			assertThat(attempted).isFalse();
+			assertThat(delivery.getStatus()).isEqualTo(NotificationDeliveryStatus.PENDING);
+			assertThat(delivery.getRetryCount()).isZero();
+			assertThat(delivery.getNextAttemptAt()).isBetween(before, Instant.now());
+			verify(deliveryRepository).save(delivery);
+		}
+
+		@Test
+		void shouldCountRetryWhenSendFails() {
+			NotificationDelivery delivery = delivery(NotificationDeliveryStatus.PENDING);
+			when(deliveryRepository.findById(DELIVERY_ID)).thenReturn(Optional.of(delivery));
+			doThrow(new NotificationException("Failed to send email to " + RECIPIENT))
+					.when(notificationService).send(eq(RECIPIENT), any(NotificationTemplate.class), anyMap());
+
+			boolean attempted = service.sendDelivery(DELIVERY_ID);
+
+			assertThat(attempted).isTrue();
+			assertThat(delivery.getStatus()).isEqualTo(NotificationDeliveryStatus.FAILED);
+			assertThat(delivery.getRetryCount()).isEqualTo(1);
+			assertThat(delivery.getNextAttemptAt()).isAfter(Instant.now());
+		}
+	}
+
+	@Nested
+	class SendClaimed {
+
+		@Test
+		void shouldSendUnderCurrentClaim() {
+			Instant expiresAt = Instant.now().plus(Duration.ofMinutes(5));
+			NotificationDelivery delivery = delivery(NotificationDeliveryStatus.IN_FLIGHT);
+			delivery.setNextAttemptAt(expiresAt);
+			when(deliveryRepository.findById(DELIVERY_ID)).thenReturn(Optional.of(delivery));
+
+			service.sendClaimed(new Claim(DELIVERY_ID, expiresAt));
+
+			verify(notificationService).send(eq(RECIPIENT), any(NotificationTemplate.class), anyMap());
+			assertThat(delivery.getStatus()).isEqualTo(NotificationDeliveryStatus.SENT);
+		}
+
+		@Test
+		void shouldSkipWhenRowWasReclaimed() {
+			Instant expiresAt = Instant.now().plus(Duration.ofMinutes(5));
+			NotificationDelivery delivery = delivery(NotificationDeliveryStatus.IN_FLIGHT);
+			delivery.setNextAttemptAt(expiresAt.plus(Duration.ofMinutes(5)));
+			when(deliveryRepository.findById(DELIVERY_ID)).thenReturn(Optional.of(delivery));
+
+			service.sendClaimed(new Claim(DELIVERY_ID, expiresAt));
+
+			verifyNoInteractions(notificationService);
+			verify(deliveryRepository, never()).save(any());
+		}
+
+		@Test
+		void shouldSkipWhenClaimExpired() {
+			Instant expiresAt = Instant.now().minusSeconds(1);
+			NotificationDelivery delivery = delivery(NotificationDeliveryStatus.IN_FLIGHT);
+			delivery.setNextAttemptAt(expiresAt);
+			when(deliveryRepository.findById(DELIVERY_ID)).thenReturn(Optional.of(delivery));
+
+			service.sendClaimed(new Claim(DELIVERY_ID, expiresAt));
+
+			verifyNoInteractions(notificationService);
+			verify(deliveryRepository, never()).save(any());
+		}
+	}
+
+	private static NotificationDelivery delivery(NotificationDeliveryStatus status) {
+		return NotificationDelivery.builder()
+				.id(DELIVERY_ID)
+				.recipientAddress(RECIPIENT)
+				.notificationType(NotificationType.ACCOUNT_CREATED)
+				.channel(NotificationChannel.EMAIL)
+				.templateContext(Map.of())
+				.status(status)
+				.build();
+	}
+}
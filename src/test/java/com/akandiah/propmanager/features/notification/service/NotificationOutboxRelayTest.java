@@ -0,0 +1,161 @@
+package com.akandiah.propmanager.features.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.TaskScheduler;
+
+import com.akandiah.propmanager.config.NotificationRelayProperties;
+import com.akandiah.propmanager.features.notification.service.NotificationDeliveryService.Claim;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationOutboxRelayTest {
+
+	private static final Duration MAX_IDLE = Duration.ofMinutes(1);
+	private static final Instant NOW = Instant.parse("2026-03-01T12:00:00Z");
+
+	@Mock
+	private NotificationDeliveryService deliveryService;
+	@Mock
+	private TaskScheduler taskScheduler;
+	@Mock
+	private ScheduledFuture<?> pendingRun;
+
+	private NotificationOutboxRelay relay;
+
+	@BeforeEach
+	void setUp() {
+		relay = new NotificationOutboxRelay(deliveryService,
+				new NotificationRelayProperties(MAX_IDLE, 2, Duration.ofMinutes(5), Duration.ofMinutes(1), Duration.ofHours(6)),
+				Runnable::run, taskScheduler);
+	}
+
+	@Nested
+	class Relay {
+
+		@Test
+		void shouldKeepClaimingWhileBatchesComeBackFull() {
+			Claim a = claim();
+			Claim b = claim();
+			Claim c = claim();
+			when(deliveryService.claimForRelay(2)).thenReturn(List.of(a, b)).thenReturn(List.of(c));
+
+			relay.relay();
+
+			verify(deliveryService, times(2)).claimForRelay(2);
+			verify(deliveryService).sendClaimed(a);
+			verify(deliveryService).sendClaimed(b);
+			verify(deliveryService).sendClaimed(c);
+			verifyNoMoreInteractions(deliveryService);
+		}
+
+		@Test
+		void shouldStopWhenNothingIsClaimable() {
+			when(deliveryService.claimForRelay(anyInt())).thenReturn(List.of());
+
+			relay.relay();
+
+			verify(deliveryService).claimForRelay(2);
+			verifyNoMoreInteractions(deliveryService);
+		}
+
+		@Test
+		void shouldSendRestOfBatchWhenOneDeliveryThrows() {
+			Claim failing = claim();
+			Claim ok = claim();
+			when(deliveryService.claimForRelay(anyInt())).thenReturn(List.of(failing, ok)).thenReturn(List.of());
+			doThrow(new IllegalStateException("boom")).when(deliveryService).sendClaimed(failing);
+
+			relay.relay();
+
+			verify(deliveryService).sendClaimed(ok);
+		}
+	}
+
+	@Nested
+	class WakeUp {
+
+		@Test
+		void shouldCoalesceWakeUpsIntoOnePendingRun() {
+			doReturn(pendingRun).when(taskScheduler).schedule(any(Runnable.class), any(Instant.class));
+
+			relay.wakeUp();
+			relay.wakeUp();
+
+			verify(taskScheduler, times(1)).schedule(any(Runnable.class), any(Instant.class));
+		}
+
+		@Test
+		void shouldRunAgainImmediatelyWhenWokenMidRun() {
+			when(deliveryService.claimForRelay(anyInt())).thenAnswer(invocation -> {
+				relay.wakeUp();
+				return List.of();
+			});
+			when(deliveryService.findNextDueAt()).thenReturn(Optional.empty());
+			Instant before = Instant.now();
+
+			relay.runAndReschedule();
+
+			ArgumentCaptor<Instant> wakeAt = ArgumentCaptor.forClass(Instant.class);
+			verify(taskScheduler).schedule(any(Runnable.class), wakeAt.capture());
+			assertThat(wakeAt.getValue()).isBetween(before, Instant.now());
+		}
+	}
+
+	@Nested
+	class NextWakeUp {
+
+		@Test
+		void shouldWakeAtEarliestDueDelivery() {
+			when(deliveryService.findNextDueAt()).thenReturn(Optional.of(NOW.plusSeconds(20)));
+
+			assertThat(relay.nextWakeUp(NOW)).isEqualTo(NOW.plusSeconds(20));
+		}
+
+		@Test
+		void shouldSleepMaxIdleWhenNothingIsPending() {
+			when(deliveryService.findNextDueAt()).thenReturn(Optional.empty());
+
+			assertThat(relay.nextWakeUp(NOW)).isEqualTo(NOW.plus(MAX_IDLE));
+		}
+
+		@Test
+		void shouldCapSleepAtMaxIdle() {
+			when(deliveryService.findNextDueAt()).thenReturn(Optional.of(NOW.plus(Duration.ofHours(3))));
+
+			assertThat(relay.nextWakeUp(NOW)).isEqualTo(NOW.plus(MAX_IDLE));
+		}
+
+		@Test
+		void shouldNotSpinWhenRowsAreAlreadyOverdue() {
+			when(deliveryService.findNextDueAt()).thenReturn(Optional.of(NOW.minusSeconds(30)));
+
+			assertThat(relay.nextWakeUp(NOW)).isEqualTo(NOW.plus(NotificationOutboxRelay.MIN_IDLE));
+		}
+	}
+
+	private static Claim claim() {
+		return new Claim(UUID.randomUUID(), NOW.plus(Duration.ofMinutes(5)));
+	}
+}
@@ -0,0 +1,30 @@
+package com.akandiah.propmanager.features.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.Test;
+
+class RetryBackoffTest {
+
+	private final RetryBackoff backoff = new RetryBackoff(Duration.ofMinutes(1), Duration.ofHours(6));
+
+	@Test
+	void shouldDoubleTheCapPerAttempt() {
+		assertThat(backoff.delay(1, 0.999999)).isCloseTo(Duration.ofMinutes(1), Duration.ofMillis(1));
+		assertThat(backoff.delay(2, 0.999999)).isCloseTo(Duration.ofMinutes(2), Duration.ofMillis(1));
+		assertThat(backoff.delay(4, 0.999999)).isCloseTo(Duration.ofMinutes(8), Duration.ofMillis(1));
+	}
+
+	@Test
+	void shouldNeverWaitLessThanHalfTheCap() {
+		assertThat(backoff.delay(3, 0)).isEqualTo(Duration.ofMinutes(2));
+	}
+
+	@Test
+	void shouldClampToMaxForLargeAttemptCounts() {
+		assertThat(backoff.delay(30, 0.999999)).isCloseTo(Duration.ofHours(6), Duration.ofMillis(50));
+		assertThat(backoff.delay(Integer.MAX_VALUE, 0)).isEqualTo(Duration.ofHours(3));
+	}
+}
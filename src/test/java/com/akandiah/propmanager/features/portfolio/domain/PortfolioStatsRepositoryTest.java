@@ -0,0 +1,74 @@
+package com.akandiah.propmanager.features.portfolio.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.akandiah.propmanager.config.TestSecurityConfig;
+import com.akandiah.propmanager.features.organization.domain.Organization;
+import com.akandiah.propmanager.features.organization.domain.OrganizationRepository;
+import com.akandiah.propmanager.features.prop.domain.Address;
+import com.akandiah.propmanager.features.prop.domain.AddressRepository;
+import com.akandiah.propmanager.features.prop.domain.Prop;
+import com.akandiah.propmanager.features.prop.domain.PropRepository;
+import com.akandiah.propmanager.features.prop.domain.PropertyType;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Runs the stats-row insert against H2 to check that the empty count maps are
+ * bound as JSON. H2 drops {@code ON CONFLICT}, so the duplicate case is left to
+ * PostgreSQL.
+ */
+@SpringBootTest
+@Import(TestSecurityConfig.class)
+@Transactional
+class PortfolioStatsRepositoryTest {
+
+	@Autowired
+	private PortfolioStatsRepository statsRepository;
+	@Autowired
+	private PropRepository propRepository;
+	@Autowired
+	private AddressRepository addressRepository;
+	@Autowired
+	private OrganizationRepository organizationRepository;
+	@Autowired
+	private EntityManager entityManager;
+
+	private Organization org;
+	private Prop prop;
+
+	@BeforeEach
+	void setUp() {
+		org = organizationRepository.save(Organization.builder().name("Org").build());
+		Address address = addressRepository.save(Address.builder()
+				.addressLine1("1 Main St").city("Toronto").stateProvinceRegion("ON")
+				.postalCode("M1M1M1").countryCode("CA").build());
+		prop = propRepository.saveAndFlush(Prop.builder()
+				.legalName("Prop").address(address).propertyType(PropertyType.APARTMENT_BUILDING)
+				.organization(org).ownerId(UUID.randomUUID()).build());
+		statsRepository.deleteByPropertyId(prop.getId());
+	}
+
+	@Test
+	void shouldInsertZeroedRowThatCanBeLocked() {
+		assertThat(statsRepository.insertIfAbsent(prop.getId(), org.getId(), Instant.now())).isEqualTo(1);
+		entityManager.clear();
+
+		assertThat(statsRepository.findForUpdate(prop.getId())).hasValueSatisfying(s -> {
+			assertThat(s.getOrganizationId()).isEqualTo(org.getId());
+			assertThat(s.getUnitCounts()).isEmpty();
+			assertThat(s.getLeaseCounts()).isEmpty();
+			assertThat(s.getActiveRentTotal()).isEqualByComparingTo("0");
+		});
+	}
+}
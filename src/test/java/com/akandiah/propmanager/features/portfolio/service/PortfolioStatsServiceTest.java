@@ -0,0 +1,169 @@
+package com.akandiah.propmanager.features.portfolio.service;
+
+import static com.akandiah.propmanager.TestDataFactory.organization;
+import static com.akandiah.propmanager.TestDataFactory.prop;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+
+import com.akandiah.propmanager.features.lease.domain.LeaseRepository;
+import com.akandiah.propmanager.features.lease.domain.LeaseStatus;
+import com.akandiah.propmanager.features.portfolio.api.dto.PortfolioSummaryResponse;
+import com.akandiah.propmanager.features.portfolio.domain.PortfolioStats;
+import com.akandiah.propmanager.features.portfolio.domain.PortfolioStatsRepository;
+import com.akandiah.propmanager.features.prop.domain.Prop;
+import com.akandiah.propmanager.features.prop.domain.PropRepository;
+import com.akandiah.propmanager.features.unit.domain.UnitRepository;
+import com.akandiah.propmanager.features.unit.domain.UnitStatus;
+
+@ExtendWith(MockitoExtension.class)
+class PortfolioStatsServiceTest {
+
+	private static final SpelAwareProxyProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+	@Mock
+	private PortfolioStatsRepository statsRepository;
+	@Mock
+	private PropRepository propRepository;
+	@Mock
+	private UnitRepository unitRepository;
+	@Mock
+	private LeaseRepository leaseRepository;
+
+	@InjectMocks
+	private PortfolioStatsService service;
+
+	@Nested
+	class Refresh {
+
+		@Test
+		void shouldRecountPropertyIntoNewRow() {
+			UUID orgId = UUID.randomUUID();
+			Prop prop = prop().id(UUID.randomUUID()).organization(organization().id(orgId).build()).build();
+			when(propRepository.findById(prop.getId())).thenReturn(Optional.of(prop));
+			when(statsRepository.findForUpdate(prop.getId())).thenReturn(Optional.empty(),
+					Optional.of(PortfolioStats.builder().propertyId(prop.getId()).build()));
+			when(unitRepository.countByStatusForProp(prop.getId())).thenReturn(List.of(
+					unitCount(UnitStatus.OCCUPIED, 3), unitCount(UnitStatus.VACANT, 1)));
+			when(leaseRepository.sumByStatusForProperty(prop.getId())).thenReturn(List.of(
+					leaseTotals(LeaseStatus.ACTIVE, 3, "4500"), leaseTotals(LeaseStatus.DRAFT, 1, "1200")));
+
+			service.refresh(prop.getId());
+
+			InOrder order = inOrder(statsRepository);
+			order.verify(statsRepository).findForUpdate(prop.getId());
+			order.verify(statsRepository).insertIfAbsent(eq(prop.getId()), eq(orgId), any());
+			order.verify(statsRepository).findForUpdate(prop.getId());
+			ArgumentCaptor<PortfolioStats> saved = ArgumentCaptor.forClass(PortfolioStats.class);
+			verify(statsRepository).save(saved.capture());
+			PortfolioStats stats = saved.getValue();
+			assertThat(stats.getPropertyId()).isEqualTo(prop.getId());
+			assertThat(stats.getOrganizationId()).isEqualTo(orgId);
+			assertThat(stats.getUnitCounts()).containsExactlyInAnyOrderEntriesOf(Map.of("OCCUPIED", 3L, "VACANT", 1L));
+			assertThat(stats.getLeaseCounts()).containsExactlyInAnyOrderEntriesOf(Map.of("ACTIVE", 3L, "DRAFT", 1L));
+			assertThat(stats.getActiveRentTotal()).isEqualByComparingTo("4500");
+			assertThat(stats.getUpdatedAt()).isNotNull();
+		}
+
+		@Test
+		void shouldDeleteRowWhenPropertyIsGone() {
+			UUID propId = UUID.randomUUID();
+			when(propRepository.findById(propId)).thenReturn(Optional.empty());
+
+			service.refresh(propId);
+
+			verify(statsRepository).deleteByPropertyId(propId);
+			verify(statsRepository, never()).save(any());
+		}
+	}
+
+	@Nested
+	class Summaries {
+
+		@Test
+		void shouldSumOrganizationRows() {
+			UUID orgId = UUID.randomUUID();
+			when(statsRepository.findByOrganizationId(orgId)).thenReturn(List.of(
+					stats(orgId, Map.of("OCCUPIED", 3L, "VACANT", 1L), Map.of("ACTIVE", 3L), "4500"),
+					stats(orgId, Map.of("NOTICE_GIVEN", 1L, "VACANT", 3L), Map.of("ACTIVE", 1L, "EXPIRED", 2L), "1500")));
+			when(leaseRepository.countByProperty_Organization_IdAndStatusAndEndDateBetween(
+					eq(orgId), eq(LeaseStatus.ACTIVE), any(), any())).thenReturn(2L);
+
+			PortfolioSummaryResponse summary = service.summarizeOrganization(orgId, 30);
+
+			assertThat(summary.propertyId()).isNull();
+			assertThat(summary.propertyCount()).isEqualTo(2);
+			assertThat(summary.unitCount()).isEqualTo(8);
+			assertThat(summary.unitsByStatus()).containsEntry(UnitStatus.VACANT, 4L)
+					.containsEntry(UnitStatus.UNDER_MAINTENANCE, 0L);
+			assertThat(summary.occupancyRate()).isEqualByComparingTo("0.5");
+			assertThat(summary.leasesByStatus()).containsEntry(LeaseStatus.ACTIVE, 4L)
+					.containsEntry(LeaseStatus.EXPIRED, 2L)
+					.containsEntry(LeaseStatus.DRAFT, 0L);
+			assertThat(summary.activeRentTotal()).isEqualByComparingTo("6000");
+			assertThat(summary.averageActiveRent()).isEqualByComparingTo("1500");
+			assertThat(summary.expiringWithinDays()).isEqualTo(30);
+			assertThat(summary.expiringLeaseCount()).isEqualTo(2);
+		}
+
+		@Test
+		void shouldReturnZeroesForOrganizationWithoutProperties() {
+			UUID orgId = UUID.randomUUID();
+			when(statsRepository.findByOrganizationId(orgId)).thenReturn(List.of());
+
+			PortfolioSummaryResponse summary = service.summarizeOrganization(orgId, 0);
+
+			assertThat(summary.unitCount()).isZero();
+			assertThat(summary.occupancyRate()).isEqualByComparingTo("0");
+			assertThat(summary.averageActiveRent()).isEqualByComparingTo("0");
+			assertThat(summary.statsUpdatedAt()).isNull();
+		}
+
+		@Test
+		void shouldRejectOutOfRangeWindow() {
+			assertThatThrownBy(() -> service.summarizeOrganization(UUID.randomUUID(), -1))
+					.isInstanceOf(IllegalArgumentException.class);
+			assertThatThrownBy(() -> service.summarizeProperty(UUID.randomUUID(),
+					PortfolioStatsService.MAX_EXPIRING_WITHIN_DAYS + 1))
+					.isInstanceOf(IllegalArgumentException.class);
+		}
+	}
+
+	private static UnitRepository.StatusCount unitCount(UnitStatus status, long count) {
+		return PROJECTIONS.createProjection(UnitRepository.StatusCount.class,
+				Map.of("status", status, "count", count));
+	}
+
+	private static LeaseRepository.StatusTotals leaseTotals(LeaseStatus status, long count, String rentTotal) {
+		return PROJECTIONS.createProjection(LeaseRepository.StatusTotals.class,
+				Map.of("status", status, "count", count, "rentTotal", new BigDecimal(rentTotal)));
+	}
+
+	private static PortfolioStats stats(UUID orgId, Map<String, Long> units, Map<String, Long> leases,
+			String activeRentTotal) {
+		PortfolioStats stats = PortfolioStats.builder().propertyId(UUID.randomUUID()).build();
+		stats.update(orgId, units, leases, new BigDecimal(activeRentTotal));
+		return stats;
+	}
+}
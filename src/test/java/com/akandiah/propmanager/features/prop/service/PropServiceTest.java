@@ -94,7 +94,7 @@ class PropServiceTest {
 		Prop prop2 = prop().id(UUID.randomUUID()).legalName("Prop 2").build();
 		PropAccessFilter filter = new PropAccessFilter(Set.of(orgId), Set.of());
 
-		when(propRepository.findByOrganizationIdInOrIdIn(Set.of(orgId), Set.of()))
+		when(propRepository.findByOrganizationIdInOrIdIn(new UUID[] { orgId }, new UUID[0]))
 				.thenReturn(Arrays.asList(prop1, prop2));
 
 		List<PropResponse> responses = propService.findAll(filter);
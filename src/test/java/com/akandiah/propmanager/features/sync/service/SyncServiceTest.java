@@ -0,0 +1,180 @@
+package com.akandiah.propmanager.features.sync.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.akandiah.propmanager.common.permission.AccessEntry;
+import com.akandiah.propmanager.common.permission.AccessIndex;
+import com.akandiah.propmanager.common.permission.Actions;
+import com.akandiah.propmanager.common.permission.PermissionDomains;
+import com.akandiah.propmanager.common.permission.ResourceType;
+import com.akandiah.propmanager.config.SyncProperties;
+import com.akandiah.propmanager.features.asset.domain.AssetRepository;
+import com.akandiah.propmanager.features.lease.domain.LeaseRepository;
+import com.akandiah.propmanager.features.prop.domain.PropRepository;
+import com.akandiah.propmanager.features.sync.api.dto.SyncResponse;
+import com.akandiah.propmanager.features.sync.domain.SyncEntityType;
+import com.akandiah.propmanager.features.sync.domain.SyncTombstone;
+import com.akandiah.propmanager.features.sync.domain.SyncTombstoneRepository;
+import com.akandiah.propmanager.features.tenant.domain.TenantRepository;
+import com.akandiah.propmanager.features.unit.domain.UnitRepository;
+
+@ExtendWith(MockitoExtension.class)
+class SyncServiceTest {
+
+	private static final UUID ORG_ID = UUID.randomUUID();
+	private static final Duration OVERLAP = Duration.ofSeconds(30);
+
+	@Mock
+	private PropRepository propRepository;
+	@Mock
+	private UnitRepository unitRepository;
+	@Mock
+	private LeaseRepository leaseRepository;
+	@Mock
+	private AssetRepository assetRepository;
+	@Mock
+	private TenantRepository tenantRepository;
+	@Mock
+	private SyncTombstoneRepository tombstoneRepository;
+
+	private SyncService service;
+
+	/** Read access to the whole org in the portfolio domain only. */
+	private final AccessIndex portfolioReader = AccessIndex.of(List.of(
+			new AccessEntry(ORG_ID, ResourceType.ORG, ORG_ID, Map.of(PermissionDomains.PORTFOLIO, Actions.READ))));
+
+	@BeforeEach
+	void setUp() {
+		service = new SyncService(propRepository, unitRepository, leaseRepository, assetRepository,
+				tenantRepository, tombstoneRepository, new SyncProperties(2, OVERLAP, Duration.ofDays(90)));
+	}
+
+	@Test
+	void shouldRequestResetOnFirstSync() {
+		SyncResponse response = service.changesSince(portfolioReader, null);
+
+		assertThat(response.reset()).isTrue();
+		assertThat(response.hasMore()).isFalse();
+		verify(propRepository).findChangedSince(any(), any(), eq(Instant.EPOCH), eq(new UUID(0, 0)), eq(Limit.of(3)));
+	}
+
+	@Test
+	void shouldSkipTypesOutsideTheCallersDomains() {
+		service.changesSince(portfolioReader, null);
+
+		verifyNoInteractions(leaseRepository, assetRepository, tenantRepository);
+		verify(tombstoneRepository, never())
+				.findChangedSince(eq(SyncEntityType.LEASE), any(), any(), any(), any(), any(), any());
+	}
+
+	@Test
+	void shouldPlaceCursorOverlapBehindRequestTime() {
+		Instant since = Instant.now().minus(Duration.ofHours(1));
+		Instant before = Instant.now();
+
+		SyncResponse response = service.changesSince(portfolioReader, SyncCursor.at(since).encode());
+
+		assertThat(response.reset()).isFalse();
+		assertThat(SyncCursor.decode(response.nextCursor()).since())
+				.isBetween(before.minus(OVERLAP), Instant.now().minus(OVERLAP));
+		verify(unitRepository).findChangedSince(any(), any(), any(), eq(since), any(), any());
+	}
+
+	@Test
+	void shouldResumeFromLastReturnedRowWhenTruncated() {
+		Instant since = Instant.now().minus(Duration.ofHours(1));
+		Instant first = since.plusSeconds(1);
+		Instant second = since.plusSeconds(2);
+		SyncTombstone a = tombstone(first);
+		SyncTombstone b = tombstone(second);
+		when(tombstoneRepository.findChangedSince(eq(SyncEntityType.PROP), any(), any(), any(), eq(since), any(),
+				eq(Limit.of(3))))
+				.thenReturn(List.of(a, b, tombstone(since.plusSeconds(3))));
+
+		SyncResponse response = service.changesSince(portfolioReader, SyncCursor.at(since).encode());
+
+		assertThat(response.props().deleted()).containsExactly(a.getEntityId(), b.getEntityId());
+		assertThat(response.hasMore()).isTrue();
+		assertThat(SyncCursor.decode(response.nextCursor())).isEqualTo(new SyncCursor(second, b.getId()));
+	}
+
+	@Test
+	void shouldAdvancePastTruncatedRowsSharingOneTimestamp() {
+		Instant since = Instant.now().minus(Duration.ofHours(1));
+		Instant stamp = since.plusSeconds(1);
+		SyncTombstone a = tombstone(stamp);
+		SyncTombstone b = tombstone(stamp);
+		when(tombstoneRepository.findChangedSince(eq(SyncEntityType.PROP), any(), any(), any(), eq(since), any(),
+				eq(Limit.of(3))))
+				.thenReturn(List.of(a, b, tombstone(stamp)));
+		SyncResponse first = service.changesSince(portfolioReader, SyncCursor.at(since).encode());
+		when(tombstoneRepository.findChangedSince(eq(SyncEntityType.PROP), any(), any(), any(), eq(stamp), eq(b.getId()),
+				eq(Limit.of(3))))
+				.thenReturn(List.of());
+
+		SyncResponse second = service.changesSince(portfolioReader, first.nextCursor());
+
+		assertThat(first.hasMore()).isTrue();
+		assertThat(SyncCursor.decode(first.nextCursor())).isEqualTo(new SyncCursor(stamp, b.getId()));
+		assertThat(second.hasMore()).isFalse();
+	}
+
+	@Test
+	void shouldAcceptInstantOnlyCursor() {
+		Instant since = Instant.now().minus(Duration.ofHours(1));
+		ByteBuffer legacy = ByteBuffer.allocate(12).putLong(since.getEpochSecond()).putInt(since.getNano());
+
+		service.changesSince(portfolioReader, Base64.getUrlEncoder().withoutPadding().encodeToString(legacy.array()));
+
+		verify(propRepository).findChangedSince(any(), any(), eq(since), eq(new UUID(0, 0)), any());
+	}
+
+	@Test
+	void shouldResetWhenCursorPredatesTombstoneRetention() {
+		String stale = SyncCursor.at(Instant.now().minus(Duration.ofDays(91))).encode();
+
+		SyncResponse response = service.changesSince(portfolioReader, stale);
+
+		assertThat(response.reset()).isTrue();
+		verify(propRepository).findChangedSince(any(), any(), eq(Instant.EPOCH), any(), any());
+	}
+
+	@Test
+	void shouldRejectForeignCursor() {
+		assertThatThrownBy(() -> service.changesSince(portfolioReader, "not-a-cursor"))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Invalid sync cursor");
+	}
+
+	private static SyncTombstone tombstone(Instant deletedAt) {
+		return SyncTombstone.builder()
+				.id(UUID.randomUUID())
+				.entityType(SyncEntityType.PROP)
+				.entityId(UUID.randomUUID())
+				.organizationId(ORG_ID)
+				.deletedAt(deletedAt)
+				.build();
+	}
+}
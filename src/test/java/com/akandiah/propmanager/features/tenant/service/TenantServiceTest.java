@@ -5,10 +5,15 @@ import static com.akandiah.propmanager.TestDataFactory.user;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -16,8 +21,13 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import com.akandiah.propmanager.common.dto.KeysetPageRequest;
+import com.akandiah.propmanager.common.dto.PageResponse;
 import com.akandiah.propmanager.common.exception.ResourceNotFoundException;
+import com.akandiah.propmanager.common.permission.AccessListUtil.ScopedAccessFilter;
+import com.akandiah.propmanager.features.tenant.api.dto.TenantResponse;
 import com.akandiah.propmanager.features.tenant.api.dto.UpdateTenantRequest;
 import com.akandiah.propmanager.features.tenant.domain.Tenant;
 import com.akandiah.propmanager.features.tenant.domain.TenantRepository;
@@ -34,6 +44,34 @@ class TenantServiceTest {
 	@InjectMocks
 	private TenantService service;
 
+	// ───────────────────────── findPage ─────────────────────────
+
+	@Test
+	void shouldPageScopedTenantsById() {
+		ScopedAccessFilter filter = new ScopedAccessFilter(Set.of(UUID.randomUUID()), Set.of(), Set.of());
+		Tenant tenant = tenant().user(user().build()).build();
+		when(tenantRepository.findPageByAccessFilter(filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), true,
+				KeysetPageRequest.START, Limit.of(21))).thenReturn(List.of(tenant));
+
+		PageResponse<TenantResponse> result = service.findPage(filter, true, KeysetPageRequest.first(20));
+
+		assertThat(result.content()).extracting(TenantResponse::id).containsExactly(tenant.getId());
+		assertThat(result.hasNext()).isFalse();
+		assertThat(result.totalElements()).isNull();
+		verify(tenantRepository, never()).countByAccessFilter(any(), any(), any(), anyBoolean());
+	}
+
+	@Test
+	void shouldReturnEmptyPageWhenFilterIsEmpty() {
+		ScopedAccessFilter filter = new ScopedAccessFilter(Set.of(), Set.of(), Set.of());
+
+		PageResponse<TenantResponse> result = service.findPage(filter, false, new KeysetPageRequest(null, 20, true));
+
+		assertThat(result.content()).isEmpty();
+		assertThat(result.totalElements()).isZero();
+		verify(tenantRepository, never()).findPageByAccessFilter(any(), any(), any(), anyBoolean(), any(), any());
+	}
+
 	// ───────────────────────── findByUser ─────────────────────────
 
 	@Test
@@ -8,6 +8,8 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 
@@ -18,8 +20,14 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 
 import com.akandiah.propmanager.TestDataFactory;
+import com.akandiah.propmanager.common.dto.BatchResponse;
+import com.akandiah.propmanager.common.dto.BatchUpdate;
+import com.akandiah.propmanager.common.dto.KeysetPageRequest;
+import com.akandiah.propmanager.common.dto.PageResponse;
 import com.akandiah.propmanager.common.exception.ResourceNotFoundException;
 import com.akandiah.propmanager.common.permission.AccessListUtil.ScopedAccessFilter;
 import com.akandiah.propmanager.common.permission.ResourceType;
@@ -29,9 +37,19 @@ import com.akandiah.propmanager.features.lease.domain.LeaseRepository;
 import com.akandiah.propmanager.features.membership.domain.PolicyAssignment;
 import com.akandiah.propmanager.features.membership.domain.PolicyAssignmentRepository;
 import com.akandiah.propmanager.features.membership.domain.Membership;
+import com.akandiah.propmanager.features.portfolio.domain.PortfolioChangedEvent;
+import com.akandiah.propmanager.features.prop.domain.Prop;
+import com.akandiah.propmanager.features.prop.domain.PropRepository;
+import com.akandiah.propmanager.features.sync.domain.EntityDeletedEvent;
+import com.akandiah.propmanager.features.sync.domain.SyncEntityType;
+import com.akandiah.propmanager.features.unit.api.dto.CreateUnitRequest;
 import com.akandiah.propmanager.features.unit.api.dto.UnitResponse;
+import com.akandiah.propmanager.features.unit.api.dto.UpdateUnitRequest;
 import com.akandiah.propmanager.features.unit.domain.Unit;
 import com.akandiah.propmanager.features.unit.domain.UnitRepository;
+import com.akandiah.propmanager.features.unit.domain.UnitRepository.UnitListRow;
+import com.akandiah.propmanager.features.unit.domain.UnitRepository.UnitParents;
+import com.akandiah.propmanager.features.unit.domain.UnitStatus;
 import com.akandiah.propmanager.features.user.domain.User;
 
 @ExtendWith(MockitoExtension.class)
@@ -46,6 +64,8 @@ class UnitServiceTest {
 	@Mock
 	private LeaseRepository leaseRepository;
 	@Mock
+	private PropRepository propRepository;
+	@Mock
 	private ApplicationEventPublisher eventPublisher;
 
 	@InjectMocks
@@ -58,14 +78,14 @@ class UnitServiceTest {
 		ScopedAccessFilter filter = new ScopedAccessFilter(Set.of(orgId), Set.of(), Set.of());
 		Unit unit = TestDataFactory.unit().id(UUID.randomUUID()).unitNumber("101").build();
 
-		when(unitRepository.findByAccessFilter(filter.orgIds(), filter.propIds(), filter.unitIds(), orgId, propId))
+		when(unitRepository.findByAccessFilter(filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), orgId, propId))
 				.thenReturn(List.of(unit));
 
 		List<UnitResponse> result = service.findAll(filter, orgId, propId);
 
 		assertThat(result).hasSize(1);
 		assertThat(result.get(0).unitNumber()).isEqualTo("101");
-		verify(unitRepository).findByAccessFilter(filter.orgIds(), filter.propIds(), filter.unitIds(), orgId, propId);
+		verify(unitRepository).findByAccessFilter(filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), orgId, propId);
 	}
 
 	@Test
@@ -78,6 +98,48 @@ class UnitServiceTest {
 		verify(unitRepository, never()).findByAccessFilter(any(), any(), any(), any(), any());
 	}
 
+	@Test
+	void findPage_seeksPastCursorAndReturnsNextCursor() {
+		UUID orgId = UUID.randomUUID();
+		ScopedAccessFilter filter = new ScopedAccessFilter(Set.of(orgId), Set.of(), Set.of());
+		UUID after = UUID.randomUUID();
+		UnitListRow first = unitRow(UUID.randomUUID(), "101");
+		UnitListRow second = unitRow(UUID.randomUUID(), "102");
+		KeysetPageRequest page = KeysetPageRequest.of(KeysetPageRequest.encode(after), 1, true);
+
+		when(unitRepository.findPageByAccessFilter(filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), orgId, null,
+				after, Limit.of(2))).thenReturn(List.of(first, second));
+		when(unitRepository.countByAccessFilter(filter.orgIdArray(), filter.propIdArray(), filter.unitIdArray(), orgId, null))
+				.thenReturn(7L);
+
+		PageResponse<UnitResponse> result = service.findPage(filter, orgId, null, page);
+
+		assertThat(result.content()).extracting(UnitResponse::unitNumber).containsExactly("101");
+		assertThat(result.nextCursor()).isEqualTo(KeysetPageRequest.encode(first.getId()));
+		assertThat(result.totalElements()).isEqualTo(7L);
+	}
+
+	@Test
+	void findPage_withEmptyFilter_returnsEmptyPageWithoutQuerying() {
+		ScopedAccessFilter filter = new ScopedAccessFilter(Set.of(), Set.of(), Set.of());
+
+		PageResponse<UnitResponse> result = service.findPage(filter, UUID.randomUUID(), null, KeysetPageRequest.first(10));
+
+		assertThat(result.content()).isEmpty();
+		assertThat(result.hasNext()).isFalse();
+		verify(unitRepository, never()).findPageByAccessFilter(any(), any(), any(), any(), any(), any(), any());
+	}
+
+	private static UnitParents parents(UUID unitId) {
+		return new SpelAwareProxyProjectionFactory().createProjection(UnitParents.class,
+				Map.of("id", unitId, "propId", UUID.randomUUID(), "orgId", UUID.randomUUID()));
+	}
+
+	private static UnitListRow unitRow(UUID id, String unitNumber) {
+		return new SpelAwareProxyProjectionFactory().createProjection(UnitListRow.class,
+				Map.of("id", id, "unitNumber", unitNumber, "status", UnitStatus.VACANT));
+	}
+
 	@Test
 	void deleteById_deletesAndPublishesEventForAffectedUsers() {
 		UUID unitId = UUID.randomUUID();
@@ -86,7 +148,7 @@ class UnitServiceTest {
 		Membership membership = Membership.builder().user(user).build();
 		PolicyAssignment assignment = PolicyAssignment.builder().membership(membership).build();
 
-		when(unitRepository.existsById(unitId)).thenReturn(true);
+		when(unitRepository.findParentsById(unitId)).thenReturn(Optional.of(parents(unitId)));
 		when(assetRepository.countByUnit_Id(unitId)).thenReturn(0L);
 		when(leaseRepository.countByUnit_Id(unitId)).thenReturn(0L);
 		when(assignmentRepository.findByResourceTypeAndResourceId(ResourceType.UNIT, unitId))
@@ -102,11 +164,30 @@ class UnitServiceTest {
 		assertThat(eventCaptor.getValue().affectedUserIds()).isEqualTo(Set.of(userId));
 	}
 
+	@Test
+	void deleteById_publishesEntityDeletedEventWithParents() {
+		UUID unitId = UUID.randomUUID();
+		UnitParents parents = parents(unitId);
+
+		when(unitRepository.findParentsById(unitId)).thenReturn(Optional.of(parents));
+		when(assetRepository.countByUnit_Id(unitId)).thenReturn(0L);
+		when(leaseRepository.countByUnit_Id(unitId)).thenReturn(0L);
+		when(assignmentRepository.findByResourceTypeAndResourceId(ResourceType.UNIT, unitId))
+				.thenReturn(List.of());
+
+		service.deleteById(unitId);
+
+		ArgumentCaptor<EntityDeletedEvent> eventCaptor = ArgumentCaptor.forClass(EntityDeletedEvent.class);
+		verify(eventPublisher).publishEvent(eventCaptor.capture());
+		assertThat(eventCaptor.getValue()).isEqualTo(new EntityDeletedEvent(
+				SyncEntityType.UNIT, unitId, parents.getOrgId(), parents.getPropId(), unitId));
+	}
+
 	@Test
 	void deleteById_deletesWithoutEventIfNoAffectedUsers() {
 		UUID unitId = UUID.randomUUID();
 
-		when(unitRepository.existsById(unitId)).thenReturn(true);
+		when(unitRepository.findParentsById(unitId)).thenReturn(Optional.of(parents(unitId)));
 		when(assetRepository.countByUnit_Id(unitId)).thenReturn(0L);
 		when(leaseRepository.countByUnit_Id(unitId)).thenReturn(0L);
 		when(assignmentRepository.findByResourceTypeAndResourceId(ResourceType.UNIT, unitId))
@@ -122,9 +203,77 @@ class UnitServiceTest {
 	@Test
 	void deleteById_throwsWhenNotFound() {
 		UUID unitId = UUID.randomUUID();
-		when(unitRepository.existsById(unitId)).thenReturn(false);
+		when(unitRepository.findParentsById(unitId)).thenReturn(Optional.empty());
 
 		assertThatThrownBy(() -> service.deleteById(unitId))
 				.isInstanceOf(ResourceNotFoundException.class);
 	}
+
+	@Test
+	void createAll_savesValidItemsAndReportsRejectedOnesPerIndex() {
+		Prop prop = TestDataFactory.prop().id(UUID.randomUUID()).build();
+		UUID existingId = UUID.randomUUID();
+		when(propRepository.findById(prop.getId())).thenReturn(Optional.of(prop));
+		when(unitRepository.findIdsByIdIn(List.of(existingId))).thenReturn(List.of(existingId));
+
+		BatchResponse<UnitResponse> result = service.createAll(prop.getId(), List.of(
+				createRequest(null, prop.getId(), "101"),
+				createRequest(null, UUID.randomUUID(), "102"),
+				createRequest(existingId, prop.getId(), "103")));
+
+		assertThat(result.succeeded()).isEqualTo(1);
+		assertThat(result.failed()).isEqualTo(2);
+		assertThat(result.items()).extracting(BatchResponse.Item::index).containsExactly(0, 1, 2);
+		assertThat(result.items().get(0).result().unitNumber()).isEqualTo("101");
+		assertThat(result.items().get(1).error()).contains("propertyId");
+		assertThat(result.items().get(2).error()).contains("already exists");
+		verify(unitRepository).saveAll(any());
+		verify(eventPublisher).publishEvent(new PortfolioChangedEvent(prop.getId()));
+	}
+
+	@Test
+	void updateAll_rejectsStaleAndForeignUnitsWithoutFailingTheBatch() {
+		Prop prop = TestDataFactory.prop().id(UUID.randomUUID()).build();
+		Unit current = TestDataFactory.unit().id(UUID.randomUUID()).prop(prop).unitNumber("101").version(2).build();
+		Unit stale = TestDataFactory.unit().id(UUID.randomUUID()).prop(prop).unitNumber("102").version(5).build();
+		Unit foreign = TestDataFactory.unit().id(UUID.randomUUID()).unitNumber("103").version(0).build();
+		when(unitRepository.findAllById(List.of(current.getId(), stale.getId(), foreign.getId())))
+				.thenReturn(List.of(current, stale, foreign));
+
+		BatchResponse<UnitResponse> result = service.updateAll(prop.getId(), List.of(
+				new BatchUpdate<>(current.getId(), updateRequest("101A", 2)),
+				new BatchUpdate<>(stale.getId(), updateRequest("102A", 4)),
+				new BatchUpdate<>(foreign.getId(), updateRequest("103A", 0))));
+
+		assertThat(result.succeeded()).isEqualTo(1);
+		assertThat(current.getUnitNumber()).isEqualTo("101A");
+		assertThat(stale.getUnitNumber()).isEqualTo("102");
+		assertThat(result.items().get(1).error()).contains("modified by another user");
+		assertThat(result.items().get(2).error()).contains("not found in prop");
+		verify(unitRepository).flush();
+	}
+
+	@Test
+	void updateAll_publishesNothingWhenEveryItemFails() {
+		UUID propId = UUID.randomUUID();
+		UUID missing = UUID.randomUUID();
+		when(unitRepository.findAllById(List.of(missing))).thenReturn(List.of());
+
+		BatchResponse<UnitResponse> result = service.updateAll(propId,
+				List.of(new BatchUpdate<>(missing, updateRequest("101", 0))));
+
+		assertThat(result.failed()).isEqualTo(1);
+		verify(unitRepository, never()).flush();
+		verify(eventPublisher, never()).publishEvent(any());
+	}
+
+	private static CreateUnitRequest createRequest(UUID id, UUID propId, String unitNumber) {
+		return new CreateUnitRequest(id, propId, unitNumber, UnitStatus.VACANT, null, null, null, null,
+				null, null, null, null, null, null);
+	}
+
+	private static UpdateUnitRequest updateRequest(String unitNumber, int version) {
+		return new UpdateUnitRequest(null, unitNumber, null, null, null, null, null, null, null, null,
+				null, null, null, version);
+	}
 }
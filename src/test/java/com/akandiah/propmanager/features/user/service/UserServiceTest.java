@@ -0,0 +1,116 @@
+package com.akandiah.propmanager.features.user.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.security.oauth2.jwt.Jwt;
+
+import com.akandiah.propmanager.features.user.domain.IdentityKey;
+import com.akandiah.propmanager.features.user.domain.User;
+import com.akandiah.propmanager.features.user.domain.UserIdentity;
+import com.akandiah.propmanager.features.user.domain.UserIdentityRepository;
+import com.akandiah.propmanager.features.user.domain.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Unit tests for {@link UserService}.
+ */
+@ExtendWith(MockitoExtension.class)
+class UserServiceTest {
+
+	private static final String ISSUER = "https://issuer.example";
+	private static final String SUB = "sub-123";
+	private static final UUID USER_ID = UUID.randomUUID();
+
+	@Mock
+	private UserRepository userRepository;
+	@Mock
+	private UserIdentityRepository userIdentityRepository;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	private Cache<IdentityKey, UUID> identityCache;
+	private UserService service;
+
+	@BeforeEach
+	void setUp() {
+		identityCache = Caffeine.newBuilder().build();
+		service = new UserService(userRepository, userIdentityRepository, eventPublisher, identityCache);
+	}
+
+	private static Jwt jwt(String sub) {
+		return Jwt.withTokenValue("token")
+				.header("alg", "none")
+				.issuer(ISSUER)
+				.subject(sub)
+				.issuedAt(Instant.now())
+				.expiresAt(Instant.now().plusSeconds(60))
+				.build();
+	}
+
+	@Nested
+	class FindUserIdFromJwt {
+
+		@Test
+		void shouldQueryOnceThenServeFromCache() {
+			when(userIdentityRepository.findUserIdByIssuerAndSub(ISSUER, SUB)).thenReturn(Optional.of(USER_ID));
+
+			assertThat(service.findUserIdFromJwt(jwt(SUB))).contains(USER_ID);
+			assertThat(service.findUserIdFromJwt(jwt(SUB))).contains(USER_ID);
+
+			verify(userIdentityRepository, times(1)).findUserIdByIssuerAndSub(ISSUER, SUB);
+		}
+
+		@Test
+		void shouldNotCacheUnknownIdentity() {
+			when(userIdentityRepository.findUserIdByIssuerAndSub(ISSUER, SUB)).thenReturn(Optional.empty());
+
+			assertThat(service.findUserIdFromJwt(jwt(SUB))).isEmpty();
+			assertThat(service.findUserIdFromJwt(jwt(SUB))).isEmpty();
+
+			verify(userIdentityRepository, times(2)).findUserIdByIssuerAndSub(ISSUER, SUB);
+			assertThat(identityCache.asMap()).isEmpty();
+		}
+
+		@Test
+		void shouldReturnEmptyWithoutQueryForBlankSubject() {
+			assertThat(service.findUserIdFromJwt(jwt(" "))).isEmpty();
+
+			verify(userIdentityRepository, never()).findUserIdByIssuerAndSub(any(), any());
+		}
+	}
+
+	@Nested
+	class GetOrCreateUser {
+
+		@Test
+		void shouldInvalidateIdentityWhenLinkingToExistingAccount() {
+			User existing = User.builder().id(USER_ID).email("a@example.com").build();
+			identityCache.put(new IdentityKey(ISSUER, SUB), UUID.randomUUID());
+			when(userIdentityRepository.findByIssuerAndSubWithUser(ISSUER, SUB)).thenReturn(Optional.empty());
+			when(userRepository.findByEmail("a@example.com")).thenReturn(Optional.of(existing));
+			when(userIdentityRepository.save(any(UserIdentity.class))).thenAnswer(inv -> inv.getArgument(0));
+			when(userRepository.save(existing)).thenReturn(existing);
+
+			service.getOrCreateUser(ISSUER, SUB, "A", "a@example.com");
+
+			assertThat(identityCache.getIfPresent(new IdentityKey(ISSUER, SUB))).isNull();
+		}
+	}
+}
@@ -1,10 +1,15 @@
 package com.akandiah.propmanager.security;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -13,16 +18,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.akandiah.propmanager.common.permission.HierarchyChangedEvent;
+import com.akandiah.propmanager.common.permission.HierarchyChildIndex;
+import com.akandiah.propmanager.common.permission.HierarchyParents;
 import com.akandiah.propmanager.common.permission.ResourceType;
 import com.akandiah.propmanager.common.permission.ScopeLevel;
-import com.akandiah.propmanager.features.asset.domain.Asset;
 import com.akandiah.propmanager.features.asset.domain.AssetRepository;
-import com.akandiah.propmanager.features.organization.domain.Organization;
-import com.akandiah.propmanager.features.prop.domain.Prop;
+import com.akandiah.propmanager.features.asset.domain.AssetRepository.AssetParents;
 import com.akandiah.propmanager.features.prop.domain.PropRepository;
-import com.akandiah.propmanager.features.unit.domain.Unit;
+import com.akandiah.propmanager.features.prop.domain.PropRepository.PropParents;
 import com.akandiah.propmanager.features.unit.domain.UnitRepository;
-import com.akandiah.propmanager.features.unit.domain.UnitStatus;
+import com.akandiah.propmanager.features.unit.domain.UnitRepository.UnitParents;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 
 @ExtendWith(MockitoExtension.class)
 class DefaultHierarchyResolverTest {
@@ -34,6 +42,8 @@ class DefaultHierarchyResolverTest {
 	@Mock
 	private AssetRepository assetRepository;
 
+	private Cache<ScopeLevel, HierarchyParents> cache;
+	private HierarchyChildIndex childIndex;
 	private DefaultHierarchyResolver resolver;
 
 	private static final UUID ORG_ID = UUID.randomUUID();
@@ -43,7 +53,19 @@ class DefaultHierarchyResolverTest {
 
 	@BeforeEach
 	void setUp() {
-		resolver = new DefaultHierarchyResolver(unitRepository, propRepository, assetRepository);
+		cache = Caffeine.newBuilder().build();
+		childIndex = new HierarchyChildIndex();
+		resolver = new DefaultHierarchyResolver(unitRepository, propRepository, assetRepository, cache, childIndex);
+	}
+
+	private record TestPropParents(UUID getId, UUID getOrgId) implements PropParents {
+	}
+
+	private record TestUnitParents(UUID getId, UUID getPropId, UUID getOrgId) implements UnitParents {
+	}
+
+	private record TestAssetParents(UUID getId, UUID getUnitId, UUID getPropId, UUID getOrgId)
+			implements AssetParents {
 	}
 
 	@Test
@@ -57,7 +79,8 @@ class DefaultHierarchyResolverTest {
 
 	@Test
 	void resolve_propertyReturnsPropertyThenOrgWhenExistsInOrg() {
-		when(propRepository.existsByIdAndOrganization_Id(PROP_ID, ORG_ID)).thenReturn(true);
+		when(propRepository.findParentsByIdIn(List.of(PROP_ID)))
+				.thenReturn(List.of(new TestPropParents(PROP_ID, ORG_ID)));
 
 		List<ScopeLevel> result = resolver.resolve(ResourceType.PROPERTY, PROP_ID, ORG_ID);
 
@@ -70,7 +93,8 @@ class DefaultHierarchyResolverTest {
 
 	@Test
 	void resolve_propertyReturnsEmptyWhenNotInOrg() {
-		when(propRepository.existsByIdAndOrganization_Id(PROP_ID, ORG_ID)).thenReturn(false);
+		when(propRepository.findParentsByIdIn(List.of(PROP_ID)))
+				.thenReturn(List.of(new TestPropParents(PROP_ID, UUID.randomUUID())));
 
 		List<ScopeLevel> result = resolver.resolve(ResourceType.PROPERTY, PROP_ID, ORG_ID);
 
@@ -79,15 +103,8 @@ class DefaultHierarchyResolverTest {
 
 	@Test
 	void resolve_unitReturnsUnitThenPropertyThenOrgWhenInOrg() {
-		Organization org = Organization.builder().id(ORG_ID).build();
-		Prop prop = Prop.builder().id(PROP_ID).organization(org).build();
-		Unit unit = Unit.builder()
-				.id(UNIT_ID)
-				.prop(prop)
-				.unitNumber("101")
-				.status(UnitStatus.VACANT)
-				.build();
-		when(unitRepository.findByIdWithPropAndOrg(UNIT_ID)).thenReturn(Optional.of(unit));
+		when(unitRepository.findParentsByIdIn(List.of(UNIT_ID)))
+				.thenReturn(List.of(new TestUnitParents(UNIT_ID, PROP_ID, ORG_ID)));
 
 		List<ScopeLevel> result = resolver.resolve(ResourceType.UNIT, UNIT_ID, ORG_ID);
 
@@ -102,7 +119,7 @@ class DefaultHierarchyResolverTest {
 
 	@Test
 	void resolve_unitReturnsEmptyWhenUnitNotFound() {
-		when(unitRepository.findByIdWithPropAndOrg(UNIT_ID)).thenReturn(Optional.empty());
+		when(unitRepository.findParentsByIdIn(List.of(UNIT_ID))).thenReturn(List.of());
 
 		List<ScopeLevel> result = resolver.resolve(ResourceType.UNIT, UNIT_ID, ORG_ID);
 
@@ -111,11 +128,8 @@ class DefaultHierarchyResolverTest {
 
 	@Test
 	void resolve_unitReturnsEmptyWhenUnitInDifferentOrg() {
-		UUID otherOrgId = UUID.randomUUID();
-		Organization org = Organization.builder().id(otherOrgId).build();
-		Prop prop = Prop.builder().id(PROP_ID).organization(org).build();
-		Unit unit = Unit.builder().id(UNIT_ID).prop(prop).build();
-		when(unitRepository.findByIdWithPropAndOrg(UNIT_ID)).thenReturn(Optional.of(unit));
+		when(unitRepository.findParentsByIdIn(List.of(UNIT_ID)))
+				.thenReturn(List.of(new TestUnitParents(UNIT_ID, PROP_ID, UUID.randomUUID())));
 
 		List<ScopeLevel> result = resolver.resolve(ResourceType.UNIT, UNIT_ID, ORG_ID);
 
@@ -126,11 +140,8 @@ class DefaultHierarchyResolverTest {
 
 	@Test
 	void resolve_asset_unitScoped_returnsChain() {
-		Organization org = Organization.builder().id(ORG_ID).build();
-		Prop prop = Prop.builder().id(PROP_ID).organization(org).build();
-		Unit unit = Unit.builder().id(UNIT_ID).prop(prop).build();
-		Asset asset = Asset.builder().id(ASSET_ID).unit(unit).build();
-		when(assetRepository.findByIdWithParents(ASSET_ID)).thenReturn(Optional.of(asset));
+		when(assetRepository.findParentsByIdIn(List.of(ASSET_ID)))
+				.thenReturn(List.of(new TestAssetParents(ASSET_ID, UNIT_ID, PROP_ID, ORG_ID)));
 
 		List<ScopeLevel> result = resolver.resolve(ResourceType.ASSET, ASSET_ID, ORG_ID);
 
@@ -147,10 +158,8 @@ class DefaultHierarchyResolverTest {
 
 	@Test
 	void resolve_asset_propScoped_returnsChain() {
-		Organization org = Organization.builder().id(ORG_ID).build();
-		Prop prop = Prop.builder().id(PROP_ID).organization(org).build();
-		Asset asset = Asset.builder().id(ASSET_ID).prop(prop).build();
-		when(assetRepository.findByIdWithParents(ASSET_ID)).thenReturn(Optional.of(asset));
+		when(assetRepository.findParentsByIdIn(List.of(ASSET_ID)))
+				.thenReturn(List.of(new TestAssetParents(ASSET_ID, null, PROP_ID, ORG_ID)));
 
 		List<ScopeLevel> result = resolver.resolve(ResourceType.ASSET, ASSET_ID, ORG_ID);
 
@@ -165,10 +174,8 @@ class DefaultHierarchyResolverTest {
 
 	@Test
 	void resolve_asset_orgMismatch_returnsEmpty() {
-		Organization otherOrg = Organization.builder().id(UUID.randomUUID()).build();
-		Prop prop = Prop.builder().id(PROP_ID).organization(otherOrg).build();
-		Asset asset = Asset.builder().id(ASSET_ID).prop(prop).build();
-		when(assetRepository.findByIdWithParents(ASSET_ID)).thenReturn(Optional.of(asset));
+		when(assetRepository.findParentsByIdIn(List.of(ASSET_ID)))
+				.thenReturn(List.of(new TestAssetParents(ASSET_ID, null, PROP_ID, UUID.randomUUID())));
 
 		List<ScopeLevel> result = resolver.resolve(ResourceType.ASSET, ASSET_ID, ORG_ID);
 
@@ -177,10 +184,105 @@ class DefaultHierarchyResolverTest {
 
 	@Test
 	void resolve_asset_notFound_returnsEmpty() {
-		when(assetRepository.findByIdWithParents(ASSET_ID)).thenReturn(Optional.empty());
+		when(assetRepository.findParentsByIdIn(List.of(ASSET_ID))).thenReturn(List.of());
 
 		List<ScopeLevel> result = resolver.resolve(ResourceType.ASSET, ASSET_ID, ORG_ID);
 
 		assertThat(result).isEmpty();
 	}
+
+	// ─────────────────── caching / batching ───────────────────
+
+	@Test
+	void resolve_secondCallIsServedFromCache() {
+		when(unitRepository.findParentsByIdIn(List.of(UNIT_ID)))
+				.thenReturn(List.of(new TestUnitParents(UNIT_ID, PROP_ID, ORG_ID)));
+
+		resolver.resolve(ResourceType.UNIT, UNIT_ID, ORG_ID);
+		List<ScopeLevel> result = resolver.resolve(ResourceType.UNIT, UNIT_ID, ORG_ID);
+
+		assertThat(result).hasSize(3);
+		verify(unitRepository, times(1)).findParentsByIdIn(anyCollection());
+	}
+
+	@Test
+	void resolve_missingResourceIsNotCached() {
+		when(unitRepository.findParentsByIdIn(List.of(UNIT_ID))).thenReturn(List.of());
+
+		resolver.resolve(ResourceType.UNIT, UNIT_ID, ORG_ID);
+		resolver.resolve(ResourceType.UNIT, UNIT_ID, ORG_ID);
+
+		verify(unitRepository, times(2)).findParentsByIdIn(anyCollection());
+	}
+
+	@Test
+	void resolveAll_loadsOnlyMissesInOneQuery() {
+		UUID unit2 = UUID.randomUUID();
+		UUID foreignUnit = UUID.randomUUID();
+		cache.put(new ScopeLevel(ResourceType.UNIT, UNIT_ID), new HierarchyParents(ORG_ID, PROP_ID, null));
+		when(unitRepository.findParentsByIdIn(anyCollection())).thenReturn(List.of(
+				new TestUnitParents(unit2, PROP_ID, ORG_ID),
+				new TestUnitParents(foreignUnit, UUID.randomUUID(), UUID.randomUUID())));
+
+		Map<UUID, List<ScopeLevel>> result = resolver.resolveAll(ResourceType.UNIT,
+				List.of(UNIT_ID, unit2, foreignUnit), ORG_ID);
+
+		assertThat(result).containsOnlyKeys(UNIT_ID, unit2);
+		verify(unitRepository, times(1)).findParentsByIdIn(anyCollection());
+	}
+
+	@Test
+	void resolve_orgNeverQueries() {
+		resolver.resolveAll(ResourceType.ORG, Set.of(ORG_ID), ORG_ID);
+
+		verify(propRepository, never()).findParentsByIdIn(anyCollection());
+	}
+
+	@Test
+	void resolve_asset_withoutPropOrUnit_fallsBackToOrg() {
+		when(assetRepository.findParentsByIdIn(List.of(ASSET_ID)))
+				.thenReturn(List.of(new TestAssetParents(ASSET_ID, null, null, null)));
+
+		List<ScopeLevel> result = resolver.resolve(ResourceType.ASSET, ASSET_ID, ORG_ID);
+
+		assertThat(result).containsExactly(
+				new ScopeLevel(ResourceType.ASSET, ASSET_ID),
+				new ScopeLevel(ResourceType.ORG, ORG_ID));
+	}
+
+	@Test
+	void evictionListener_dropsResourceAndDescendants() {
+		UUID otherProp = UUID.randomUUID();
+		when(propRepository.findParentsByIdIn(anyCollection())).thenReturn(List.of(
+				new TestPropParents(PROP_ID, ORG_ID), new TestPropParents(otherProp, ORG_ID)));
+		when(unitRepository.findParentsByIdIn(List.of(UNIT_ID)))
+				.thenReturn(List.of(new TestUnitParents(UNIT_ID, PROP_ID, ORG_ID)));
+		when(assetRepository.findParentsByIdIn(List.of(ASSET_ID)))
+				.thenReturn(List.of(new TestAssetParents(ASSET_ID, UNIT_ID, PROP_ID, ORG_ID)));
+		resolver.resolveAll(ResourceType.PROPERTY, List.of(PROP_ID, otherProp), ORG_ID);
+		resolver.resolve(ResourceType.UNIT, UNIT_ID, ORG_ID);
+		resolver.resolve(ResourceType.ASSET, ASSET_ID, ORG_ID);
+
+		new HierarchyCacheEvictionListener(cache, childIndex)
+				.onHierarchyChanged(new HierarchyChangedEvent(ResourceType.PROPERTY, PROP_ID));
+
+		assertThat(cache.asMap()).containsOnlyKeys(new ScopeLevel(ResourceType.PROPERTY, otherProp));
+		assertThat(childIndex.removeChildren(UNIT_ID)).isEmpty();
+	}
+
+	@Test
+	void evictionListener_unitEventLeavesSiblingsCached() {
+		UUID otherUnit = UUID.randomUUID();
+		UUID otherAsset = UUID.randomUUID();
+		when(assetRepository.findParentsByIdIn(anyCollection())).thenReturn(List.of(
+				new TestAssetParents(ASSET_ID, UNIT_ID, PROP_ID, ORG_ID),
+				new TestAssetParents(otherAsset, otherUnit, PROP_ID, ORG_ID)));
+		resolver.resolveAll(ResourceType.ASSET, List.of(ASSET_ID, otherAsset), ORG_ID);
+
+		new HierarchyCacheEvictionListener(cache, childIndex)
+				.onHierarchyChanged(new HierarchyChangedEvent(ResourceType.UNIT, UNIT_ID));
+
+		assertThat(cache.asMap()).containsOnlyKeys(new ScopeLevel(ResourceType.ASSET, otherAsset));
+		assertThat(childIndex.removeChildren(PROP_ID)).containsExactly(new ScopeLevel(ResourceType.ASSET, otherAsset));
+	}
 }
@@ -1,31 +1,41 @@
 package com.akandiah.propmanager.security;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import com.akandiah.propmanager.common.permission.AccessEntry;
+import com.akandiah.propmanager.common.permission.AccessIndex;
 import com.akandiah.propmanager.common.permission.Actions;
 import com.akandiah.propmanager.common.permission.HierarchyResolver;
 import com.akandiah.propmanager.common.permission.PermissionDomains;
 import com.akandiah.propmanager.common.permission.ResourceType;
 import com.akandiah.propmanager.common.permission.ScopeLevel;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 class HierarchyAwareAuthorizationServiceTest {
 
 	@Mock
 	private HierarchyResolver hierarchyResolver;
 
+	private AuthorizationDecisionCache decisionCache;
 	private HierarchyAwareAuthorizationService service;
 
 	private static final UUID ORG_ID = UUID.randomUUID();
@@ -34,12 +44,18 @@ class HierarchyAwareAuthorizationServiceTest {
 
 	@BeforeEach
 	void setUp() {
-		service = new HierarchyAwareAuthorizationService(hierarchyResolver);
+		decisionCache = new AuthorizationDecisionCache(new SimpleMeterRegistry());
+		service = new HierarchyAwareAuthorizationService(hierarchyResolver, decisionCache);
+	}
+
+	@AfterEach
+	void tearDown() {
+		RequestContextHolder.resetRequestAttributes();
 	}
 
 	@Test
 	void allow_returnsFalseWhenAccessEmpty() {
-		boolean result = service.allow(List.of(), Actions.READ, PermissionDomains.LEASES,
+		boolean result = service.allow(AccessIndex.EMPTY, Actions.READ, PermissionDomains.LEASES,
 				ResourceType.ORG, ORG_ID, ORG_ID);
 
 		assertThat(result).isFalse();
@@ -57,8 +73,8 @@ class HierarchyAwareAuthorizationServiceTest {
 	void allow_returnsTrueWhenOrgEntryGrantsAction() {
 		when(hierarchyResolver.resolve(ResourceType.ORG, ORG_ID, ORG_ID))
 				.thenReturn(List.of(new ScopeLevel(ResourceType.ORG, ORG_ID)));
-		List<AccessEntry> access = List.of(
-				new AccessEntry(ORG_ID, ResourceType.ORG, ORG_ID, Map.of(PermissionDomains.LEASES, 1))); // READ
+		AccessIndex access = AccessIndex.of(List.of(
+				new AccessEntry(ORG_ID, ResourceType.ORG, ORG_ID, Map.of(PermissionDomains.LEASES, 1)))); // READ
 
 		boolean result = service.allow(access, Actions.READ, PermissionDomains.LEASES,
 				ResourceType.ORG, ORG_ID, ORG_ID);
@@ -70,8 +86,8 @@ class HierarchyAwareAuthorizationServiceTest {
 	void allow_returnsFalseWhenOrgEntryDoesNotGrantAction() {
 		when(hierarchyResolver.resolve(ResourceType.ORG, ORG_ID, ORG_ID))
 				.thenReturn(List.of(new ScopeLevel(ResourceType.ORG, ORG_ID)));
-		List<AccessEntry> access = List.of(
-				new AccessEntry(ORG_ID, ResourceType.ORG, ORG_ID, Map.of(PermissionDomains.LEASES, 1))); // READ only
+		AccessIndex access = AccessIndex.of(List.of(
+				new AccessEntry(ORG_ID, ResourceType.ORG, ORG_ID, Map.of(PermissionDomains.LEASES, 1)))); // READ only
 
 		boolean result = service.allow(access, Actions.UPDATE, PermissionDomains.LEASES,
 				ResourceType.ORG, ORG_ID, ORG_ID);
@@ -87,9 +103,9 @@ class HierarchyAwareAuthorizationServiceTest {
 						new ScopeLevel(ResourceType.PROPERTY, PROP_ID),
 						new ScopeLevel(ResourceType.ORG, ORG_ID)));
 		// No UNIT entry; PROPERTY grants READ
-		List<AccessEntry> access = List.of(
+		AccessIndex access = AccessIndex.of(List.of(
 				new AccessEntry(ORG_ID, ResourceType.ORG, ORG_ID, Map.of(PermissionDomains.LEASES, 1)),
-				new AccessEntry(ORG_ID, ResourceType.PROPERTY, PROP_ID, Map.of(PermissionDomains.LEASES, 7))); // r+c+u
+				new AccessEntry(ORG_ID, ResourceType.PROPERTY, PROP_ID, Map.of(PermissionDomains.LEASES, 7)))); // r+c+u
 
 		boolean result = service.allow(access, Actions.READ, PermissionDomains.LEASES,
 				ResourceType.UNIT, UNIT_ID, ORG_ID);
@@ -101,12 +117,64 @@ class HierarchyAwareAuthorizationServiceTest {
 	void allow_returnsFalseWhenResolverReturnsEmpty() {
 		when(hierarchyResolver.resolve(ResourceType.PROPERTY, PROP_ID, ORG_ID))
 				.thenReturn(List.of());
-		List<AccessEntry> access = List.of(
-				new AccessEntry(ORG_ID, ResourceType.PROPERTY, PROP_ID, Map.of(PermissionDomains.LEASES, 15)));
+		AccessIndex access = AccessIndex.of(List.of(
+				new AccessEntry(ORG_ID, ResourceType.PROPERTY, PROP_ID, Map.of(PermissionDomains.LEASES, 15))));
 
 		boolean result = service.allow(access, Actions.READ, PermissionDomains.LEASES,
 				ResourceType.PROPERTY, PROP_ID, ORG_ID);
 
 		assertThat(result).isFalse();
 	}
+
+	// ─────────────────── request-scoped memo ───────────────────
+
+	@Test
+	void allow_memoizesDecisionWithinRequest() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		when(hierarchyResolver.resolve(ResourceType.PROPERTY, PROP_ID, ORG_ID))
+				.thenReturn(List.of(new ScopeLevel(ResourceType.PROPERTY, PROP_ID)));
+		AccessIndex access = AccessIndex.of(List.of(
+				new AccessEntry(ORG_ID, ResourceType.PROPERTY, PROP_ID, Map.of(PermissionDomains.LEASES, 1))));
+
+		service.allow(access, Actions.READ, PermissionDomains.LEASES, ResourceType.PROPERTY, PROP_ID, ORG_ID);
+		boolean result = service.allow(access, Actions.READ, PermissionDomains.LEASES,
+				ResourceType.PROPERTY, PROP_ID, ORG_ID);
+
+		assertThat(result).isTrue();
+		verify(hierarchyResolver, times(1)).resolve(ResourceType.PROPERTY, PROP_ID, ORG_ID);
+		assertThat(decisionCache.hitCount()).isEqualTo(1);
+		assertThat(decisionCache.missCount()).isEqualTo(1);
+	}
+
+	@Test
+	void allow_doesNotReuseDecisionForDifferentAccessIndex() {
+		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+		when(hierarchyResolver.resolve(ResourceType.PROPERTY, PROP_ID, ORG_ID))
+				.thenReturn(List.of(new ScopeLevel(ResourceType.PROPERTY, PROP_ID)));
+		AccessIndex granted = AccessIndex.of(List.of(
+				new AccessEntry(ORG_ID, ResourceType.PROPERTY, PROP_ID, Map.of(PermissionDomains.LEASES, 1))));
+		AccessIndex other = AccessIndex.of(List.of(
+				new AccessEntry(ORG_ID, ResourceType.ORG, ORG_ID, Map.of(PermissionDomains.FINANCES, 1))));
+
+		service.allow(granted, Actions.READ, PermissionDomains.LEASES, ResourceType.PROPERTY, PROP_ID, ORG_ID);
+		boolean result = service.allow(other, Actions.READ, PermissionDomains.LEASES,
+				ResourceType.PROPERTY, PROP_ID, ORG_ID);
+
+		assertThat(result).isFalse();
+		assertThat(decisionCache.hitCount()).isZero();
+	}
+
+	@Test
+	void allow_computesDirectlyOutsideRequest() {
+		when(hierarchyResolver.resolve(ResourceType.ORG, ORG_ID, ORG_ID))
+				.thenReturn(List.of(new ScopeLevel(ResourceType.ORG, ORG_ID)));
+		AccessIndex access = AccessIndex.of(List.of(
+				new AccessEntry(ORG_ID, ResourceType.ORG, ORG_ID, Map.of(PermissionDomains.LEASES, 1))));
+
+		service.allow(access, Actions.READ, PermissionDomains.LEASES, ResourceType.ORG, ORG_ID, ORG_ID);
+		service.allow(access, Actions.READ, PermissionDomains.LEASES, ResourceType.ORG, ORG_ID, ORG_ID);
+
+		verify(hierarchyResolver, times(2)).resolve(ResourceType.ORG, ORG_ID, ORG_ID);
+		assertThat(decisionCache.missCount()).isZero();
+	}
 }
@@ -23,6 +23,7 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import com.akandiah.propmanager.common.permission.AccessIndex;
 import com.akandiah.propmanager.common.permission.Actions;
 import com.akandiah.propmanager.common.permission.PermissionDomains;
 import com.akandiah.propmanager.common.permission.ResourceType;
@@ -53,7 +54,7 @@ class PermissionGuardTest {
 		SecurityContextHolder.getContext().setAuthentication(
 				new TestingAuthenticationToken("user", null, List.of()));
 		MockHttpServletRequest request = new MockHttpServletRequest();
-		request.setAttribute(JwtAccessHydrationFilter.REQUEST_ATTRIBUTE_ACCESS, List.of());
+		request.setAttribute(JwtAccessHydrationFilter.REQUEST_ATTRIBUTE_ACCESS, AccessIndex.EMPTY);
 		RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
 	}
 
@@ -90,22 +91,22 @@ class PermissionGuardTest {
 	@Test
 	void hasTenantAccess_returnsTrueWhenCallerHasAccessToTenantUnit() {
 		when(leaseTenantRepository.findUnitIdsByTenantId(TENANT_ID)).thenReturn(List.of(UNIT_ID));
-		when(authorizationService.allow(any(), eq(Actions.READ), eq(PermissionDomains.LEASES),
-				eq(ResourceType.UNIT), eq(UNIT_ID), eq(ORG_ID))).thenReturn(true);
+		when(authorizationService.allowAny(any(), eq(Actions.READ), eq(PermissionDomains.LEASES),
+				eq(ResourceType.UNIT), eq(List.of(UNIT_ID)), eq(ORG_ID))).thenReturn(true);
 
 		boolean result = guard.hasTenantAccess(Actions.READ, PermissionDomains.LEASES, TENANT_ID, ORG_ID);
 
 		assertThat(result).isTrue();
-		verify(authorizationService).allow(any(), eq(Actions.READ), eq(PermissionDomains.LEASES),
-				eq(ResourceType.UNIT), eq(UNIT_ID), eq(ORG_ID));
+		verify(authorizationService).allowAny(any(), eq(Actions.READ), eq(PermissionDomains.LEASES),
+				eq(ResourceType.UNIT), eq(List.of(UNIT_ID)), eq(ORG_ID));
 	}
 
 	@Test
 	void hasTenantAccess_returnsFalseWhenCallerLacksAccessToAllTenantUnits() {
 		UUID unit2 = UUID.randomUUID();
 		when(leaseTenantRepository.findUnitIdsByTenantId(TENANT_ID)).thenReturn(List.of(UNIT_ID, unit2));
-		when(authorizationService.allow(any(), eq(Actions.READ), eq(PermissionDomains.LEASES),
-				eq(ResourceType.UNIT), any(), eq(ORG_ID))).thenReturn(false);
+		when(authorizationService.allowAny(any(), eq(Actions.READ), eq(PermissionDomains.LEASES),
+				eq(ResourceType.UNIT), eq(List.of(UNIT_ID, unit2)), eq(ORG_ID))).thenReturn(false);
 
 		boolean result = guard.hasTenantAccess(Actions.READ, PermissionDomains.LEASES, TENANT_ID, ORG_ID);
 